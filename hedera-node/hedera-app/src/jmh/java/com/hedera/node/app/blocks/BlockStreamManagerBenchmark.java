@@ -40,6 +40,7 @@ import com.hedera.hapi.node.state.roster.Roster;
 import com.hedera.hapi.platform.state.PlatformState;
 import com.hedera.node.app.blocks.impl.BlockStreamManagerImpl;
 import com.hedera.node.app.blocks.impl.BoundaryStateChangeListener;
+import com.hedera.node.app.blocks.impl.FileBlockItemWriter;
 import com.hedera.node.app.blocks.schemas.V0560BlockStreamSchema;
 import com.hedera.node.app.config.ConfigProviderImpl;
 import com.hedera.node.app.fixtures.state.FakeState;
@@ -67,6 +68,7 @@ import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.time.Instant;
@@ -80,6 +82,7 @@ import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.zip.GZIPInputStream;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -112,40 +115,20 @@ public class BlockStreamManagerBenchmark {
         org.openjdk.jmh.Main.main(new String[] {"com.hedera.node.app.blocks.BlockStreamManagerBenchmark.manageRound"});
     }
 
+    public enum WriterType {
+        /** Discards all items, to measure the block stream manager alone */
+        NOOP,
+        /** Writes block files compressed as a single gzip member on the writing thread */
+        GZIP,
+        /** Writes block files compressed as independent gzip members on the common pool */
+        PARALLEL_GZIP
+    }
+
     private final Round round = new FakeRound();
-    private final ConfigProvider configProvider = new ConfigProviderImpl(
-            false,
-            null,
-            Map.of(
-                    "blockStream.hashCombineBatchSize", "64",
-                    "blockStream.serializationBatchSize", "32"));
     private final List<BlockItem> roundItems = new ArrayList<>();
-    final AppContext appContext = new AppContextImpl(
-            Instant::now,
-            fakeSignatureVerifier(),
-            UNAVAILABLE_GOSSIP,
-            configProvider::getConfiguration,
-            () -> DEFAULT_NODE_INFO,
-            () -> NO_OP_METRICS,
-            (split, snapshots) -> {
-                throw new UnsupportedOperationException();
-            });
-    private final TssBaseServiceImpl tssBaseService = new TssBaseServiceImpl(
-            appContext,
-            ForkJoinPool.commonPool(),
-            ForkJoinPool.commonPool(),
-            new TssLibraryImpl(appContext),
-            ForkJoinPool.commonPool(),
-            new NoOpMetrics());
-    private final BlockStreamManagerImpl subject = new BlockStreamManagerImpl(
-            NoopBlockItemWriter::new,
-            //            BaosBlockItemWriter::new,
-            ForkJoinPool.commonPool(),
-            configProvider,
-            tssBaseService,
-            new FakeBoundaryStateChangeListener(),
-            new InitialStateHash(completedFuture(FAKE_START_OF_BLOCK_STATE_HASH), FIRST_ROUND_NO - 1),
-            VERSION);
+    private ConfigProvider configProvider;
+    private TssBaseServiceImpl tssBaseService;
+    private BlockStreamManagerImpl subject;
 
     @Param({"10"})
     private int numEvents;
@@ -153,6 +136,12 @@ public class BlockStreamManagerBenchmark {
     @Param({"100"})
     private int numTxnsPerEvent;
 
+    @Param({"1", "10"})
+    private int roundsPerBlock;
+
+    @Param({"NOOP", "GZIP", "PARALLEL_GZIP"})
+    private WriterType writerType;
+
     private long roundNum = FIRST_ROUND_NO;
     private FakeState state;
     private BlockItem boundaryStateChanges;
@@ -160,6 +149,49 @@ public class BlockStreamManagerBenchmark {
 
     @Setup(Level.Trial)
     public void setup() throws IOException, ParseException {
+        final var blockFileDir = Files.createTempDirectory("blocks").toString();
+        final var compressionMaxInFlightChunks = writerType == WriterType.PARALLEL_GZIP
+                ? String.valueOf(Runtime.getRuntime().availableProcessors())
+                : "1";
+        configProvider = new ConfigProviderImpl(
+                false,
+                null,
+                Map.of(
+                        "blockStream.hashCombineBatchSize", "64",
+                        "blockStream.serializationBatchSize", "32",
+                        "blockStream.roundsPerBlock", String.valueOf(roundsPerBlock),
+                        "blockStream.blockFileDir", blockFileDir,
+                        "blockStream.compressionMaxInFlightChunks", compressionMaxInFlightChunks));
+        final AppContext appContext = new AppContextImpl(
+                Instant::now,
+                fakeSignatureVerifier(),
+                UNAVAILABLE_GOSSIP,
+                configProvider::getConfiguration,
+                () -> DEFAULT_NODE_INFO,
+                () -> NO_OP_METRICS,
+                (split, snapshots) -> {
+                    throw new UnsupportedOperationException();
+                });
+        tssBaseService = new TssBaseServiceImpl(
+                appContext,
+                ForkJoinPool.commonPool(),
+                ForkJoinPool.commonPool(),
+                new TssLibraryImpl(appContext),
+                ForkJoinPool.commonPool(),
+                new NoOpMetrics());
+        final Supplier<BlockItemWriter> writerSupplier = writerType == WriterType.NOOP
+                ? NoopBlockItemWriter::new
+                : () -> new FileBlockItemWriter(
+                        configProvider, DEFAULT_NODE_INFO, FileSystems.getDefault(), ForkJoinPool.commonPool());
+        subject = new BlockStreamManagerImpl(
+                writerSupplier,
+                //            BaosBlockItemWriter::new,
+                ForkJoinPool.commonPool(),
+                configProvider,
+                tssBaseService,
+                new FakeBoundaryStateChangeListener(),
+                new InitialStateHash(completedFuture(FAKE_START_OF_BLOCK_STATE_HASH), FIRST_ROUND_NO - 1),
+                VERSION);
         loadSampleItems();
         state = new FakeState();
         addServiceSingleton(new V0560BlockStreamSchema(ignore -> {}), BlockStreamService.NAME, BlockStreamInfo.DEFAULT);
@@ -22,7 +22,15 @@ import com.hedera.node.app.fixtures.AppTestBase;
 import com.hedera.node.app.signature.ExpandedSignaturePair;
 import com.hedera.node.app.spi.fixtures.Scenarios;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.crypto.TransactionSignature;
+import com.swirlds.common.crypto.engine.CryptoEngine;
+import java.security.GeneralSecurityException;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -35,6 +43,7 @@ import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.infra.Blackhole;
 
 /** Measures the amount of time to prepare expanded signatures and call the crypto engine */
@@ -63,6 +72,68 @@ public class VerificationBenchmark extends AppTestBase implements Scenarios {
         blackhole.consume(subject.verify(fakeSignedBytes, sigPairs));
     }
 
+    /**
+     * Verifies real ED25519 signatures with a real {@link CryptoEngine}, and waits for all the results. In
+     * {@code SEQUENTIAL} mode the engine verifies a batch one signature at a time on the calling thread, as it did
+     * before batches were dispatched to the verification pool.
+     */
+    @Benchmark
+    public void verifyAndWaitBench(RealSignatures state, Blackhole blackhole) throws Exception {
+        final var futures = state.subject.verify(state.signedBytes, state.sigPairs);
+        for (final var future : futures.values()) {
+            blackhole.consume(future.get());
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class RealSignatures {
+        @Param({"SEQUENTIAL", "BATCHED"})
+        public String mode;
+
+        private Set<ExpandedSignaturePair> sigPairs;
+        private Bytes signedBytes;
+        private SignatureVerifierImpl subject;
+        private CryptoEngine cryptoEngine;
+
+        @Setup(Level.Trial)
+        public void setUp(VerificationBenchmark benchmark) throws GeneralSecurityException {
+            final var message = new byte[1024];
+            new Random(42).nextBytes(message);
+            signedBytes = Bytes.wrap(message);
+            sigPairs = new HashSet<>();
+            final var generator = KeyPairGenerator.getInstance("Ed25519");
+            for (int i = 0; i < benchmark.numSigPairs; i++) {
+                final var keyPair = generator.generateKeyPair();
+                // The raw public key is the tail of its X.509 encoding
+                final var encoded = keyPair.getPublic().getEncoded();
+                final var keyBytes = Bytes.wrap(Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length));
+                final var signer = Signature.getInstance("Ed25519");
+                signer.initSign(keyPair.getPrivate());
+                signer.update(message);
+                final var sigPair = SignaturePair.newBuilder()
+                        .ed25519(Bytes.wrap(signer.sign()))
+                        .pubKeyPrefix(keyBytes)
+                        .build();
+                sigPairs.add(
+                        new ExpandedSignaturePair(Key.newBuilder().ed25519(keyBytes).build(), keyBytes, null, sigPair));
+            }
+            cryptoEngine = "SEQUENTIAL".equals(mode)
+                    ? new CryptoEngine() {
+                        @Override
+                        public void verifyAsync(final List<TransactionSignature> signatures) {
+                            verifySync(signatures);
+                        }
+                    }
+                    : new CryptoEngine();
+            subject = new SignatureVerifierImpl(cryptoEngine);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            cryptoEngine.close();
+        }
+    }
+
     private Set<ExpandedSignaturePair> createSigPairs(int numSigPairs) {
         final var pairs = new HashSet<ExpandedSignaturePair>();
         for (int i = 0; i < numSigPairs; i++) {
@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.state.recordcache;
+
+import static com.hedera.hapi.util.HapiUtils.TIMESTAMP_COMPARATOR;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.Timestamp;
+import com.hedera.hapi.node.base.TransactionID;
+import com.hedera.node.app.config.ConfigProviderImpl;
+import com.hedera.node.app.state.DeduplicationCache;
+import java.time.InstantSource;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures ingest-style deduplication checks (a {@code contains} followed by an {@code add}) per second at 1, 8 and
+ * 64 threads, comparing the bucketed {@link DeduplicationCacheImpl} to a single monitor around a sorted set of all
+ * transaction IDs, as the {@link com.hedera.node.app.workflows.ingest.SubmissionManager} used to do.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DeduplicationCacheBenchmark {
+    public enum Cache {
+        SYNCHRONIZED_SORTED,
+        BUCKETED
+    }
+
+    public static void main(String... args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] {"com.hedera.node.app.state.recordcache.DeduplicationCacheBenchmark"});
+    }
+
+    @Param({"SYNCHRONIZED_SORTED", "BUCKETED"})
+    private Cache cache;
+
+    private final InstantSource instantSource = InstantSource.system();
+    private final AtomicLong nextAccountNum = new AtomicLong();
+
+    private DeduplicationCache bucketed;
+    private Set<TransactionID> sorted;
+
+    @Setup
+    public void setup() {
+        bucketed = new DeduplicationCacheImpl(new ConfigProviderImpl(false, null, Map.of()), instantSource);
+        sorted = new ConcurrentSkipListSet<>(Comparator.<TransactionID, Timestamp>comparing(
+                        txnId -> txnId.transactionValidStartOrElse(Timestamp.DEFAULT), TIMESTAMP_COMPARATOR)
+                .thenComparing(txnId -> txnId.accountIDOrElse(AccountID.DEFAULT).accountNumOrElse(0L)));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean oneThread() {
+        return checkAndAdd();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean eightThreads() {
+        return checkAndAdd();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean sixtyFourThreads() {
+        return checkAndAdd();
+    }
+
+    private boolean checkAndAdd() {
+        final var txnId = TransactionID.newBuilder()
+                .transactionValidStart(Timestamp.newBuilder()
+                        .seconds(instantSource.instant().getEpochSecond())
+                        .build())
+                .accountID(AccountID.newBuilder()
+                        .accountNum(nextAccountNum.incrementAndGet())
+                        .build())
+                .build();
+        return switch (cache) {
+            case SYNCHRONIZED_SORTED -> synchronizedCheckAndAdd(txnId);
+            case BUCKETED -> {
+                final var duplicate = bucketed.contains(txnId);
+                if (!duplicate) {
+                    bucketed.add(txnId);
+                }
+                yield duplicate;
+            }
+        };
+    }
+
+    /**
+     * Checks and adds the way ingest did before bucketing, holding one monitor for all of it.
+     */
+    private boolean synchronizedCheckAndAdd(final TransactionID txnId) {
+        synchronized (sorted) {
+            final var earliestSecond = instantSource.instant().getEpochSecond() - 180;
+            final var itr = sorted.iterator();
+            while (itr.hasNext() && itr.next().transactionValidStartOrThrow().seconds() < earliestSecond) {
+                itr.remove();
+            }
+            return !sorted.add(txnId);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.throttle;
+
+import static com.hedera.hapi.node.base.HederaFunctionality.CONSENSUS_SUBMIT_MESSAGE;
+import static com.hedera.node.app.throttle.ThrottleAccumulator.ThrottleType.FRONTEND_THROTTLE;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.SignatureMap;
+import com.hedera.hapi.node.base.Transaction;
+import com.hedera.hapi.node.base.TransactionID;
+import com.hedera.hapi.node.transaction.ThrottleBucket;
+import com.hedera.hapi.node.transaction.ThrottleDefinitions;
+import com.hedera.hapi.node.transaction.ThrottleGroup;
+import com.hedera.hapi.node.transaction.TransactionBody;
+import com.hedera.node.app.config.ConfigProviderImpl;
+import com.hedera.node.app.fixtures.state.FakeState;
+import com.hedera.node.app.throttle.ThrottleAccumulator.Verbose;
+import com.hedera.node.app.workflows.TransactionInfo;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the ingest throttle's decisions and admissions per second at 1, 8 and 64 ingest threads, comparing the
+ * {@link StripedThrottleAccumulator} to a single monitor around the frontend {@link ThrottleAccumulator}. The
+ * {@code admitted} and {@code throttled} secondary results report how many of the decisions admitted or throttled
+ * their transaction.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ThrottleBenchmark {
+    private static final AccountID PAYER_ID =
+            AccountID.newBuilder().accountNum(1_234L).build();
+    private static final TransactionInfo SUBMIT_MESSAGE = new TransactionInfo(
+            Transaction.DEFAULT,
+            TransactionBody.DEFAULT,
+            TransactionID.DEFAULT,
+            PAYER_ID,
+            SignatureMap.DEFAULT,
+            Bytes.EMPTY,
+            CONSENSUS_SUBMIT_MESSAGE,
+            null);
+
+    public enum Throttle {
+        SYNCHRONIZED,
+        STRIPED
+    }
+
+    public static void main(String... args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] {"com.hedera.node.app.throttle.ThrottleBenchmark"});
+    }
+
+    @Param({"SYNCHRONIZED", "STRIPED"})
+    private Throttle throttle;
+
+    @Param({"1000000"})
+    private int tps;
+
+    private final ConfigProvider configProvider = new ConfigProviderImpl(false, null, Map.of());
+    private final FakeState state = new FakeState();
+    private final InstantSource instantSource = InstantSource.system();
+
+    private ThrottleAccumulator frontendThrottle;
+    private StripedThrottleAccumulator stripedThrottle;
+    private Instant lastDecisionTime = Instant.EPOCH;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Decisions {
+        public long admitted;
+        public long throttled;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            admitted = 0;
+            throttled = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        frontendThrottle = new ThrottleAccumulator(
+                () -> 1, configProvider::getConfiguration, FRONTEND_THROTTLE, null, Verbose.NO);
+        frontendThrottle.applyGasConfig();
+        frontendThrottle.rebuildFor(ThrottleDefinitions.newBuilder()
+                .throttleBuckets(ThrottleBucket.newBuilder()
+                        .name("SubmitMessages")
+                        .burstPeriodMs(1_000L)
+                        .throttleGroups(ThrottleGroup.newBuilder()
+                                .milliOpsPerSec(tps * 1_000L)
+                                .operations(CONSENSUS_SUBMIT_MESSAGE)
+                                .build())
+                        .build())
+                .build());
+        stripedThrottle = new StripedThrottleAccumulator(instantSource, frontendThrottle);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean oneThread(final Decisions decisions) {
+        return decide(decisions);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean eightThreads(final Decisions decisions) {
+        return decide(decisions);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean sixtyFourThreads(final Decisions decisions) {
+        return decide(decisions);
+    }
+
+    private boolean decide(final Decisions decisions) {
+        final boolean shouldThrottle =
+                switch (throttle) {
+                    case SYNCHRONIZED -> synchronizedDecision();
+                    case STRIPED -> stripedThrottle.shouldThrottle(SUBMIT_MESSAGE, state);
+                };
+        if (shouldThrottle) {
+            decisions.throttled++;
+        } else {
+            decisions.admitted++;
+        }
+        return shouldThrottle;
+    }
+
+    /**
+     * Makes the decision the way the ingest workflow did before striping, holding one monitor for all of it.
+     */
+    private synchronized boolean synchronizedDecision() {
+        final var now = instantSource.instant();
+        lastDecisionTime = now.isBefore(lastDecisionTime) ? lastDecisionTime : now;
+        return frontendThrottle.checkAndEnforceThrottle(SUBMIT_MESSAGE, lastDecisionTime, state);
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.hedera.node.app.blocks;
 
+import com.hedera.node.app.annotations.CommonExecutor;
 import com.hedera.node.app.blocks.impl.BlockStreamManagerImpl;
 import com.hedera.node.app.blocks.impl.FileBlockItemWriter;
 import com.hedera.node.app.blocks.impl.GrpcBlockItemWriter;
@@ -27,6 +28,7 @@ import dagger.Module;
 import dagger.Provides;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.nio.file.FileSystem;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 import javax.inject.Singleton;
 
@@ -41,11 +43,12 @@ public interface BlockStreamModule {
     static Supplier<BlockItemWriter> bindBlockItemWriterSupplier(
             @NonNull final ConfigProvider configProvider,
             @NonNull final NodeInfo selfNodeInfo,
-            @NonNull final FileSystem fileSystem) {
+            @NonNull final FileSystem fileSystem,
+            @NonNull @CommonExecutor final ExecutorService executor) {
         final var config = configProvider.getConfiguration();
         final var blockStreamConfig = config.getConfigData(BlockStreamConfig.class);
         return switch (blockStreamConfig.writerMode()) {
-            case FILE -> () -> new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem);
+            case FILE -> () -> new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem, executor);
             case GRPC -> () -> new GrpcBlockItemWriter(blockStreamConfig);
         };
     }
@@ -103,6 +103,7 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
     private final BlockStreamWriterMode streamWriterType;
     private final int hashCombineBatchSize;
     private final int serializationBatchSize;
+    private final boolean coalesceStateChanges;
     private final TssBaseService tssBaseService;
     private final SemanticVersion version;
     private final SemanticVersion hapiVersion;
@@ -187,6 +188,7 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
         this.streamWriterType = blockStreamConfig.writerMode();
         this.hashCombineBatchSize = blockStreamConfig.hashCombineBatchSize();
         this.serializationBatchSize = blockStreamConfig.serializationBatchSize();
+        this.coalesceStateChanges = blockStreamConfig.coalesceStateChanges();
         final var networkAdminConfig = config.getConfigData(NetworkAdminConfig.class);
         this.diskNetworkExport = networkAdminConfig.diskNetworkExport();
         this.diskNetworkExportFile = networkAdminConfig.diskNetworkExportFile();
@@ -324,7 +326,7 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
             ((CommittableWritableStates) writableState).commit();
 
             // Serialize and hash the final block item
-            final var finalWork = new ScheduledWork(List.of(boundaryStateChangeListener.flushChanges()));
+            final var finalWork = new ScheduledWork(List.of(boundaryStateChangeListener.flushChanges()), false);
             final var finalOutput = finalWork.computeOutput();
             // Ensure we only write and incorporate the final hash after all preceding work is done
             writeFuture.join();
@@ -472,7 +474,7 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
     }
 
     private void schedulePendingWork() {
-        final var scheduledWork = new ScheduledWork(pendingItems);
+        final var scheduledWork = new ScheduledWork(pendingItems, coalesceStateChanges);
         final var pendingOutput = CompletableFuture.supplyAsync(scheduledWork::computeOutput, executor);
         writeFuture = writeFuture.thenCombine(pendingOutput, this::combineOutput);
         pendingItems = new ArrayList<>();
@@ -498,6 +500,7 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
     /**
      * Encapsulates the work to be done for a batch of pending {@link BlockItem}s. This work includes,
      * <ol>
+     *     <li>If enabled, coalescing the map changes in the items with a {@link StateChangesCoalescer}.</li>
      *     <li>Serializing the items to bytes using the {@link BlockItem#PROTOBUF} codec.</li>
      *     <li>Given the serialized items,
      *          <ul>
@@ -511,6 +514,7 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
      */
     private static class ScheduledWork {
         private final List<BlockItem> items;
+        private final boolean coalesceStateChanges;
 
         public record Output(
                 @NonNull BufferedData data,
@@ -518,8 +522,9 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
                 @NonNull ByteBuffer outputHashes,
                 @NonNull ByteBuffer resultHashes) {}
 
-        public ScheduledWork(@NonNull final List<BlockItem> items) {
+        public ScheduledWork(@NonNull final List<BlockItem> items, final boolean coalesceStateChanges) {
             this.items = requireNonNull(items);
+            this.coalesceStateChanges = coalesceStateChanges;
         }
 
         /**
@@ -530,6 +535,7 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
          * @return the output of doing the scheduled work
          */
         public Output computeOutput() {
+            final var items = coalesceStateChanges ? StateChangesCoalescer.coalesce(this.items) : this.items;
             var size = 0;
             var numInputs = 0;
             var numOutputs = 0;
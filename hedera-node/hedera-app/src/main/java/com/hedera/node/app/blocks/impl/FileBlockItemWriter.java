@@ -37,6 +37,8 @@ import java.math.BigInteger;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.zip.GZIPOutputStream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -57,6 +59,15 @@ public class FileBlockItemWriter implements BlockItemWriter {
     /** Whether to compress the block files. */
     private final boolean compressFiles;
 
+    /** The maximum number of chunks in flight on the compression executor; or 1 to compress on this thread */
+    private final int compressionMaxInFlightChunks;
+
+    /** The number of uncompressed bytes in each gzip member when compressing in parallel */
+    private final int compressionChunkSize;
+
+    /** The executor to compress chunks on when compressing in parallel */
+    private final Executor compressionExecutor;
+
     /** The node-specific path to the directory where block files are written */
     private final Path nodeScopedBlockDir;
 
@@ -79,7 +90,7 @@ public class FileBlockItemWriter implements BlockItemWriter {
     }
 
     /**
-     * Construct a new FileBlockItemWriter.
+     * Construct a new FileBlockItemWriter that compresses any chunks in parallel on the common pool.
      *
      * @param configProvider configuration provider
      * @param nodeInfo information about the current node
@@ -89,14 +100,34 @@ public class FileBlockItemWriter implements BlockItemWriter {
             @NonNull final ConfigProvider configProvider,
             @NonNull final NodeInfo nodeInfo,
             @NonNull final FileSystem fileSystem) {
+        this(configProvider, nodeInfo, fileSystem, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Construct a new FileBlockItemWriter.
+     *
+     * @param configProvider configuration provider
+     * @param nodeInfo information about the current node
+     * @param fileSystem the file system to use for writing block files
+     * @param compressionExecutor the executor to compress chunks on, if compressing in parallel
+     */
+    public FileBlockItemWriter(
+            @NonNull final ConfigProvider configProvider,
+            @NonNull final NodeInfo nodeInfo,
+            @NonNull final FileSystem fileSystem,
+            @NonNull final Executor compressionExecutor) {
         requireNonNull(configProvider, "The supplied argument 'configProvider' cannot be null!");
         requireNonNull(nodeInfo, "The supplied argument 'nodeInfo' cannot be null!");
         requireNonNull(fileSystem, "The supplied argument 'fileSystem' cannot be null!");
+        this.compressionExecutor =
+                requireNonNull(compressionExecutor, "The supplied argument 'compressionExecutor' cannot be null!");
 
         this.state = State.UNINITIALIZED;
         final var config = configProvider.getConfiguration();
         final var blockStreamConfig = config.getConfigData(BlockStreamConfig.class);
         this.compressFiles = blockStreamConfig.compressFilesOnCreation();
+        this.compressionMaxInFlightChunks = blockStreamConfig.compressionMaxInFlightChunks();
+        this.compressionChunkSize = blockStreamConfig.compressionChunkSize();
 
         // Compute directory for block files
         final Path blockDir = fileSystem.getPath(blockStreamConfig.blockFileDir());
@@ -122,7 +153,12 @@ public class FileBlockItemWriter implements BlockItemWriter {
         try {
             out = Files.newOutputStream(blockFilePath);
             out = new BufferedOutputStream(out, 1024 * 1024); // 1 MB
-            if (compressFiles) {
+            if (compressFiles && compressionMaxInFlightChunks > 1) {
+                // Compress chunks of the file as independent gzip members on the executor, still written in order;
+                // this stream already buffers a whole chunk, so needs no further buffering in front of it
+                out = new ParallelGzipOutputStream(
+                        out, compressionExecutor, compressionChunkSize, compressionMaxInFlightChunks);
+            } else if (compressFiles) {
                 out = new GZIPOutputStream(out, 1024 * 256); // 256 KB
                 // By wrapping the GZIPOutputStream in a BufferedOutputStream, the code reduces the number of write
                 // operations to the GZIPOutputStream, and therefore the number of synchronized calls. Instead of
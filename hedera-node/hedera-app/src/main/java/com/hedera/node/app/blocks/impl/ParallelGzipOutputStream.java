@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.blocks.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * An {@link OutputStream} that splits its input into fixed-size chunks, compresses each chunk into an independent
+ * gzip member on an {@link Executor}, and writes the compressed members to the underlying stream in order (as
+ * {@code pigz} does). Since a concatenation of gzip members is itself a valid gzip stream, the output is readable
+ * with an ordinary {@link java.util.zip.GZIPInputStream}.
+ *
+ * <p>At most {@code maxInFlight} chunks are compressed at once; once that many are pending, a write blocks until the
+ * oldest is compressed and written. This stream is not thread-safe, and is meant to be written by a single thread.
+ */
+public class ParallelGzipOutputStream extends OutputStream {
+    private static final int MEMBER_BUFFER_SIZE = 1024 * 64; // 64 KB
+
+    private final OutputStream out;
+    private final Executor executor;
+    private final int chunkSize;
+    private final int maxInFlight;
+    private final Deque<CompletableFuture<byte[]>> inFlight = new ArrayDeque<>();
+
+    private byte[] chunk;
+    private int count;
+    private boolean closed;
+
+    /**
+     * Constructs a new {@link ParallelGzipOutputStream}.
+     *
+     * @param out the underlying stream to write compressed members to
+     * @param executor the executor to compress chunks on
+     * @param chunkSize the number of uncompressed bytes in each gzip member
+     * @param maxInFlight the maximum number of chunks being compressed at once
+     */
+    public ParallelGzipOutputStream(
+            @NonNull final OutputStream out,
+            @NonNull final Executor executor,
+            final int chunkSize,
+            final int maxInFlight) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("Max in-flight chunks must be positive");
+        }
+        this.out = requireNonNull(out);
+        this.executor = requireNonNull(executor);
+        this.chunkSize = chunkSize;
+        this.maxInFlight = maxInFlight;
+        this.chunk = new byte[chunkSize];
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        ensureOpen();
+        chunk[count++] = (byte) b;
+        if (count == chunkSize) {
+            submitChunk();
+        }
+    }
+
+    @Override
+    public void write(@NonNull final byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        ensureOpen();
+        while (len > 0) {
+            final int n = Math.min(len, chunkSize - count);
+            System.arraycopy(b, off, chunk, count, n);
+            count += n;
+            off += n;
+            len -= n;
+            if (count == chunkSize) {
+                submitChunk();
+            }
+        }
+    }
+
+    /**
+     * Writes all chunks submitted so far to the underlying stream and flushes it. Like a default
+     * {@link GZIPOutputStream}, does not compress a partially filled chunk; that would only fragment the output
+     * into smaller members.
+     */
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        while (!inFlight.isEmpty()) {
+            writeOldest();
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (count > 0) {
+                submitChunk();
+            }
+            while (!inFlight.isEmpty()) {
+                writeOldest();
+            }
+        } finally {
+            inFlight.clear();
+            out.close();
+        }
+    }
+
+    private void submitChunk() throws IOException {
+        final var bytes = chunk;
+        final int len = count;
+        inFlight.addLast(CompletableFuture.supplyAsync(() -> compress(bytes, len), executor));
+        chunk = new byte[chunkSize];
+        count = 0;
+        while (inFlight.size() > maxInFlight) {
+            writeOldest();
+        }
+    }
+
+    private void writeOldest() throws IOException {
+        final byte[] member;
+        try {
+            member = inFlight.removeFirst().join();
+        } catch (final CompletionException e) {
+            throw new IOException("Could not compress block file chunk", e.getCause());
+        }
+        out.write(member);
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    private static byte[] compress(@NonNull final byte[] bytes, final int len) {
+        final var baos = new ByteArrayOutputStream(len / 2);
+        try (final var gzip = new GZIPOutputStream(baos, MEMBER_BUFFER_SIZE)) {
+            gzip.write(bytes, 0, len);
+        } catch (final IOException e) {
+            // Not possible when writing to a ByteArrayOutputStream
+            throw new UncheckedIOException(e);
+        }
+        return baos.toByteArray();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.blocks.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.block.stream.BlockItem;
+import com.hedera.hapi.block.stream.output.MapChangeKey;
+import com.hedera.hapi.block.stream.output.StateChange;
+import com.hedera.hapi.block.stream.output.StateChanges;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Coalesces the map changes in a batch of {@link BlockItem}s so that each key changed in the batch appears only in
+ * the last {@link StateChanges} item that changed it. For example, if a fee collection account is updated by every
+ * transaction in a batch, only its final value is kept.
+ *
+ * <p>Only map updates and deletes are coalesced, since replaying just the last change to a key yields the same
+ * final state. Singleton and queue changes are kept as-is; singletons are already coalesced at block boundaries,
+ * and queue changes depend on their order. A {@link StateChanges} item left with no changes is dropped.
+ *
+ * <p>Since this changes the items in the block (and hence the output tree), it must be enabled on every node in the
+ * network, or none of them.
+ */
+final class StateChangesCoalescer {
+    private record ChangedKey(int stateId, @NonNull MapChangeKey key) {}
+
+    private StateChangesCoalescer() {
+        throw new UnsupportedOperationException("Utility Class");
+    }
+
+    /**
+     * Returns the given items with each map key's changes coalesced into its last change in the batch.
+     *
+     * @param items the batch of items
+     * @return the coalesced items, which are the given items if no change was coalesced
+     */
+    static List<BlockItem> coalesce(@NonNull final List<BlockItem> items) {
+        requireNonNull(items);
+        final Set<ChangedKey> laterChangedKeys = new HashSet<>();
+        // Walk backwards, so the first change we see for a key is its last in the batch
+        List<BlockItem> coalesced = null;
+        for (int i = items.size() - 1; i >= 0; i--) {
+            final var item = items.get(i);
+            var coalescedItem = item;
+            if (item.hasStateChanges()) {
+                final var stateChanges = item.stateChangesOrThrow();
+                final var changes = coalescedChanges(stateChanges.stateChanges(), laterChangedKeys);
+                if (changes != null) {
+                    coalescedItem = changes.isEmpty()
+                            ? null
+                            : item.copyBuilder()
+                                    .stateChanges(stateChanges
+                                            .copyBuilder()
+                                            .stateChanges(changes)
+                                            .build())
+                                    .build();
+                }
+            }
+            if (coalescedItem != item && coalesced == null) {
+                coalesced = new ArrayList<>(items.subList(i + 1, items.size()).reversed());
+            }
+            if (coalesced != null && coalescedItem != null) {
+                coalesced.add(coalescedItem);
+            }
+        }
+        return coalesced == null ? items : coalesced.reversed();
+    }
+
+    /**
+     * Returns the given changes without the map changes to keys changed later in the batch, or null if there are
+     * no such changes; and adds the keys of the given map changes to the set of later changed keys.
+     */
+    private static @Nullable List<StateChange> coalescedChanges(
+            @NonNull final List<StateChange> changes, @NonNull final Set<ChangedKey> laterChangedKeys) {
+        List<StateChange> kept = null;
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            final var change = changes.get(i);
+            final var changedKey = changedKeyOf(change);
+            if (changedKey != null && !laterChangedKeys.add(changedKey)) {
+                if (kept == null) {
+                    kept = new ArrayList<>(changes.subList(i + 1, changes.size()).reversed());
+                }
+            } else if (kept != null) {
+                kept.add(change);
+            }
+        }
+        return kept == null ? null : kept.reversed();
+    }
+
+    private static @Nullable ChangedKey changedKeyOf(@NonNull final StateChange change) {
+        if (change.hasMapUpdate()) {
+            return new ChangedKey(change.stateId(), change.mapUpdateOrThrow().keyOrThrow());
+        } else if (change.hasMapDelete()) {
+            return new ChangedKey(change.stateId(), change.mapDeleteOrThrow().keyOrThrow());
+        } else {
+            return null;
+        }
+    }
+}
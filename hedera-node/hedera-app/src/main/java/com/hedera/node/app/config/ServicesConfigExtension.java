@@ -60,6 +60,7 @@ import com.hedera.node.config.data.LedgerConfig;
 import com.hedera.node.config.data.NettyConfig;
 import com.hedera.node.config.data.NetworkAdminConfig;
 import com.hedera.node.config.data.NodesConfig;
+import com.hedera.node.config.data.QueriesConfig;
 import com.hedera.node.config.data.RatesConfig;
 import com.hedera.node.config.data.SchedulingConfig;
 import com.hedera.node.config.data.StakingConfig;
@@ -119,6 +120,7 @@ public class ServicesConfigExtension implements ConfigurationExtension {
                 LedgerConfig.class,
                 NettyConfig.class,
                 NetworkAdminConfig.class,
+                QueriesConfig.class,
                 RatesConfig.class,
                 SchedulingConfig.class,
                 StakingConfig.class,
@@ -20,7 +20,6 @@ import static java.util.Objects.requireNonNull;
 
 import com.hedera.node.app.Hedera;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
-import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.common.metrics.SpeedometerMetric;
 import com.swirlds.metrics.api.Counter;
 import com.swirlds.metrics.api.Metrics;
@@ -128,11 +127,8 @@ public abstract class MethodBase implements ServerCalls.UnaryMethod<BufferedData
             final var responseBuffer = BUFFER_THREAD_LOCAL.get();
             responseBuffer.reset();
 
-            // Convert the request BufferedData to a Bytes instance without copying the bytes
-            final var requestBytes = requestBuffer.getBytes(0, requestBuffer.length());
-
             // Call the workflow
-            handle(requestBytes, responseBuffer);
+            handle(requestBuffer, responseBuffer);
 
             // Respond to the client
             responseBuffer.flip();
@@ -156,10 +152,14 @@ public abstract class MethodBase implements ServerCalls.UnaryMethod<BufferedData
      * Called to handle the method invocation. Implementations should <b>only</b> throw a {@link RuntimeException}
      * if a gRPC <b>ERROR</b> is to be returned.
      *
-     * @param requestBuffer The {@link Bytes} containing the protobuf bytes for the request
+     * <p>The request buffer may wrap a pooled network buffer that is released as soon as the call returns, so
+     * implementations must not retain it, or any view of it, beyond that.
+     *
+     * @param requestBuffer The {@link BufferedData} containing the protobuf bytes for the request
      * @param responseBuffer A {@link BufferedData} into which the response protobuf bytes may be written
      */
-    protected abstract void handle(@NonNull final Bytes requestBuffer, @NonNull final BufferedData responseBuffer);
+    protected abstract void handle(
+            @NonNull final BufferedData requestBuffer, @NonNull final BufferedData responseBuffer);
 
     /**
      * Helper method for creating a {@link Counter} metric.
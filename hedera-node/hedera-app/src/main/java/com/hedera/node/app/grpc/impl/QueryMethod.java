@@ -21,7 +21,6 @@ import static java.util.Objects.requireNonNull;
 import com.hedera.hapi.node.transaction.Query;
 import com.hedera.node.app.workflows.query.QueryWorkflow;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
-import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.common.metrics.SpeedometerMetric;
 import com.swirlds.metrics.api.Counter;
 import com.swirlds.metrics.api.Metrics;
@@ -72,7 +71,7 @@ public final class QueryMethod extends MethodBase {
 
     /** {@inheritDoc} */
     @Override
-    protected void handle(@NonNull final Bytes requestBuffer, @NonNull final BufferedData responseBuffer) {
+    protected void handle(@NonNull final BufferedData requestBuffer, @NonNull final BufferedData responseBuffer) {
         workflow.handleQuery(requestBuffer, responseBuffer);
         queriesAnsweredCounter.increment();
         queriesAnsweredSpeedometer.cycle();
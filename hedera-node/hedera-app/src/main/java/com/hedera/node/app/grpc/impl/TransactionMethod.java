@@ -19,7 +19,6 @@ package com.hedera.node.app.grpc.impl;
 import com.hedera.hapi.node.base.Transaction;
 import com.hedera.node.app.workflows.ingest.IngestWorkflow;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
-import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.Objects;
@@ -52,7 +51,10 @@ public final class TransactionMethod extends MethodBase {
 
     /** {@inheritDoc} */
     @Override
-    protected void handle(@NonNull final Bytes requestBuffer, @NonNull final BufferedData responseBuffer) {
-        workflow.submitTransaction(requestBuffer, responseBuffer);
+    protected void handle(@NonNull final BufferedData requestBuffer, @NonNull final BufferedData responseBuffer) {
+        // The transaction bytes outlive the request buffer, since they are submitted to the platform; so if the
+        // request was wrapped directly over a network buffer, this is where it is copied to the heap, exactly once
+        final var requestBytes = requestBuffer.getBytes(0, requestBuffer.length());
+        workflow.submitTransaction(requestBytes, responseBuffer);
     }
 }
@@ -21,13 +21,26 @@ import static java.util.Objects.requireNonNull;
 import com.hedera.node.app.Hedera;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.grpc.Detachable;
+import io.grpc.HasByteBuffer;
 import io.grpc.MethodDescriptor;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 /**
  * A thread-safe implementation of a gRPC marshaller which does nothing but pass through byte arrays as {@link
  * BufferedData}s. A single implementation of this class is designed to be used by multiple threads,
  * including by multiple app instances within a single JVM!
+ *
+ * <p>When the transport hands us a message that sits in a single network buffer (as Netty does with its pooled
+ * buffers), {@link #parse(InputStream)} wraps that buffer directly instead of copying it, and takes ownership of it
+ * by detaching it from gRPC. The buffer must then be given back by calling {@link #releaseParsedRequest()} once the
+ * request has been handled. Since gRPC calls the listener's {@code onMessage} on the same thread, immediately after
+ * parsing the message, the owned buffer is tracked per thread.
  */
 /*@ThreadSafe*/
 final class DataBufferMarshaller implements MethodDescriptor.Marshaller<BufferedData> {
@@ -47,6 +60,15 @@ final class DataBufferMarshaller implements MethodDescriptor.Marshaller<Buffered
     private static final ThreadLocal<BufferedData> BUFFER_THREAD_LOCAL =
             ThreadLocal.withInitial(() -> BufferedData.allocate(TOO_BIG_MESSAGE_SIZE));
 
+    private static final Logger logger = LogManager.getLogger(DataBufferMarshaller.class);
+
+    /**
+     * Per-thread detached stream owning the network buffer wrapped by the last zero-copy parse on this thread, if it
+     * has not yet been released.
+     */
+    @SuppressWarnings("java:S5164") // Same as above, and the value is cleared as soon as the request is handled
+    private static final ThreadLocal<InputStream> DETACHED_THREAD_LOCAL = new ThreadLocal<>();
+
     /** Constructs a new {@link DataBufferMarshaller}. Only called by {@link GrpcServiceBuilder}. */
     DataBufferMarshaller() {}
 
@@ -67,6 +89,84 @@ final class DataBufferMarshaller implements MethodDescriptor.Marshaller<Buffered
         // of the Google protobuf implementation.
         requireNonNull(stream);
 
+        // Should the last request parsed on this thread somehow never have reached its listener, we still
+        // give its buffer back before taking another
+        releaseParsedRequest();
+
+        if (isWrappable(stream)) {
+            final var detached = ((Detachable) stream).detach();
+            final var wrapped = wrapWithoutCopy(detached);
+            if (wrapped != null) {
+                DETACHED_THREAD_LOCAL.set(detached);
+                return wrapped;
+            }
+            try (detached) {
+                return copyToThreadLocalBuffer(detached);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return copyToThreadLocalBuffer(stream);
+    }
+
+    /**
+     * Releases the network buffer, if any, that the last call to {@link #parse(InputStream)} on this thread wrapped
+     * without copying. Must be called on the parsing thread once the parsed request is no longer needed.
+     */
+    static void releaseParsedRequest() {
+        final var detached = DETACHED_THREAD_LOCAL.get();
+        if (detached != null) {
+            DETACHED_THREAD_LOCAL.remove();
+            try {
+                detached.close();
+            } catch (final IOException e) {
+                logger.warn("Unable to release a request buffer", e);
+            }
+        }
+    }
+
+    /**
+     * Whether the given stream's entire message is available as a single {@link java.nio.ByteBuffer} that we can
+     * take ownership of. Messages that are too big are never wrapped, so they are rejected exactly as before.
+     */
+    private static boolean isWrappable(@NonNull final InputStream stream) {
+        if (!(stream instanceof Detachable) || !(stream instanceof HasByteBuffer hasByteBuffer)) {
+            return false;
+        }
+        try {
+            final int length = stream.available();
+            if (length == 0 || length > MAX_MESSAGE_SIZE || !hasByteBuffer.byteBufferSupported()) {
+                return false;
+            }
+            final var byteBuffer = hasByteBuffer.getByteBuffer();
+            return byteBuffer != null && byteBuffer.remaining() >= length;
+        } catch (final IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Wraps the entire message of the given detached stream as a {@link BufferedData} without copying it.
+     *
+     * @return the wrapped message, or null if it is not available as a single buffer
+     */
+    private static @Nullable BufferedData wrapWithoutCopy(@NonNull final InputStream detached) {
+        if (!(detached instanceof HasByteBuffer hasByteBuffer) || !hasByteBuffer.byteBufferSupported()) {
+            return null;
+        }
+        try {
+            final int length = detached.available();
+            final var byteBuffer = hasByteBuffer.getByteBuffer();
+            if (byteBuffer == null || byteBuffer.remaining() < length) {
+                return null;
+            }
+            return BufferedData.wrap(byteBuffer.slice(byteBuffer.position(), length));
+        } catch (final IOException e) {
+            return null;
+        }
+    }
+
+    private static BufferedData copyToThreadLocalBuffer(@NonNull final InputStream stream) {
         // Each thread has a single buffer instance that gets reused over and over.
         final var buffer = BUFFER_THREAD_LOCAL.get();
         buffer.reset();
@@ -249,7 +249,12 @@ final class GrpcServiceBuilder {
 
         @Override
         public void onMessage(BufferedData requestBuffer) {
-            method.invoke(requestBuffer, this);
+            try {
+                method.invoke(requestBuffer, this);
+            } finally {
+                // The request may wrap a pooled network buffer, which must be returned once the method is done
+                DataBufferMarshaller.releaseParsedRequest();
+            }
         }
 
         // ================================================================================================================
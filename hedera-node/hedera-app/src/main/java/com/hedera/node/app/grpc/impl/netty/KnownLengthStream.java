@@ -20,15 +20,21 @@ import static java.util.Objects.requireNonNull;
 
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import io.grpc.Drainable;
 import io.grpc.KnownLength;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 
 /**
  * An {@link InputStream} that implements {@link KnownLength} which allows the gRPC server to do
  * some smarter things when returning responses to clients. This stream is backed by a {@link
  * BufferedData}, with optimal implementations for the InputStream methods.
+ *
+ * <p>It is also {@link Drainable}, so the gRPC server writes the response straight from the buffer
+ * into its own pooled network buffers, rather than copying it through an intermediate array.
  */
-final class KnownLengthStream extends InputStream implements KnownLength {
+final class KnownLengthStream extends InputStream implements KnownLength, Drainable {
     private final BufferedData buf;
 
     public KnownLengthStream(final BufferedData buf) {
@@ -84,6 +90,17 @@ final class KnownLengthStream extends InputStream implements KnownLength {
         return numBytesToSkip;
     }
 
+    @Override
+    public int drainTo(@NonNull final OutputStream target) throws IOException {
+        final int length = available();
+        if (length > 0) {
+            // Writes straight from the buffer's backing storage, without first copying the bytes out of it
+            buf.writeTo(target, (int) buf.position(), length);
+            buf.skip(length);
+        }
+        return length;
+    }
+
     @Override
     public int available() {
         return (int) buf.remaining();
@@ -26,11 +26,20 @@ import com.hedera.hapi.streams.HashObject;
 import com.hedera.node.app.annotations.CommonExecutor;
 import com.hedera.node.app.records.impl.BlockRecordStreamProducer;
 import com.hedera.node.app.state.SingleTransactionRecord;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.BlockRecordStreamConfig;
+import com.hedera.node.config.data.StatsConfig;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -47,6 +56,12 @@ import org.apache.logging.log4j.Logger;
  * the handle transaction thread, so they are single threaded and executed in the correct order. The information
  * provided by calls to the public methods are then processed into files by the background threads. All async task are
  * done with {@link CompletableFuture}s.
+ *
+ * <p>Each call to {@link #writeRecordStreamItems(Stream)} goes through a three-stage pipeline. First its records are
+ * serialized, each record in parallel with all others. Then the serialized records are handed off, in order, to the
+ * running hash stage; and finally to the writer stage. Only the first stage is parallel, since both the running hash
+ * and the record file depend on the order of the records. At most {@code maxPendingRecordBatches} calls may be
+ * pending in the pipeline at once; past that, the handle thread waits for the oldest to be written.
  */
 @Singleton
 public final class StreamFileProducerConcurrent implements BlockRecordStreamProducer {
@@ -55,6 +70,17 @@ public final class StreamFileProducerConcurrent implements BlockRecordStreamProd
 
     /** The logger */
     private static final Logger logger = LogManager.getLogger(StreamFileProducerConcurrent.class);
+
+    private static final String SERIALIZE_MICROS_NAME = "recordStreamSerializeMicros";
+    private static final String SERIALIZE_MICROS_DESC =
+            "average microseconds from submitting a transaction's records until they are serialized";
+    private static final String HASH_MICROS_NAME = "recordStreamHashMicros";
+    private static final String HASH_MICROS_DESC =
+            "average microseconds to add a transaction's serialized records to the running hash";
+    private static final String WRITE_MICROS_NAME = "recordStreamWriteMicros";
+    private static final String WRITE_MICROS_DESC =
+            "average microseconds to write a transaction's serialized records to the record file";
+    private static final String RUNNING_AVG_FORMAT = "%,13.2f";
     /** Creates new {@link BlockRecordWriter} instances */
     private final BlockRecordWriterFactory writerFactory;
     /** The HAPI protobuf version. Does not change during execution. */
@@ -63,6 +89,16 @@ public final class StreamFileProducerConcurrent implements BlockRecordStreamProd
     private final BlockRecordFormat format;
     /** The executor service to use for background tasks */
     private final ExecutorService executorService;
+    /** The maximum number of batches of records that may be pending in the pipeline */
+    private final int maxPendingBatches;
+    /** Futures that complete when each pending batch of records has passed through the pipeline, oldest first */
+    private final Deque<CompletableFuture<?>> pendingBatches = new ArrayDeque<>();
+    /** The average latency of the serialization stage of the pipeline */
+    private final RunningAverageMetric serializeMicros;
+    /** The average latency of the running hash stage of the pipeline */
+    private final RunningAverageMetric hashMicros;
+    /** The average latency of the writer stage of the pipeline */
+    private final RunningAverageMetric writeMicros;
     /** The lock to protect the following state */
     private final Lock lock = new ReentrantLock();
     /** Future for running hash results of last running hash updates task */
@@ -87,17 +123,29 @@ public final class StreamFileProducerConcurrent implements BlockRecordStreamProd
      * @param format          The format to use for the record stream
      * @param writerFactory   the factory used to create new {@link BlockRecordWriter} instances
      * @param executorService The executor service to use for background threads
+     * @param hapiVersion     the HAPI protobuf version
+     * @param configProvider  the configuration provider
+     * @param metrics         the metrics to register the pipeline stage latencies with
      */
     @Inject
     public StreamFileProducerConcurrent(
             @NonNull final BlockRecordFormat format,
             @NonNull final BlockRecordWriterFactory writerFactory,
             @CommonExecutor @NonNull final ExecutorService executorService,
-            @NonNull final SemanticVersion hapiVersion) {
+            @NonNull final SemanticVersion hapiVersion,
+            @NonNull final ConfigProvider configProvider,
+            @NonNull final Metrics metrics) {
         this.writerFactory = requireNonNull(writerFactory);
         this.format = requireNonNull(format);
         this.hapiVersion = requireNonNull(hapiVersion);
         this.executorService = requireNonNull(executorService);
+        requireNonNull(metrics);
+        final var config = requireNonNull(configProvider).getConfiguration();
+        this.maxPendingBatches = config.getConfigData(BlockRecordStreamConfig.class).maxPendingRecordBatches();
+        final var statsConfig = config.getConfigData(StatsConfig.class);
+        this.serializeMicros = runningAverage(metrics, statsConfig, SERIALIZE_MICROS_NAME, SERIALIZE_MICROS_DESC);
+        this.hashMicros = runningAverage(metrics, statsConfig, HASH_MICROS_NAME, HASH_MICROS_DESC);
+        this.writeMicros = runningAverage(metrics, statsConfig, WRITE_MICROS_NAME, WRITE_MICROS_DESC);
     }
 
     // =================================================================================================================
@@ -198,6 +246,7 @@ public final class StreamFileProducerConcurrent implements BlockRecordStreamProd
      */
     @Override
     public void writeRecordStreamItems(@NonNull final Stream<SingleTransactionRecord> recordStreamItems) {
+        final CompletableFuture<?> oldestBatch;
         lock.lock(); // Block until the lock is acquired
         try {
             assert lastRecordHashingResult != null : "initRunningHash() must be called before writeRecordStreamItems";
@@ -205,12 +254,8 @@ public final class StreamFileProducerConcurrent implements BlockRecordStreamProd
             // the same way, there can be NPE's
             requireNonNull(recordStreamItems);
 
-            // serialize all the record stream items in background thread into SerializedSingleTransaction objects
-            final var futureSerializedRecords = CompletableFuture.supplyAsync(
-                    () -> recordStreamItems
-                            .map(item -> format.serialize(item, currentBlockNumber, hapiVersion))
-                            .toList(),
-                    executorService);
+            // serialize all the record stream items in background threads into SerializedSingleTransaction objects
+            final var futureSerializedRecords = serializeAsync(recordStreamItems.toList(), currentBlockNumber);
             // when serialization is done and previous running hash is computed, we can compute new running hash and
             // write serialized items to record file in parallel update running hash in a background thread
             // Even though we don't update the currentRecordFileWriter until the end, we still need to update the
@@ -222,7 +267,12 @@ public final class StreamFileProducerConcurrent implements BlockRecordStreamProd
             lastRecordHashingResult = lastRecordHashingResult
                     .thenCombine(futureSerializedRecords, TwoResults::new)
                     .thenApplyAsync(
-                            twoResults -> format.computeNewRunningHash(twoResults.a(), twoResults.b()),
+                            twoResults -> {
+                                final var start = System.nanoTime();
+                                final var runningHash = format.computeNewRunningHash(twoResults.a(), twoResults.b());
+                                hashMicros.update(microsSince(start));
+                                return runningHash;
+                            },
                             executorService);
             // When the currentRecordFileWriter is null, it means that the node is starting from genesis or restarting
             // at an upgrade boundary. In either case, there is no previous record file to write to. So we just ignore
@@ -234,28 +284,35 @@ public final class StreamFileProducerConcurrent implements BlockRecordStreamProd
                 // or notice more than two seconds have passed since the last block was created before the
                 // upgrade. However, a node that is restarted in the middle of a block will follow this
                 // pattern; nor will a node going through event stream recovery.
-                return;
+                oldestBatch = trackPendingBatch(lastRecordHashingResult);
+            } else {
+                // write serialized items to record file in a background thread
+                currentRecordFileWriter = currentRecordFileWriter
+                        .thenCombine(futureSerializedRecords, TwoResults::new)
+                        .thenApplyAsync(
+                                twoResults -> {
+                                    final var start = System.nanoTime();
+                                    final var writer = twoResults.a();
+                                    final var serializedItems = twoResults.b();
+                                    serializedItems.forEach(item -> {
+                                        try {
+                                            writer.writeItem(item);
+                                        } catch (final Exception e) {
+                                            logger.error("Error writing record item to file", e);
+                                        }
+                                    });
+                                    writeMicros.update(microsSince(start));
+                                    return writer;
+                                },
+                                executorService);
+                oldestBatch =
+                        trackPendingBatch(CompletableFuture.allOf(lastRecordHashingResult, currentRecordFileWriter));
             }
-            // write serialized items to record file in a background thread
-            currentRecordFileWriter = currentRecordFileWriter
-                    .thenCombine(futureSerializedRecords, TwoResults::new)
-                    .thenApplyAsync(
-                            twoResults -> {
-                                final var writer = twoResults.a();
-                                final var serializedItems = twoResults.b();
-                                serializedItems.forEach(item -> {
-                                    try {
-                                        writer.writeItem(item);
-                                    } catch (final Exception e) {
-                                        logger.error("Error writing record item to file", e);
-                                    }
-                                });
-                                return writer;
-                            },
-                            executorService);
         } finally {
             lock.unlock(); // Always unlock.
         }
+        // Wait outside the lock, so that close() and the other methods are never blocked behind the backpressure
+        awaitBatch(oldestBatch);
     }
 
     /**
@@ -277,6 +334,7 @@ public final class StreamFileProducerConcurrent implements BlockRecordStreamProd
                         })
                         .join();
 
+                pendingBatches.clear();
                 lastRecordHashingResult = null;
                 lastRecordHashingResultNMinus1 = null;
                 lastRecordHashingResultNMinus2 = null;
@@ -291,6 +349,79 @@ public final class StreamFileProducerConcurrent implements BlockRecordStreamProd
     // =================================================================================================================
     // private implementation
 
+    /**
+     * Serializes the given records on the executor, each in parallel with the others.
+     *
+     * @param items the records to serialize
+     * @param blockNumber the number of the block the records belong to
+     * @return a future that completes with the serialized records, in the given order
+     */
+    private CompletableFuture<List<SerializedSingleTransactionRecord>> serializeAsync(
+            @NonNull final List<SingleTransactionRecord> items, final long blockNumber) {
+        final var submitted = System.nanoTime();
+        final CompletableFuture<List<SerializedSingleTransactionRecord>> futureSerializedRecords;
+        if (items.size() == 1) {
+            futureSerializedRecords = CompletableFuture.supplyAsync(
+                    () -> List.of(format.serialize(items.getFirst(), blockNumber, hapiVersion)), executorService);
+        } else {
+            final var futures = items.stream()
+                    .map(item -> CompletableFuture.supplyAsync(
+                            () -> format.serialize(item, blockNumber, hapiVersion), executorService))
+                    .toList();
+            futureSerializedRecords = CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .thenApply(ignore -> futures.stream().map(CompletableFuture::join).toList());
+        }
+        return futureSerializedRecords.whenComplete((ignore, error) -> serializeMicros.update(microsSince(submitted)));
+    }
+
+    /**
+     * Adds the given future for a batch of records passing through the pipeline to the pending batches; and, if
+     * there are now more than the maximum number of pending batches, removes the oldest for the caller to wait on.
+     * Must be called while holding the lock.
+     *
+     * @param batchDone the future that completes when the batch has passed through the pipeline
+     * @return the oldest pending batch, to be waited on without holding the lock; or {@code null} if there is capacity
+     */
+    @Nullable
+    private CompletableFuture<?> trackPendingBatch(@NonNull final CompletableFuture<?> batchDone) {
+        pendingBatches.addLast(batchDone);
+        while (!pendingBatches.isEmpty() && pendingBatches.peekFirst().isDone()) {
+            pendingBatches.pollFirst();
+        }
+        // Since every call waits for the batch returned here before returning, at most one batch is ever over capacity
+        return pendingBatches.size() > maxPendingBatches ? pendingBatches.pollFirst() : null;
+    }
+
+    /**
+     * Waits for the given pending batch, if any, to pass through the pipeline.
+     *
+     * @param batch the pending batch to wait for, or {@code null} if there is none
+     */
+    private static void awaitBatch(@Nullable final CompletableFuture<?> batch) {
+        if (batch != null) {
+            try {
+                batch.join();
+            } catch (final CompletionException ignore) {
+                // Failures are already logged by each stage, or surface in getRunningHash()
+            }
+        }
+    }
+
+    private static RunningAverageMetric runningAverage(
+            @NonNull final Metrics metrics,
+            @NonNull final StatsConfig statsConfig,
+            @NonNull final String name,
+            @NonNull final String description) {
+        return metrics.getOrCreate(new RunningAverageMetric.Config("app", name)
+                .withDescription(description)
+                .withFormat(RUNNING_AVG_FORMAT)
+                .withHalfLife(statsConfig.runningAvgHalfLifeSecs()));
+    }
+
+    private static double microsSince(final long start) {
+        return (System.nanoTime() - start) / 1_000.0;
+    }
+
     private BlockRecordWriter createBlockRecordWriter(
             @NonNull Bytes lastRunningHash, @NonNull final Instant startConsensusTime, final long blockNumber) {
         try {
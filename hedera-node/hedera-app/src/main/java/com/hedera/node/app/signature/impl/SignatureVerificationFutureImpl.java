@@ -30,6 +30,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * A {@link Future} that waits on a {@link TransactionSignature} to complete signature checks, and yields a
@@ -51,6 +52,14 @@ public final class SignatureVerificationFutureImpl implements SignatureVerificat
      * signature check is complete,
      */
     private final TransactionSignature txSig;
+    /**
+     * Optional: called the first time this future yields a passing {@link SignatureVerification}.
+     */
+    private final Runnable onPassed;
+    /**
+     * Whether {@link #onPassed} has already been called, so repeated calls to {@code get()} report a pass only once.
+     */
+    private final AtomicBoolean passReported = new AtomicBoolean();
     /**
      * Whether *this* future has been canceled. Used for properly implementing {@link Future} semantics.
      */
@@ -66,9 +75,28 @@ public final class SignatureVerificationFutureImpl implements SignatureVerificat
      */
     public SignatureVerificationFutureImpl(
             @NonNull final Key key, @Nullable final Bytes evmAlias, @NonNull final TransactionSignature txSig) {
+        this(key, evmAlias, txSig, null);
+    }
+
+    /**
+     * Create a new instance that reports the first passing {@link SignatureVerification} it yields.
+     *
+     * @param key The key associated with this sig check. Cannot be null.
+     * @param evmAlias The evm address alias, if any (always set if the key is an ECDSA_SECP256K1 key)
+     * @param txSig The {@link TransactionSignature}, from which the pass/fail status of the
+     * {@link SignatureVerification} is derived.
+     * @param onPassed Called once, the first time this future yields a passing {@link SignatureVerification}, if not
+     * null
+     */
+    SignatureVerificationFutureImpl(
+            @NonNull final Key key,
+            @Nullable final Bytes evmAlias,
+            @NonNull final TransactionSignature txSig,
+            @Nullable final Runnable onPassed) {
         this.key = requireNonNull(key);
         this.evmAlias = evmAlias;
         this.txSig = requireNonNull(txSig);
+        this.onPassed = onPassed;
     }
 
     /** {@inheritDoc} */
@@ -154,7 +182,7 @@ public final class SignatureVerificationFutureImpl implements SignatureVerificat
     @Override
     public SignatureVerification get() throws InterruptedException, ExecutionException {
         txSig.waitForFuture().get(); // Wait for the future to be assigned and completed
-        return new SignatureVerificationImpl(key, evmAlias, txSig.getSignatureStatus() == VALID);
+        return verification();
     }
 
     /**
@@ -184,6 +212,18 @@ public final class SignatureVerificationFutureImpl implements SignatureVerificat
 
         // Wait for the future to complete
         txSig.getFuture().get(deadline - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
-        return new SignatureVerificationImpl(key, evmAlias, txSig.getSignatureStatus() == VALID);
+        return verification();
+    }
+
+    /**
+     * Builds the {@link SignatureVerification} of the completed {@link TransactionSignature}.
+     */
+    @NonNull
+    private SignatureVerification verification() {
+        final var passed = txSig.getSignatureStatus() == VALID;
+        if (passed && onPassed != null && passReported.compareAndSet(false, true)) {
+            onPassed.run();
+        }
+        return new SignatureVerificationImpl(key, evmAlias, passed);
     }
 }
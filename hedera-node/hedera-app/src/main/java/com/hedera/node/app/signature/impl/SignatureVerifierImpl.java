@@ -18,8 +18,11 @@ package com.hedera.node.app.signature.impl;
 
 import static com.hedera.hapi.node.base.SignaturePair.SignatureOneOfType.ECDSA_SECP256K1;
 import static com.hedera.hapi.node.base.SignaturePair.SignatureOneOfType.ED25519;
+import static com.hedera.node.app.hapi.utils.CommonUtils.noThrowSha384HashOf;
 import static com.hedera.node.app.spi.signatures.SignatureVerifier.MessageType.KECCAK_256_HASH;
+import static com.swirlds.common.crypto.VerificationStatus.VALID;
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 
 import com.hedera.hapi.node.base.Key;
 import com.hedera.node.app.hapi.utils.MiscCryptoUtils;
@@ -32,6 +35,7 @@ import com.swirlds.common.crypto.Cryptography;
 import com.swirlds.common.crypto.SignatureType;
 import com.swirlds.common.crypto.TransactionSignature;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -47,11 +51,20 @@ public final class SignatureVerifierImpl implements SignatureVerifier {
 
     /** The {@link Cryptography} engine to use for signature verification. */
     private final Cryptography cryptoEngine;
+    /** The signatures already verified as valid by this or any other workflow sharing the cache. */
+    private final VerifiedSignatureCache verifiedSignatures;
 
-    /** Create a new instance with the given {@link Cryptography} engine. */
-    @Inject
+    /** Create a new instance with the given {@link Cryptography} engine, which does not cache verified signatures. */
     public SignatureVerifierImpl(@NonNull final Cryptography cryptoEngine) {
+        this(cryptoEngine, VerifiedSignatureCache.DISABLED);
+    }
+
+    /** Create a new instance with the given {@link Cryptography} engine and cache of verified signatures. */
+    @Inject
+    public SignatureVerifierImpl(
+            @NonNull final Cryptography cryptoEngine, @NonNull final VerifiedSignatureCache verifiedSignatures) {
         this.cryptoEngine = requireNonNull(cryptoEngine);
+        this.verifiedSignatures = requireNonNull(verifiedSignatures);
     }
 
     @NonNull
@@ -72,7 +85,9 @@ public final class SignatureVerifierImpl implements SignatureVerifier {
         final var hasEDSignature =
                 sigs.stream().anyMatch(sigPair -> sigPair.sigPair().signature().kind() == ED25519);
         if (hasEDSignature) {
-            edPreparer = createPreparerForED(signedBytes);
+            // The ED25519 message is the full signed bytes, so the cache is keyed by their hash instead
+            final var digest = verifiedSignatures.isEnabled() ? noThrowSha384HashOf(signedBytes) : signedBytes;
+            edPreparer = new Preparer(signedBytes, digest, SignatureType.ED25519);
         }
 
         Preparer ecPreparer = null;
@@ -84,6 +99,7 @@ public final class SignatureVerifierImpl implements SignatureVerifier {
 
         // Gather each TransactionSignature to send to the platform and the resulting SignatureVerificationFutures
         final var futures = HashMap.<Key, SignatureVerificationFuture>newHashMap(sigs.size());
+        final var toVerify = new ArrayList<TransactionSignature>(sigs.size());
         for (ExpandedSignaturePair sigPair : sigs) {
             final var kind = sigPair.sigPair().signature().kind();
             final var preparer =
@@ -100,28 +116,47 @@ public final class SignatureVerifierImpl implements SignatureVerifier {
             preparer.addSignature(sigPair.signature());
             preparer.addKey(sigPair.keyBytes());
             final TransactionSignature txSig = preparer.prepareTransactionSignature();
-            cryptoEngine.verifySync(txSig);
-            final SignatureVerificationFuture future =
-                    new SignatureVerificationFutureImpl(sigPair.key(), sigPair.evmAlias(), txSig);
+            final var signatureType = preparer.signatureType;
+            final var messageDigest = preparer.messageDigest;
+            final SignatureVerificationFuture future;
+            if (verifiedSignatures.isVerified(signatureType, sigPair.keyBytes(), sigPair.signature(), messageDigest)) {
+                txSig.setSignatureStatus(VALID);
+                txSig.setFuture(completedFuture(null));
+                future = new SignatureVerificationFutureImpl(sigPair.key(), sigPair.evmAlias(), txSig);
+            } else {
+                toVerify.add(txSig);
+                future = new SignatureVerificationFutureImpl(
+                        sigPair.key(),
+                        sigPair.evmAlias(),
+                        txSig,
+                        () -> verifiedSignatures.markVerified(
+                                signatureType, sigPair.keyBytes(), sigPair.signature(), messageDigest));
+            }
             futures.put(sigPair.key(), future);
         }
 
-        return futures;
-    }
+        // A lone signature is cheaper to verify right here than to hand off, but a multi-sig transaction gets all its
+        // signatures verified in parallel, without blocking the caller until it actually needs the results
+        if (toVerify.size() == 1) {
+            cryptoEngine.verifySync(toVerify.getFirst());
+        } else if (!toVerify.isEmpty()) {
+            cryptoEngine.verifyAsync(toVerify);
+        }
 
-    private static Preparer createPreparerForED(@NonNull final Bytes signedBytes) {
-        return new Preparer(signedBytes, SignatureType.ED25519);
+        return futures;
     }
 
     private static Preparer createPreparerForEC(
             @NonNull final Bytes signedBytes, @NonNull final MessageType messageType) {
+        // The ECDSA_SECP256K1 message is always a keccak hash, so it serves as its own digest for the cache
         return switch (messageType) {
             case RAW -> {
                 final var bytes = new byte[(int) signedBytes.length()];
                 signedBytes.getBytes(0, bytes, 0, bytes.length);
-                yield new Preparer(Bytes.wrap(MiscCryptoUtils.keccak256DigestOf(bytes)), SignatureType.ECDSA_SECP256K1);
+                final var hash = Bytes.wrap(MiscCryptoUtils.keccak256DigestOf(bytes));
+                yield new Preparer(hash, hash, SignatureType.ECDSA_SECP256K1);
             }
-            case KECCAK_256_HASH -> new Preparer(signedBytes, SignatureType.ECDSA_SECP256K1);
+            case KECCAK_256_HASH -> new Preparer(signedBytes, signedBytes, SignatureType.ECDSA_SECP256K1);
         };
     }
 
@@ -139,6 +174,7 @@ public final class SignatureVerifierImpl implements SignatureVerifier {
         // chance that it *is* too small, an array copy will be made to enlarge it.
         private static final int DEFAULT_SIZE = 10 * 1024;
         private final int signedBytesLength;
+        private final Bytes messageDigest;
         private final SignatureType signatureType;
         private byte[] content = new byte[DEFAULT_SIZE];
         private int offset;
@@ -147,7 +183,11 @@ public final class SignatureVerifierImpl implements SignatureVerifier {
         private int signatureLength;
         private int keyLength;
 
-        Preparer(@NonNull final Bytes signedBytes, @NonNull final SignatureType signatureType) {
+        Preparer(
+                @NonNull final Bytes signedBytes,
+                @NonNull final Bytes messageDigest,
+                @NonNull final SignatureType signatureType) {
+            this.messageDigest = requireNonNull(messageDigest);
             this.signatureType = requireNonNull(signatureType);
             signedBytesLength = (int) signedBytes.length();
             signedBytes.getBytes(0, content, 0, signedBytesLength);
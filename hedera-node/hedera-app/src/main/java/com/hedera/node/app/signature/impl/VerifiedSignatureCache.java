@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.signature.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.CacheConfig;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.crypto.SignatureType;
+import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * A bounded, thread-safe cache of signatures that have already been verified as valid. The same signature over the
+ * same bytes is checked at ingest (for the payer), again in pre-handle, and sometimes a third time when handle finds
+ * the pre-handle result stale. Since {@link SignatureVerifierImpl} is shared by all of these stages, consulting this
+ * cache lets each signature be cryptographically verified only once.
+ *
+ * <p>Entries are keyed by the signature type, the public key, the signature, and a digest of the signed message, so
+ * a cached result can never be applied to a different key, even after a key rotation. Only valid signatures are
+ * cached, so invalid signatures submitted by a client cannot fill up the cache.
+ */
+@Singleton
+public final class VerifiedSignatureCache {
+    /** A cache that never holds anything, for verifiers not shared across the workflows. */
+    static final VerifiedSignatureCache DISABLED = new VerifiedSignatureCache(0, null, null);
+
+    private final Cache<Entry, Boolean> cache;
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * Create a new instance.
+     *
+     * @param configProvider provides the maximum number of verified signatures to keep
+     * @param metrics the {@link Metrics} with which to register the hit and miss counters
+     */
+    @Inject
+    public VerifiedSignatureCache(@NonNull final ConfigProvider configProvider, @NonNull final Metrics metrics) {
+        this(
+                configProvider.getConfiguration().getConfigData(CacheConfig.class).verifiedSignaturesMaxSize(),
+                metrics.getOrCreate(new Counter.Config("app", "verifiedSigCacheHits")
+                        .withDescription("The number of signature checks answered by the verified signature cache")),
+                metrics.getOrCreate(new Counter.Config("app", "verifiedSigCacheMisses")
+                        .withDescription("The number of signature checks that needed cryptographic verification")));
+    }
+
+    private VerifiedSignatureCache(final int maxSize, @Nullable final Counter hits, @Nullable final Counter misses) {
+        this.cache = maxSize > 0 ? Caffeine.newBuilder().maximumSize(maxSize).build() : null;
+        this.hits = hits;
+        this.misses = misses;
+    }
+
+    /**
+     * Whether this cache holds any signatures at all. When it does not, callers need not compute message digests.
+     *
+     * @return true if signatures are cached
+     */
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * Checks whether the given signature was already verified as valid.
+     *
+     * @param type the type of the signature
+     * @param key the public key the signature was checked against
+     * @param signature the signature
+     * @param messageDigest a digest of the signed message
+     * @return true if the signature is known to be valid, false if it still needs to be verified
+     */
+    public boolean isVerified(
+            @NonNull final SignatureType type,
+            @NonNull final Bytes key,
+            @NonNull final Bytes signature,
+            @NonNull final Bytes messageDigest) {
+        if (cache == null) {
+            return false;
+        }
+        final var verified = cache.getIfPresent(new Entry(type, key, signature, messageDigest)) != null;
+        (verified ? hits : misses).increment();
+        return verified;
+    }
+
+    /**
+     * Records that the given signature was verified as valid.
+     *
+     * @param type the type of the signature
+     * @param key the public key the signature was checked against
+     * @param signature the signature
+     * @param messageDigest a digest of the signed message
+     */
+    public void markVerified(
+            @NonNull final SignatureType type,
+            @NonNull final Bytes key,
+            @NonNull final Bytes signature,
+            @NonNull final Bytes messageDigest) {
+        if (cache != null) {
+            cache.put(new Entry(requireNonNull(type), key, signature, messageDigest), Boolean.TRUE);
+        }
+    }
+
+    private record Entry(
+            @NonNull SignatureType type,
+            @NonNull Bytes key,
+            @NonNull Bytes signature,
+            @NonNull Bytes messageDigest) {}
+}
@@ -58,6 +58,20 @@ public class WrappedState implements State {
         return false;
     }
 
+    /**
+     * Returns {@code true} if this {@link WrappedState} has wrapped the given state of the given service, which it
+     * does the first time the state is requested from its {@link WritableStates}. A state that has not been wrapped
+     * cannot have been modified through this {@link WrappedState}.
+     *
+     * @param serviceName the name of the service
+     * @param stateKey the key of the state
+     * @return {@code true}, if the state has been wrapped; otherwise {@code false}
+     */
+    public boolean hasWrapped(@NonNull final String serviceName, @NonNull final String stateKey) {
+        final var writableStates = writableStatesMap.get(serviceName);
+        return writableStates != null && writableStates.hasWrapped(stateKey);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -87,6 +87,18 @@ public class WrappedWritableStates implements WritableStates {
                 stateKey, s -> new WrappedWritableQueueState<>(delegate.getQueue(stateKey)));
     }
 
+    /**
+     * Returns {@code true} if this {@link WrappedWritableStates} has wrapped the state with the given key.
+     *
+     * @param stateKey the key of the state
+     * @return {@code true}, if the state has been wrapped; otherwise {@code false}
+     */
+    public boolean hasWrapped(@NonNull final String stateKey) {
+        return writableKVStateMap.containsKey(stateKey)
+                || writableSingletonStateMap.containsKey(stateKey)
+                || writableQueueStateMap.containsKey(stateKey);
+    }
+
     /**
      * Returns {@code true} if the state of this {@link WrappedWritableStates} has been modified.
      *
@@ -16,43 +16,41 @@
 
 package com.hedera.node.app.state.recordcache;
 
-import static com.hedera.hapi.util.HapiUtils.ACCOUNT_ID_COMPARATOR;
-import static com.hedera.hapi.util.HapiUtils.TIMESTAMP_COMPARATOR;
 import static com.hedera.hapi.util.HapiUtils.asTimestamp;
 import static com.hedera.hapi.util.HapiUtils.minus;
 import static java.util.Objects.requireNonNull;
 
-import com.hedera.hapi.node.base.AccountID;
-import com.hedera.hapi.node.base.Timestamp;
 import com.hedera.hapi.node.base.TransactionID;
 import com.hedera.node.app.state.DeduplicationCache;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.data.HederaConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.time.InstantSource;
-import java.util.Comparator;
 import java.util.Set;
-import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
-/** An implementation of {@link DeduplicationCache}. */
+/**
+ * An implementation of {@link DeduplicationCache}.
+ *
+ * <p>Transaction IDs are kept in one concurrent set per second of transaction valid start time. Looking up or adding
+ * an ID only touches the set for its second, without taking any lock, and expired IDs are dropped a whole second at a
+ * time by removing the oldest sets.
+ */
 @Singleton
 public final class DeduplicationCacheImpl implements DeduplicationCache {
     /**
-     * The {@link TransactionID}s that this node has already submitted to the platform, sorted by transaction start
-     * time, such that earlier start times come first.
+     * The {@link TransactionID}s that this node has already submitted to the platform, bucketed by the second of
+     * their transaction valid start time, such that earlier seconds come first.
      * <p>
      * Note that an ID with scheduled set is different from the same ID without scheduled set.
      * In fact, an ID with scheduled set will always match the ID of the ScheduleCreate transaction that created
      * the schedule, except scheduled is set.
      */
-    private final Set<TransactionID> submittedTxns =
-            new ConcurrentSkipListSet<>(Comparator.<TransactionID, Timestamp>comparing(
-                            txnId -> txnId.transactionValidStartOrElse(Timestamp.DEFAULT), TIMESTAMP_COMPARATOR)
-                    .thenComparing(txnId -> txnId.accountIDOrElse(AccountID.DEFAULT), ACCOUNT_ID_COMPARATOR)
-                    .thenComparing(TransactionID::scheduled)
-                    .thenComparing(TransactionID::nonce));
+    private final ConcurrentNavigableMap<Long, Set<TransactionID>> submittedTxns = new ConcurrentSkipListMap<>();
 
     /** Used for looking up the max transaction duration window. */
     private final ConfigProvider configProvider;
@@ -74,14 +72,15 @@ public final class DeduplicationCacheImpl implements DeduplicationCache {
     @Override
     public void add(@NonNull final TransactionID transactionID) {
         // We don't want to use another thread to prune the set, so we will take the opportunity here to do so.
-        // Remember that at this point we have passed through all the throttles, so this method is only called
-        // at most 10,000 / (Number of nodes) times per second, which is not a lot.
         final var epochSeconds = approxEarliestValidStartSecond();
         removeTransactionsOlderThan(epochSeconds);
 
         // If the transaction is within the max transaction duration window, then add it to the set.
-        if (transactionID.transactionValidStartOrThrow().seconds() >= epochSeconds) {
-            submittedTxns.add(transactionID);
+        final var validStartSecond = transactionID.transactionValidStartOrThrow().seconds();
+        if (validStartSecond >= epochSeconds) {
+            submittedTxns
+                    .computeIfAbsent(validStartSecond, ignore -> ConcurrentHashMap.newKeySet())
+                    .add(transactionID);
         }
     }
 
@@ -92,7 +91,12 @@ public final class DeduplicationCacheImpl implements DeduplicationCache {
         // if the transactionID is still valid
         final var epochSeconds = approxEarliestValidStartSecond();
         removeTransactionsOlderThan(epochSeconds);
-        return submittedTxns.contains(transactionID);
+        final var validStartSecond = transactionID.transactionValidStartOrThrow().seconds();
+        if (validStartSecond < epochSeconds) {
+            return false;
+        }
+        final var bucket = submittedTxns.get(validStartSecond);
+        return bucket != null && bucket.contains(transactionID);
     }
 
     /** {@inheritDoc} */
@@ -114,20 +118,20 @@ public final class DeduplicationCacheImpl implements DeduplicationCache {
     }
 
     /**
-     * Removes all expired {@link TransactionID}s from the cache. This method is not threadsafe and should only be
-     * called from within a block synchronized on {@link #submittedTxns}.
+     * Removes all expired {@link TransactionID}s from the cache, one second at a time. Since the buckets are sorted by
+     * second, this only needs to look at the oldest bucket when nothing has expired.
      *
      * @param earliestEpochSecond The earliest epoch second that should be kept in the cache.
      */
     private void removeTransactionsOlderThan(final long earliestEpochSecond) {
-        final var itr = submittedTxns.iterator();
-        while (itr.hasNext()) {
-            final var txId = itr.next();
-            if (txId.transactionValidStartOrThrow().seconds() < earliestEpochSecond) {
-                itr.remove();
-            } else {
-                return;
-            }
+        Long oldestSecond;
+        while ((oldestSecond = firstSecondOrNull()) != null && oldestSecond < earliestEpochSecond) {
+            submittedTxns.remove(oldestSecond);
         }
     }
+
+    private Long firstSecondOrNull() {
+        final var oldest = submittedTxns.firstEntry();
+        return oldest == null ? null : oldest.getKey();
+    }
 }
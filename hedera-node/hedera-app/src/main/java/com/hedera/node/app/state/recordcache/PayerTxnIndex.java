@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.state.recordcache;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.TransactionID;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * A compact, append-only index from payer {@link AccountID} to the {@link TransactionID}s the payer paid for.
+ *
+ * <p>Instead of keeping a {@code Set<TransactionID>} per payer, every entry is interned in a ring-shaped arena of
+ * parallel arrays in the order it was added; and each entry stores the {@code int} offset back to the previous entry
+ * for the same payer. So the only per-payer object is the head of its chain, and a query just walks the chain from
+ * the newest entry backwards. Since the record cache adds entries in exactly the order their receipts appear in the
+ * receipt queue, expiring a round of receipts is just advancing the start of the arena past that many entries.
+ *
+ * <p>Mutation methods must be called from a single thread (startup, reconnect, or the "handle" thread). Queries may
+ * be called from any thread, and are best-effort; i.e., an entry added or expired concurrently with a query may or
+ * may not be included in its results.
+ */
+final class PayerTxnIndex {
+    private static final int INITIAL_CAPACITY = 1 << 12;
+
+    /**
+     * The absolute sequence number of the newest entry for a payer.
+     */
+    private static final class Head {
+        private volatile long seq;
+
+        private Head(final long seq) {
+            this.seq = seq;
+        }
+    }
+
+    /**
+     * The parallel arrays of the arena, indexed by the absolute sequence number of an entry masked to the capacity.
+     */
+    private record Arena(
+            @NonNull long[] seqs,
+            @NonNull TransactionID[] txnIds,
+            @NonNull AccountID[] payerIds,
+            @NonNull int[] prevOffsets,
+            int mask) {
+        private Arena(final int capacity) {
+            this(
+                    new long[capacity],
+                    new TransactionID[capacity],
+                    new AccountID[capacity],
+                    new int[capacity],
+                    capacity - 1);
+        }
+
+        private int capacity() {
+            return seqs.length;
+        }
+    }
+
+    private final Map<AccountID, Head> heads = new ConcurrentHashMap<>();
+
+    private volatile Arena arena = new Arena(INITIAL_CAPACITY);
+    /**
+     * The absolute sequence number of the oldest unexpired entry.
+     */
+    private volatile long start;
+    /**
+     * The absolute sequence number the next added entry will get.
+     */
+    private volatile long end;
+
+    /**
+     * Appends an entry for the given payer and transaction id.
+     *
+     * @param payerId the account that paid for the transaction
+     * @param txnId the transaction id
+     */
+    void add(@NonNull final AccountID payerId, @NonNull final TransactionID txnId) {
+        requireNonNull(payerId);
+        requireNonNull(txnId);
+        var a = arena;
+        if (end - start == a.capacity()) {
+            a = grow(a);
+        }
+        final long seq = end;
+        final int slot = (int) (seq & a.mask());
+        final var head = heads.get(payerId);
+        a.txnIds()[slot] = txnId;
+        a.payerIds()[slot] = payerId;
+        // Heads of expired chains are removed, so the previous entry is always inside the arena
+        a.prevOffsets()[slot] = head == null ? 0 : (int) (seq - head.seq);
+        a.seqs()[slot] = seq;
+        end = seq + 1;
+        if (head == null) {
+            heads.put(payerId, new Head(seq));
+        } else {
+            head.seq = seq;
+        }
+    }
+
+    /**
+     * Expires the given number of oldest entries, removing the chain of every payer whose newest entry expired.
+     *
+     * @param n the number of entries to expire
+     */
+    void expireOldest(final int n) {
+        final var a = arena;
+        final long from = start;
+        final long to = Math.min(from + n, end);
+        start = to;
+        for (long seq = from; seq < to; seq++) {
+            final int slot = (int) (seq & a.mask());
+            final var payerId = a.payerIds()[slot];
+            final var head = heads.get(payerId);
+            if (head != null && head.seq == seq) {
+                heads.remove(payerId);
+            }
+            a.txnIds()[slot] = null;
+            a.payerIds()[slot] = null;
+        }
+    }
+
+    /**
+     * Applies the given action to the payer's transaction ids, newest first, until the action returns false or
+     * the payer's chain is exhausted. A transaction id may be visited more than once, if it was added more than once.
+     *
+     * @param payerId the account that paid for the transactions
+     * @param action the action to apply, returning whether to continue
+     */
+    void forEachTxnId(@NonNull final AccountID payerId, @NonNull final Predicate<TransactionID> action) {
+        requireNonNull(payerId);
+        requireNonNull(action);
+        final var head = heads.get(payerId);
+        if (head == null) {
+            return;
+        }
+        final var a = arena;
+        long seq = head.seq;
+        while (seq >= start) {
+            final int slot = (int) (seq & a.mask());
+            final var txnId = a.txnIds()[slot];
+            final int prevOffset = a.prevOffsets()[slot];
+            // Stop if the slot was concurrently re-used, or belongs to an arena we have already outgrown
+            if (a.seqs()[slot] != seq || txnId == null || !payerId.equals(a.payerIds()[slot])) {
+                return;
+            }
+            if (!action.test(txnId) || prevOffset == 0) {
+                return;
+            }
+            seq -= prevOffset;
+        }
+    }
+
+    /**
+     * Returns the number of unexpired entries.
+     *
+     * @return the number of entries
+     */
+    int size() {
+        return (int) (end - start);
+    }
+
+    private Arena grow(@NonNull final Arena a) {
+        final var grown = new Arena(a.capacity() << 1);
+        for (long seq = start; seq < end; seq++) {
+            final int from = (int) (seq & a.mask());
+            final int to = (int) (seq & grown.mask());
+            grown.seqs()[to] = a.seqs()[from];
+            grown.txnIds()[to] = a.txnIds()[from];
+            grown.payerIds()[to] = a.payerIds()[from];
+            grown.prevOffsets()[to] = a.prevOffsets()[from];
+        }
+        arena = grown;
+        return grown;
+    }
+}
@@ -16,7 +16,6 @@
 
 package com.hedera.node.app.state.recordcache;
 
-import static com.hedera.hapi.node.base.ResponseCodeEnum.DUPLICATE_TRANSACTION;
 import static com.hedera.hapi.util.HapiUtils.TIMESTAMP_COMPARATOR;
 import static com.hedera.hapi.util.HapiUtils.isBefore;
 import static com.hedera.node.app.spi.records.RecordCache.matchesExceptNonce;
@@ -52,7 +51,6 @@ import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.ConcurrentModificationException;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -130,12 +128,15 @@ public class RecordCacheImpl implements HederaRecordCache {
      */
     private final Map<TransactionID, HistorySource> historySources = new ConcurrentHashMap<>();
     /**
-     * A secondary index that maps from the AccountID of the payer account to a set of transaction IDs that were
+     * A secondary index that maps from the AccountID of the payer account to the transaction IDs that were
      * submitted by this payer. This is only needed for answering queries. Ideally such queries would exist on the
      * mirror node instead. The answer to this query will include child records that were created as a consequence
      * of the original user transaction, but not any preceding records triggered by it.
+     * <p>
+     * Gets exactly one entry per receipt, in receipt queue order; so expiring a round of receipts from the queue
+     * expires exactly that many of its oldest entries.
      */
-    private final Map<AccountID, Set<TransactionID>> payerTxnIds = new ConcurrentHashMap<>();
+    private final PayerTxnIndex payerTxnIds = new PayerTxnIndex();
     /**
      * The list of transaction receipts for the current round.
      */
@@ -289,9 +290,7 @@ public class RecordCacheImpl implements HederaRecordCache {
                     historySource.recordSources().add(new PartialRecordSource());
                 }
                 ((PartialRecordSource) historySource.recordSources.getFirst()).incorporate(asTxnRecord(receipt));
-                payerTxnIds
-                        .computeIfAbsent(txnId.accountIDOrThrow(), ignored -> new HashSet<>())
-                        .add(txnId);
+                payerTxnIds.add(txnId.accountIDOrThrow(), txnId);
             }
         }
     }
@@ -330,9 +329,7 @@ public class RecordCacheImpl implements HederaRecordCache {
             } else {
                 effectivePayerId = txnId.accountIDOrThrow();
             }
-            payerTxnIds
-                    .computeIfAbsent(effectivePayerId, ignored -> new HashSet<>())
-                    .add(txnId);
+            payerTxnIds.add(effectivePayerId, txnId);
         }
     }
 
@@ -405,25 +402,9 @@ public class RecordCacheImpl implements HederaRecordCache {
                             txnId.nonce() == 0
                                     ? txnId
                                     : txnId.copyBuilder().nonce(0).build());
-                    // Remove from the payer to transaction index
-                    var payerId = txnId.accountIDOrThrow();
-                    var txnIds = payerTxnIds.computeIfAbsent(payerId, ignored -> new HashSet<>());
-                    if (!txnIds.remove(txnId)) {
-                        // The submitting node account must have been the payer
-                        payerId = requireNonNull(networkInfo.nodeInfo(receipt.nodeId()))
-                                .accountId();
-                        txnIds = payerTxnIds.computeIfAbsent(payerId, ignored -> new HashSet<>());
-                        if (!txnIds.remove(txnId) && receipt.status() != DUPLICATE_TRANSACTION) {
-                            logger.warn(
-                                    "Non-duplicate {} not cached for either payer or submitting node {}",
-                                    txnId,
-                                    payerId);
-                        }
-                    }
-                    if (txnIds.isEmpty()) {
-                        payerTxnIds.remove(payerId);
-                    }
                 }
+                // Remove from the payer to transaction index in bulk, since it has one entry per receipt
+                payerTxnIds.expireOldest(roundReceipts.entries().size());
                 // Remove the round receipts from the queue
                 queue.poll();
             } else {
@@ -457,40 +438,36 @@ public class RecordCacheImpl implements HederaRecordCache {
     @NonNull
     @Override
     public List<TransactionRecord> getRecords(@NonNull final AccountID accountID) {
-        final var txnIds = payerTxnIds.get(accountID);
-        if (txnIds == null) {
-            return emptyList();
-        }
+        requireNonNull(accountID);
         // Note that at **most** LedgerConfig#recordsMaxQueryableByAccount() records will be available, even if the
         // given account has paid for more than this number of transactions in the last 180 seconds.
-        var maxRemaining = configProvider
+        final var maxQueryable = configProvider
                 .getConfiguration()
                 .getConfigData(LedgerConfig.class)
                 .recordsMaxQueryableByAccount();
-        // While we still need to gather more records, collect them from the different histories.
-        final var records = new ArrayList<TransactionRecord>(maxRemaining);
-        // Because the set of transaction IDs could be concurrently modified by
-        // the handle thread, wrap this in a try-catch block to deal with a CME
-        // and return whatever we are able to gather. (I.e. this is a best-effort
-        // query, and not a critical path; unused in production environments)
-        try {
-            for (final var txnId : txnIds) {
-                final var historySource = historySources.get(txnId);
-                if (historySource != null) {
-                    final var history = historySource.historyOf(txnId);
-                    final var sourcedRecords = history.orderedRecords();
-                    records.addAll(
-                            sourcedRecords.size() > maxRemaining
-                                    ? sourcedRecords.subList(0, maxRemaining)
-                                    : sourcedRecords);
-                    maxRemaining -= sourcedRecords.size();
-                    if (maxRemaining <= 0) {
-                        break;
-                    }
-                }
+        // While we still need to gather more records, collect them from the different histories, newest first.
+        // Because the index could be concurrently modified by the handle thread, this is a best-effort query (and
+        // not a critical path; unused in production environments)
+        final var records = new ArrayList<TransactionRecord>();
+        final Set<TransactionID> visitedTxnIds = new HashSet<>();
+        payerTxnIds.forEachTxnId(accountID, txnId -> {
+            // The same transaction id appears once per receipt, but its history already includes all of them
+            if (!visitedTxnIds.add(txnId)) {
+                return true;
             }
-        } catch (ConcurrentModificationException ignore) {
-            // Ignore the exception and return what we found; this query is unused in production environments
+            final var historySource = historySources.get(txnId);
+            if (historySource != null) {
+                final var sourcedRecords = historySource.historyOf(txnId).orderedRecords();
+                final var maxRemaining = maxQueryable - records.size();
+                records.addAll(
+                        sourcedRecords.size() > maxRemaining
+                                ? sourcedRecords.subList(0, maxRemaining)
+                                : sourcedRecords);
+            }
+            return records.size() < maxQueryable;
+        });
+        if (records.isEmpty()) {
+            return emptyList();
         }
         records.sort((a, b) -> TIMESTAMP_COMPARATOR.compare(
                 a.consensusTimestampOrElse(Timestamp.DEFAULT), b.consensusTimestampOrElse(Timestamp.DEFAULT)));
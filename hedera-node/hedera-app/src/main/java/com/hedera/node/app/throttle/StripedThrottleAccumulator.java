@@ -0,0 +1,339 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.throttle;
+
+import static java.util.Collections.emptyList;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.HederaFunctionality;
+import com.hedera.hapi.node.transaction.Query;
+import com.hedera.node.app.hapi.utils.throttles.DeterministicThrottle;
+import com.hedera.node.app.throttle.annotations.IngestThrottle;
+import com.hedera.node.app.workflows.TransactionInfo;
+import com.swirlds.state.State;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BooleanSupplier;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Keeps track of the amount of usage of different TPS throttle categories and gas, and returns whether a given
+ * transaction or query should be throttled based on that.
+ * Meant to be used in multithreaded context by the ingest and query workflows.
+ *
+ * <p>Every decision is ultimately made by the single frontend {@link ThrottleAccumulator}, which is not thread-safe
+ * and is only touched while holding this object's monitor. So that ingest threads do not all serialize on that
+ * monitor, capacity for transactions and queries whose throttling depends on nothing but their functionality (see
+ * {@link ThrottleAccumulator#usesOnlyFunctionReqs(TransactionInfo)}) is claimed from the frontend throttle in
+ * <i>leases</i> of several transactions at once. Each lease belongs to one of a fixed number of stripes, chosen by
+ * thread, and is drawn down lock-free; only claiming a new lease takes the monitor.
+ *
+ * <p>Admission semantics are the same as those of the frontend throttle, within this tolerance:
+ * <ul>
+ *     <li>Leased capacity is claimed from the throttle buckets <i>before</i> it is used, so capacity sitting unused
+ *     in one stripe's lease is unavailable to the others. Leases are sized so that all stripes together hold at most
+ *     {@code 1/}{@value #LEASED_CAPACITY_DIVISOR} of a functionality's capacity, which bounds how early a
+ *     functionality can be throttled.</li>
+ *     <li>A lease expires {@link #DEFAULT_LEASE_DURATION_NANOS} nanoseconds after it is claimed, and its unused
+ *     capacity is then returned to the buckets. Since the buckets leaked in the meantime, this can admit at most
+ *     the returned number of extra transactions.</li>
+ *     <li>When a full lease cannot be claimed, as happens near saturation, the decision falls back to checking the
+ *     single transaction or query under the monitor, exactly as an unleased decision would.</li>
+ * </ul>
+ */
+@Singleton
+public class StripedThrottleAccumulator {
+    /**
+     * All stripes together never lease more than this fraction of a functionality's capacity.
+     */
+    static final int LEASED_CAPACITY_DIVISOR = 8;
+    /**
+     * The most transactions a single lease will ever cover.
+     */
+    static final int MAX_LEASE_SIZE = 64;
+    /**
+     * How long a lease can be drawn down before its unused capacity is returned.
+     */
+    static final long DEFAULT_LEASE_DURATION_NANOS = 10_000_000L;
+
+    private static final int NUM_FUNCTIONS = HederaFunctionality.values().length;
+
+    private final InstantSource instantSource;
+    private final ThrottleAccumulator frontendThrottle;
+    private final long leaseDurationNanos;
+    private final AtomicReferenceArray<Lease>[] stripes;
+    private final int stripeMask;
+
+    /**
+     * The leases that may still have unused capacity, in order of expiry; guarded by this object's monitor.
+     */
+    private final Deque<Lease> outstandingLeases = new ArrayDeque<>();
+    /**
+     * The active throttles the outstanding leases were claimed from; guarded by this object's monitor.
+     */
+    private List<DeterministicThrottle> leasedThrottles = emptyList();
+
+    @NonNull
+    private Instant lastDecisionTime = Instant.EPOCH;
+
+    @Inject
+    public StripedThrottleAccumulator(
+            @NonNull final InstantSource instantSource,
+            @NonNull @IngestThrottle final ThrottleAccumulator frontendThrottle) {
+        this(
+                instantSource,
+                frontendThrottle,
+                Runtime.getRuntime().availableProcessors(),
+                DEFAULT_LEASE_DURATION_NANOS);
+    }
+
+    @VisibleForTesting
+    @SuppressWarnings("unchecked")
+    StripedThrottleAccumulator(
+            @NonNull final InstantSource instantSource,
+            @NonNull final ThrottleAccumulator frontendThrottle,
+            final int minStripes,
+            final long leaseDurationNanos) {
+        this.instantSource = requireNonNull(instantSource);
+        this.frontendThrottle = requireNonNull(frontendThrottle, "frontendThrottle must not be null");
+        if (minStripes < 1) {
+            throw new IllegalArgumentException("At least one stripe is required, not " + minStripes);
+        }
+        if (leaseDurationNanos <= 0) {
+            throw new IllegalArgumentException("Lease duration must be positive, not " + leaseDurationNanos);
+        }
+        this.leaseDurationNanos = leaseDurationNanos;
+        final int numStripes = minStripes == 1 ? 1 : Integer.highestOneBit(minStripes - 1) << 1;
+        this.stripes = new AtomicReferenceArray[numStripes];
+        for (int i = 0; i < numStripes; i++) {
+            stripes[i] = new AtomicReferenceArray<>(NUM_FUNCTIONS);
+        }
+        this.stripeMask = numStripes - 1;
+    }
+
+    /**
+     * Updates the throttle requirements for the given transaction and returns whether the transaction
+     * should be throttled for the current time(Instant.now).
+     *
+     * @param txnInfo the transaction to update the throttle requirements for
+     * @param state the current state of the node
+     * @return whether the transaction should be throttled
+     */
+    public boolean shouldThrottle(@NonNull final TransactionInfo txnInfo, @NonNull final State state) {
+        final var now = instantSource.instant();
+        if (ThrottleAccumulator.usesOnlyFunctionReqs(txnInfo)) {
+            if (frontendThrottle.isThrottleExempt(txnInfo.payerID())) {
+                return false;
+            }
+            return shouldThrottleLeased(
+                    txnInfo.functionality(),
+                    now,
+                    () -> frontendThrottle.checkAndEnforceThrottle(txnInfo, lastDecisionTime, state));
+        }
+        synchronized (this) {
+            setDecisionTime(now);
+            return frontendThrottle.checkAndEnforceThrottle(txnInfo, lastDecisionTime, state);
+        }
+    }
+
+    /**
+     * Updates the throttle requirements for the given query and returns whether the query should be throttled for the
+     * current time(Instant.now).
+     *
+     * @param queryFunction the functionality of the query
+     * @param query the query to update the throttle requirements for
+     * @param state the current state of the node
+     * @param queryPayerId the payer id of the query
+     * @return whether the query should be throttled
+     */
+    public boolean shouldThrottle(
+            @NonNull final HederaFunctionality queryFunction,
+            @NonNull final Query query,
+            @NonNull final State state,
+            @Nullable final AccountID queryPayerId) {
+        requireNonNull(query);
+        requireNonNull(queryFunction);
+        final var now = instantSource.instant();
+        if (ThrottleAccumulator.queryUsesOnlyFunctionReqs(queryFunction)) {
+            if (frontendThrottle.isThrottleExempt(queryPayerId)) {
+                return false;
+            }
+            return shouldThrottleLeased(
+                    queryFunction,
+                    now,
+                    () -> frontendThrottle.checkAndEnforceThrottle(
+                            queryFunction, lastDecisionTime, query, state, queryPayerId));
+        }
+        synchronized (this) {
+            setDecisionTime(now);
+            return frontendThrottle.checkAndEnforceThrottle(
+                    queryFunction, lastDecisionTime, query, state, queryPayerId);
+        }
+    }
+
+    /**
+     * Decides whether to throttle one transaction or query of a functionality that only uses its functionality's
+     * throttle requirements, preferring to draw on this thread's stripe's lease for the functionality.
+     *
+     * @param function the functionality
+     * @param now the current time
+     * @param unleasedDecision the decision to make under the monitor if no lease can be used or claimed
+     * @return whether the transaction or query should be throttled
+     */
+    private boolean shouldThrottleLeased(
+            @NonNull final HederaFunctionality function,
+            @NonNull final Instant now,
+            @NonNull final BooleanSupplier unleasedDecision) {
+        final var stripe = stripes[(int) Thread.currentThread().threadId() & stripeMask];
+        final int slot = function.ordinal();
+        final long nowNanos = epochNanosOf(now);
+        // A racy read, but a stale view of the active throttles at worst uses a lease revoked by a rebuild
+        final var activeThrottles = frontendThrottle.allActiveThrottles();
+        final var lease = stripe.get(slot);
+        if (lease != null && lease.tryUse(nowNanos, activeThrottles)) {
+            return false;
+        }
+        synchronized (this) {
+            // Another thread on this stripe may have claimed a new lease while we waited
+            final var current = stripe.get(slot);
+            if (current != lease && current.tryUse(nowNanos, frontendThrottle.allActiveThrottles())) {
+                return false;
+            }
+            setDecisionTime(now);
+            reconcileLeases();
+            final var renewed = tryClaimLease(function);
+            if (renewed != null) {
+                stripe.set(slot, renewed);
+                return false;
+            }
+            return unleasedDecision.getAsBoolean();
+        }
+    }
+
+    /**
+     * Tries to claim a new lease for the given functionality from the frontend throttle, using one unit of it for
+     * the current decision. Must be called while holding this object's monitor.
+     *
+     * @param function the functionality to claim a lease for
+     * @return the new lease, or null if leasing is not worthwhile or there is not enough capacity for a full lease
+     */
+    private @Nullable Lease tryClaimLease(@NonNull final HederaFunctionality function) {
+        final long maxStripeShare = frontendThrottle.capacityFor(function) / LEASED_CAPACITY_DIVISOR / stripes.length;
+        final long size = Math.min(MAX_LEASE_SIZE, maxStripeShare);
+        // A lease of one is no better than an unleased decision
+        if (size < 2 || frontendThrottle.shouldThrottleNOfUnscaled((int) size, function, lastDecisionTime)) {
+            return null;
+        }
+        final var lease = new Lease(
+                function, leasedThrottles, epochNanosOf(lastDecisionTime) + leaseDurationNanos, (int) size - 1);
+        outstandingLeases.addLast(lease);
+        return lease;
+    }
+
+    /**
+     * Revokes every expired lease and returns its unused capacity to the frontend throttle; or, if the frontend
+     * throttles were rebuilt since the outstanding leases were claimed, simply revokes all of them, since the
+     * capacity they claimed no longer exists. Must be called while holding this object's monitor.
+     */
+    private void reconcileLeases() {
+        final var activeThrottles = frontendThrottle.allActiveThrottles();
+        if (activeThrottles != leasedThrottles) {
+            outstandingLeases.forEach(Lease::revoke);
+            outstandingLeases.clear();
+            leasedThrottles = activeThrottles;
+            return;
+        }
+        final long nowNanos = epochNanosOf(lastDecisionTime);
+        while (!outstandingLeases.isEmpty() && outstandingLeases.peekFirst().expiryNanos <= nowNanos) {
+            final var lease = outstandingLeases.pollFirst();
+            final int unused = lease.revoke();
+            if (unused > 0) {
+                frontendThrottle.leakCapacityForNOfUnscaled(unused, lease.function);
+            }
+        }
+    }
+
+    private void setDecisionTime(@NonNull final Instant time) {
+        lastDecisionTime = time.isBefore(lastDecisionTime) ? lastDecisionTime : time;
+    }
+
+    private static long epochNanosOf(@NonNull final Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    /**
+     * Capacity for some number of transactions of a single functionality, already claimed from the frontend
+     * throttle, that can be used without holding any lock until it runs out or expires.
+     */
+    private static final class Lease {
+        private final HederaFunctionality function;
+        private final List<DeterministicThrottle> claimedFrom;
+        private final long expiryNanos;
+        private final AtomicInteger remaining;
+
+        private Lease(
+                @NonNull final HederaFunctionality function,
+                @NonNull final List<DeterministicThrottle> claimedFrom,
+                final long expiryNanos,
+                final int remaining) {
+            this.function = function;
+            this.claimedFrom = claimedFrom;
+            this.expiryNanos = expiryNanos;
+            this.remaining = new AtomicInteger(remaining);
+        }
+
+        /**
+         * Tries to use one transaction's worth of this lease.
+         *
+         * @param nowNanos the current time, in nanoseconds since the epoch
+         * @param activeThrottles the frontend throttle's currently active throttles
+         * @return whether the lease had unexpired capacity to use
+         */
+        private boolean tryUse(final long nowNanos, @NonNull final List<DeterministicThrottle> activeThrottles) {
+            if (nowNanos >= expiryNanos || activeThrottles != claimedFrom) {
+                return false;
+            }
+            int current;
+            do {
+                current = remaining.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!remaining.compareAndSet(current, current - 1));
+            return true;
+        }
+
+        /**
+         * Revokes this lease, so that no more of it can be used.
+         *
+         * @return the number of transactions' worth of the lease that were never used
+         */
+        private int revoke() {
+            return Math.max(0, remaining.getAndSet(0));
+        }
+    }
+}
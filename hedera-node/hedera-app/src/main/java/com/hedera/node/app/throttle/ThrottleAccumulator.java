@@ -307,6 +307,62 @@ public class ThrottleAccumulator {
         gasThrottle.leakUnusedGasPreviouslyReserved(value);
     }
 
+    /**
+     * Returns the number of transactions of the given functionality that would fill the most constraining
+     * of its throttles, or zero if the functionality has no throttle requirements.
+     *
+     * @param function the functionality to get the capacity for
+     * @return the capacity for the given functionality in transactions
+     */
+    public long capacityFor(@NonNull final HederaFunctionality function) {
+        final var manager = functionReqs.get(function);
+        return manager == null ? 0 : manager.capacityInTransactions();
+    }
+
+    /**
+     * Indicates whether the given payer is exempt from throttling; such payers neither use throttle
+     * capacity nor are limited by it.
+     *
+     * @param payerId the payer to check
+     * @return whether the payer is exempt from throttling
+     */
+    public boolean isThrottleExempt(@Nullable final AccountID payerId) {
+        return throttleExempt(payerId, configSupplier.get());
+    }
+
+    /**
+     * Indicates whether throttling the given transaction, if its payer is not exempt, does nothing
+     * more than claim one transaction's worth of its functionality's throttle requirements, independent
+     * of state and configuration. Capacity for such transactions may safely be claimed ahead of time in
+     * bulk via {@link #shouldThrottleNOfUnscaled(int, HederaFunctionality, Instant)}.
+     *
+     * @param txnInfo the transaction to check
+     * @return whether the transaction only uses its functionality's throttle requirements
+     */
+    public static boolean usesOnlyFunctionReqs(@NonNull final TransactionInfo txnInfo) {
+        final var function = txnInfo.functionality();
+        return switch (function) {
+            case SCHEDULE_CREATE, SCHEDULE_SIGN, TOKEN_MINT, ETHEREUM_TRANSACTION -> false;
+            case CRYPTO_TRANSFER -> {
+                // Without token transfers or aliases there can be no auto-associations or implicit creations
+                final var op = txnInfo.txBody().cryptoTransferOrElse(CryptoTransferTransactionBody.DEFAULT);
+                yield op.tokenTransfers().isEmpty() && !usesAliases(op);
+            }
+            default -> !isGasThrottled(function);
+        };
+    }
+
+    /**
+     * Indicates whether throttling a query of the given functionality, if its payer is not exempt, does
+     * nothing more than claim one query's worth of the functionality's throttle requirements.
+     *
+     * @param queryFunction the functionality of the query
+     * @return whether the query only uses its functionality's throttle requirements
+     */
+    public static boolean queryUsesOnlyFunctionReqs(@NonNull final HederaFunctionality queryFunction) {
+        return queryFunction != CRYPTO_GET_ACCOUNT_BALANCE && !isGasThrottled(queryFunction);
+    }
+
     /**
      * Gets the current list of active throttles.
      *
@@ -771,7 +827,7 @@ public class ThrottleAccumulator {
         return implicitCreationsCount;
     }
 
-    private boolean usesAliases(final CryptoTransferTransactionBody transferBody) {
+    private static boolean usesAliases(final CryptoTransferTransactionBody transferBody) {
         for (var adjust : transferBody.transfersOrElse(TransferList.DEFAULT).accountAmounts()) {
             if (isAlias(adjust.accountIDOrElse(AccountID.DEFAULT))) {
                 return true;
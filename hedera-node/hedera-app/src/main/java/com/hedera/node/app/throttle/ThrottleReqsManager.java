@@ -79,6 +79,22 @@ public class ThrottleReqsManager {
         return allPassed;
     }
 
+    /**
+     * Returns the number of transactions whose requirements would fill the most constraining of the
+     * managed throttles; that is, the most transactions this manager could ever allow at one instant.
+     *
+     * @return the capacity of this manager in transactions
+     */
+    public long capacityInTransactions() {
+        long capacity = Long.MAX_VALUE;
+        for (final var req : allReqs) {
+            final long opsRequired = Math.max(1, req.getRight());
+            capacity = Math.min(
+                    capacity, req.getLeft().capacity() / BucketThrottle.capacityUnitsPerTxn() / opsRequired);
+        }
+        return capacity;
+    }
+
     public List<DeterministicThrottle> managedThrottles() {
         return allReqs.stream().map(Pair::getLeft).toList();
     }
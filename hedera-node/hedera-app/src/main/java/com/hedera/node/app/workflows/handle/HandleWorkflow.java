@@ -84,13 +84,16 @@ import com.hedera.node.app.throttle.ThrottleServiceManager;
 import com.hedera.node.app.tss.TssBaseService;
 import com.hedera.node.app.workflows.OpWorkflowMetrics;
 import com.hedera.node.app.workflows.TransactionInfo;
-import com.hedera.node.app.workflows.handle.cache.CacheWarmer;
+import com.hedera.node.app.workflows.handle.cache.RoundPrefetcher;
+import com.hedera.node.app.workflows.handle.metric.ParallelismMetrics;
 import com.hedera.node.app.workflows.handle.record.RecordStreamBuilder;
 import com.hedera.node.app.workflows.handle.record.SystemSetup;
+import com.hedera.node.app.workflows.handle.stack.ReadWriteSet;
 import com.hedera.node.app.workflows.handle.steps.HollowAccountCompletions;
 import com.hedera.node.app.workflows.handle.steps.StakePeriodChanges;
 import com.hedera.node.app.workflows.handle.steps.UserTxn;
 import com.hedera.node.app.workflows.handle.steps.UserTxnFactory;
+import com.hedera.node.app.workflows.query.QueryResultCache;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.data.BlockStreamConfig;
 import com.hedera.node.config.data.ConsensusConfig;
@@ -132,8 +135,10 @@ public class HandleWorkflow {
     private final StoreMetricsService storeMetricsService;
     private final BlockRecordManager blockRecordManager;
     private final BlockStreamManager blockStreamManager;
-    private final CacheWarmer cacheWarmer;
+    private final RoundPrefetcher roundPrefetcher;
     private final OpWorkflowMetrics opWorkflowMetrics;
+    private final ParallelismMetrics parallelismMetrics;
+    private final QueryResultCache queryResultCache;
     private final ThrottleServiceManager throttleServiceManager;
     private final SemanticVersion version;
     private final InitTrigger initTrigger;
@@ -166,8 +171,10 @@ public class HandleWorkflow {
             @NonNull final StoreMetricsService storeMetricsService,
             @NonNull final BlockRecordManager blockRecordManager,
             @NonNull final BlockStreamManager blockStreamManager,
-            @NonNull final CacheWarmer cacheWarmer,
+            @NonNull final RoundPrefetcher roundPrefetcher,
             @NonNull final OpWorkflowMetrics opWorkflowMetrics,
+            @NonNull final ParallelismMetrics parallelismMetrics,
+            @NonNull final QueryResultCache queryResultCache,
             @NonNull final ThrottleServiceManager throttleServiceManager,
             @NonNull final SemanticVersion version,
             @NonNull final InitTrigger initTrigger,
@@ -190,8 +197,10 @@ public class HandleWorkflow {
         this.storeMetricsService = requireNonNull(storeMetricsService);
         this.blockRecordManager = requireNonNull(blockRecordManager);
         this.blockStreamManager = requireNonNull(blockStreamManager);
-        this.cacheWarmer = requireNonNull(cacheWarmer);
+        this.roundPrefetcher = requireNonNull(roundPrefetcher);
         this.opWorkflowMetrics = requireNonNull(opWorkflowMetrics);
+        this.parallelismMetrics = requireNonNull(parallelismMetrics);
+        this.queryResultCache = requireNonNull(queryResultCache);
         this.throttleServiceManager = requireNonNull(throttleServiceManager);
         this.version = requireNonNull(version);
         this.initTrigger = requireNonNull(initTrigger);
@@ -223,7 +232,7 @@ public class HandleWorkflow {
      */
     public void handleRound(@NonNull final State state, @NonNull final Round round) {
         logStartRound(round);
-        cacheWarmer.warm(state, round);
+        roundPrefetcher.prefetch(state, round);
         if (configProvider.getConfiguration().getConfigData(TssConfig.class).keyCandidateRoster()) {
             tssBaseService.generateParticipantDirectory(state);
         }
@@ -247,6 +256,7 @@ public class HandleWorkflow {
             // Even if there is an exception somewhere, we need to commit the receipts of any handled transactions
             // to the state so these transactions cannot be replayed in future rounds
             recordCache.commitRoundReceipts(state, round.getConsensusTimestamp());
+            queryResultCache.invalidateAll();
         }
     }
 
@@ -291,7 +301,12 @@ public class HandleWorkflow {
                     // skip system transactions
                     if (!platformTxn.isSystem()) {
                         userTransactionsHandled = true;
-                        handlePlatformTransaction(state, creator, platformTxn, event.getSoftwareVersion());
+                        try {
+                            handlePlatformTransaction(state, creator, platformTxn, event.getSoftwareVersion());
+                        } finally {
+                            // Cached query responses may have been answered before this transaction changed state
+                            queryResultCache.invalidateAll();
+                        }
                     }
                 } catch (final Exception e) {
                     logger.fatal(
@@ -303,6 +318,8 @@ public class HandleWorkflow {
         }
         // Update all throttle metrics once per round
         throttleServiceManager.updateAllMetrics();
+        parallelismMetrics.endRound();
+        roundPrefetcher.endRound();
         // Inform the BlockRecordManager that the round is complete, so it can update running-hashes in state
         // that have been being computed in background threads. The running hash has to be included in
         // state, but we want to synchronize with background threads as infrequently as possible. So once per
@@ -349,8 +366,20 @@ public class HandleWorkflow {
         }
 
         final var userTxn = userTxnFactory.createUserTxn(state, creator, txn, consensusNow, type);
+        final var measuringParallelism = parallelismMetrics.isEnabled();
+        final var measuringPrefetchHits = roundPrefetcher.isMeasuringHits();
+        final var readWriteSet = measuringParallelism || measuringPrefetchHits ? new ReadWriteSet() : null;
+        if (readWriteSet != null) {
+            userTxn.stack().trackAccessesIn(readWriteSet);
+        }
         var lastRecordManagerTime = streamMode == RECORDS ? blockRecordManager.consTimeOfLastHandledTxn() : null;
         final var handleOutput = execute(userTxn, txnVersion);
+        if (measuringParallelism) {
+            parallelismMetrics.endTransaction(requireNonNull(readWriteSet));
+        }
+        if (measuringPrefetchHits) {
+            roundPrefetcher.recordHandled(requireNonNull(readWriteSet));
+        }
         if (streamMode != BLOCKS) {
             final var records = ((LegacyListRecordSource) handleOutput.recordSourceOrThrow()).precomputedRecords();
             blockRecordManager.endUserTransaction(records.stream(), state);
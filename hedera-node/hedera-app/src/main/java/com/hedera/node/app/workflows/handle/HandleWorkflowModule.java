@@ -73,8 +73,8 @@ public interface HandleWorkflowModule {
     }
 
     @Provides
-    @Named("CacheWarmer")
-    static Executor provideCacheWarmerExecutor(@NonNull final ConfigProvider configProvider) {
+    @Named("RoundPrefetcher")
+    static Executor provideRoundPrefetcherExecutor(@NonNull final ConfigProvider configProvider) {
         final var config = configProvider.getConfiguration();
         final int parallelism = config.getConfigData(CacheConfig.class).warmThreads();
         return new ForkJoinPool(parallelism);
@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.handle.cache;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.node.app.workflows.handle.stack.ReadWriteSet.StateAccess;
+import com.swirlds.state.State;
+import com.swirlds.state.spi.ReadableKVState;
+import com.swirlds.state.spi.ReadableQueueState;
+import com.swirlds.state.spi.ReadableSingletonState;
+import com.swirlds.state.spi.ReadableStates;
+import com.swirlds.state.spi.WritableStates;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * A read-only view of a {@link State} that passes every key given to {@link ReadableKVState#warm(Object)} to a
+ * collector instead of warming it right away. All reads go to the underlying state, so handlers can still follow
+ * the references they need to discover further keys (e.g., the treasury of a token being transferred); since such
+ * a read already loads its key, every key read is passed to a second collector, so it need not be warmed again.
+ */
+class KeyCollectingState implements State {
+    private final State delegate;
+    private final Consumer<StateAccess> readCollector;
+    private final Consumer<StateAccess> warmCollector;
+
+    /**
+     * Creates a view of the given state that passes the keys read and the keys to warm to the given collectors.
+     *
+     * @param delegate the state to read from
+     * @param readCollector the collector of keys read through to the state
+     * @param warmCollector the collector of keys to warm
+     */
+    KeyCollectingState(
+            @NonNull final State delegate,
+            @NonNull final Consumer<StateAccess> readCollector,
+            @NonNull final Consumer<StateAccess> warmCollector) {
+        this.delegate = requireNonNull(delegate);
+        this.readCollector = requireNonNull(readCollector);
+        this.warmCollector = requireNonNull(warmCollector);
+    }
+
+    @NonNull
+    @Override
+    public ReadableStates getReadableStates(@NonNull final String serviceName) {
+        return new CollectingStates(serviceName, delegate.getReadableStates(serviceName));
+    }
+
+    @NonNull
+    @Override
+    public WritableStates getWritableStates(@NonNull final String serviceName) {
+        throw new UnsupportedOperationException("Keys are only collected from readable states");
+    }
+
+    private class CollectingStates implements ReadableStates {
+        private final String serviceName;
+        private final ReadableStates delegate;
+
+        private CollectingStates(@NonNull final String serviceName, @NonNull final ReadableStates delegate) {
+            this.serviceName = serviceName;
+            this.delegate = delegate;
+        }
+
+        @NonNull
+        @Override
+        public <K, V> ReadableKVState<K, V> get(@NonNull final String stateKey) {
+            return new CollectingKVState<>(serviceName, delegate.get(stateKey));
+        }
+
+        @NonNull
+        @Override
+        public <T> ReadableSingletonState<T> getSingleton(@NonNull final String stateKey) {
+            return delegate.getSingleton(stateKey);
+        }
+
+        @NonNull
+        @Override
+        public <E> ReadableQueueState<E> getQueue(@NonNull final String stateKey) {
+            return delegate.getQueue(stateKey);
+        }
+
+        @Override
+        public boolean contains(@NonNull final String stateKey) {
+            return delegate.contains(stateKey);
+        }
+
+        @NonNull
+        @Override
+        public Set<String> stateKeys() {
+            return delegate.stateKeys();
+        }
+    }
+
+    private class CollectingKVState<K, V> implements ReadableKVState<K, V> {
+        private final String serviceName;
+        private final ReadableKVState<K, V> delegate;
+
+        private CollectingKVState(@NonNull final String serviceName, @NonNull final ReadableKVState<K, V> delegate) {
+            this.serviceName = serviceName;
+            this.delegate = delegate;
+        }
+
+        @NonNull
+        @Override
+        public String getStateKey() {
+            return delegate.getStateKey();
+        }
+
+        @Nullable
+        @Override
+        public V get(@NonNull final K key) {
+            final var value = delegate.get(key);
+            readCollector.accept(new StateAccess(serviceName, delegate.getStateKey(), key));
+            return value;
+        }
+
+        @NonNull
+        @Override
+        public Iterator<K> keys() {
+            return delegate.keys();
+        }
+
+        @NonNull
+        @Override
+        public Set<K> readKeys() {
+            return delegate.readKeys();
+        }
+
+        @Override
+        public long size() {
+            return delegate.size();
+        }
+
+        @Override
+        public void warm(@NonNull final K key) {
+            warmCollector.accept(new StateAccess(serviceName, delegate.getStateKey(), requireNonNull(key)));
+        }
+    }
+}
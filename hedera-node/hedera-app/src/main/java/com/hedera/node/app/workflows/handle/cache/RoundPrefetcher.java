@@ -0,0 +1,284 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.handle.cache;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.TransactionID;
+import com.hedera.hapi.node.transaction.TransactionBody;
+import com.hedera.node.app.service.token.ReadableAccountStore;
+import com.hedera.node.app.spi.workflows.PreCheckException;
+import com.hedera.node.app.spi.workflows.TransactionHandler;
+import com.hedera.node.app.spi.workflows.WarmupContext;
+import com.hedera.node.app.store.ReadableStoreFactory;
+import com.hedera.node.app.workflows.TransactionChecker;
+import com.hedera.node.app.workflows.TransactionInfo;
+import com.hedera.node.app.workflows.dispatcher.TransactionDispatcher;
+import com.hedera.node.app.workflows.handle.stack.ReadWriteSet;
+import com.hedera.node.app.workflows.handle.stack.ReadWriteSet.StateAccess;
+import com.hedera.node.app.workflows.prehandle.PreHandleResult;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.CacheConfig;
+import com.hedera.node.config.data.StatsConfig;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.Metrics;
+import com.swirlds.platform.system.Round;
+import com.swirlds.platform.system.events.ConsensusEvent;
+import com.swirlds.platform.system.transaction.Transaction;
+import com.swirlds.state.State;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+/**
+ * Prefetches the state a round will read before the handle thread gets to it. It is called at the beginning of a
+ * round with the current state and the round, and in the background derives the keys each transaction will read,
+ * starting with its payer and continuing with whatever its {@link TransactionHandler#warm} method asks to warm.
+ *
+ * <p>The keys are collected per event and deduplicated across the whole round, so that accounts and tokens
+ * referenced by many transactions are only loaded once. Keys a handler had to read to discover further keys are
+ * already loaded by that read; the remaining new keys of each event are warmed in batches of
+ * {@link CacheConfig#prefetchBatchSize()} keys, one background task per batch. If
+ * {@link CacheConfig#prefetchMeasureHits()} is set, the handle workflow reports the keys each transaction actually
+ * read, and the fraction of those that had been loaded by the time they were read is published as a metric.
+ */
+@Singleton
+public class RoundPrefetcher {
+    private static final RunningAverageMetric.Config WARM_HIT_PCT_CONFIG = new RunningAverageMetric.Config(
+                    "app", "prefetchWarmHitPct")
+            .withDescription("average percentage of keys read by handled transactions that were prefetched")
+            .withFormat("%,13.2f");
+
+    private final TransactionChecker checker;
+    private final TransactionDispatcher dispatcher;
+    private final Executor executor;
+    private final ConfigProvider configProvider;
+    private final Counter warmHits;
+    private final Counter warmMisses;
+    private final RunningAverageMetric warmHitPct;
+
+    // The keys loaded for the current round, either read while collecting keys or warmed by a batch; added to
+    // concurrently by the background tasks
+    private volatile Set<StateAccess> prefetchedKeys = Set.of();
+    // The hits and misses of the current round, only accessed by the handle thread
+    private long roundHits;
+    private long roundMisses;
+
+    @Inject
+    public RoundPrefetcher(
+            @NonNull final TransactionChecker checker,
+            @NonNull final TransactionDispatcher dispatcher,
+            @NonNull @Named("RoundPrefetcher") final Executor executor,
+            @NonNull final ConfigProvider configProvider,
+            @NonNull final Metrics metrics) {
+        this.checker = requireNonNull(checker);
+        this.dispatcher = requireNonNull(dispatcher);
+        this.executor = requireNonNull(executor);
+        this.configProvider = requireNonNull(configProvider);
+        requireNonNull(metrics);
+        this.warmHits = metrics.getOrCreate(new Counter.Config("app", "prefetchWarmHits")
+                .withDescription("The number of keys read by handled transactions that were prefetched"));
+        this.warmMisses = metrics.getOrCreate(new Counter.Config("app", "prefetchWarmMisses")
+                .withDescription("The number of keys read by handled transactions that were not prefetched"));
+        final var statsConfig = configProvider.getConfiguration().getConfigData(StatsConfig.class);
+        this.warmHitPct = metrics.getOrCreate(WARM_HIT_PCT_CONFIG.withHalfLife(statsConfig.runningAvgHalfLifeSecs()));
+    }
+
+    /**
+     * Prefetches the state read by the given round.
+     *
+     * @param state the current state
+     * @param round the current round
+     */
+    public void prefetch(@NonNull final State state, @NonNull final Round round) {
+        final int batchSize = Math.max(
+                1, configProvider.getConfiguration().getConfigData(CacheConfig.class).prefetchBatchSize());
+        final Set<StateAccess> roundKeys = ConcurrentHashMap.newKeySet();
+        final Set<StateAccess> loadedKeys = ConcurrentHashMap.newKeySet();
+        prefetchedKeys = loadedKeys;
+        executor.execute(() -> {
+            for (final ConsensusEvent event : round) {
+                executor.execute(() -> prefetch(state, event, roundKeys, loadedKeys, batchSize));
+            }
+        });
+    }
+
+    /**
+     * Whether the handle workflow should report the keys read by each transaction via
+     * {@link #recordHandled(ReadWriteSet)}.
+     *
+     * @return true if the warm-hit ratio is measured
+     */
+    public boolean isMeasuringHits() {
+        return configProvider.getConfiguration().getConfigData(CacheConfig.class).prefetchMeasureHits();
+    }
+
+    /**
+     * Counts which of the keys read by a handled transaction had already been loaded by the prefetcher.
+     *
+     * @param readWriteSet the accesses of the handled transaction
+     */
+    public void recordHandled(@NonNull final ReadWriteSet readWriteSet) {
+        requireNonNull(readWriteSet);
+        final var keys = prefetchedKeys;
+        for (final var read : readWriteSet.reads()) {
+            // Only individual K/V keys are prefetched
+            if (read.key() == null) {
+                continue;
+            }
+            if (keys.contains(read)) {
+                warmHits.increment();
+                roundHits++;
+            } else {
+                warmMisses.increment();
+                roundMisses++;
+            }
+        }
+    }
+
+    /**
+     * Updates the warm-hit ratio with the keys read in the current round.
+     */
+    public void endRound() {
+        final long reads = roundHits + roundMisses;
+        if (reads > 0) {
+            warmHitPct.update(100.0 * roundHits / reads);
+        }
+        roundHits = 0;
+        roundMisses = 0;
+    }
+
+    private void prefetch(
+            @NonNull final State state,
+            @NonNull final ConsensusEvent event,
+            @NonNull final Set<StateAccess> roundKeys,
+            @NonNull final Set<StateAccess> loadedKeys,
+            final int batchSize) {
+        final List<StateAccess> eventKeys = new ArrayList<>();
+        final var collectingState = new KeyCollectingState(
+                state,
+                key -> {
+                    // Reading the key loaded it, so there is no need to warm it as well
+                    roundKeys.add(key);
+                    loadedKeys.add(key);
+                },
+                key -> {
+                    if (roundKeys.add(key)) {
+                        eventKeys.add(key);
+                    }
+                });
+        final ReadableStoreFactory storeFactory = new ReadableStoreFactory(collectingState);
+        final ReadableAccountStore accountStore = storeFactory.getStore(ReadableAccountStore.class);
+        event.forEachTransaction(platformTransaction -> {
+            final TransactionBody txBody = extractTransactionBody(platformTransaction);
+            if (txBody != null) {
+                final AccountID payerID =
+                        txBody.transactionIDOrElse(TransactionID.DEFAULT).accountID();
+                if (payerID != null) {
+                    accountStore.warm(payerID);
+                }
+                final var context = new WarmupContextImpl(txBody, storeFactory);
+                dispatcher.dispatchWarmup(context);
+            }
+        });
+        for (int i = 0, n = eventKeys.size(); i < n; i += batchSize) {
+            final var batch = eventKeys.subList(i, Math.min(n, i + batchSize));
+            executor.execute(() -> warm(state, batch, loadedKeys));
+        }
+    }
+
+    private static void warm(
+            @NonNull final State state,
+            @NonNull final List<StateAccess> keys,
+            @NonNull final Set<StateAccess> loadedKeys) {
+        for (final var key : keys) {
+            // A later transaction of the event may have read the key since it was collected
+            if (loadedKeys.contains(key)) {
+                continue;
+            }
+            state.getReadableStates(key.serviceName())
+                    .get(key.stateKey())
+                    .warm(requireNonNull(key.key()));
+            loadedKeys.add(key);
+        }
+    }
+
+    @Nullable
+    private TransactionBody extractTransactionBody(@NonNull final Transaction platformTransaction) {
+        // First we check if the transaction was already parsed during pre-handle (should be almost always the case)
+        final var metadata = platformTransaction.getMetadata();
+        if (metadata instanceof PreHandleResult result) {
+            return result.txInfo() == null ? null : result.txInfo().txBody();
+        }
+
+        // If not we parse it here using existing code. This is not ideal but should be rare.
+        // We can potentially optimize this by limiting the code to the bare minimum needed
+        // or keeping the result for later.
+        try {
+            final Bytes buffer = platformTransaction.getApplicationTransaction();
+            return checker.parseAndCheck(buffer).txBody();
+        } catch (PreCheckException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * The default implementation of {@link WarmupContext}.
+     */
+    public static class WarmupContextImpl implements WarmupContext {
+
+        @NonNull
+        private final TransactionBody txBody;
+
+        @NonNull
+        private final ReadableStoreFactory storeFactory;
+
+        /**
+         * Constructor of {@code WarmupContextImpl}
+         *
+         * @param txBody the {@link TransactionInfo} of the transaction
+         * @param storeFactory the {@link ReadableStoreFactory} to create stores
+         */
+        public WarmupContextImpl(
+                @NonNull final TransactionBody txBody, @NonNull final ReadableStoreFactory storeFactory) {
+            this.txBody = txBody;
+            this.storeFactory = storeFactory;
+        }
+
+        @NonNull
+        @Override
+        public TransactionBody body() {
+            return txBody;
+        }
+
+        @NonNull
+        @Override
+        public <C> C createStore(@NonNull final Class<C> storeInterface) {
+            return storeFactory.getStore(storeInterface);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.handle.metric;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.node.app.workflows.handle.stack.ReadWriteSet;
+import com.hedera.node.app.workflows.handle.stack.ReadWriteSet.StateAccess;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.StatsConfig;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.HashMap;
+import java.util.Map;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Measures, in shadow mode, how much of each round could have been handled in parallel by an optimistic executor
+ * that re-executes a transaction whenever it read state written by an earlier transaction in the same round. No such
+ * executor exists; transactions are still handled one at a time, and enabling tracking changes neither state nor the
+ * record and block stream output.
+ *
+ * <p>Each transaction is assigned a <i>depth</i> one greater than the deepest earlier transaction whose writes it
+ * read; so a transaction reading nothing written earlier in the round has depth one. The maximum depth in a round
+ * is the length of its critical path, and the number of transactions divided by this depth is the parallelism that
+ * could at best be achieved. Tracking is only done when {@link StatsConfig#conflictTrackingEnabled()} is set.
+ */
+@Singleton
+public class ParallelismMetrics {
+    private static final RunningAverageMetric.Config CONFLICTING_TXNS_PCT_CONFIG = new RunningAverageMetric.Config(
+                    "app", "handleConflictingTxnsPct")
+            .withDescription("average percentage of transactions per round reading state written earlier in the round")
+            .withFormat("%,13.2f");
+    private static final RunningAverageMetric.Config MAX_PARALLELISM_CONFIG = new RunningAverageMetric.Config(
+                    "app", "handleMaxParallelism")
+            .withDescription("average number of transactions per round divided by the round's critical path length")
+            .withFormat("%,13.2f");
+
+    private final ConfigProvider configProvider;
+    private final RunningAverageMetric conflictingTxnsPct;
+    private final RunningAverageMetric maxParallelism;
+
+    // The greatest depth of any transaction in the current round that made each write
+    private final Map<StateAccess, Integer> writerDepths = new HashMap<>();
+    // The greatest depth of any transaction in the current round that wrote anything in each state
+    private final Map<StateAccess, Integer> stateWriterDepths = new HashMap<>();
+    private int numTxns;
+    private int numConflictingTxns;
+    private int maxDepth;
+
+    /**
+     * Constructor for the ParallelismMetrics
+     *
+     * @param metrics the {@link Metrics} object where all metrics will be registered
+     * @param configProvider the {@link ConfigProvider} to check whether tracking is enabled
+     */
+    @Inject
+    public ParallelismMetrics(@NonNull final Metrics metrics, @NonNull final ConfigProvider configProvider) {
+        requireNonNull(metrics, "metrics must not be null");
+        this.configProvider = requireNonNull(configProvider, "configProvider must not be null");
+        final var statsConfig = configProvider.getConfiguration().getConfigData(StatsConfig.class);
+        conflictingTxnsPct = metrics.getOrCreate(
+                CONFLICTING_TXNS_PCT_CONFIG.withHalfLife(statsConfig.runningAvgHalfLifeSecs()));
+        maxParallelism =
+                metrics.getOrCreate(MAX_PARALLELISM_CONFIG.withHalfLife(statsConfig.runningAvgHalfLifeSecs()));
+    }
+
+    /**
+     * Whether the handle workflow should record the state accesses of each transaction and report them via
+     * {@link #endTransaction(ReadWriteSet)}.
+     *
+     * @return true if tracking is enabled
+     */
+    public boolean isEnabled() {
+        return configProvider.getConfiguration().getConfigData(StatsConfig.class).conflictTrackingEnabled();
+    }
+
+    /**
+     * Adds the state accesses of a completed transaction to the current round.
+     *
+     * @param readWriteSet the accesses of the transaction
+     */
+    public void endTransaction(@NonNull final ReadWriteSet readWriteSet) {
+        requireNonNull(readWriteSet);
+        int depth = 1;
+        for (final var read : readWriteSet.reads()) {
+            depth = Math.max(depth, 1 + depthOfWritersTo(read));
+        }
+        for (final var write : readWriteSet.writes()) {
+            writerDepths.merge(write, depth, Math::max);
+            stateWriterDepths.merge(write.wholeState(), depth, Math::max);
+        }
+        numTxns++;
+        if (depth > 1) {
+            numConflictingTxns++;
+        }
+        maxDepth = Math.max(maxDepth, depth);
+    }
+
+    /**
+     * Updates the metrics with the transactions of the current round, and starts a new round.
+     */
+    public void endRound() {
+        if (numTxns > 0) {
+            conflictingTxnsPct.update(100.0 * numConflictingTxns / numTxns);
+            maxParallelism.update((double) numTxns / maxDepth);
+        }
+        writerDepths.clear();
+        stateWriterDepths.clear();
+        numTxns = 0;
+        numConflictingTxns = 0;
+        maxDepth = 0;
+    }
+
+    private int depthOfWritersTo(@NonNull final StateAccess read) {
+        if (read.key() == null) {
+            return stateWriterDepths.getOrDefault(read, 0);
+        }
+        return Math.max(writerDepths.getOrDefault(read, 0), writerDepths.getOrDefault(read.wholeState(), 0));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.handle.stack;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The state accesses made by a single user transaction, including all its child dispatches and any savepoints that
+ * were rolled back, as recorded by the {@link WritableKVStateStack}, {@link WritableSingletonStateStack} and
+ * {@link WritableQueueStateStack} of its {@link SavepointStackImpl}. Used only to instrument the handle workflow;
+ * see {@code ParallelismMetrics}.
+ */
+public final class ReadWriteSet {
+    /**
+     * A single access to a state. The key is null for singletons and queues, and for operations that touch every key
+     * of a K/V state, such as iterating its keys.
+     *
+     * @param serviceName the name of the service owning the state
+     * @param stateKey the key of the state within the service
+     * @param key the key accessed within a K/V state, if any
+     */
+    public record StateAccess(@NonNull String serviceName, @NonNull String stateKey, @Nullable Object key) {
+        public StateAccess {
+            requireNonNull(serviceName);
+            requireNonNull(stateKey);
+        }
+
+        /**
+         * Returns the access of the whole state this access belongs to.
+         *
+         * @return the access to the whole state
+         */
+        @NonNull
+        public StateAccess wholeState() {
+            return key == null ? this : new StateAccess(serviceName, stateKey, null);
+        }
+    }
+
+    private final Set<StateAccess> reads = new HashSet<>();
+    private final Set<StateAccess> writes = new HashSet<>();
+
+    /**
+     * Records a read of the given key of a state.
+     *
+     * @param serviceName the name of the service owning the state
+     * @param stateKey the key of the state within the service
+     * @param key the key read, or null if the whole state was read
+     */
+    public void recordRead(
+            @NonNull final String serviceName, @NonNull final String stateKey, @Nullable final Object key) {
+        reads.add(new StateAccess(serviceName, stateKey, key));
+    }
+
+    /**
+     * Records a write of the given key of a state.
+     *
+     * @param serviceName the name of the service owning the state
+     * @param stateKey the key of the state within the service
+     * @param key the key written, or null if the whole state was written
+     */
+    public void recordWrite(
+            @NonNull final String serviceName, @NonNull final String stateKey, @Nullable final Object key) {
+        writes.add(new StateAccess(serviceName, stateKey, key));
+    }
+
+    /**
+     * Returns the accesses that read state.
+     *
+     * @return the reads
+     */
+    @NonNull
+    public Set<StateAccess> reads() {
+        return Collections.unmodifiableSet(reads);
+    }
+
+    /**
+     * Returns the accesses that wrote state.
+     *
+     * @return the writes
+     */
+    @NonNull
+    public Set<StateAccess> writes() {
+        return Collections.unmodifiableSet(writes);
+    }
+}
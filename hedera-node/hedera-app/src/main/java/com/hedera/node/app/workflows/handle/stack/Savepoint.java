@@ -35,6 +35,16 @@ public interface Savepoint extends BuilderSink {
      */
     State state();
 
+    /**
+     * Whether this savepoint may have buffered changes to the given state of the given service. If not, reads of
+     * that state can skip this savepoint and go directly to the savepoint below it.
+     *
+     * @param serviceName the name of the service
+     * @param stateKey the key of the state
+     * @return true if this savepoint may have changed the state
+     */
+    boolean mayHaveModified(@NonNull String serviceName, @NonNull String stateKey);
+
     /**
      * Rolls back all changes made in this savepoint, making any necessary changes to the stream item builders
      * this savepoint is managing. This method cannot be called twice and cannot be called after commit has been called.
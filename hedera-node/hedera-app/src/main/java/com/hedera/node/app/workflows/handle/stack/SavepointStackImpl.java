@@ -91,6 +91,10 @@ public class SavepointStackImpl implements HandleContext.SavepointStack, State {
 
     private final StreamMode streamMode;
 
+    // If not null, where the state accesses made through this stack and its child stacks are recorded
+    @Nullable
+    private ReadWriteSet readWriteSet;
+
     /**
      * Constructs the root {@link SavepointStackImpl} for the given state at the start of handling a user transaction.
      *
@@ -188,10 +192,31 @@ public class SavepointStackImpl implements HandleContext.SavepointStack, State {
         this.builderSink = null;
         this.kvStateChangeListener = null;
         this.roundStateChangeListener = null;
+        this.readWriteSet = parent.readWriteSet;
         setupFirstSavepoint(category);
         baseBuilder = peek().createBuilder(reversingBehavior, category, customizer, streamMode, true);
     }
 
+    /**
+     * Records all state accesses made through this stack from now on, including those of any child stacks created
+     * afterward and of savepoints that are later rolled back, in the given {@link ReadWriteSet}.
+     *
+     * @param readWriteSet the set to record accesses in, or null to stop recording
+     */
+    public void trackAccessesIn(@Nullable final ReadWriteSet readWriteSet) {
+        this.readWriteSet = readWriteSet;
+    }
+
+    /**
+     * Returns the set in which this stack records state accesses, if any.
+     *
+     * @return the set, or null if accesses are not recorded
+     */
+    @Nullable
+    ReadWriteSet readWriteSet() {
+        return readWriteSet;
+    }
+
     @Override
     public void createSavepoint() {
         stack.push(new FollowingSavepoint(new WrappedState(peek().state()), peek()));
@@ -447,6 +472,55 @@ public class SavepointStackImpl implements HandleContext.SavepointStack, State {
         return stack.peek();
     }
 
+    /**
+     * Returns the topmost savepoint that may have changed the given state of the given service, or the first
+     * savepoint if none has. Savepoints are copy-on-write; they only wrap a state once it is written through them,
+     * so reading from this savepoint gives the same result as reading from the top savepoint, without allocating
+     * wrappers in, or delegating through, the savepoints above it. Used only by the {@link WritableStatesStack},
+     * not part of the public API.
+     *
+     * @param serviceName the name of the service
+     * @param stateKey the key of the state
+     * @return the savepoint to read the state from
+     * @throws IllegalStateException if the stack has been committed already
+     */
+    @NonNull
+    Savepoint peekForRead(@NonNull final String serviceName, @NonNull final String stateKey) {
+        if (stack.isEmpty()) {
+            throw new IllegalStateException("The stack has already been committed");
+        }
+        for (final var savepoint : stack) {
+            if (savepoint.mayHaveModified(serviceName, stateKey)) {
+                return savepoint;
+            }
+        }
+        return stack.getLast();
+    }
+
+    /**
+     * Returns every savepoint that reads of the given state of the given service may have gone to, from the top of
+     * the stack down; that is, every savepoint that may have changed the state, and the first savepoint. Used only
+     * by the {@link WritableStatesStack}, not part of the public API.
+     *
+     * @param serviceName the name of the service
+     * @param stateKey the key of the state
+     * @return the savepoints the state may have been read from
+     * @throws IllegalStateException if the stack has been committed already
+     */
+    @NonNull
+    List<Savepoint> savepointsReadFrom(@NonNull final String serviceName, @NonNull final String stateKey) {
+        if (stack.isEmpty()) {
+            throw new IllegalStateException("The stack has already been committed");
+        }
+        final List<Savepoint> savepoints = new ArrayList<>();
+        for (final var savepoint : stack) {
+            if (savepoint.mayHaveModified(serviceName, stateKey) || savepoint == stack.getLast()) {
+                savepoints.add(savepoint);
+            }
+        }
+        return savepoints;
+    }
+
     /**
      * Builds the {@link BlockRecordSource} and/or {@link RecordSource} for this user transaction.
      *
@@ -22,6 +22,7 @@ import com.swirlds.state.spi.WritableKVState;
 import com.swirlds.state.spi.metrics.StoreMetrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
 
@@ -66,6 +67,11 @@ public class WritableKVStateStack<K, V> implements WritableKVState<K, V> {
         return writableStatesStack.getCurrent().get(stateKey);
     }
 
+    @NonNull
+    private WritableKVState<K, V> getCurrentForRead() {
+        return writableStatesStack.getCurrentForRead(stateKey).get(stateKey);
+    }
+
     @Override
     @NonNull
     public String getStateKey() {
@@ -75,12 +81,14 @@ public class WritableKVStateStack<K, V> implements WritableKVState<K, V> {
     @Override
     @Nullable
     public V get(@NonNull final K key) {
-        return getCurrent().get(key);
+        writableStatesStack.recordRead(stateKey, key);
+        return getCurrentForRead().get(key);
     }
 
     @Override
     @Nullable
     public V getForModify(@NonNull final K key) {
+        writableStatesStack.recordRead(stateKey, key);
         return getCurrent().getForModify(key);
     }
 
@@ -88,23 +96,27 @@ public class WritableKVStateStack<K, V> implements WritableKVState<K, V> {
     @Nullable
     @Override
     public V getOriginalValue(@NonNull K key) {
+        writableStatesStack.recordRead(stateKey, key);
         return (V) writableStatesStack.getRoot().get(stateKey).get(key);
     }
 
     @Override
     public void put(@NonNull final K key, @NonNull final V value) {
+        writableStatesStack.recordWrite(stateKey, key);
         getCurrent().put(key, value);
     }
 
     @Override
     public void remove(@NonNull final K key) {
+        writableStatesStack.recordWrite(stateKey, key);
         getCurrent().remove(key);
     }
 
     @Override
     @NonNull
     public Iterator<K> keys() {
-        return getCurrent().keys();
+        writableStatesStack.recordRead(stateKey, null);
+        return getCurrentForRead().keys();
     }
 
     @Override
@@ -116,12 +128,23 @@ public class WritableKVStateStack<K, V> implements WritableKVState<K, V> {
     @Override
     @NonNull
     public Set<K> readKeys() {
-        return getCurrent().readKeys();
+        // Reads only go to the topmost savepoint that may have changed the state, so any of those may have recorded
+        // some of the reads
+        final var allStates = writableStatesStack.allForRead(stateKey);
+        if (allStates.size() == 1) {
+            return allStates.get(0).<K, V>get(stateKey).readKeys();
+        }
+        final Set<K> readKeys = new HashSet<>();
+        for (final var states : allStates) {
+            readKeys.addAll(states.<K, V>get(stateKey).readKeys());
+        }
+        return readKeys;
     }
 
     @Override
     public long size() {
-        return getCurrent().size();
+        writableStatesStack.recordRead(stateKey, null);
+        return getCurrentForRead().size();
     }
 
     @Override
@@ -66,6 +66,11 @@ public class WritableQueueStateStack<E> implements WritableQueueState<E> {
         return writableStatesStack.getCurrent().getQueue(stateKey);
     }
 
+    @NonNull
+    private WritableQueueState<E> getCurrentForRead() {
+        return writableStatesStack.getCurrentForRead(stateKey).getQueue(stateKey);
+    }
+
     @NonNull
     @Override
     public String getStateKey() {
@@ -75,23 +80,28 @@ public class WritableQueueStateStack<E> implements WritableQueueState<E> {
     @Nullable
     @Override
     public E peek() {
-        return getCurrent().peek();
+        writableStatesStack.recordRead(stateKey, null);
+        return getCurrentForRead().peek();
     }
 
     @NonNull
     @Override
     public Iterator<E> iterator() {
-        return getCurrent().iterator();
+        writableStatesStack.recordRead(stateKey, null);
+        return getCurrentForRead().iterator();
     }
 
     @Override
     public void add(@NonNull E element) {
+        writableStatesStack.recordWrite(stateKey, null);
         getCurrent().add(element);
     }
 
     @Nullable
     @Override
     public E removeIf(@NonNull Predicate<E> predicate) {
+        writableStatesStack.recordRead(stateKey, null);
+        writableStatesStack.recordWrite(stateKey, null);
         return getCurrent().removeIf(predicate);
     }
 }
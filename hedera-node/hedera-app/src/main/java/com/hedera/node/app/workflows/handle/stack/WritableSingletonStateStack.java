@@ -63,6 +63,11 @@ public class WritableSingletonStateStack<T> implements WritableSingletonState<T>
         return writableStatesStack.getCurrent().getSingleton(stateKey);
     }
 
+    @NonNull
+    private WritableSingletonState<T> getCurrentForRead() {
+        return writableStatesStack.getCurrentForRead(stateKey).getSingleton(stateKey);
+    }
+
     @Override
     @NonNull
     public String getStateKey() {
@@ -72,16 +77,18 @@ public class WritableSingletonStateStack<T> implements WritableSingletonState<T>
     @Override
     @Nullable
     public T get() {
-        return getCurrent().get();
+        writableStatesStack.recordRead(stateKey, null);
+        return getCurrentForRead().get();
     }
 
     @Override
     public boolean isRead() {
-        return getCurrent().isRead();
+        return getCurrentForRead().isRead();
     }
 
     @Override
     public void put(@Nullable final T value) {
+        writableStatesStack.recordWrite(stateKey, null);
         getCurrent().put(value);
     }
 
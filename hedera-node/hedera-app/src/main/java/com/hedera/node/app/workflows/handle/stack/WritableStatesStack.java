@@ -24,6 +24,9 @@ import com.swirlds.state.spi.WritableQueueState;
 import com.swirlds.state.spi.WritableSingletonState;
 import com.swirlds.state.spi.WritableStates;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -53,7 +56,7 @@ public class WritableStatesStack implements WritableStates {
 
     /**
      * Returns the current {@link WritableStates} in the stack. Package-private, because it should only be called by
-     * {@link WritableKVStateStack} {@link WritableSingletonStateStack}, and {@link WritableQueueStateStack}.
+     * {@link WritableKVStateStack}, {@link WritableSingletonStateStack}, and {@link WritableQueueStateStack}.
      *
      * @return the current {@link ReadableStates} in the stack
      */
@@ -62,6 +65,39 @@ public class WritableStatesStack implements WritableStates {
         return stack.peek().state().getWritableStates(statesName);
     }
 
+    /**
+     * Returns the {@link WritableStates} in the stack to read the given state from; this gives the same values as
+     * {@link #getCurrent()}, but does not make the top savepoint wrap the state. Package-private, because it should
+     * only be called by {@link WritableKVStateStack}, {@link WritableSingletonStateStack}, and
+     * {@link WritableQueueStateStack}; and the returned states must only be used to read the given state.
+     *
+     * @param stateKey the key of the state to read
+     * @return the {@link WritableStates} to read the state from
+     */
+    @NonNull
+    WritableStates getCurrentForRead(@NonNull final String stateKey) {
+        return stack.peekForRead(statesName, stateKey).state().getWritableStates(statesName);
+    }
+
+    /**
+     * Returns every {@link WritableStates} in the stack that the given state may have been read from, since reads
+     * through {@link #getCurrentForRead(String)} skip the savepoints that have not changed the state. Package-private,
+     * because it should only be called by {@link WritableKVStateStack}; and the returned states must only be used to
+     * inspect the reads of the given state.
+     *
+     * @param stateKey the key of the state
+     * @return the {@link WritableStates} the state may have been read from
+     */
+    @NonNull
+    List<WritableStates> allForRead(@NonNull final String stateKey) {
+        final var savepoints = stack.savepointsReadFrom(statesName, stateKey);
+        final List<WritableStates> allStates = new ArrayList<>(savepoints.size());
+        for (final var savepoint : savepoints) {
+            allStates.add(savepoint.state().getWritableStates(statesName));
+        }
+        return allStates;
+    }
+
     /**
      * Returns the root {@link ReadableStates} of the stack. Package-private, because it should only be called by
      * {@link WritableKVStateStack}.
@@ -73,6 +109,36 @@ public class WritableStatesStack implements WritableStates {
         return stack.rootStates(statesName);
     }
 
+    /**
+     * Records a read of the given key of the given state, if the stack tracks its accesses. Package-private, because
+     * it should only be called by {@link WritableKVStateStack}, {@link WritableSingletonStateStack}, and
+     * {@link WritableQueueStateStack}.
+     *
+     * @param stateKey the key of the state
+     * @param key the key read, or null if the whole state was read
+     */
+    void recordRead(@NonNull final String stateKey, @Nullable final Object key) {
+        final var readWriteSet = stack.readWriteSet();
+        if (readWriteSet != null) {
+            readWriteSet.recordRead(statesName, stateKey, key);
+        }
+    }
+
+    /**
+     * Records a write of the given key of the given state, if the stack tracks its accesses. Package-private, because
+     * it should only be called by {@link WritableKVStateStack}, {@link WritableSingletonStateStack}, and
+     * {@link WritableQueueStateStack}.
+     *
+     * @param stateKey the key of the state
+     * @param key the key written, or null if the whole state was written
+     */
+    void recordWrite(@NonNull final String stateKey, @Nullable final Object key) {
+        final var readWriteSet = stack.readWriteSet();
+        if (readWriteSet != null) {
+            readWriteSet.recordWrite(statesName, stateKey, key);
+        }
+    }
+
     @Override
     @NonNull
     public <K, V> WritableKVState<K, V> get(@NonNull final String stateKey) {
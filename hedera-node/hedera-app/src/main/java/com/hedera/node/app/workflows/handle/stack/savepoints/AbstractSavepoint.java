@@ -91,6 +91,11 @@ public abstract class AbstractSavepoint extends BuilderSinkImpl implements Savep
         return state;
     }
 
+    @Override
+    public boolean mayHaveModified(@NonNull final String serviceName, @NonNull final String stateKey) {
+        return state.hasWrapped(serviceName, stateKey);
+    }
+
     @Override
     public void commit() {
         assertNotFinished();
@@ -54,7 +54,7 @@ import com.hedera.node.app.spi.signatures.SignatureVerification;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.state.DeduplicationCache;
 import com.hedera.node.app.store.ReadableStoreFactory;
-import com.hedera.node.app.throttle.SynchronizedThrottleAccumulator;
+import com.hedera.node.app.throttle.StripedThrottleAccumulator;
 import com.hedera.node.app.workflows.OpWorkflowMetrics;
 import com.hedera.node.app.workflows.SolvencyPreCheck;
 import com.hedera.node.app.workflows.TransactionChecker;
@@ -96,7 +96,7 @@ public final class IngestChecker {
     private final FeeManager feeManager;
     private final AccountID nodeAccount;
     private final Authorizer authorizer;
-    private final SynchronizedThrottleAccumulator synchronizedThrottleAccumulator;
+    private final StripedThrottleAccumulator stripedThrottleAccumulator;
     private final InstantSource instantSource;
     private final OpWorkflowMetrics workflowMetrics;
 
@@ -111,7 +111,7 @@ public final class IngestChecker {
      * @param signatureVerifier the {@link SignatureVerifier} that verifies signature data
      * @param dispatcher the {@link TransactionDispatcher} that dispatches transactions
      * @param feeManager the {@link FeeManager} that manages {@link com.hedera.node.app.spi.fees.FeeCalculator}s
-     * @param synchronizedThrottleAccumulator the {@link SynchronizedThrottleAccumulator} that checks transaction should be throttled
+     * @param stripedThrottleAccumulator the {@link StripedThrottleAccumulator} that checks transaction should be throttled
      * @param instantSource the {@link InstantSource} that provides the current time
      * @param workflowMetrics the {@link OpWorkflowMetrics} that manages the metrics for all operations
      * @throws NullPointerException if one of the arguments is {@code null}
@@ -128,7 +128,7 @@ public final class IngestChecker {
             @NonNull final TransactionDispatcher dispatcher,
             @NonNull final FeeManager feeManager,
             @NonNull final Authorizer authorizer,
-            @NonNull final SynchronizedThrottleAccumulator synchronizedThrottleAccumulator,
+            @NonNull final StripedThrottleAccumulator stripedThrottleAccumulator,
             @NonNull final InstantSource instantSource,
             @NonNull final OpWorkflowMetrics workflowMetrics) {
         this.nodeAccount = requireNonNull(nodeAccount, "nodeAccount must not be null");
@@ -141,7 +141,7 @@ public final class IngestChecker {
         this.dispatcher = requireNonNull(dispatcher, "dispatcher must not be null");
         this.feeManager = requireNonNull(feeManager, "feeManager must not be null");
         this.authorizer = requireNonNull(authorizer, "authorizer must not be null");
-        this.synchronizedThrottleAccumulator = requireNonNull(synchronizedThrottleAccumulator);
+        this.stripedThrottleAccumulator = requireNonNull(stripedThrottleAccumulator);
         this.instantSource = requireNonNull(instantSource);
         this.workflowMetrics = requireNonNull(workflowMetrics);
     }
@@ -198,7 +198,7 @@ public final class IngestChecker {
         // 4. Check throttles
         assertThrottlingPreconditions(txInfo, configuration);
         final var hederaConfig = configuration.getConfigData(HederaConfig.class);
-        if (hederaConfig.ingestThrottleEnabled() && synchronizedThrottleAccumulator.shouldThrottle(txInfo, state)) {
+        if (hederaConfig.ingestThrottleEnabled() && stripedThrottleAccumulator.shouldThrottle(txInfo, state)) {
             workflowMetrics.incrementThrottled(functionality);
             throw new PreCheckException(BUSY);
         }
@@ -20,6 +20,7 @@ import static com.hedera.hapi.node.base.ResponseCodeEnum.DUPLICATE_TRANSACTION;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.PLATFORM_TRANSACTION_NOT_CREATED;
 import static java.util.Objects.requireNonNull;
 
+import com.hedera.hapi.node.base.TransactionID;
 import com.hedera.hapi.node.transaction.TransactionBody;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.state.DeduplicationCache;
@@ -29,10 +30,17 @@ import com.hedera.node.config.data.LedgerConfig;
 import com.hedera.node.config.data.StatsConfig;
 import com.hedera.node.config.types.Profile;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.metrics.RunningAverageMetric;
 import com.swirlds.common.metrics.SpeedometerMetric;
 import com.swirlds.metrics.api.Metrics;
 import com.swirlds.platform.system.Platform;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -62,6 +70,13 @@ import javax.inject.Singleton;
  *
  * <p>This cache is <strong>NOT</strong> impacted by falling behind or reconnecting, so the only time we will submit
  * duplicate transactions is if the node is restarted. We hope to improve this in the future.
+ *
+ * <p>Ingest threads do not each take the lock on the cache. Instead, every submission is put in a lock-free queue,
+ * and whichever ingest thread gets the submission lock drains up to {@link #MAX_BATCH_SIZE} queued submissions and
+ * hands them to the platform in one batch, under a single lock on the cache. The other threads wait for the outcome
+ * of their own submission, or drain the next batch themselves if no other thread does. Since the batch is checked
+ * against the cache one by one, a transaction submitted twice within the same batch is still rejected as a
+ * duplicate.
  */
 @Singleton
 public class SubmissionManager {
@@ -73,6 +88,17 @@ public class SubmissionManager {
     private static final Bytes MAIN_NET_LEDGER_ID = Bytes.fromHex("00");
     private static final Bytes TEST_NET_LEDGER_ID = Bytes.fromHex("01");
     private static final Bytes PREVIEW_NET_LEDGER_ID = Bytes.fromHex("02");
+    private static final String BATCH_SIZE_NAME = "submissionBatchSize";
+    private static final String BATCH_SIZE_DESC = "average number of transactions submitted to the platform per batch";
+    private static final String QUEUE_MICROS_NAME = "submissionQueueMicros";
+    private static final String QUEUE_MICROS_DESC =
+            "average time in microseconds a transaction waited to be submitted to the platform";
+    private static final String RUNNING_AVG_FORMAT = "%,13.2f";
+
+    /** The maximum number of queued submissions a single thread hands to the platform at once */
+    static final int MAX_BATCH_SIZE = 256;
+    /** How long a thread waits for another thread to handle its submission before trying to handle it itself */
+    private static final long HANDOFF_WAIT_MICROS = 100;
 
     // FUTURE Consider adding a metric to keep track of the number of duplicate transactions submitted by users.
 
@@ -81,11 +107,19 @@ public class SubmissionManager {
 
     /** Metrics related to submissions */
     private final SpeedometerMetric platformTxnRejections;
+
+    private final RunningAverageMetric batchSize;
+    private final RunningAverageMetric queueMicros;
     /** The {@link DeduplicationCache} that keeps track of transactions that have been submitted */
     private final DeduplicationCache submittedTxns;
 
     private final ConfigProvider configProvider;
 
+    /** Submissions waiting to be handed to the platform */
+    private final ConcurrentLinkedQueue<PendingSubmission> pendingSubmissions = new ConcurrentLinkedQueue<>();
+    /** Held by the thread that is handing a batch of submissions to the platform */
+    private final ReentrantLock submissionLock = new ReentrantLock();
+
     /**
      * Create a new {@code SubmissionManager} instance.
      *
@@ -110,6 +144,14 @@ public class SubmissionManager {
                         .withDescription(PLATFORM_TXN_REJECTIONS_DESC)
                         .withFormat(SPEEDOMETER_FORMAT)
                         .withHalfLife(statsConfig.speedometerHalfLifeSecs()));
+        this.batchSize = metrics.getOrCreate(new RunningAverageMetric.Config("app", BATCH_SIZE_NAME)
+                .withDescription(BATCH_SIZE_DESC)
+                .withFormat(RUNNING_AVG_FORMAT)
+                .withHalfLife(statsConfig.runningAvgHalfLifeSecs()));
+        this.queueMicros = metrics.getOrCreate(new RunningAverageMetric.Config("app", QUEUE_MICROS_NAME)
+                .withDescription(QUEUE_MICROS_DESC)
+                .withFormat(RUNNING_AVG_FORMAT)
+                .withHalfLife(statsConfig.runningAvgHalfLifeSecs()));
     }
 
     /**
@@ -147,28 +189,131 @@ public class SubmissionManager {
             payload = txBody.uncheckedSubmitOrThrow().transactionBytes();
         }
 
-        // This method is not called at a super high rate, so synchronizing here is perfectly fine. We need to check
-        // for containment and then do a bunch of logic that might throw an exception before doing the `add` and we
-        // want to be REALLY SURE that we're not submitting duplicate transactions to the network.
+        // Note that this call will throw if the transaction is malformed. This should NEVER happen, because the
+        // transaction was already checked before we got here. But if it ever does happen, for any reason, we want it
+        // to happen BEFORE we submit, and BEFORE we record the transaction as a duplicate.
+        final var submission = new PendingSubmission(txBody.transactionIDOrThrow(), payload, System.nanoTime());
+        pendingSubmissions.add(submission);
+        while (!submission.isDone()) {
+            if (submissionLock.tryLock()) {
+                try {
+                    submitBatch();
+                } finally {
+                    submissionLock.unlock();
+                }
+            } else {
+                submission.awaitDone();
+            }
+        }
+        if (submission.failure instanceof PreCheckException e) {
+            throw e;
+        } else if (submission.failure instanceof RuntimeException e) {
+            throw e;
+        }
+    }
+
+    /**
+     * Hands up to {@link #MAX_BATCH_SIZE} queued submissions to the platform. Must only be called while holding the
+     * submission lock.
+     */
+    private void submitBatch() {
+        int numSubmitted = 0;
+        // We need to check for containment and then do a bunch of logic that might throw an exception before doing
+        // the `add` and we want to be REALLY SURE that we're not submitting duplicate transactions to the network.
         synchronized (submittedTxns) {
-            // If we have already submitted this transaction, then fail. Note that both of these calls will throw if
-            // the transaction is malformed. This should NEVER happen, because the transaction was already checked
-            // before we got here. But if it ever does happen, for any reason, we want it to happen BEFORE we submit,
-            // and BEFORE we record the transaction as a duplicate.
-            final var txId = txBody.transactionIDOrThrow();
-            if (submittedTxns.contains(txId)) {
-                throw new PreCheckException(DUPLICATE_TRANSACTION);
+            PendingSubmission submission;
+            while (numSubmitted < MAX_BATCH_SIZE && (submission = pendingSubmissions.poll()) != null) {
+                if (!submission.claim()) {
+                    // Its thread was interrupted and gave up on it, so no one is waiting for its outcome
+                    continue;
+                }
+                numSubmitted++;
+                queueMicros.update((System.nanoTime() - submission.enqueuedNanos) / 1_000.0);
+                try {
+                    submission.complete(submitToPlatform(submission));
+                } catch (final RuntimeException e) {
+                    // Rethrown by the thread that made the submission, just as if it had submitted it itself
+                    submission.complete(e);
+                }
             }
+        }
+        if (numSubmitted > 0) {
+            batchSize.update(numSubmitted);
+        }
+    }
 
-            // This call to submit to the platform should almost always work. Maybe under extreme load it will fail,
-            // or while the system is being shut down. In any event, the user will receive an error code indicating
-            // that the transaction was not submitted and they can retry.
-            final var success = platform.createTransaction(payload.toByteArray());
-            if (success) {
-                submittedTxns.add(txId);
-            } else {
-                platformTxnRejections.cycle();
-                throw new PreCheckException(PLATFORM_TRANSACTION_NOT_CREATED);
+    /**
+     * Submits a single transaction to the platform, unless it is a duplicate.
+     *
+     * @param submission the submission
+     * @return the reason the transaction was not submitted, or {@code null} if it was submitted
+     */
+    @Nullable
+    private PreCheckException submitToPlatform(@NonNull final PendingSubmission submission) {
+        // If we have already submitted this transaction, then fail
+        if (submittedTxns.contains(submission.txId)) {
+            return new PreCheckException(DUPLICATE_TRANSACTION);
+        }
+
+        // This call to submit to the platform should almost always work. Maybe under extreme load it will fail,
+        // or while the system is being shut down. In any event, the user will receive an error code indicating
+        // that the transaction was not submitted and they can retry.
+        final var success = platform.createTransaction(submission.payload.toByteArray());
+        if (success) {
+            submittedTxns.add(submission.txId);
+            return null;
+        } else {
+            platformTxnRejections.cycle();
+            return new PreCheckException(PLATFORM_TRANSACTION_NOT_CREATED);
+        }
+    }
+
+    /** A transaction waiting to be submitted to the platform, and the outcome of its submission once known. */
+    private static final class PendingSubmission {
+        private final TransactionID txId;
+        private final Bytes payload;
+        private final long enqueuedNanos;
+        private final CountDownLatch done = new CountDownLatch(1);
+        // Set by whichever comes first, the thread submitting it or its own thread giving up on it
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        // Written before the latch is counted down, and only read after it was
+        private Exception failure;
+
+        private PendingSubmission(
+                @NonNull final TransactionID txId, @NonNull final Bytes payload, final long enqueuedNanos) {
+            this.txId = txId;
+            this.payload = payload;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+
+        private boolean isDone() {
+            return done.getCount() == 0;
+        }
+
+        /**
+         * Claims the submission for handing to the platform.
+         *
+         * @return whether it was claimed, or {@code false} if it was already cancelled
+         */
+        private boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        private void complete(@Nullable final Exception failure) {
+            this.failure = failure;
+            done.countDown();
+        }
+
+        private void awaitDone() {
+            try {
+                // Bounded, so that if the thread holding the lock has already finished its batch, we submit ourselves
+                done.await(HANDOFF_WAIT_MICROS, TimeUnit.MICROSECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // Cancel the submission so that it is not handed to the platform after we stop waiting for it;
+                // if it was already claimed, it is being submitted and we just do not learn the outcome
+                claim();
+                throw new IllegalStateException("Interrupted while waiting for a transaction to be submitted", e);
             }
         }
     }
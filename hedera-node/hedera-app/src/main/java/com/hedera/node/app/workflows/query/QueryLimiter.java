@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.query;
+
+import com.hedera.hapi.node.base.HederaFunctionality;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.QueriesConfig;
+import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Limits how many queries are answered at the same time. Queries are answered on the same gRPC threads that ingest
+ * transactions, so a burst of expensive queries such as {@code ContractCallLocal} could otherwise occupy all of these
+ * threads and delay transaction submission.
+ *
+ * <p>Each query type in {@link QueriesConfig#expensiveFunctions()} has its own limit; all other query types share a
+ * single limit. A query that cannot get a permit right away is rejected, and the {@link QueryWorkflowImpl} answers it
+ * with {@code BUSY}. Queries never wait for a permit, because a waiting query would park the very gRPC thread this
+ * limit is meant to keep free.
+ */
+@Singleton
+public final class QueryLimiter {
+    private static final Counter.Config REJECTED_CONFIG = new Counter.Config("app", "queriesRejectedBusy")
+            .withDescription("number of queries rejected with BUSY because too many were answered at once");
+
+    private final Map<HederaFunctionality, Semaphore> expensivePermits;
+    private final Semaphore permits;
+    private final Counter rejected;
+
+    /**
+     * Create a new instance.
+     *
+     * @param configProvider provides the limits
+     * @param metrics the {@link Metrics} with which to register the rejection metric
+     */
+    @Inject
+    public QueryLimiter(@NonNull final ConfigProvider configProvider, @NonNull final Metrics metrics) {
+        final var queriesConfig = configProvider.getConfiguration().getConfigData(QueriesConfig.class);
+        this.expensivePermits = expensivePermitsFrom(queriesConfig);
+        this.permits = permitsFrom(queriesConfig);
+        this.rejected = metrics.getOrCreate(REJECTED_CONFIG);
+    }
+
+    /**
+     * Tries to admit a query of the given type. If this returns true, {@link #release(HederaFunctionality)} must be
+     * called once the query is answered.
+     *
+     * @param function the type of the query
+     * @return true if the query may be answered, false if it should be rejected with {@code BUSY}
+     */
+    public boolean tryAcquire(@NonNull final HederaFunctionality function) {
+        final var semaphore = permitsFor(function);
+        if (semaphore == null || semaphore.tryAcquire()) {
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /**
+     * Releases the permit of a query that was admitted by {@link #tryAcquire(HederaFunctionality)}.
+     *
+     * @param function the type of the query
+     */
+    public void release(@NonNull final HederaFunctionality function) {
+        final var semaphore = permitsFor(function);
+        if (semaphore != null) {
+            semaphore.release();
+        }
+    }
+
+    @Nullable
+    private Semaphore permitsFor(@NonNull final HederaFunctionality function) {
+        final var semaphore = expensivePermits.get(function);
+        return semaphore != null ? semaphore : permits;
+    }
+
+    private static Map<HederaFunctionality, Semaphore> expensivePermitsFrom(@NonNull final QueriesConfig config) {
+        final Map<HederaFunctionality, Semaphore> expensivePermits = new EnumMap<>(HederaFunctionality.class);
+        if (config.expensiveMaxConcurrent() <= 0) {
+            return expensivePermits;
+        }
+        for (final var function : config.expensiveFunctions().functionalitySet()) {
+            expensivePermits.put(function, new Semaphore(config.expensiveMaxConcurrent()));
+        }
+        return expensivePermits;
+    }
+
+    @Nullable
+    private static Semaphore permitsFrom(@NonNull final QueriesConfig config) {
+        return config.maxConcurrent() > 0 ? new Semaphore(config.maxConcurrent()) : null;
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.query;
+
+import static java.util.Objects.requireNonNull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hedera.hapi.node.base.HederaFunctionality;
+import com.hedera.hapi.node.transaction.Query;
+import com.hedera.hapi.node.transaction.Response;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.CacheConfig;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.Metrics;
+import com.swirlds.state.State;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.lang.ref.WeakReference;
+import java.util.Set;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * A bounded, thread-safe cache of query responses. Clients such as exchanges poll the same free queries (e.g.
+ * {@code CryptoGetAccountBalance}) many times per second, and every poll recomputes an identical answer from the same
+ * state. This cache lets the {@link QueryWorkflowImpl} answer such repeated queries without calling the handler again.
+ *
+ * <p>Entries are keyed by the query type, the canonical protobuf encoding of the query, and a generation number. The
+ * query workflow answers from the working state, so the generation changes whenever the query is answered from a new
+ * state, and whenever the handle workflow commits a transaction to the working state (see {@link #invalidateAll()}).
+ * A response is only cached if no such change happened while it was being computed, so a cached answer is never
+ * served after the transaction that changes it has been committed.
+ *
+ * <p>Only the query types configured in {@link CacheConfig#queriesFunctions()} are cached, and only if the query is not
+ * charged; the workflow is responsible for never caching a charged query.
+ */
+@Singleton
+public final class QueryResultCache {
+    private final Cache<Key, Response> cache;
+    private final Set<HederaFunctionality> functions;
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * The state the current entries were answered from, and a generation number that changes with it and with every
+     * committed transaction. The state is only weakly referenced, so the cache does not keep a replaced working state
+     * from being collected.
+     */
+    private WeakReference<State> currentState = new WeakReference<>(null);
+
+    private long generation;
+
+    /**
+     * The key of a cached response.
+     *
+     * @param generation the generation of the state the response was answered from
+     * @param function the type of the query
+     * @param query the canonical protobuf encoding of the query
+     */
+    public record Key(long generation, @NonNull HederaFunctionality function, @NonNull Bytes query) {}
+
+    /**
+     * Create a new instance.
+     *
+     * @param configProvider provides the maximum number of responses to keep, and the query types to cache
+     * @param metrics the {@link Metrics} with which to register the hit and miss counters
+     */
+    @Inject
+    public QueryResultCache(@NonNull final ConfigProvider configProvider, @NonNull final Metrics metrics) {
+        final var cacheConfig = configProvider.getConfiguration().getConfigData(CacheConfig.class);
+        final int maxSize = cacheConfig.queriesMaxSize();
+        this.cache = maxSize > 0 ? Caffeine.newBuilder().maximumSize(maxSize).build() : null;
+        this.functions = Set.copyOf(cacheConfig.queriesFunctions().functionalitySet());
+        this.hits = metrics.getOrCreate(new Counter.Config("app", "queryCacheHits")
+                .withDescription("The number of queries answered by the query result cache"));
+        this.misses = metrics.getOrCreate(new Counter.Config("app", "queryCacheMisses")
+                .withDescription("The number of cacheable queries that had to be answered by a handler"));
+    }
+
+    /**
+     * Whether responses to queries of the given type may be cached.
+     *
+     * @param function the type of the query
+     * @return true if responses to this query type are cached
+     */
+    public boolean isCacheable(@NonNull final HederaFunctionality function) {
+        return cache != null && functions.contains(function);
+    }
+
+    /**
+     * Returns the key under which the response to the given query, answered from the given state, is cached. The key
+     * must be looked up before the query is answered, so that a response computed while the state changed is not
+     * cached.
+     *
+     * @param state the state the query is answered from
+     * @param function the type of the query
+     * @param query the query
+     * @return the key, or {@code null} if responses to this query type are not cached
+     */
+    @Nullable
+    public Key keyFor(
+            @NonNull final State state, @NonNull final HederaFunctionality function, @NonNull final Query query) {
+        if (!isCacheable(function)) {
+            return null;
+        }
+        // Re-encoding the query normalizes field order and default values
+        return new Key(generationOf(state), function, Query.PROTOBUF.toBytes(query));
+    }
+
+    /**
+     * Returns the cached response for the given key.
+     *
+     * @param key the key returned by {@link #keyFor(State, HederaFunctionality, Query)}
+     * @return the cached response, or {@code null} if the query still needs to be answered
+     */
+    @Nullable
+    public Response getIfPresent(@NonNull final Key key) {
+        final var response = cache.getIfPresent(key);
+        (response != null ? hits : misses).increment();
+        return response;
+    }
+
+    /**
+     * Records the response for the given key, unless the state changed since the key was looked up.
+     *
+     * @param key the key returned by {@link #keyFor(State, HederaFunctionality, Query)} before the query was answered
+     * @param response the response to the query
+     */
+    public synchronized void put(@NonNull final Key key, @NonNull final Response response) {
+        if (key.generation() == generation) {
+            cache.put(key, requireNonNull(response));
+        }
+    }
+
+    /**
+     * Drops all cached responses. Called by the handle workflow whenever it commits changes to the working state.
+     */
+    public synchronized void invalidateAll() {
+        if (cache != null) {
+            generation++;
+            cache.invalidateAll();
+        }
+    }
+
+    private synchronized long generationOf(@NonNull final State state) {
+        if (state != currentState.get()) {
+            currentState = new WeakReference<>(state);
+            generation++;
+            cache.invalidateAll();
+        }
+        return generation;
+    }
+}
@@ -31,4 +31,17 @@ public interface QueryWorkflow {
      * @param responseBuffer The raw protobuf response bytes.
      */
     void handleQuery(@NonNull Bytes requestBuffer, @NonNull BufferedData responseBuffer);
+
+    /**
+     * Called to handle a single query whose raw protobuf bytes are the remaining bytes of the given buffer. The
+     * buffer may wrap a pooled network buffer that is released as soon as this method returns, so implementations
+     * must not retain it, or any view of it, beyond that. By default, the bytes are handed to
+     * {@link #handleQuery(Bytes, BufferedData)}; implementations may instead parse the buffer in place.
+     *
+     * @param requestBuffer The buffer with the raw protobuf query bytes. Must be a {@link Query} object.
+     * @param responseBuffer The raw protobuf response bytes.
+     */
+    default void handleQuery(@NonNull final BufferedData requestBuffer, @NonNull final BufferedData responseBuffer) {
+        handleQuery(requestBuffer.getBytes(requestBuffer.position(), requestBuffer.remaining()), responseBuffer);
+    }
 }
@@ -51,7 +51,7 @@ import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.QueryContext;
 import com.hedera.node.app.spi.workflows.QueryHandler;
 import com.hedera.node.app.store.ReadableStoreFactory;
-import com.hedera.node.app.throttle.SynchronizedThrottleAccumulator;
+import com.hedera.node.app.throttle.StripedThrottleAccumulator;
 import com.hedera.node.app.workflows.OpWorkflowMetrics;
 import com.hedera.node.app.workflows.ingest.IngestChecker;
 import com.hedera.node.app.workflows.ingest.SubmissionManager;
@@ -60,6 +60,7 @@ import com.hedera.pbj.runtime.Codec;
 import com.hedera.pbj.runtime.MalformedProtobufException;
 import com.hedera.pbj.runtime.ParseException;
 import com.hedera.pbj.runtime.UnknownFieldException;
+import com.hedera.pbj.runtime.io.ReadableSequentialData;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.common.utility.AutoCloseableWrapper;
@@ -98,9 +99,11 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
     private final Authorizer authorizer;
     private final ExchangeRateManager exchangeRateManager;
     private final FeeManager feeManager;
-    private final SynchronizedThrottleAccumulator synchronizedThrottleAccumulator;
+    private final StripedThrottleAccumulator stripedThrottleAccumulator;
     private final InstantSource instantSource;
     private final OpWorkflowMetrics workflowMetrics;
+    private final QueryResultCache queryResultCache;
+    private final QueryLimiter queryLimiter;
 
     /**
      * Indicates if the QueryWorkflow should charge for handling queries.
@@ -122,9 +125,11 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
      * @param authorizer the {@link Authorizer} to check permissions and special privileges
      * @param exchangeRateManager the {@link ExchangeRateManager} to get the {@link ExchangeRateInfo}
      * @param feeManager the {@link FeeManager} to calculate the fees
-     * @param synchronizedThrottleAccumulator the {@link SynchronizedThrottleAccumulator} that checks transaction should be throttled
+     * @param stripedThrottleAccumulator the {@link StripedThrottleAccumulator} that checks transaction should be throttled
      * @param instantSource the {@link InstantSource} to get the current time
      * @param workflowMetrics the {@link OpWorkflowMetrics} to update the metrics
+     * @param queryResultCache the {@link QueryResultCache} of responses to queries that are not charged
+     * @param queryLimiter the {@link QueryLimiter} that limits how many queries are answered concurrently
      * @param shouldCharge If the workflow should charge for handling queries.
      * @throws NullPointerException if one of the arguments is {@code null}
      */
@@ -141,9 +146,11 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
             @NonNull final Authorizer authorizer,
             @NonNull final ExchangeRateManager exchangeRateManager,
             @NonNull final FeeManager feeManager,
-            @NonNull final SynchronizedThrottleAccumulator synchronizedThrottleAccumulator,
+            @NonNull final StripedThrottleAccumulator stripedThrottleAccumulator,
             @NonNull final InstantSource instantSource,
             @NonNull final OpWorkflowMetrics workflowMetrics,
+            @NonNull final QueryResultCache queryResultCache,
+            @NonNull final QueryLimiter queryLimiter,
             final boolean shouldCharge) {
         this.stateAccessor = requireNonNull(stateAccessor, "stateAccessor must not be null");
         this.submissionManager = requireNonNull(submissionManager, "submissionManager must not be null");
@@ -156,25 +163,43 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
         this.exchangeRateManager = requireNonNull(exchangeRateManager, "exchangeRateManager must not be null");
         this.authorizer = requireNonNull(authorizer, "authorizer must not be null");
         this.feeManager = requireNonNull(feeManager, "feeManager must not be null");
-        this.synchronizedThrottleAccumulator =
-                requireNonNull(synchronizedThrottleAccumulator, "hapiThrottling must not be null");
+        this.stripedThrottleAccumulator =
+                requireNonNull(stripedThrottleAccumulator, "hapiThrottling must not be null");
         this.instantSource = requireNonNull(instantSource);
         this.workflowMetrics = requireNonNull(workflowMetrics);
+        this.queryResultCache = requireNonNull(queryResultCache);
+        this.queryLimiter = requireNonNull(queryLimiter);
         this.shouldCharge = shouldCharge;
     }
 
     @Override
     public void handleQuery(@NonNull final Bytes requestBuffer, @NonNull final BufferedData responseBuffer) {
-        final long queryStart = System.nanoTime();
+        requireNonNull(requestBuffer);
+        answerQuery(requestBuffer.toReadableSequentialData(), responseBuffer);
+    }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The query is parsed directly from the request buffer, without first copying its bytes.
+     */
+    @Override
+    public void handleQuery(@NonNull final BufferedData requestBuffer, @NonNull final BufferedData responseBuffer) {
         requireNonNull(requestBuffer);
+        answerQuery(requestBuffer, responseBuffer);
+    }
+
+    private void answerQuery(
+            @NonNull final ReadableSequentialData requestData, @NonNull final BufferedData responseBuffer) {
+        final long queryStart = System.nanoTime();
+
         requireNonNull(responseBuffer);
 
         // We use wall-clock time when calculating fees
         final var consensusTime = instantSource.instant();
 
         // 1. Parse and check header
-        final Query query = parseQuery(requestBuffer);
+        final Query query = parseQuery(requestData);
         logger.debug("Received query: {}", query);
         final var function = functionOf(query);
 
@@ -188,9 +213,16 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
             final ResponseType responseType = queryHeader.responseType();
             logger.debug("Started answering a {} query of type {}", function, responseType);
 
+            var admitted = false;
             try (final var wrappedState = stateAccessor.apply(responseType)) {
                 // 2. Do some general pre-checks
                 ingestChecker.checkNodeState();
+                if (shouldCharge) {
+                    admitted = queryLimiter.tryAcquire(function);
+                    if (!admitted) {
+                        throw new PreCheckException(BUSY);
+                    }
+                }
                 if (UNSUPPORTED_RESPONSE_TYPES.contains(responseType)) {
                     throw new PreCheckException(NOT_SUPPORTED);
                 }
@@ -270,21 +302,32 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
                 handler.validate(context);
 
                 // 5. Check query throttles
-                if (shouldCharge && synchronizedThrottleAccumulator.shouldThrottle(function, query, state, payerID)) {
+                if (shouldCharge && stripedThrottleAccumulator.shouldThrottle(function, query, state, payerID)) {
                     workflowMetrics.incrementThrottled(function);
                     throw new PreCheckException(BUSY);
                 }
 
-                if (handler.needsAnswerOnlyCost(responseType)) {
-                    // 6.i Estimate costs
-                    final var queryFees = handler.computeFees(context).totalFee();
-
-                    final var header = createResponseHeader(responseType, OK, queryFees);
-                    response = handler.createEmptyResponse(header);
+                // 6. Answer from the cache, unless the query is charged
+                final var cacheKey =
+                        shouldCharge && paymentRequired ? null : queryResultCache.keyFor(state, function, query);
+                final var cachedResponse = cacheKey != null ? queryResultCache.getIfPresent(cacheKey) : null;
+                if (cachedResponse != null) {
+                    response = cachedResponse;
                 } else {
-                    // 6.ii Find response
-                    final var header = createResponseHeader(responseType, OK, 0L);
-                    response = handler.findResponse(context, header);
+                    if (handler.needsAnswerOnlyCost(responseType)) {
+                        // 6.i Estimate costs
+                        final var queryFees = handler.computeFees(context).totalFee();
+
+                        final var header = createResponseHeader(responseType, OK, queryFees);
+                        response = handler.createEmptyResponse(header);
+                    } else {
+                        // 6.ii Find response
+                        final var header = createResponseHeader(responseType, OK, 0L);
+                        response = handler.findResponse(context, header);
+                    }
+                    if (cacheKey != null) {
+                        queryResultCache.put(cacheKey, response);
+                    }
                 }
             } catch (InsufficientBalanceException e) {
                 response = createErrorResponse(handler, responseType, e.responseCode(), e.getEstimatedFee());
@@ -297,6 +340,10 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
             } catch (Exception e) {
                 logger.error("Unexpected exception while handling a query", e);
                 response = createErrorResponse(handler, responseType, FAIL_INVALID, 0L);
+            } finally {
+                if (admitted) {
+                    queryLimiter.release(function);
+                }
             }
         } else {
             throw new StatusRuntimeException(Status.INVALID_ARGUMENT);
@@ -313,9 +360,9 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
         workflowMetrics.updateDuration(function, (int) (System.nanoTime() - queryStart));
     }
 
-    private Query parseQuery(Bytes requestBuffer) {
+    private Query parseQuery(ReadableSequentialData requestData) {
         try {
-            return queryParser.parseStrict(requestBuffer.toReadableSequentialData());
+            return queryParser.parseStrict(requestData);
         } catch (ParseException e) {
             switch (e.getCause()) {
                 case MalformedProtobufException ex:
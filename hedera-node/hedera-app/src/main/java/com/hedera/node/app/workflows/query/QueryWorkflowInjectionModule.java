@@ -31,7 +31,7 @@ import com.hedera.node.app.service.token.impl.handlers.TokenHandlers;
 import com.hedera.node.app.spi.authorization.Authorizer;
 import com.hedera.node.app.spi.records.RecordCache;
 import com.hedera.node.app.state.WorkingStateAccessor;
-import com.hedera.node.app.throttle.SynchronizedThrottleAccumulator;
+import com.hedera.node.app.throttle.StripedThrottleAccumulator;
 import com.hedera.node.app.workflows.OpWorkflowMetrics;
 import com.hedera.node.app.workflows.ingest.IngestChecker;
 import com.hedera.node.app.workflows.ingest.SubmissionManager;
@@ -71,9 +71,11 @@ public interface QueryWorkflowInjectionModule {
             @NonNull final Authorizer authorizer,
             @NonNull final ExchangeRateManager exchangeRateManager,
             @NonNull final FeeManager feeManager,
-            @NonNull final SynchronizedThrottleAccumulator synchronizedThrottleAccumulator,
+            @NonNull final StripedThrottleAccumulator stripedThrottleAccumulator,
             @NonNull final InstantSource instantSource,
-            @NonNull final OpWorkflowMetrics opWorkflowMetrics) {
+            @NonNull final OpWorkflowMetrics opWorkflowMetrics,
+            @NonNull final QueryResultCache queryResultCache,
+            @NonNull final QueryLimiter queryLimiter) {
         return new QueryWorkflowImpl(
                 stateAccessor,
                 submissionManager,
@@ -86,9 +88,11 @@ public interface QueryWorkflowInjectionModule {
                 authorizer,
                 exchangeRateManager,
                 feeManager,
-                synchronizedThrottleAccumulator,
+                stripedThrottleAccumulator,
                 instantSource,
                 opWorkflowMetrics,
+                queryResultCache,
+                queryLimiter,
                 true);
     }
 
@@ -107,9 +111,11 @@ public interface QueryWorkflowInjectionModule {
             @NonNull final Authorizer authorizer,
             @NonNull final ExchangeRateManager exchangeRateManager,
             @NonNull final FeeManager feeManager,
-            @NonNull final SynchronizedThrottleAccumulator synchronizedThrottleAccumulator,
+            @NonNull final StripedThrottleAccumulator stripedThrottleAccumulator,
             @NonNull final InstantSource instantSource,
-            @NonNull final OpWorkflowMetrics opWorkflowMetrics) {
+            @NonNull final OpWorkflowMetrics opWorkflowMetrics,
+            @NonNull final QueryResultCache queryResultCache,
+            @NonNull final QueryLimiter queryLimiter) {
         return new QueryWorkflowImpl(
                 stateAccessor,
                 submissionManager,
@@ -122,9 +128,11 @@ public interface QueryWorkflowInjectionModule {
                 authorizer,
                 exchangeRateManager,
                 feeManager,
-                synchronizedThrottleAccumulator,
+                stripedThrottleAccumulator,
                 instantSource,
                 opWorkflowMetrics,
+                queryResultCache,
+                queryLimiter,
                 false);
     }
 
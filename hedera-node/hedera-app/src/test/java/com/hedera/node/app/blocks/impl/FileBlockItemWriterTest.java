@@ -29,10 +29,12 @@ import com.hedera.node.config.VersionedConfiguration;
 import com.hedera.node.config.data.BlockStreamConfig;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.state.lifecycle.info.NodeInfo;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
 import java.util.zip.GZIPInputStream;
 import org.junit.jupiter.api.Test;
@@ -170,6 +172,39 @@ public class FileBlockItemWriterTest {
         }
     }
 
+    @Test
+    public void testWriteItemsWithParallelCompression() throws IOException {
+        when(configProvider.getConfiguration()).thenReturn(versionedConfiguration);
+        when(versionedConfiguration.getConfigData(BlockStreamConfig.class)).thenReturn(blockStreamConfig);
+        when(blockStreamConfig.compressFilesOnCreation()).thenReturn(true);
+        when(blockStreamConfig.compressionMaxInFlightChunks()).thenReturn(4);
+        when(blockStreamConfig.compressionChunkSize()).thenReturn(1024);
+        when(blockStreamConfig.blockFileDir()).thenReturn("N/A");
+        when(fileSystem.getPath(anyString())).thenReturn(tempDir);
+
+        FileBlockItemWriter fileBlockItemWriter =
+                new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem, Runnable::run);
+
+        // Write enough items to span several independently compressed chunks
+        fileBlockItemWriter.openBlock(1);
+        final var bytes = new byte[100];
+        Arrays.fill(bytes, (byte) 7);
+        final var expected = new ByteArrayOutputStream();
+        for (int i = 0; i < 50; i++) {
+            fileBlockItemWriter.writeItem(bytes);
+            expected.write(new byte[] {10, 100});
+            expected.write(bytes);
+        }
+        fileBlockItemWriter.closeBlock();
+
+        // The concatenated gzip members read back as one ordinary gzip stream
+        Path expectedBlockFile = tempDir.resolve("block-0.0.3").resolve("000000000000000000000000000000000001.blk.gz");
+        try (GZIPInputStream gzis = new GZIPInputStream(Files.newInputStream(expectedBlockFile))) {
+            assertArrayEquals(
+                    expected.toByteArray(), gzis.readAllBytes(), "Serialized items were not written correctly");
+        }
+    }
+
     @Test
     public void testWriteItemBeforeOpen() {
         when(configProvider.getConfiguration()).thenReturn(versionedConfiguration);
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.blocks.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ParallelGzipOutputStreamTest {
+    private static final int CHUNK_SIZE = 1024;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void outputIsReadableAsConcatenatedGzipInOrder() throws IOException {
+        final var input = new byte[CHUNK_SIZE * 10 + 123];
+        new Random(42).nextBytes(input);
+        final var baos = new ByteArrayOutputStream();
+
+        try (final var out = new ParallelGzipOutputStream(baos, executor, CHUNK_SIZE, 3)) {
+            // Mix single-byte and array writes that straddle chunk boundaries
+            out.write(input[0]);
+            out.write(input, 1, CHUNK_SIZE + 17);
+            out.write(input, CHUNK_SIZE + 18, input.length - CHUNK_SIZE - 18);
+        }
+
+        assertThat(gunzip(baos.toByteArray())).isEqualTo(input);
+    }
+
+    @Test
+    void emptyStreamWritesNothing() throws IOException {
+        final var baos = new ByteArrayOutputStream();
+
+        new ParallelGzipOutputStream(baos, executor, CHUNK_SIZE, 2).close();
+
+        assertThat(baos.toByteArray()).isEmpty();
+    }
+
+    @Test
+    void flushWritesOnlyCompletedChunks() throws IOException {
+        final var baos = new ByteArrayOutputStream();
+        final var out = new ParallelGzipOutputStream(baos, executor, CHUNK_SIZE, 2);
+
+        out.write(new byte[CHUNK_SIZE / 2]);
+        out.flush();
+        assertThat(baos.size()).isZero();
+
+        out.write(new byte[CHUNK_SIZE]);
+        out.flush();
+        final var flushedSize = baos.size();
+        assertThat(flushedSize).isPositive();
+
+        out.close();
+        assertThat(baos.size()).isGreaterThan(flushedSize);
+        assertThat(gunzip(baos.toByteArray())).hasSize(CHUNK_SIZE * 3 / 2);
+    }
+
+    @Test
+    void cannotWriteAfterClose() throws IOException {
+        final var out = new ParallelGzipOutputStream(new ByteArrayOutputStream(), executor, CHUNK_SIZE, 1);
+        out.close();
+
+        assertThatThrownBy(() -> out.write(1)).isInstanceOf(IOException.class);
+    }
+
+    private static byte[] gunzip(final byte[] bytes) throws IOException {
+        try (final var in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readAllBytes();
+        }
+    }
+}
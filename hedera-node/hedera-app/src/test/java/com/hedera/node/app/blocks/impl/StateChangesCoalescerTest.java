@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.blocks.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.hapi.block.stream.BlockItem;
+import com.hedera.hapi.block.stream.input.EventHeader;
+import com.hedera.hapi.block.stream.output.StateChange;
+import com.hedera.hapi.block.stream.output.StateChanges;
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.Timestamp;
+import com.hedera.hapi.node.state.primitives.ProtoBytes;
+import com.hedera.hapi.node.state.token.Account;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class StateChangesCoalescerTest {
+    private static final int ACCOUNTS_STATE_ID = 2;
+    private static final int QUEUE_STATE_ID = 3;
+    private static final AccountID FEE_COLLECTOR = AccountID.newBuilder().accountNum(98).build();
+    private static final AccountID PAYER = AccountID.newBuilder().accountNum(1001).build();
+    private static final BlockItem EVENT_HEADER =
+            BlockItem.newBuilder().eventHeader(EventHeader.DEFAULT).build();
+
+    @Test
+    void batchWithoutRepeatedKeysIsUnchanged() {
+        final var items = List.of(
+                EVENT_HEADER,
+                stateChangesItem(1, update(FEE_COLLECTOR, 1)),
+                stateChangesItem(2, update(PAYER, 1), queuePush()));
+
+        assertThat(StateChangesCoalescer.coalesce(items)).isSameAs(items);
+    }
+
+    @Test
+    void keepsOnlyLastChangeToEachKeyInBatch() {
+        final var items = List.of(
+                stateChangesItem(1, update(FEE_COLLECTOR, 1), update(PAYER, 1)),
+                EVENT_HEADER,
+                stateChangesItem(2, update(FEE_COLLECTOR, 2), queuePush()),
+                stateChangesItem(3, delete(PAYER), update(FEE_COLLECTOR, 3)));
+
+        final var coalesced = StateChangesCoalescer.coalesce(items);
+
+        assertThat(coalesced)
+                .containsExactly(
+                        EVENT_HEADER,
+                        stateChangesItem(2, queuePush()),
+                        stateChangesItem(3, delete(PAYER), update(FEE_COLLECTOR, 3)));
+    }
+
+    @Test
+    void dropsStateChangesItemsLeftEmpty() {
+        final var items = List.of(
+                stateChangesItem(1, update(FEE_COLLECTOR, 1)),
+                stateChangesItem(2, update(FEE_COLLECTOR, 2)),
+                EVENT_HEADER);
+
+        assertThat(StateChangesCoalescer.coalesce(items))
+                .containsExactly(stateChangesItem(2, update(FEE_COLLECTOR, 2)), EVENT_HEADER);
+    }
+
+    @Test
+    void sameKeyInDifferentStatesIsNotCoalesced() {
+        final var otherStateUpdate = StateChange.newBuilder()
+                .stateId(ACCOUNTS_STATE_ID + 100)
+                .mapUpdate(update(FEE_COLLECTOR, 1).mapUpdateOrThrow())
+                .build();
+        final var items = List.of(stateChangesItem(1, otherStateUpdate), stateChangesItem(2, update(FEE_COLLECTOR, 2)));
+
+        assertThat(StateChangesCoalescer.coalesce(items)).isSameAs(items);
+    }
+
+    private static BlockItem stateChangesItem(final long seconds, final StateChange... changes) {
+        return BlockItem.newBuilder()
+                .stateChanges(new StateChanges(new Timestamp(seconds, 0), List.of(changes)))
+                .build();
+    }
+
+    private static StateChange update(final AccountID accountId, final long tinybarBalance) {
+        final var listener = new KVStateChangeListener();
+        listener.mapUpdateChange(
+                ACCOUNTS_STATE_ID,
+                accountId,
+                Account.newBuilder()
+                        .accountId(accountId)
+                        .tinybarBalance(tinybarBalance)
+                        .build());
+        return listener.getStateChanges().getFirst();
+    }
+
+    private static StateChange delete(final AccountID accountId) {
+        final var listener = new KVStateChangeListener();
+        listener.mapDeleteChange(ACCOUNTS_STATE_ID, accountId);
+        return listener.getStateChanges().getFirst();
+    }
+
+    private static StateChange queuePush() {
+        final var listener = new BoundaryStateChangeListener();
+        listener.queuePushChange(QUEUE_STATE_ID, new ProtoBytes(Bytes.wrap(new byte[] {1, 2, 3})));
+        return listener.allStateChanges().getFirst();
+    }
+}
@@ -22,9 +22,13 @@ import static org.junit.jupiter.api.Assertions.*;
 import com.hedera.node.app.Hedera;
 import com.hedera.node.app.utils.TestUtils;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import io.grpc.Detachable;
+import io.grpc.HasByteBuffer;
+import io.grpc.KnownLength;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
@@ -158,4 +162,93 @@ final class DataBufferMarshallerTest {
             }
         }
     }
+
+    @Test
+    @DisplayName("A stream backed by a single network buffer is wrapped without copying, and released afterwards")
+    void parseNetworkBufferWithoutCopy() {
+        final var arr = TestUtils.randomBytes(100);
+        final var stream = new NetworkStream(ByteBuffer.wrap(arr));
+
+        final var buf = marshaller.parse(stream);
+        assertEquals(arr.length, buf.remaining());
+        assertThat(stream.detached).isNotNull();
+        // Modifying the network buffer is visible through the parsed buffer, so nothing was copied
+        arr[0] = (byte) (arr[0] + 1);
+        assertEquals(arr[0], buf.getByte(0));
+        for (byte b : arr) {
+            assertEquals(b, buf.readByte());
+        }
+        assertFalse(stream.detached.closed);
+
+        DataBufferMarshaller.releaseParsedRequest();
+        assertTrue(stream.detached.closed);
+    }
+
+    @Test
+    @DisplayName("A network buffer that was never released is released by the next parse on the same thread")
+    void parseReleasesPreviousNetworkBuffer() {
+        final var first = new NetworkStream(ByteBuffer.wrap(TestUtils.randomBytes(10)));
+        final var second = new NetworkStream(ByteBuffer.wrap(TestUtils.randomBytes(10)));
+
+        marshaller.parse(first);
+        marshaller.parse(second);
+        assertTrue(first.detached.closed);
+        assertFalse(second.detached.closed);
+
+        DataBufferMarshaller.releaseParsedRequest();
+        assertTrue(second.detached.closed);
+    }
+
+    @Test
+    @DisplayName("A network buffer that is too big is copied, so it is rejected as before")
+    void parseTooBigNetworkBufferCopies() {
+        final var stream = new NetworkStream(ByteBuffer.wrap(TestUtils.randomBytes(Hedera.MAX_SIGNED_TXN_SIZE + 1)));
+
+        final var buf = marshaller.parse(stream);
+        assertEquals(Hedera.MAX_SIGNED_TXN_SIZE + 1, buf.remaining());
+        assertThat(stream.detached).isNull();
+    }
+
+    /** A stream in the shape of the one gRPC gives us for a message held in a single Netty buffer. */
+    private static final class NetworkStream extends InputStream implements KnownLength, HasByteBuffer, Detachable {
+        private final ByteBuffer buffer;
+        private NetworkStream detached;
+        private boolean closed;
+
+        private NetworkStream(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? Byte.toUnsignedInt(buffer.get()) : -1;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public boolean byteBufferSupported() {
+            return true;
+        }
+
+        @Override
+        public ByteBuffer getByteBuffer() {
+            return buffer.slice();
+        }
+
+        @Override
+        public InputStream detach() {
+            detached = new NetworkStream(buffer.slice());
+            buffer.position(buffer.limit());
+            return detached;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
 }
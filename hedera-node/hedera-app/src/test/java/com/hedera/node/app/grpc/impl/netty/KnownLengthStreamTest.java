@@ -18,13 +18,18 @@ package com.hedera.node.app.grpc.impl.netty;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.hedera.node.app.utils.TestUtils;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.ByteArrayOutputStream;
 import java.io.EOFException;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
@@ -344,4 +349,51 @@ final class KnownLengthStreamTest {
             assertEquals(0, stream.readNBytes(new byte[1], 0, 1));
         }
     }
+
+    @ParameterizedTest(name = "A buffer with capacity {0} and position {1}")
+    @MethodSource("provideBuffers")
+    @DisplayName("All remaining bytes from the buffer can be drained to an output stream")
+    void drainTo(int capacity, int position) throws IOException {
+        final var arr = TestUtils.randomBytes(capacity);
+        final var buf = BufferedData.wrap(arr);
+        buf.skip(position);
+
+        try (final var stream = new KnownLengthStream(buf)) {
+            final var out = new ByteArrayOutputStream();
+            assertEquals(capacity - position, stream.drainTo(out));
+            assertThat(out.toByteArray()).isEqualTo(Arrays.copyOfRange(arr, position, capacity));
+            assertEquals(0, stream.available());
+            assertEquals(-1, stream.read());
+        }
+    }
+
+    @Test
+    @DisplayName("Draining writes from the buffer's backing array without an intermediate copy")
+    void drainToDoesNotCopy() throws IOException {
+        final var arr = TestUtils.randomBytes(100);
+        final var buf = BufferedData.wrap(arr);
+        buf.skip(20);
+
+        final var writes = new ArrayList<byte[]>();
+        final var offsets = new ArrayList<Integer>();
+        final var target = new OutputStream() {
+            @Override
+            public void write(final int b) {
+                throw new AssertionError("Bytes should not be written one at a time");
+            }
+
+            @Override
+            public void write(@NonNull final byte[] b, final int off, final int len) {
+                writes.add(b);
+                offsets.add(off);
+            }
+        };
+
+        try (final var stream = new KnownLengthStream(buf)) {
+            assertEquals(80, stream.drainTo(target));
+        }
+        assertEquals(1, writes.size());
+        assertSame(arr, writes.get(0));
+        assertEquals(20, offsets.get(0));
+    }
 }
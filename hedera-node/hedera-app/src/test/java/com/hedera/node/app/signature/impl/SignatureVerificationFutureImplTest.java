@@ -32,6 +32,7 @@ import com.swirlds.common.crypto.VerificationStatus;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
@@ -310,5 +311,24 @@ final class SignatureVerificationFutureImplTest implements Scenarios {
                     .isEqualTo(false);
             assertThat(sut.isDone()).isTrue();
         }
+
+        @Test
+        @DisplayName("A pass is reported only once, however many times the result is read")
+        void passIsReportedOnce() throws Exception {
+            // Given an instance that reports passes, whose sig is complete and VALID
+            final var passesReported = new AtomicInteger();
+            final var subject = new SignatureVerificationFutureImpl(
+                    ALICE.keyInfo().publicKey(), null, sut.txSig(), passesReported::incrementAndGet);
+            signatureSubmittedToCryptoEngine();
+            cryptoEngineReturnsResult(VALID);
+
+            // When the result is read several times
+            assertThat(subject.get().passed()).isTrue();
+            assertThat(subject.get().passed()).isTrue();
+            assertThat(subject.get(1, TimeUnit.SECONDS).passed()).isTrue();
+
+            // Then the pass was reported just once
+            assertThat(passesReported.get()).isEqualTo(1);
+        }
     }
 }
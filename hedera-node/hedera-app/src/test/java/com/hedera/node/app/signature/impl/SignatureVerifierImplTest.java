@@ -26,7 +26,9 @@ import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -35,11 +37,15 @@ import com.hedera.node.app.hapi.utils.MiscCryptoUtils;
 import com.hedera.node.app.signature.ExpandedSignaturePair;
 import com.hedera.node.app.signature.SignatureVerifier;
 import com.hedera.node.app.spi.fixtures.Scenarios;
+import com.hedera.node.app.utils.TestUtils;
+import com.hedera.node.config.VersionedConfigImpl;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.common.crypto.Cryptography;
 import com.swirlds.common.crypto.TransactionSignature;
 import com.swirlds.common.crypto.VerificationStatus;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
@@ -64,9 +70,9 @@ final class SignatureVerifierImplTest extends AppTestBase implements Scenarios {
     /** The Crypto engine. We need this to be mocked, so we can change the behavior of the crypto engine. */
     @Mock
     private Cryptography cryptoEngine;
-    /** Captures the args sent to the crypto engine. */
+    /** Captures the batches sent to the crypto engine. */
     @Captor
-    ArgumentCaptor<TransactionSignature> sigsCaptor;
+    ArgumentCaptor<List<TransactionSignature>> batchCaptor;
     /** The verifier under test. */
     private SignatureVerifierImpl verifier;
 
@@ -125,15 +131,7 @@ final class SignatureVerifierImplTest extends AppTestBase implements Scenarios {
                 ed25519Pair(BOB.keyInfo().publicKey()),
                 hollowPair(ERIN.keyInfo().publicKey(), ERIN.account()));
 
-        //noinspection unchecked
-        doAnswer((Answer<Void>) invocation -> {
-                    final TransactionSignature signature = invocation.getArgument(0);
-                    signature.setSignatureStatus(VerificationStatus.VALID);
-                    signature.setFuture(completedFuture(null));
-                    return null;
-                })
-                .when(cryptoEngine)
-                .verifySync(any(TransactionSignature.class));
+        givenCryptoEngineVerifiesBatchesAs(VerificationStatus.VALID);
 
         // When we verify them
         final var map = verifier.verify(signedBytes, sigs);
@@ -167,9 +165,11 @@ final class SignatureVerifierImplTest extends AppTestBase implements Scenarios {
         // When we verify them
         verifier.verify(signedBytes, sigs, messageType);
 
-        // Then we find the crypto engine was given an array with all the data
-        verify(cryptoEngine, times(3)).verifySync(sigsCaptor.capture());
-        final var txSigs = sigsCaptor.getAllValues();
+        // Then we find the crypto engine was given a single batch, with an array with all the data
+        verify(cryptoEngine).verifyAsync(batchCaptor.capture());
+        verify(cryptoEngine, never()).verifySync(any(TransactionSignature.class));
+        final var txSigs = batchCaptor.getValue();
+        assertThat(txSigs).hasSize(3);
 
         final var itr = sigs.iterator();
         for (int i = 0; i < 3; i++) {
@@ -196,4 +196,123 @@ final class SignatureVerifierImplTest extends AppTestBase implements Scenarios {
                     .isTrue();
         }
     }
+
+    @Test
+    @DisplayName("A lone signature is verified on the calling thread")
+    void loneSignatureIsVerifiedSynchronously() {
+        final var sigs = Set.of(ed25519Pair(BOB.keyInfo().publicKey()));
+        givenCryptoEngineVerifiesAs(VerificationStatus.VALID);
+
+        final var map = verifier.verify(signedBytes, sigs);
+
+        verify(cryptoEngine).verifySync(any(TransactionSignature.class));
+        verify(cryptoEngine, never()).verifyAsync(anyList());
+        assertThat(map.get(BOB.keyInfo().publicKey())).isDone();
+    }
+
+    @Test
+    @DisplayName("Signatures verified as valid are not verified again by a verifier sharing the cache")
+    void validSignaturesAreVerifiedOnce() throws Exception {
+        final var cache = newCache();
+        final var ingestVerifier = new SignatureVerifierImpl(cryptoEngine, cache);
+        final var preHandleVerifier = new SignatureVerifierImpl(cryptoEngine, cache);
+        final var sigs = Set.of(ecdsaPair(ALICE.keyInfo().publicKey()), ed25519Pair(BOB.keyInfo().publicKey()));
+        givenCryptoEngineVerifiesBatchesAs(VerificationStatus.VALID);
+
+        for (final var future : ingestVerifier.verify(signedBytes, sigs).values()) {
+            assertThat(future.get().passed()).isTrue();
+        }
+        final var map = preHandleVerifier.verify(signedBytes, sigs);
+
+        verify(cryptoEngine).verifyAsync(anyList());
+        verify(cryptoEngine, never()).verifySync(any(TransactionSignature.class));
+        assertThat(map).hasSize(2);
+        assertThat(map.get(BOB.keyInfo().publicKey()))
+                .succeedsWithin(1, TimeUnit.SECONDS)
+                .extracting("passed")
+                .isEqualTo(true);
+    }
+
+    @Test
+    @DisplayName("A cached signature is not valid for different signed bytes")
+    void cachedSignaturesAreTiedToSignedBytes() throws Exception {
+        final var subject = new SignatureVerifierImpl(cryptoEngine, newCache());
+        final var sigs = Set.of(ed25519Pair(BOB.keyInfo().publicKey()));
+        givenCryptoEngineVerifiesAs(VerificationStatus.VALID);
+
+        assertThat(subject.verify(signedBytes, sigs)
+                        .get(BOB.keyInfo().publicKey())
+                        .get()
+                        .passed())
+                .isTrue();
+        subject.verify(randomBytes(32), sigs);
+
+        verify(cryptoEngine, times(2)).verifySync(any(TransactionSignature.class));
+    }
+
+    @Test
+    @DisplayName("Invalid signatures are not cached")
+    void invalidSignaturesAreNotCached() throws Exception {
+        final var subject = new SignatureVerifierImpl(cryptoEngine, newCache());
+        final var sigs = Set.of(ed25519Pair(BOB.keyInfo().publicKey()));
+        givenCryptoEngineVerifiesAs(VerificationStatus.INVALID);
+
+        assertThat(subject.verify(signedBytes, sigs)
+                        .get(BOB.keyInfo().publicKey())
+                        .get()
+                        .passed())
+                .isFalse();
+        final var map = subject.verify(signedBytes, sigs);
+
+        verify(cryptoEngine, times(2)).verifySync(any(TransactionSignature.class));
+        assertThat(map.get(BOB.keyInfo().publicKey()))
+                .succeedsWithin(1, TimeUnit.SECONDS)
+                .extracting("passed")
+                .isEqualTo(false);
+    }
+
+    @Test
+    @DisplayName("A verifier without a cache verifies every signature")
+    void verifierWithoutCacheAlwaysVerifies() throws Exception {
+        final var sigs = Set.of(ed25519Pair(BOB.keyInfo().publicKey()));
+        givenCryptoEngineVerifiesAs(VerificationStatus.VALID);
+
+        assertThat(verifier.verify(signedBytes, sigs)
+                        .get(BOB.keyInfo().publicKey())
+                        .get()
+                        .passed())
+                .isTrue();
+        verifier.verify(signedBytes, sigs);
+
+        verify(cryptoEngine, times(2)).verifySync(any(TransactionSignature.class));
+    }
+
+    private static VerifiedSignatureCache newCache() {
+        final var config = HederaTestConfigBuilder.createConfig();
+        return new VerifiedSignatureCache(() -> new VersionedConfigImpl(config, 1), TestUtils.metrics());
+    }
+
+    private void givenCryptoEngineVerifiesAs(final VerificationStatus status) {
+        doAnswer((Answer<Void>) invocation -> {
+                    complete(invocation.getArgument(0), status);
+                    return null;
+                })
+                .when(cryptoEngine)
+                .verifySync(any(TransactionSignature.class));
+    }
+
+    private void givenCryptoEngineVerifiesBatchesAs(final VerificationStatus status) {
+        doAnswer((Answer<Void>) invocation -> {
+                    final List<TransactionSignature> signatures = invocation.getArgument(0);
+                    signatures.forEach(signature -> complete(signature, status));
+                    return null;
+                })
+                .when(cryptoEngine)
+                .verifyAsync(anyList());
+    }
+
+    private static void complete(final TransactionSignature signature, final VerificationStatus status) {
+        signature.setSignatureStatus(status);
+        signature.setFuture(completedFuture(null));
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.signature.impl;
+
+import static com.swirlds.metrics.api.Metric.ValueType.VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.node.app.utils.TestUtils;
+import com.hedera.node.config.VersionedConfigImpl;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.crypto.SignatureType;
+import com.swirlds.metrics.api.Metrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+final class VerifiedSignatureCacheTest {
+    private static final Bytes KEY = Bytes.wrap(TestUtils.randomBytes(32));
+    private static final Bytes OTHER_KEY = Bytes.wrap(TestUtils.randomBytes(32));
+    private static final Bytes SIGNATURE = Bytes.wrap(TestUtils.randomBytes(64));
+    private static final Bytes DIGEST = Bytes.wrap(TestUtils.randomBytes(48));
+    private static final Bytes OTHER_DIGEST = Bytes.wrap(TestUtils.randomBytes(48));
+
+    private final Metrics metrics = TestUtils.metrics();
+
+    private VerifiedSignatureCache subject(final int maxSize) {
+        final var config = HederaTestConfigBuilder.create()
+                .withValue("cache.verifiedSignatures.maxSize", maxSize)
+                .getOrCreateConfig();
+        return new VerifiedSignatureCache(() -> new VersionedConfigImpl(config, 1), metrics);
+    }
+
+    @Test
+    @DisplayName("Only the exact signature marked as verified is known to be verified")
+    void onlyMarkedSignatureIsVerified() {
+        final var subject = subject(100);
+        assertThat(subject.isVerified(SignatureType.ED25519, KEY, SIGNATURE, DIGEST))
+                .isFalse();
+
+        subject.markVerified(SignatureType.ED25519, KEY, SIGNATURE, DIGEST);
+
+        assertThat(subject.isVerified(SignatureType.ED25519, KEY, SIGNATURE, DIGEST))
+                .isTrue();
+        assertThat(subject.isVerified(SignatureType.ECDSA_SECP256K1, KEY, SIGNATURE, DIGEST))
+                .isFalse();
+        assertThat(subject.isVerified(SignatureType.ED25519, OTHER_KEY, SIGNATURE, DIGEST))
+                .isFalse();
+        assertThat(subject.isVerified(SignatureType.ED25519, KEY, SIGNATURE, OTHER_DIGEST))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("Hits and misses are counted")
+    void hitsAndMissesAreCounted() {
+        final var subject = subject(100);
+        subject.isVerified(SignatureType.ED25519, KEY, SIGNATURE, DIGEST);
+        subject.markVerified(SignatureType.ED25519, KEY, SIGNATURE, DIGEST);
+        subject.isVerified(SignatureType.ED25519, KEY, SIGNATURE, DIGEST);
+        subject.isVerified(SignatureType.ED25519, KEY, SIGNATURE, DIGEST);
+
+        assertThat(metrics.getMetric("app", "verifiedSigCacheHits").get(VALUE)).isEqualTo(2L);
+        assertThat(metrics.getMetric("app", "verifiedSigCacheMisses").get(VALUE))
+                .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("A cache with no capacity never holds a signature")
+    void zeroSizeDisablesCache() {
+        final var subject = subject(0);
+        subject.markVerified(SignatureType.ED25519, KEY, SIGNATURE, DIGEST);
+
+        assertThat(subject.isEnabled()).isFalse();
+        assertThat(subject.isVerified(SignatureType.ED25519, KEY, SIGNATURE, DIGEST))
+                .isFalse();
+        assertThat(VerifiedSignatureCache.DISABLED.isEnabled()).isFalse();
+    }
+}
@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.lenient;
 
+import com.hedera.hapi.node.base.AccountID;
 import com.hedera.hapi.node.base.Timestamp;
 import com.hedera.hapi.node.base.TransactionID;
 import com.hedera.node.app.state.DeduplicationCache;
@@ -28,6 +29,8 @@ import com.hedera.node.config.VersionedConfiguration;
 import com.hedera.node.config.data.HederaConfig;
 import java.time.Instant;
 import java.time.InstantSource;
+import java.util.List;
+import java.util.NavigableMap;
 import java.util.Set;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
@@ -46,7 +49,9 @@ final class DeduplicationCacheTest {
     @Mock
     private ConfigProvider props;
 
-    private final InstantSource instantSource = InstantSource.system();
+    private Instant now = Instant.now();
+
+    private final InstantSource instantSource = () -> now;
 
     @BeforeEach
     void setUp(@Mock final VersionedConfiguration versionedConfig, @Mock final HederaConfig hederaConfig) {
@@ -69,7 +74,6 @@ final class DeduplicationCacheTest {
     @DisplayName("Add a transaction ID that has expired")
     void addTransactionIDThatHasExpired() {
         // Given a transaction ID that has expired
-        final var now = Instant.now();
         final var txId = TransactionID.newBuilder()
                 .transactionValidStart(Timestamp.newBuilder()
                         .seconds(now.getEpochSecond() - MAX_TXN_DURATION - 1)
@@ -88,7 +92,6 @@ final class DeduplicationCacheTest {
     @DisplayName("Add a transaction ID that is far in the future")
     void addTransactionIDInTheFuture() {
         // Given a transaction ID that is far in the future
-        final var now = Instant.now();
         final var txId = TransactionID.newBuilder()
                 .transactionValidStart(Timestamp.newBuilder()
                         .seconds(now.getEpochSecond() + MAX_TXN_DURATION + 1)
@@ -108,7 +111,6 @@ final class DeduplicationCacheTest {
     @DisplayName("Add a transaction ID that is in the right time window")
     void addTransactionIDInTheRightTimeWindow() {
         // Given a transaction ID that is in the right time window
-        final var now = Instant.now();
         final var txId = TransactionID.newBuilder()
                 .transactionValidStart(Timestamp.newBuilder()
                         .seconds(now.getEpochSecond() + MAX_TXN_DURATION / 2)
@@ -127,7 +129,6 @@ final class DeduplicationCacheTest {
     @DisplayName("TransactionIDs are sorted by earliest date first")
     void transactionIDsAreSortedByEarliestDateFirst() {
         // Given some transaction IDs with different valid start times
-        final var now = Instant.now();
         final var txIds = Stream.of(17, 16, 10, 13, 19, 14, 11, 18, 12, 15)
                 .map(i -> TransactionID.newBuilder()
                         .transactionValidStart(Timestamp.newBuilder()
@@ -158,13 +159,13 @@ final class DeduplicationCacheTest {
     @DisplayName("TransactionIDs that expire are removed during add")
     void expungeDuringAdd() {
         // Given a transaction ID that has expired but is still in the cache
-        final var now = Instant.now();
         final var txId = TransactionID.newBuilder()
                 .transactionValidStart(Timestamp.newBuilder()
-                        .seconds(now.getEpochSecond() - MAX_TXN_DURATION - 1)
+                        .seconds(now.getEpochSecond() - 1)
                         .build())
                 .build();
-        internalSet().add(txId);
+        cache.add(txId);
+        now = now.plusSeconds(MAX_TXN_DURATION + 1);
 
         // When we add a new transaction ID that is in the right time window
         final var txId2 = TransactionID.newBuilder()
@@ -182,13 +183,13 @@ final class DeduplicationCacheTest {
     @DisplayName("TransactionIDs that expire are not returned by `contains`")
     void expiredNotContained() {
         // Given a transaction ID that has expired but is still in the cache
-        final var now = Instant.now();
         final var txId = TransactionID.newBuilder()
                 .transactionValidStart(Timestamp.newBuilder()
-                        .seconds(now.getEpochSecond() - MAX_TXN_DURATION - 1)
+                        .seconds(now.getEpochSecond() - 1)
                         .build())
                 .build();
-        internalSet().add(txId);
+        cache.add(txId);
+        now = now.plusSeconds(MAX_TXN_DURATION + 1);
 
         // When we check to see if it is in the cache
         final var result = cache.contains(txId);
@@ -198,11 +199,33 @@ final class DeduplicationCacheTest {
         assertThat(internalSet()).isEmpty();
     }
 
+    @Test
+    @DisplayName("TransactionIDs with the same valid start second share a bucket")
+    void sameSecondSharesBucket() {
+        // Given two transaction IDs from different payers that are valid from the same second
+        final var validStart =
+                Timestamp.newBuilder().seconds(now.getEpochSecond()).build();
+        final var txId = TransactionID.newBuilder()
+                .transactionValidStart(validStart)
+                .accountID(AccountID.newBuilder().accountNum(1001L).build())
+                .build();
+        final var otherTxId = txId.copyBuilder()
+                .accountID(AccountID.newBuilder().accountNum(1002L).build())
+                .build();
+
+        // When only the first is added to the cache
+        cache.add(txId);
+
+        // Then only the first is contained, in the bucket for its second
+        assertThat(cache.contains(txId)).isTrue();
+        assertThat(cache.contains(otherTxId)).isFalse();
+        assertThat(internalBuckets()).containsOnlyKeys(now.getEpochSecond());
+    }
+
     @Test
     @DisplayName("Duplicates are ignored")
     void duplicatesAreIgnored() {
         // Given a transaction ID that is in the right time window
-        final var now = Instant.now();
         final var txId = TransactionID.newBuilder()
                 .transactionValidStart(Timestamp.newBuilder()
                         .seconds(now.getEpochSecond() + MAX_TXN_DURATION / 2)
@@ -219,19 +242,28 @@ final class DeduplicationCacheTest {
     }
 
     /**
-     * Utility method for testing purposes that gets at the internal Set used by the cache. This makes it possible to
-     * test more completely without having to open the access permissions on the cache itself.
+     * Utility method for testing purposes that gets at the internal buckets used by the cache. This makes it possible
+     * to test more completely without having to open the access permissions on the cache itself.
      *
-     * @return The internal Set of the cache.
+     * @return The internal buckets of the cache.
      */
-    private Set<TransactionID> internalSet() {
+    private NavigableMap<Long, Set<TransactionID>> internalBuckets() {
         try {
             final var field = DeduplicationCacheImpl.class.getDeclaredField("submittedTxns");
             field.setAccessible(true);
             //noinspection unchecked
-            return (Set<TransactionID>) field.get(cache);
+            return (NavigableMap<Long, Set<TransactionID>>) field.get(cache);
         } catch (NoSuchFieldException | IllegalAccessException e) {
             throw new RuntimeException(e);
         }
     }
+
+    /**
+     * Gets all transaction IDs in the cache, in the order of their buckets.
+     *
+     * @return The transaction IDs in the cache.
+     */
+    private List<TransactionID> internalSet() {
+        return internalBuckets().values().stream().flatMap(Set::stream).toList();
+    }
 }
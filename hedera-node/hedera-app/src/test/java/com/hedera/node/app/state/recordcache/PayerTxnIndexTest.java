@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.state.recordcache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.Timestamp;
+import com.hedera.hapi.node.base.TransactionID;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+final class PayerTxnIndexTest {
+    private static final AccountID PAYER_A = AccountID.newBuilder().accountNum(1001).build();
+    private static final AccountID PAYER_B = AccountID.newBuilder().accountNum(1002).build();
+
+    private PayerTxnIndex subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new PayerTxnIndex();
+    }
+
+    @Test
+    @DisplayName("Chains are walked newest first and only include the payer's own entries")
+    void chainsAreWalkedNewestFirst() {
+        subject.add(PAYER_A, txnId(PAYER_A, 1));
+        subject.add(PAYER_B, txnId(PAYER_B, 2));
+        subject.add(PAYER_A, txnId(PAYER_A, 3));
+
+        assertThat(txnIdsOf(PAYER_A)).containsExactly(txnId(PAYER_A, 3), txnId(PAYER_A, 1));
+        assertThat(txnIdsOf(PAYER_B)).containsExactly(txnId(PAYER_B, 2));
+    }
+
+    @Test
+    @DisplayName("Walk stops as soon as the action returns false")
+    void walkStopsWhenActionReturnsFalse() {
+        for (int i = 0; i < 5; i++) {
+            subject.add(PAYER_A, txnId(PAYER_A, i));
+        }
+        final List<TransactionID> visited = new ArrayList<>();
+
+        subject.forEachTxnId(PAYER_A, txnId -> visited.add(txnId) && visited.size() < 2);
+
+        assertThat(visited).containsExactly(txnId(PAYER_A, 4), txnId(PAYER_A, 3));
+    }
+
+    @Test
+    @DisplayName("Expiring the oldest entries truncates chains and drops exhausted ones")
+    void expiringOldestEntriesTruncatesChains() {
+        subject.add(PAYER_A, txnId(PAYER_A, 1));
+        subject.add(PAYER_B, txnId(PAYER_B, 2));
+        subject.add(PAYER_A, txnId(PAYER_A, 3));
+
+        subject.expireOldest(2);
+
+        assertThat(subject.size()).isEqualTo(1);
+        assertThat(txnIdsOf(PAYER_A)).containsExactly(txnId(PAYER_A, 3));
+        assertThat(txnIdsOf(PAYER_B)).isEmpty();
+
+        subject.expireOldest(5);
+
+        assertThat(subject.size()).isZero();
+        assertThat(txnIdsOf(PAYER_A)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Growing the arena preserves every unexpired chain")
+    void growingPreservesChains() {
+        final int n = 10_000;
+        for (int i = 0; i < n; i++) {
+            final var payerId = i % 2 == 0 ? PAYER_A : PAYER_B;
+            subject.add(payerId, txnId(payerId, i));
+            // Keep the arena wrapping around while it grows
+            if (i % 3 == 2) {
+                subject.expireOldest(1);
+            }
+        }
+
+        final var expectedA = new ArrayList<TransactionID>();
+        for (int i = n - 1; i >= n / 3; i--) {
+            if (i % 2 == 0) {
+                expectedA.add(txnId(PAYER_A, i));
+            }
+        }
+        assertThat(subject.size()).isEqualTo(n - n / 3);
+        assertThat(txnIdsOf(PAYER_A)).containsExactlyElementsOf(expectedA);
+    }
+
+    private List<TransactionID> txnIdsOf(final AccountID payerId) {
+        final List<TransactionID> txnIds = new ArrayList<>();
+        subject.forEachTxnId(payerId, txnIds::add);
+        return txnIds;
+    }
+
+    private static TransactionID txnId(final AccountID payerId, final int seconds) {
+        return TransactionID.newBuilder()
+                .accountID(payerId)
+                .transactionValidStart(Timestamp.newBuilder().seconds(seconds).build())
+                .build();
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright (C) 2023-2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.throttle;
+
+import static com.hedera.hapi.node.base.HederaFunctionality.CONSENSUS_SUBMIT_MESSAGE;
+import static com.hedera.hapi.node.base.HederaFunctionality.CONTRACT_CALL;
+import static com.hedera.node.app.throttle.ThrottleAccumulator.ThrottleType.FRONTEND_THROTTLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.HederaFunctionality;
+import com.hedera.hapi.node.base.SignatureMap;
+import com.hedera.hapi.node.base.Transaction;
+import com.hedera.hapi.node.base.TransactionID;
+import com.hedera.hapi.node.transaction.Query;
+import com.hedera.hapi.node.transaction.ThrottleBucket;
+import com.hedera.hapi.node.transaction.ThrottleDefinitions;
+import com.hedera.hapi.node.transaction.ThrottleGroup;
+import com.hedera.hapi.node.transaction.TransactionBody;
+import com.hedera.node.app.hapi.utils.throttles.BucketThrottle;
+import com.hedera.node.app.throttle.ThrottleAccumulator.Verbose;
+import com.hedera.node.app.workflows.TransactionInfo;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.state.State;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StripedThrottleAccumulatorTest {
+    private static final int TPS = 1_000;
+    private static final Instant NOW = Instant.ofEpochSecond(1_234_567L, 890);
+    private static final AccountID PAYER_ID =
+            AccountID.newBuilder().accountNum(1_234L).build();
+    private static final AccountID EXEMPT_PAYER_ID =
+            AccountID.newBuilder().accountNum(2L).build();
+
+    @Mock
+    private ThrottleAccumulator throttleAccumulator;
+
+    @Mock
+    private TransactionInfo transactionInfo;
+
+    @Mock
+    private State state;
+
+    private final InstantSource instantSource = InstantSource.system();
+
+    StripedThrottleAccumulator subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new StripedThrottleAccumulator(instantSource, throttleAccumulator);
+    }
+
+    @Test
+    void verifyCheckAndEnforceThrottleIsCalled() {
+        // given
+        given(transactionInfo.functionality()).willReturn(CONTRACT_CALL);
+
+        // when
+        subject.shouldThrottle(transactionInfo, state);
+
+        // then
+        verify(throttleAccumulator, times(1)).checkAndEnforceThrottle(eq(transactionInfo), any(), eq(state));
+    }
+
+    @Test
+    void verifyCheckAndEnforceThrottleQueryIsCalled() {
+        // given
+        final var query = mock(Query.class);
+        final var accountID = mock(AccountID.class);
+
+        // when
+        subject.shouldThrottle(HederaFunctionality.CONTRACT_CREATE, query, state, accountID);
+
+        // then
+        verify(throttleAccumulator, times(1))
+                .checkAndEnforceThrottle(
+                        eq(HederaFunctionality.CONTRACT_CREATE), any(), eq(query), eq(state), eq(accountID));
+    }
+
+    @Test
+    void leasedAdmissionsMatchBucketCapacity() {
+        // given
+        final var frontendThrottle = frontendThrottle();
+        subject = new StripedThrottleAccumulator(InstantSource.fixed(NOW), frontendThrottle, 1, 1_000_000L);
+
+        // when
+        int admitted = 0;
+        for (int i = 0; i < 2 * TPS; i++) {
+            if (!subject.shouldThrottle(submitMessage(PAYER_ID), state)) {
+                admitted++;
+            }
+        }
+
+        // then
+        assertEquals(TPS, admitted);
+    }
+
+    @Test
+    void concurrentAdmissionsStayWithinTolerance() throws Exception {
+        // given
+        final int numStripes = 4;
+        final int numThreads = 8;
+        final var frontendThrottle = frontendThrottle();
+        subject = new StripedThrottleAccumulator(InstantSource.fixed(NOW), frontendThrottle, numStripes, 1_000_000L);
+        final ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+        final List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < numThreads; i++) {
+            tasks.add(() -> {
+                int admitted = 0;
+                for (int j = 0; j < TPS; j++) {
+                    if (!subject.shouldThrottle(submitMessage(PAYER_ID), state)) {
+                        admitted++;
+                    }
+                }
+                return admitted;
+            });
+        }
+
+        // when
+        int admitted = 0;
+        try {
+            for (final Future<Integer> future : executor.invokeAll(tasks)) {
+                admitted += future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertThat(admitted)
+                .isLessThanOrEqualTo(TPS)
+                .isGreaterThanOrEqualTo(TPS - TPS / StripedThrottleAccumulator.LEASED_CAPACITY_DIVISOR);
+    }
+
+    @Test
+    void exemptPayersDoNotUseCapacity() {
+        // given
+        final var frontendThrottle = frontendThrottle();
+        subject = new StripedThrottleAccumulator(InstantSource.fixed(NOW), frontendThrottle, 1, 1_000_000L);
+
+        // when
+        for (int i = 0; i < 2 * TPS; i++) {
+            assertFalse(subject.shouldThrottle(submitMessage(EXEMPT_PAYER_ID), state));
+        }
+
+        // then
+        assertEquals(0, usedTxnsOf(frontendThrottle));
+    }
+
+    @Test
+    void unusedCapacityOfExpiredLeasesIsReturned() {
+        // given
+        final var now = new AtomicReference<>(NOW);
+        final var frontendThrottle = frontendThrottle();
+        subject = new StripedThrottleAccumulator(now::get, frontendThrottle, 1, 1_000_000L);
+        final long leaseSize = StripedThrottleAccumulator.MAX_LEASE_SIZE;
+
+        // when
+        assertFalse(subject.shouldThrottle(submitMessage(PAYER_ID), state));
+        final long usedWithOneLease = usedTxnsOf(frontendThrottle);
+        // a 2ms wait both expires the lease and leaks two transactions from the bucket
+        now.set(NOW.plusMillis(2));
+        assertFalse(subject.shouldThrottle(submitMessage(PAYER_ID), state));
+
+        // then
+        assertEquals(leaseSize, usedWithOneLease);
+        assertEquals(leaseSize, usedTxnsOf(frontendThrottle));
+    }
+
+    @Test
+    void leasesAreRevokedWhenThrottlesAreRebuilt() {
+        // given
+        final var frontendThrottle = frontendThrottle();
+        subject = new StripedThrottleAccumulator(InstantSource.fixed(NOW), frontendThrottle, 1, 1_000_000L);
+        assertFalse(subject.shouldThrottle(submitMessage(PAYER_ID), state));
+
+        // when
+        frontendThrottle.rebuildFor(throttleDefinitions());
+        assertEquals(0, usedTxnsOf(frontendThrottle));
+        assertFalse(subject.shouldThrottle(submitMessage(PAYER_ID), state));
+
+        // then
+        assertEquals(StripedThrottleAccumulator.MAX_LEASE_SIZE, usedTxnsOf(frontendThrottle));
+    }
+
+    private static long usedTxnsOf(final ThrottleAccumulator frontendThrottle) {
+        return frontendThrottle.activeThrottlesFor(CONSENSUS_SUBMIT_MESSAGE).get(0).used()
+                / BucketThrottle.capacityUnitsPerTxn();
+    }
+
+    private static ThrottleAccumulator frontendThrottle() {
+        final Configuration config = HederaTestConfigBuilder.create().getOrCreateConfig();
+        final var frontendThrottle =
+                new ThrottleAccumulator(() -> 1, () -> config, FRONTEND_THROTTLE, null, Verbose.NO);
+        frontendThrottle.applyGasConfig();
+        frontendThrottle.rebuildFor(throttleDefinitions());
+        return frontendThrottle;
+    }
+
+    private static ThrottleDefinitions throttleDefinitions() {
+        return ThrottleDefinitions.newBuilder()
+                .throttleBuckets(ThrottleBucket.newBuilder()
+                        .name("SubmitMessages")
+                        .burstPeriodMs(1_000L)
+                        .throttleGroups(ThrottleGroup.newBuilder()
+                                .milliOpsPerSec(TPS * 1_000L)
+                                .operations(CONSENSUS_SUBMIT_MESSAGE)
+                                .build())
+                        .build())
+                .build();
+    }
+
+    private static TransactionInfo submitMessage(final AccountID payerId) {
+        return new TransactionInfo(
+                Transaction.DEFAULT,
+                TransactionBody.DEFAULT,
+                TransactionID.DEFAULT,
+                payerId,
+                SignatureMap.DEFAULT,
+                Bytes.EMPTY,
+                CONSENSUS_SUBMIT_MESSAGE,
+                null);
+    }
+}
@@ -44,11 +44,13 @@ import com.hedera.node.app.state.HederaRecordCache;
 import com.hedera.node.app.throttle.ThrottleServiceManager;
 import com.hedera.node.app.tss.TssBaseService;
 import com.hedera.node.app.workflows.OpWorkflowMetrics;
-import com.hedera.node.app.workflows.handle.cache.CacheWarmer;
+import com.hedera.node.app.workflows.handle.cache.RoundPrefetcher;
+import com.hedera.node.app.workflows.handle.metric.ParallelismMetrics;
 import com.hedera.node.app.workflows.handle.record.SystemSetup;
 import com.hedera.node.app.workflows.handle.steps.HollowAccountCompletions;
 import com.hedera.node.app.workflows.handle.steps.StakePeriodChanges;
 import com.hedera.node.app.workflows.handle.steps.UserTxnFactory;
+import com.hedera.node.app.workflows.query.QueryResultCache;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.VersionedConfigImpl;
 import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
@@ -98,7 +100,7 @@ class HandleWorkflowTest {
     private BlockStreamManager blockStreamManager;
 
     @Mock
-    private CacheWarmer cacheWarmer;
+    private RoundPrefetcher roundPrefetcher;
 
     @Mock
     private ScheduleService scheduleService;
@@ -112,6 +114,12 @@ class HandleWorkflowTest {
     @Mock
     private OpWorkflowMetrics opWorkflowMetrics;
 
+    @Mock
+    private ParallelismMetrics parallelismMetrics;
+
+    @Mock
+    private QueryResultCache queryResultCache;
+
     @Mock
     private ThrottleServiceManager throttleServiceManager;
 
@@ -176,6 +184,7 @@ class HandleWorkflowTest {
         verify(eventFromPresentCreator).consensusTransactionIterator();
         verify(recordCache).resetRoundReceipts();
         verify(recordCache).commitRoundReceipts(any(), any());
+        verify(queryResultCache).invalidateAll();
     }
 
     @Test
@@ -210,8 +219,10 @@ class HandleWorkflowTest {
                 storeMetricsService,
                 blockRecordManager,
                 blockStreamManager,
-                cacheWarmer,
+                roundPrefetcher,
                 opWorkflowMetrics,
+                parallelismMetrics,
+                queryResultCache,
                 throttleServiceManager,
                 version,
                 initTrigger,
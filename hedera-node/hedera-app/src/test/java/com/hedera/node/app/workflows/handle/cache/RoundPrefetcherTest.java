@@ -0,0 +1,244 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.handle.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.Offset.offset;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willCallRealMethod;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.HederaFunctionality;
+import com.hedera.hapi.node.base.SignatureMap;
+import com.hedera.hapi.node.base.Transaction;
+import com.hedera.hapi.node.base.TransactionID;
+import com.hedera.hapi.node.state.token.Account;
+import com.hedera.hapi.node.transaction.TransactionBody;
+import com.hedera.hapi.platform.event.EventTransaction;
+import com.hedera.node.app.service.token.ReadableAccountStore;
+import com.hedera.node.app.service.token.TokenService;
+import com.hedera.node.app.spi.workflows.WarmupContext;
+import com.hedera.node.app.utils.TestUtils;
+import com.hedera.node.app.workflows.TransactionChecker;
+import com.hedera.node.app.workflows.TransactionInfo;
+import com.hedera.node.app.workflows.dispatcher.TransactionDispatcher;
+import com.hedera.node.app.workflows.handle.stack.ReadWriteSet;
+import com.hedera.node.config.VersionedConfigImpl;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.Metrics;
+import com.swirlds.platform.system.Round;
+import com.swirlds.platform.system.events.ConsensusEvent;
+import com.swirlds.platform.system.transaction.TransactionWrapper;
+import com.swirlds.state.State;
+import com.swirlds.state.test.fixtures.MapReadableKVState;
+import com.swirlds.state.test.fixtures.MapReadableStates;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RoundPrefetcherTest {
+    private static final AccountID ALICE = AccountID.newBuilder().accountNum(1001L).build();
+    private static final AccountID BOB = AccountID.newBuilder().accountNum(1002L).build();
+    private static final AccountID CAROL = AccountID.newBuilder().accountNum(1003L).build();
+
+    @Mock
+    private TransactionChecker checker;
+
+    @Mock
+    private TransactionDispatcher dispatcher;
+
+    @Mock
+    private State state;
+
+    @Mock
+    private Round round;
+
+    @Mock
+    private ConsensusEvent firstEvent;
+
+    @Mock
+    private ConsensusEvent secondEvent;
+
+    private final List<AccountID> warmedAccounts = new ArrayList<>();
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final Executor executor = task -> {
+        tasks.add(task);
+        task.run();
+    };
+    private Metrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        metrics = TestUtils.metrics();
+        final var accounts = new MapReadableKVState<AccountID, Account>("ACCOUNTS", new HashMap<>()) {
+            @Override
+            public void warm(@NonNull final AccountID key) {
+                warmedAccounts.add(key);
+            }
+        };
+        final var aliases = new MapReadableKVState<>("ALIASES", new HashMap<>());
+        given(state.getReadableStates(TokenService.NAME))
+                .willReturn(MapReadableStates.builder()
+                        .state(accounts)
+                        .state(aliases)
+                        .build());
+    }
+
+    @Test
+    void warmsEachPayerOnceInBatchesPerEvent() throws Exception {
+        givenRoundWithPayers(List.of(ALICE, BOB), List.of(ALICE));
+        final var subject = subjectWith(Map.of("cache.prefetch.batchSize", "1"));
+
+        subject.prefetch(state, round);
+
+        assertThat(warmedAccounts).containsExactlyInAnyOrder(ALICE, BOB);
+        // One task to iterate the round, one per event, and one per batch of new keys
+        assertThat(tasks).hasSize(1 + 2 + 2);
+    }
+
+    @Test
+    void measuresFractionOfHandledReadsThatWerePrefetched() throws Exception {
+        givenRoundWithPayers(List.of(ALICE), List.of());
+        final var subject = subjectWith(Map.of("cache.prefetch.measureHits", "true"));
+        assertThat(subject.isMeasuringHits()).isTrue();
+
+        subject.prefetch(state, round);
+        final var readWriteSet = new ReadWriteSet();
+        readWriteSet.recordRead(TokenService.NAME, "ACCOUNTS", ALICE);
+        readWriteSet.recordRead(TokenService.NAME, "ACCOUNTS", CAROL);
+        readWriteSet.recordRead(TokenService.NAME, "STAKING_NETWORK_REWARDS", null);
+        subject.recordHandled(readWriteSet);
+        subject.endRound();
+
+        assertThat(((Counter) metrics.getMetric("app", "prefetchWarmHits")).get())
+                .isEqualTo(1L);
+        assertThat(((Counter) metrics.getMetric("app", "prefetchWarmMisses")).get())
+                .isEqualTo(1L);
+        assertThat(((RunningAverageMetric) metrics.getMetric("app", "prefetchWarmHitPct")).get())
+                .isCloseTo(50.0, offset(1e-6));
+    }
+
+    @Test
+    void doesNotWarmKeysAlreadyReadWhileCollecting() throws Exception {
+        givenRoundWithPayers(List.of(ALICE), List.of());
+        // The handler reads BOB to discover further keys, and then asks to warm him as well
+        willAnswer(invocation -> {
+                    final WarmupContext context = invocation.getArgument(0);
+                    final var accountStore = context.createStore(ReadableAccountStore.class);
+                    accountStore.getAccountById(BOB);
+                    accountStore.warm(BOB);
+                    return null;
+                })
+                .given(dispatcher)
+                .dispatchWarmup(any());
+        final var subject = subjectWith(Map.of("cache.prefetch.measureHits", "true"));
+
+        subject.prefetch(state, round);
+        final var readWriteSet = new ReadWriteSet();
+        readWriteSet.recordRead(TokenService.NAME, "ACCOUNTS", BOB);
+        subject.recordHandled(readWriteSet);
+
+        assertThat(warmedAccounts).containsExactly(ALICE);
+        assertThat(((Counter) metrics.getMetric("app", "prefetchWarmHits")).get())
+                .isEqualTo(1L);
+    }
+
+    @Test
+    void countsOnlyKeysWarmedBeforeTheyAreRead() throws Exception {
+        givenRoundWithPayers(List.of(ALICE), List.of());
+        // Run the task iterating the round and the first event's task collecting keys, but not its batch
+        final Executor collectOnly = task -> {
+            tasks.add(task);
+            if (tasks.size() <= 2) {
+                task.run();
+            }
+        };
+        final var subject = subjectWith(Map.of("cache.prefetch.measureHits", "true"), collectOnly);
+
+        subject.prefetch(state, round);
+        final var readWriteSet = new ReadWriteSet();
+        readWriteSet.recordRead(TokenService.NAME, "ACCOUNTS", ALICE);
+        subject.recordHandled(readWriteSet);
+
+        assertThat(warmedAccounts).isEmpty();
+        assertThat(((Counter) metrics.getMetric("app", "prefetchWarmHits")).get())
+                .isZero();
+        assertThat(((Counter) metrics.getMetric("app", "prefetchWarmMisses")).get())
+                .isEqualTo(1L);
+    }
+
+    private RoundPrefetcher subjectWith(@NonNull final Map<String, String> overrides) {
+        return subjectWith(overrides, executor);
+    }
+
+    private RoundPrefetcher subjectWith(
+            @NonNull final Map<String, String> overrides, @NonNull final Executor executor) {
+        final var builder = HederaTestConfigBuilder.create();
+        overrides.forEach(builder::withValue);
+        final var config = builder.getOrCreateConfig();
+        return new RoundPrefetcher(checker, dispatcher, executor, () -> new VersionedConfigImpl(config, 1), metrics);
+    }
+
+    private void givenRoundWithPayers(
+            @NonNull final List<AccountID> firstPayers, @NonNull final List<AccountID> secondPayers)
+            throws Exception {
+        given(round.iterator()).willReturn(List.of(firstEvent, secondEvent).iterator());
+        givenEventWithPayers(firstEvent, firstPayers, 0);
+        givenEventWithPayers(secondEvent, secondPayers, firstPayers.size());
+    }
+
+    private void givenEventWithPayers(
+            @NonNull final ConsensusEvent event, @NonNull final List<AccountID> payers, final int firstNonce)
+            throws Exception {
+        final List<com.swirlds.platform.system.transaction.Transaction> platformTxns = new ArrayList<>();
+        for (int i = 0; i < payers.size(); i++) {
+            final var serialized = Bytes.wrap(new byte[] {(byte) (firstNonce + i)});
+            platformTxns.add(new TransactionWrapper(
+                    EventTransaction.newBuilder().applicationTransaction(serialized).build()));
+            given(checker.parseAndCheck(serialized)).willReturn(txInfoWithPayer(payers.get(i)));
+        }
+        given(event.transactionIterator()).willReturn(platformTxns.iterator());
+        willCallRealMethod().given(event).forEachTransaction(any());
+    }
+
+    private static TransactionInfo txInfoWithPayer(@NonNull final AccountID payer) {
+        final var body = TransactionBody.newBuilder()
+                .transactionID(TransactionID.newBuilder().accountID(payer))
+                .build();
+        return new TransactionInfo(
+                Transaction.DEFAULT,
+                body,
+                SignatureMap.DEFAULT,
+                Bytes.EMPTY,
+                HederaFunctionality.CRYPTO_TRANSFER,
+                null);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.handle.metric;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.Offset.offset;
+
+import com.hedera.node.app.utils.TestUtils;
+import com.hedera.node.app.workflows.handle.stack.ReadWriteSet;
+import com.hedera.node.config.VersionedConfigImpl;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.metrics.api.Metrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ParallelismMetricsTest {
+    private static final String SERVICE = "TokenService";
+    private static final String STATE = "ACCOUNTS";
+
+    private Metrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        metrics = TestUtils.metrics();
+    }
+
+    @Test
+    void doesNotTrackUnlessEnabled() {
+        final var config = HederaTestConfigBuilder.createConfig();
+        final var subject = new ParallelismMetrics(metrics, () -> new VersionedConfigImpl(config, 1));
+
+        assertThat(subject.isEnabled()).isFalse();
+    }
+
+    @Test
+    void measuresConflictsAndCriticalPathOfRound() {
+        final var config = HederaTestConfigBuilder.create()
+                .withValue("stats.conflictTracking.enabled", true)
+                .getOrCreateConfig();
+        final var subject = new ParallelismMetrics(metrics, () -> new VersionedConfigImpl(config, 1));
+        assertThat(subject.isEnabled()).isTrue();
+
+        // Two independent transactions, then one reading both their writes, then one scanning the whole state
+        final var first = new ReadWriteSet();
+        first.recordRead(SERVICE, STATE, 1L);
+        first.recordWrite(SERVICE, STATE, 1L);
+        subject.endTransaction(first);
+        final var second = new ReadWriteSet();
+        second.recordRead(SERVICE, STATE, 2L);
+        second.recordWrite(SERVICE, STATE, 2L);
+        subject.endTransaction(second);
+        final var third = new ReadWriteSet();
+        third.recordRead(SERVICE, STATE, 1L);
+        third.recordRead(SERVICE, STATE, 2L);
+        third.recordWrite(SERVICE, STATE, 3L);
+        subject.endTransaction(third);
+        final var fourth = new ReadWriteSet();
+        fourth.recordRead(SERVICE, STATE, null);
+        subject.endTransaction(fourth);
+        subject.endRound();
+
+        assertThat(metricValue("handleConflictingTxnsPct")).isCloseTo(50.0, offset(1e-6));
+        assertThat(metricValue("handleMaxParallelism")).isCloseTo(4.0 / 3, offset(1e-6));
+    }
+
+    @Test
+    void emptyRoundsDoNotUpdateMetrics() {
+        final var config = HederaTestConfigBuilder.createConfig();
+        final var subject = new ParallelismMetrics(metrics, () -> new VersionedConfigImpl(config, 1));
+
+        subject.endRound();
+
+        assertThat(metricValue("handleMaxParallelism")).isZero();
+    }
+
+    private double metricValue(final String name) {
+        return ((RunningAverageMetric) metrics.getMetric("app", name)).get();
+    }
+}
@@ -16,19 +16,154 @@
 
 package com.hedera.node.app.workflows.handle.record.impl.producers;
 
+import static com.hedera.node.app.records.RecordTestData.STARTING_RUNNING_HASH_OBJ;
+import static com.hedera.node.app.records.RecordTestData.TEST_BLOCKS;
 import static com.hedera.node.app.records.RecordTestData.VERSION;
+import static com.hedera.node.app.utils.TestUtils.metrics;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import com.hedera.hapi.node.base.SemanticVersion;
+import com.hedera.hapi.node.state.blockrecords.RunningHashes;
+import com.hedera.hapi.streams.HashObject;
 import com.hedera.node.app.records.impl.BlockRecordStreamProducer;
+import com.hedera.node.app.records.impl.producers.BlockRecordWriter;
 import com.hedera.node.app.records.impl.producers.BlockRecordWriterFactory;
+import com.hedera.node.app.records.impl.producers.SerializedSingleTransactionRecord;
 import com.hedera.node.app.records.impl.producers.StreamFileProducerConcurrent;
 import com.hedera.node.app.records.impl.producers.formats.v6.BlockRecordFormatV6;
+import com.hedera.node.config.VersionedConfigImpl;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 
 final class StreamFileProducerConcurrentTest extends StreamFileProducerTest {
     @Override
     BlockRecordStreamProducer createStreamProducer(@NonNull final BlockRecordWriterFactory factory) {
         return new StreamFileProducerConcurrent(
-                BlockRecordFormatV6.INSTANCE, factory, ForkJoinPool.commonPool(), VERSION);
+                BlockRecordFormatV6.INSTANCE,
+                factory,
+                ForkJoinPool.commonPool(),
+                VERSION,
+                () -> new VersionedConfigImpl(DEFAULT_CONFIG, 1),
+                metrics());
+    }
+
+    @Test
+    @DisplayName("The handle thread waits, without holding the lock, once too many batches are pending")
+    void waitsForOldestBatchOnceTooManyArePending() throws Exception {
+        final var config = HederaTestConfigBuilder.create()
+                .withValue("hedera.recordStream.maxPendingRecordBatches", 1)
+                .getOrCreateConfig();
+        final var release = new CountDownLatch(1);
+        final var executor = Executors.newFixedThreadPool(4);
+        final var handleThread = Executors.newSingleThreadExecutor();
+        try {
+            final var subject = new StreamFileProducerConcurrent(
+                    BlockRecordFormatV6.INSTANCE,
+                    () -> new BlockingWriter(release),
+                    executor,
+                    VERSION,
+                    () -> new VersionedConfigImpl(config, 1),
+                    metrics());
+            subject.initRunningHash(new RunningHashes(STARTING_RUNNING_HASH_OBJ.hash(), null, null, null));
+            subject.switchBlocks(0, 1, Instant.now());
+            final var records = TEST_BLOCKS.get(0);
+
+            // The first batch fits in the pipeline, even though its write is blocked
+            subject.writeRecordStreamItems(Stream.of(records.get(0)));
+            // The second batch is one too many, so the handle thread waits for the first
+            final var secondWrite =
+                    handleThread.submit(() -> subject.writeRecordStreamItems(Stream.of(records.get(1))));
+            TimeUnit.MILLISECONDS.sleep(100);
+            assertThat(secondWrite).isNotDone();
+            // But it does not hold the lock while waiting, so other calls are not blocked behind it
+            final var runningHashes = new RunningHashes(STARTING_RUNNING_HASH_OBJ.hash(), null, null, null);
+            assertThatThrownBy(() -> subject.initRunningHash(runningHashes)).isInstanceOf(IllegalStateException.class);
+
+            release.countDown();
+            secondWrite.get(10, TimeUnit.SECONDS);
+            subject.close();
+        } finally {
+            handleThread.shutdownNow();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("The latency of each pipeline stage is tracked")
+    void tracksLatencyOfEachStage() {
+        final var metrics = mock(Metrics.class);
+        final Map<String, RunningAverageMetric> stageMetrics = new HashMap<>();
+        when(metrics.getOrCreate(any(RunningAverageMetric.Config.class))).thenAnswer(invocation -> {
+            final var metric = mock(RunningAverageMetric.class);
+            stageMetrics.put(invocation.<RunningAverageMetric.Config>getArgument(0).getName(), metric);
+            return metric;
+        });
+        final var subject = new StreamFileProducerConcurrent(
+                BlockRecordFormatV6.INSTANCE,
+                () -> new BlockingWriter(new CountDownLatch(0)),
+                ForkJoinPool.commonPool(),
+                VERSION,
+                () -> new VersionedConfigImpl(DEFAULT_CONFIG, 1),
+                metrics);
+        subject.initRunningHash(new RunningHashes(STARTING_RUNNING_HASH_OBJ.hash(), null, null, null));
+        subject.switchBlocks(0, 1, Instant.now());
+
+        subject.writeRecordStreamItems(Stream.of(TEST_BLOCKS.get(0).get(0)));
+        subject.close();
+
+        assertThat(stageMetrics)
+                .containsOnlyKeys("recordStreamSerializeMicros", "recordStreamHashMicros", "recordStreamWriteMicros");
+        stageMetrics.values().forEach(metric -> verify(metric, atLeastOnce()).update(anyDouble()));
+    }
+
+    /** A writer whose writes wait for the given latch. */
+    private static final class BlockingWriter implements BlockRecordWriter {
+        private final CountDownLatch release;
+
+        private BlockingWriter(@NonNull final CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void init(
+                @NonNull final SemanticVersion hapiProtoVersion,
+                @NonNull final HashObject startRunningHash,
+                @NonNull final Instant startConsensusTime,
+                final long blockNumber) {
+            // Nothing to initialize
+        }
+
+        @Override
+        public void writeItem(@NonNull final SerializedSingleTransactionRecord item) {
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void close(@NonNull final HashObject endRunningHash) {
+            // Nothing to close
+        }
     }
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.handle.stack;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ReadWriteSetTest {
+    private static final String SERVICE = "TokenService";
+    private static final String STATE = "ACCOUNTS";
+
+    @Test
+    void wholeStateOfKeyedAccessDropsTheKey() {
+        final var keyed = new ReadWriteSet.StateAccess(SERVICE, STATE, 1L);
+        final var whole = new ReadWriteSet.StateAccess(SERVICE, STATE, null);
+
+        assertThat(keyed.wholeState()).isEqualTo(whole);
+        assertThat(whole.wholeState()).isSameAs(whole);
+    }
+
+    @Test
+    void accessesAreExposedUnmodifiable() {
+        final var subject = new ReadWriteSet();
+        subject.recordRead(SERVICE, STATE, 1L);
+        subject.recordWrite(SERVICE, STATE, null);
+
+        assertThat(subject.reads()).containsExactly(new ReadWriteSet.StateAccess(SERVICE, STATE, 1L));
+        assertThat(subject.writes()).containsExactly(new ReadWriteSet.StateAccess(SERVICE, STATE, null));
+        assertThat(subject.reads()).isUnmodifiable();
+    }
+}
@@ -133,6 +133,75 @@ class SavepointStackImplTest extends StateTestBase {
         assertThat(stack.getWritableStates(FOOD_SERVICE)).has(content(newData));
     }
 
+    @Test
+    void testAccessTrackingIncludesRolledBackSavepoints() {
+        // given
+        final var stack = SavepointStackImpl.newRootStack(
+                baseState, 3, 50, roundStateChangeListener, kvStateChangeListener, streamMode);
+        final var readWriteSet = new ReadWriteSet();
+        stack.trackAccessesIn(readWriteSet);
+        final var fruit = stack.getWritableStates(FOOD_SERVICE).get(FRUIT_STATE_KEY);
+
+        // when
+        fruit.get(A_KEY);
+        stack.createSavepoint();
+        stack.getWritableStates(FOOD_SERVICE).get(FRUIT_STATE_KEY).put(B_KEY, BLUEBERRY);
+        stack.rollback();
+
+        // then
+        assertThat(readWriteSet.reads())
+                .containsExactly(new ReadWriteSet.StateAccess(FOOD_SERVICE, FRUIT_STATE_KEY, A_KEY));
+        assertThat(readWriteSet.writes())
+                .containsExactly(new ReadWriteSet.StateAccess(FOOD_SERVICE, FRUIT_STATE_KEY, B_KEY));
+    }
+
+    @Test
+    void testReadOnlySavepointDoesNotWrapState() {
+        // given
+        final var stack = SavepointStackImpl.newRootStack(
+                baseState, 3, 50, roundStateChangeListener, kvStateChangeListener, streamMode);
+        stack.getWritableStates(FOOD_SERVICE).get(FRUIT_STATE_KEY).put(A_KEY, ACAI);
+        final var fruit = stack.getWritableStates(FOOD_SERVICE).get(FRUIT_STATE_KEY);
+
+        // when
+        stack.createSavepoint();
+        final var value = fruit.get(A_KEY);
+
+        // then
+        assertThat(value).isEqualTo(ACAI);
+        assertThat(stack.peek().mayHaveModified(FOOD_SERVICE, FRUIT_STATE_KEY)).isFalse();
+
+        // when
+        fruit.put(B_KEY, BLUEBERRY);
+
+        // then
+        assertThat(stack.peek().mayHaveModified(FOOD_SERVICE, FRUIT_STATE_KEY)).isTrue();
+        assertThat(fruit.get(A_KEY)).isEqualTo(ACAI);
+        assertThat(fruit.get(B_KEY)).isEqualTo(BLUEBERRY);
+        stack.rollback();
+        assertThat(fruit.get(B_KEY)).isEqualTo(BANANA);
+    }
+
+    @Test
+    void testReadKeysIncludeReadsFromLowerSavepoints() {
+        // given
+        final var stack = SavepointStackImpl.newRootStack(
+                baseState, 3, 50, roundStateChangeListener, kvStateChangeListener, streamMode);
+        final var fruit = stack.getWritableStates(FOOD_SERVICE).get(FRUIT_STATE_KEY);
+
+        // when
+        fruit.get(A_KEY);
+        stack.createSavepoint();
+        fruit.put(B_KEY, BLUEBERRY);
+        stack.createSavepoint();
+        // The top savepoint has not changed the state, so this read goes to the savepoint below it
+        fruit.get(C_KEY);
+
+        // then
+        assertThat(stack.peek().mayHaveModified(FOOD_SERVICE, FRUIT_STATE_KEY)).isFalse();
+        assertThat(fruit.readKeys()).containsExactlyInAnyOrder(A_KEY, C_KEY);
+    }
+
     @Nested
     @DisplayName("Tests for adding new savepoints to the stack")
     class SavepointTests {
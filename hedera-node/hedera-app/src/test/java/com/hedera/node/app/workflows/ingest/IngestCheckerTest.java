@@ -72,7 +72,7 @@ import com.hedera.node.app.spi.workflows.InsufficientBalanceException;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.state.DeduplicationCache;
 import com.hedera.node.app.state.recordcache.DeduplicationCacheImpl;
-import com.hedera.node.app.throttle.SynchronizedThrottleAccumulator;
+import com.hedera.node.app.throttle.StripedThrottleAccumulator;
 import com.hedera.node.app.workflows.OpWorkflowMetrics;
 import com.hedera.node.app.workflows.SolvencyPreCheck;
 import com.hedera.node.app.workflows.TransactionChecker;
@@ -137,7 +137,7 @@ class IngestCheckerTest extends AppTestBase {
     private OpWorkflowMetrics opWorkflowMetrics;
 
     @Mock(strictness = LENIENT)
-    private SynchronizedThrottleAccumulator synchronizedThrottleAccumulator;
+    private StripedThrottleAccumulator stripedThrottleAccumulator;
 
     private DeduplicationCache deduplicationCache;
 
@@ -192,7 +192,7 @@ class IngestCheckerTest extends AppTestBase {
                 dispatcher,
                 feeManager,
                 authorizer,
-                synchronizedThrottleAccumulator,
+                stripedThrottleAccumulator,
                 instantSource,
                 opWorkflowMetrics);
     }
@@ -244,7 +244,7 @@ class IngestCheckerTest extends AppTestBase {
                 dispatcher,
                 feeManager,
                 authorizer,
-                synchronizedThrottleAccumulator,
+                stripedThrottleAccumulator,
                 instantSource,
                 opWorkflowMetrics);
 
@@ -341,7 +341,7 @@ class IngestCheckerTest extends AppTestBase {
         @DisplayName("When the transaction is throttled, the transaction should be rejected")
         void testThrottleFails() {
             // Given a throttle on CONSENSUS_CREATE_TOPIC transactions (i.e. it is time to throttle)
-            when(synchronizedThrottleAccumulator.shouldThrottle(transactionInfo, state))
+            when(stripedThrottleAccumulator.shouldThrottle(transactionInfo, state))
                     .thenReturn(true);
 
             // When the transaction is submitted
@@ -355,7 +355,7 @@ class IngestCheckerTest extends AppTestBase {
         @DisplayName("If some random exception is thrown from HapiThrottling, the exception is bubbled up")
         void randomException() {
             // Given a HapiThrottling that will throw a RuntimeException
-            when(synchronizedThrottleAccumulator.shouldThrottle(transactionInfo, state))
+            when(stripedThrottleAccumulator.shouldThrottle(transactionInfo, state))
                     .thenThrow(new RuntimeException("shouldThrottle exception"));
 
             // When the transaction is submitted, then the exception is bubbled up
@@ -18,9 +18,14 @@ package com.hedera.node.app.workflows.ingest;
 
 import static com.hedera.hapi.node.base.ResponseCodeEnum.DUPLICATE_TRANSACTION;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.PLATFORM_TRANSACTION_NOT_CREATED;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -34,10 +39,20 @@ import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.VersionedConfigImpl;
 import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.metrics.RunningAverageMetric;
 import com.swirlds.common.metrics.SpeedometerMetric;
 import com.swirlds.metrics.api.Metrics;
 import com.swirlds.platform.system.Platform;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -89,6 +104,11 @@ final class SubmissionManagerTest extends AppTestBase {
          */
         @Mock
         private SpeedometerMetric platformTxnRejections;
+        /**
+         * The running averages of batch sizes and queue times used by the submission manager
+         */
+        @Mock
+        private RunningAverageMetric runningAverage;
         /**
          * The submission manager instance
          */
@@ -105,7 +125,8 @@ final class SubmissionManagerTest extends AppTestBase {
         @BeforeEach
         void setup() {
             bytes = randomBytes(25);
-            when(mockedMetrics.getOrCreate(any())).thenReturn(platformTxnRejections);
+            when(mockedMetrics.getOrCreate(any(SpeedometerMetric.Config.class))).thenReturn(platformTxnRejections);
+            when(mockedMetrics.getOrCreate(any(RunningAverageMetric.Config.class))).thenReturn(runningAverage);
             submissionManager = new SubmissionManager(platform, deduplicationCache, config, mockedMetrics);
             txBody = TransactionBody.newBuilder()
                     .transactionID(TransactionID.newBuilder()
@@ -175,6 +196,96 @@ final class SubmissionManagerTest extends AppTestBase {
             // And the deduplication cache is updated just once
             verify(deduplicationCache).add(txBody.transactionIDOrThrow());
         }
+
+        @Test
+        @DisplayName("Concurrent submissions of the same transaction submit it to the platform only once")
+        void testConcurrentDuplicateSubmissionsAreSubmittedOnce() throws Exception {
+            // Given a platform that will succeed in taking bytes, and a deduplication cache remembering submissions
+            when(platform.createTransaction(any())).thenReturn(true);
+            final Set<TransactionID> submitted = ConcurrentHashMap.newKeySet();
+            when(deduplicationCache.contains(any()))
+                    .thenAnswer(invocation -> submitted.contains(invocation.<TransactionID>getArgument(0)));
+            doAnswer(invocation -> submitted.add(invocation.getArgument(0)))
+                    .when(deduplicationCache)
+                    .add(any());
+            final var numThreads = 8;
+            final var executor = Executors.newFixedThreadPool(numThreads);
+            final var start = new CountDownLatch(1);
+            final var duplicates = new AtomicInteger();
+
+            // When the same transaction is submitted from many threads at once
+            try {
+                final List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < numThreads; i++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        try {
+                            submissionManager.submit(txBody, bytes);
+                        } catch (final PreCheckException e) {
+                            assertThat(e.responseCode()).isEqualTo(DUPLICATE_TRANSACTION);
+                            duplicates.incrementAndGet();
+                        }
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (final var future : futures) {
+                    future.get(10, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            // Then it reaches the platform exactly once, and all other submissions are rejected as duplicates
+            verify(platform, times(1)).createTransaction(bytes.toByteArray());
+            assertThat(duplicates.get()).isEqualTo(numThreads - 1);
+            verify(runningAverage, atLeastOnce()).update(anyDouble());
+        }
+
+        @Test
+        @DisplayName("A submission abandoned by an interrupted thread is never handed to the platform")
+        void testInterruptedSubmissionIsNotSubmitted() throws Exception {
+            // Given a platform that blocks while taking the first transaction, so its thread keeps the lock
+            final var inPlatform = new CountDownLatch(1);
+            final var release = new CountDownLatch(1);
+            when(platform.createTransaction(any())).thenAnswer(invocation -> {
+                inPlatform.countDown();
+                release.await();
+                return true;
+            });
+            final var otherTxBody = TransactionBody.newBuilder()
+                    .transactionID(TransactionID.newBuilder()
+                            .transactionValidStart(asTimestamp(Instant.now().plusSeconds(1)))
+                            .build())
+                    .build();
+            final var otherBytes = randomBytes(25);
+            final var executor = Executors.newSingleThreadExecutor();
+            try {
+                final var first = executor.submit(() -> {
+                    submissionManager.submit(txBody, bytes);
+                    return null;
+                });
+                assertThat(inPlatform.await(10, TimeUnit.SECONDS)).isTrue();
+
+                // When another thread queues a transaction, but is interrupted while waiting for it to be submitted
+                Thread.currentThread().interrupt();
+                try {
+                    assertThatThrownBy(() -> submissionManager.submit(otherTxBody, otherBytes))
+                            .isInstanceOf(IllegalStateException.class);
+                } finally {
+                    assertThat(Thread.interrupted()).isTrue();
+                }
+                release.countDown();
+                first.get(10, TimeUnit.SECONDS);
+            } finally {
+                executor.shutdownNow();
+            }
+
+            // Then the thread holding the lock skips the abandoned transaction
+            verify(platform).createTransaction(bytes.toByteArray());
+            verify(platform, never()).createTransaction(otherBytes.toByteArray());
+            verify(deduplicationCache, never()).add(otherTxBody.transactionIDOrThrow());
+        }
     }
 
     @Nested
@@ -186,6 +297,9 @@ final class SubmissionManagerTest extends AppTestBase {
         /** The speedometer metric used by the submission manager */
         @Mock
         private SpeedometerMetric platformTxnRejections;
+        /** The running averages of batch sizes and queue times used by the submission manager */
+        @Mock
+        private RunningAverageMetric runningAverage;
         /** The submission manager instance */
         private SubmissionManager submissionManager;
         /** Representative of the raw transaction bytes */
@@ -203,7 +317,8 @@ final class SubmissionManagerTest extends AppTestBase {
                             .withValue("ledger.id", "0x03")
                             .getOrCreateConfig(),
                     1);
-            when(mockedMetrics.getOrCreate(any())).thenReturn(platformTxnRejections);
+            when(mockedMetrics.getOrCreate(any(SpeedometerMetric.Config.class))).thenReturn(platformTxnRejections);
+            when(mockedMetrics.getOrCreate(any(RunningAverageMetric.Config.class))).thenReturn(runningAverage);
             submissionManager = new SubmissionManager(platform, deduplicationCache, config, mockedMetrics);
 
             bytes = randomBytes(25);
@@ -16,6 +16,7 @@
 
 package com.hedera.node.app.workflows.query;
 
+import static com.hedera.hapi.node.base.HederaFunctionality.CONTRACT_CALL_LOCAL;
 import static com.hedera.hapi.node.base.HederaFunctionality.CRYPTO_TRANSFER;
 import static com.hedera.hapi.node.base.HederaFunctionality.FILE_GET_INFO;
 import static com.hedera.hapi.node.base.HederaFunctionality.NETWORK_GET_EXECUTION_TIME;
@@ -29,6 +30,7 @@ import static com.hedera.hapi.node.base.ResponseCodeEnum.PLATFORM_TRANSACTION_NO
 import static com.hedera.hapi.node.base.ResponseType.ANSWER_ONLY;
 import static com.hedera.hapi.node.base.ResponseType.ANSWER_STATE_PROOF;
 import static com.hedera.hapi.node.base.ResponseType.COST_ANSWER;
+import static com.hedera.node.app.utils.TestUtils.metrics;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -39,7 +41,9 @@ import static org.mockito.ArgumentMatchers.notNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -53,6 +57,7 @@ import com.hedera.hapi.node.base.Transaction;
 import com.hedera.hapi.node.base.TransactionID;
 import com.hedera.hapi.node.file.FileGetInfoQuery;
 import com.hedera.hapi.node.file.FileGetInfoResponse;
+import com.hedera.hapi.node.file.FileInfo;
 import com.hedera.hapi.node.network.NetworkGetExecutionTimeQuery;
 import com.hedera.hapi.node.network.NetworkGetExecutionTimeResponse;
 import com.hedera.hapi.node.transaction.Query;
@@ -71,7 +76,7 @@ import com.hedera.node.app.spi.records.RecordCache;
 import com.hedera.node.app.spi.workflows.InsufficientBalanceException;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.QueryContext;
-import com.hedera.node.app.throttle.SynchronizedThrottleAccumulator;
+import com.hedera.node.app.throttle.StripedThrottleAccumulator;
 import com.hedera.node.app.workflows.OpWorkflowMetrics;
 import com.hedera.node.app.workflows.TransactionInfo;
 import com.hedera.node.app.workflows.ingest.IngestChecker;
@@ -147,11 +152,17 @@ class QueryWorkflowImplTest extends AppTestBase {
     private FeeManager feeManager;
 
     @Mock(strictness = LENIENT)
-    private SynchronizedThrottleAccumulator synchronizedThrottleAccumulator;
+    private StripedThrottleAccumulator stripedThrottleAccumulator;
 
     @Mock
     private OpWorkflowMetrics opWorkflowMetrics;
 
+    private QueryResultCache queryResultCache =
+            new QueryResultCache(() -> new VersionedConfigImpl(HederaTestConfigBuilder.createConfig(), 1), metrics());
+
+    private QueryLimiter queryLimiter =
+            new QueryLimiter(() -> new VersionedConfigImpl(HederaTestConfigBuilder.createConfig(), 1), metrics());
+
     private VersionedConfiguration configuration;
     private Transaction payment;
     private TransactionBody txBody;
@@ -218,9 +229,11 @@ class QueryWorkflowImplTest extends AppTestBase {
                 authorizer,
                 exchangeRateManager,
                 feeManager,
-                synchronizedThrottleAccumulator,
+                stripedThrottleAccumulator,
                 instantSource,
                 opWorkflowMetrics,
+                queryResultCache,
+                queryLimiter,
                 true);
     }
 
@@ -239,9 +252,11 @@ class QueryWorkflowImplTest extends AppTestBase {
                         authorizer,
                         exchangeRateManager,
                         feeManager,
-                        synchronizedThrottleAccumulator,
+                        stripedThrottleAccumulator,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResultCache,
+                        queryLimiter,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -256,9 +271,11 @@ class QueryWorkflowImplTest extends AppTestBase {
                         authorizer,
                         exchangeRateManager,
                         feeManager,
-                        synchronizedThrottleAccumulator,
+                        stripedThrottleAccumulator,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResultCache,
+                        queryLimiter,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -273,9 +290,11 @@ class QueryWorkflowImplTest extends AppTestBase {
                         authorizer,
                         exchangeRateManager,
                         feeManager,
-                        synchronizedThrottleAccumulator,
+                        stripedThrottleAccumulator,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResultCache,
+                        queryLimiter,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -290,9 +309,11 @@ class QueryWorkflowImplTest extends AppTestBase {
                         authorizer,
                         exchangeRateManager,
                         feeManager,
-                        synchronizedThrottleAccumulator,
+                        stripedThrottleAccumulator,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResultCache,
+                        queryLimiter,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -307,9 +328,11 @@ class QueryWorkflowImplTest extends AppTestBase {
                         authorizer,
                         exchangeRateManager,
                         feeManager,
-                        synchronizedThrottleAccumulator,
+                        stripedThrottleAccumulator,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResultCache,
+                        queryLimiter,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -324,9 +347,11 @@ class QueryWorkflowImplTest extends AppTestBase {
                         authorizer,
                         exchangeRateManager,
                         feeManager,
-                        synchronizedThrottleAccumulator,
+                        stripedThrottleAccumulator,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResultCache,
+                        queryLimiter,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -341,9 +366,11 @@ class QueryWorkflowImplTest extends AppTestBase {
                         authorizer,
                         exchangeRateManager,
                         feeManager,
-                        synchronizedThrottleAccumulator,
+                        stripedThrottleAccumulator,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResultCache,
+                        queryLimiter,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -358,9 +385,11 @@ class QueryWorkflowImplTest extends AppTestBase {
                         authorizer,
                         exchangeRateManager,
                         feeManager,
-                        synchronizedThrottleAccumulator,
+                        stripedThrottleAccumulator,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResultCache,
+                        queryLimiter,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -375,9 +404,11 @@ class QueryWorkflowImplTest extends AppTestBase {
                         null,
                         exchangeRateManager,
                         feeManager,
-                        synchronizedThrottleAccumulator,
+                        stripedThrottleAccumulator,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResultCache,
+                        queryLimiter,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -392,9 +423,11 @@ class QueryWorkflowImplTest extends AppTestBase {
                         authorizer,
                         null,
                         feeManager,
-                        synchronizedThrottleAccumulator,
+                        stripedThrottleAccumulator,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResultCache,
+                        queryLimiter,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -409,9 +442,11 @@ class QueryWorkflowImplTest extends AppTestBase {
                         authorizer,
                         exchangeRateManager,
                         null,
-                        synchronizedThrottleAccumulator,
+                        stripedThrottleAccumulator,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResultCache,
+                        queryLimiter,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -429,6 +464,8 @@ class QueryWorkflowImplTest extends AppTestBase {
                         null,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResultCache,
+                        queryLimiter,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -443,9 +480,30 @@ class QueryWorkflowImplTest extends AppTestBase {
                         authorizer,
                         exchangeRateManager,
                         feeManager,
-                        synchronizedThrottleAccumulator,
+                        stripedThrottleAccumulator,
                         null,
                         opWorkflowMetrics,
+                        queryResultCache,
+                        queryLimiter,
+                        true))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new QueryWorkflowImpl(
+                        stateAccessor,
+                        submissionManager,
+                        queryChecker,
+                        ingestChecker,
+                        dispatcher,
+                        queryParser,
+                        configProvider,
+                        recordCache,
+                        authorizer,
+                        exchangeRateManager,
+                        feeManager,
+                        stripedThrottleAccumulator,
+                        instantSource,
+                        null,
+                        queryResultCache,
+                        queryLimiter,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -460,8 +518,29 @@ class QueryWorkflowImplTest extends AppTestBase {
                         authorizer,
                         exchangeRateManager,
                         feeManager,
-                        synchronizedThrottleAccumulator,
+                        stripedThrottleAccumulator,
                         instantSource,
+                        opWorkflowMetrics,
+                        null,
+                        queryLimiter,
+                        true))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new QueryWorkflowImpl(
+                        stateAccessor,
+                        submissionManager,
+                        queryChecker,
+                        ingestChecker,
+                        dispatcher,
+                        queryParser,
+                        configProvider,
+                        recordCache,
+                        authorizer,
+                        exchangeRateManager,
+                        feeManager,
+                        stripedThrottleAccumulator,
+                        instantSource,
+                        opWorkflowMetrics,
+                        queryResultCache,
                         null,
                         true))
                 .isInstanceOf(NullPointerException.class);
@@ -476,7 +555,7 @@ class QueryWorkflowImplTest extends AppTestBase {
         final var responseBuffer = newEmptyBuffer();
 
         // then
-        assertThatThrownBy(() -> workflow.handleQuery(null, responseBuffer)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> workflow.handleQuery((Bytes) null, responseBuffer)).isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> workflow.handleQuery(requestBuffer, null)).isInstanceOf(NullPointerException.class);
         verify(opWorkflowMetrics, never()).incrementThrottled(any());
     }
@@ -497,9 +576,11 @@ class QueryWorkflowImplTest extends AppTestBase {
                 authorizer,
                 exchangeRateManager,
                 feeManager,
-                synchronizedThrottleAccumulator,
+                stripedThrottleAccumulator,
                 instantSource,
                 opWorkflowMetrics,
+                queryResultCache,
+                queryLimiter,
                 shouldCharge);
         final var responseBuffer = newEmptyBuffer();
         // when
@@ -515,6 +596,130 @@ class QueryWorkflowImplTest extends AppTestBase {
         verify(opWorkflowMetrics, never()).incrementThrottled(any());
     }
 
+    @Test
+    void testResponsesOfFreeQueriesAreCachedPerState() throws ParseException {
+        // given
+        enableQueryResultCache();
+        final var responseBuffer = newEmptyBuffer();
+
+        // when
+        workflow.handleQuery(requestBuffer, responseBuffer);
+        workflow.handleQuery(requestBuffer, newEmptyBuffer());
+
+        // then
+        final var header = parseResponse(responseBuffer).fileGetInfoOrThrow().headerOrThrow();
+        assertThat(header.nodeTransactionPrecheckCode()).isEqualTo(OK);
+        verify(handler, times(1)).findResponse(any(), any());
+
+        // when
+        when(stateAccessor.apply(any())).thenReturn(new AutoCloseableWrapper<>(mock(State.class), () -> {}));
+        workflow.handleQuery(requestBuffer, newEmptyBuffer());
+
+        // then
+        verify(handler, times(2)).findResponse(any(), any());
+    }
+
+    @Test
+    void testCachedResponsesAreDroppedOnceHandleCommitsATransaction() throws ParseException {
+        // given
+        enableQueryResultCache();
+        given(handler.findResponse(any(), any()))
+                .willReturn(fileInfoResponseOfSize(1L))
+                .willReturn(fileInfoResponseOfSize(2L));
+
+        // when
+        workflow.handleQuery(requestBuffer, newEmptyBuffer());
+        final var cachedBuffer = newEmptyBuffer();
+        workflow.handleQuery(requestBuffer, cachedBuffer);
+
+        // then
+        assertThat(parseResponse(cachedBuffer).fileGetInfoOrThrow().fileInfoOrThrow().size())
+                .isEqualTo(1L);
+
+        // when the handle workflow commits a transaction that changes the file, in the same working state
+        queryResultCache.invalidateAll();
+        final var updatedBuffer = newEmptyBuffer();
+        workflow.handleQuery(requestBuffer, updatedBuffer);
+
+        // then
+        assertThat(parseResponse(updatedBuffer).fileGetInfoOrThrow().fileInfoOrThrow().size())
+                .isEqualTo(2L);
+        verify(handler, times(2)).findResponse(any(), any());
+    }
+
+    @Test
+    void testResponsesOfChargedQueriesAreNotCached() {
+        // given
+        enableQueryResultCache();
+        given(handler.computeFees(any(QueryContext.class))).willReturn(new Fees(100L, 0L, 100L));
+        given(handler.requiresNodePayment(any())).willReturn(true);
+
+        // when
+        workflow.handleQuery(requestBuffer, newEmptyBuffer());
+        workflow.handleQuery(requestBuffer, newEmptyBuffer());
+
+        // then
+        verify(handler, times(2)).findResponse(any(), any());
+    }
+
+    @Test
+    void testQueriesOverConcurrencyLimitAreBusy() throws ParseException {
+        // given
+        final var config = HederaTestConfigBuilder.create()
+                .withValue("queries.expensive.functions", "FileGetInfo")
+                .withValue("queries.expensive.maxConcurrent", 1)
+                .getOrCreateConfig();
+        queryLimiter = new QueryLimiter(() -> new VersionedConfigImpl(config, 1), metrics());
+        workflow = new QueryWorkflowImpl(
+                stateAccessor,
+                submissionManager,
+                queryChecker,
+                ingestChecker,
+                dispatcher,
+                queryParser,
+                configProvider,
+                recordCache,
+                authorizer,
+                exchangeRateManager,
+                feeManager,
+                stripedThrottleAccumulator,
+                instantSource,
+                opWorkflowMetrics,
+                queryResultCache,
+                queryLimiter,
+                true);
+        assertThat(queryLimiter.tryAcquire(FILE_GET_INFO)).isTrue();
+        final var busyBuffer = newEmptyBuffer();
+        final var answeredBuffer = newEmptyBuffer();
+
+        // when
+        workflow.handleQuery(requestBuffer, busyBuffer);
+        queryLimiter.release(FILE_GET_INFO);
+        workflow.handleQuery(requestBuffer, answeredBuffer);
+
+        // then
+        assertThat(parseResponse(busyBuffer).fileGetInfoOrThrow().headerOrThrow().nodeTransactionPrecheckCode())
+                .isEqualTo(BUSY);
+        assertThat(parseResponse(answeredBuffer).fileGetInfoOrThrow().headerOrThrow().nodeTransactionPrecheckCode())
+                .isEqualTo(OK);
+        verify(handler, times(1)).findResponse(any(), any());
+        assertThat(queryLimiter.tryAcquire(FILE_GET_INFO)).isTrue();
+    }
+
+    @Test
+    void testExpensiveQueriesAreLimitedByDefault() {
+        // given
+        for (int i = 0; i < 8; i++) {
+            assertThat(queryLimiter.tryAcquire(CONTRACT_CALL_LOCAL)).isTrue();
+        }
+
+        // then
+        assertThat(queryLimiter.tryAcquire(CONTRACT_CALL_LOCAL)).isFalse();
+        assertThat(queryLimiter.tryAcquire(FILE_GET_INFO)).isTrue();
+        queryLimiter.release(CONTRACT_CALL_LOCAL);
+        assertThat(queryLimiter.tryAcquire(CONTRACT_CALL_LOCAL)).isTrue();
+    }
+
     @ParameterizedTest
     @ValueSource(booleans = {true, false})
     void testSuccessIfPaymentRequired(boolean shouldCharge) throws ParseException {
@@ -531,9 +736,11 @@ class QueryWorkflowImplTest extends AppTestBase {
                 authorizer,
                 exchangeRateManager,
                 feeManager,
-                synchronizedThrottleAccumulator,
+                stripedThrottleAccumulator,
                 instantSource,
                 opWorkflowMetrics,
+                queryResultCache,
+                queryLimiter,
                 shouldCharge);
         given(handler.computeFees(any(QueryContext.class))).willReturn(new Fees(100L, 0L, 100L));
         given(handler.requiresNodePayment(any())).willReturn(true);
@@ -721,7 +928,7 @@ class QueryWorkflowImplTest extends AppTestBase {
     @Test
     void testThrottleFails() throws ParseException {
         // given
-        when(synchronizedThrottleAccumulator.shouldThrottle(eq(HederaFunctionality.FILE_GET_INFO), any(), any(), any()))
+        when(stripedThrottleAccumulator.shouldThrottle(eq(HederaFunctionality.FILE_GET_INFO), any(), any(), any()))
                 .thenReturn(true);
         final var responseBuffer = newEmptyBuffer();
 
@@ -753,11 +960,13 @@ class QueryWorkflowImplTest extends AppTestBase {
                 authorizer,
                 exchangeRateManager,
                 feeManager,
-                synchronizedThrottleAccumulator,
+                stripedThrottleAccumulator,
                 instantSource,
                 opWorkflowMetrics,
+                queryResultCache,
+                queryLimiter,
                 false);
-        when(synchronizedThrottleAccumulator.shouldThrottle(eq(HederaFunctionality.FILE_GET_INFO), any(), any(), any()))
+        when(stripedThrottleAccumulator.shouldThrottle(eq(HederaFunctionality.FILE_GET_INFO), any(), any(), any()))
                 .thenReturn(true);
         final var responseBuffer = newEmptyBuffer();
 
@@ -980,6 +1189,45 @@ class QueryWorkflowImplTest extends AppTestBase {
         verify(opWorkflowMetrics, never()).incrementThrottled(any());
     }
 
+    private void enableQueryResultCache() {
+        final var config = HederaTestConfigBuilder.create()
+                .withValue("cache.queries.maxSize", 100)
+                .withValue("cache.queries.functions", "FileGetInfo")
+                .getOrCreateConfig();
+        queryResultCache = new QueryResultCache(() -> new VersionedConfigImpl(config, 1), metrics());
+        workflow = new QueryWorkflowImpl(
+                stateAccessor,
+                submissionManager,
+                queryChecker,
+                ingestChecker,
+                dispatcher,
+                queryParser,
+                configProvider,
+                recordCache,
+                authorizer,
+                exchangeRateManager,
+                feeManager,
+                stripedThrottleAccumulator,
+                instantSource,
+                opWorkflowMetrics,
+                queryResultCache,
+                queryLimiter,
+                true);
+    }
+
+    private static Response fileInfoResponseOfSize(final long size) {
+        final var header = ResponseHeader.newBuilder()
+                .responseType(ANSWER_ONLY)
+                .nodeTransactionPrecheckCode(OK)
+                .build();
+        return Response.newBuilder()
+                .fileGetInfo(FileGetInfoResponse.newBuilder()
+                        .header(header)
+                        .fileInfo(FileInfo.newBuilder().size(size).build())
+                        .build())
+                .build();
+    }
+
     private void verifyMetricsSent() {
         verify(opWorkflowMetrics).updateDuration(eq(FILE_GET_INFO), anyInt());
     }
@@ -37,6 +37,8 @@ import com.swirlds.config.api.validation.annotation.Min;
  * @param compressFilesOnCreation when true record and sidecar files are compressed with GZip when created
  * @param numOfBlockHashesInState the number of block hashes to keep in state for block history
  * @param streamFileProducer the type of stream file producer to use. Currently only "concurrent" is supported
+ * @param maxPendingRecordBatches the number of transactions' records the concurrent producer may have pending
+ * serialization, hashing, or writing before the handle thread blocks
  */
 @ConfigData("hedera.recordStream")
 public record BlockRecordStreamConfig(
@@ -51,4 +53,5 @@ public record BlockRecordStreamConfig(
         @ConfigProperty(defaultValue = "false") @NetworkProperty boolean logEveryTransaction,
         @ConfigProperty(defaultValue = "true") @NetworkProperty boolean compressFilesOnCreation, // NOT SURE
         @ConfigProperty(defaultValue = "256") @Min(1) @Max(4096) @NetworkProperty int numOfBlockHashesInState,
-        @ConfigProperty(defaultValue = "concurrent") @NetworkProperty String streamFileProducer) {}
+        @ConfigProperty(defaultValue = "concurrent") @NetworkProperty String streamFileProducer,
+        @ConfigProperty(defaultValue = "1024") @Min(1) @NodeProperty int maxPendingRecordBatches) {}
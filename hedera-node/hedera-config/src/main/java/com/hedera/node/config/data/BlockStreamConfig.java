@@ -31,6 +31,15 @@ import com.swirlds.config.api.validation.annotation.Min;
  * @param writerMode if we are writing to a file or gRPC stream
  * @param blockFileDir directory to store block files
  * @param compressFilesOnCreation whether to compress files on creation
+ * @param coalesceStateChanges whether to keep only the last change to each map key in each batch of serialized
+ * items; changes the block contents, so must be the same on all nodes; if false, every change is kept as the
+ * block stream spec defines
+ * @param compressionMaxInFlightChunks the maximum number of chunks of a block file submitted to the shared
+ * {@code @CommonExecutor} for compression and not yet written out; this adds no threads of its own, so it bounds how
+ * much of the common executor and of the heap one block file may use; if 1, the file is compressed as a single gzip
+ * member on the writing thread
+ * @param compressionChunkSize the number of uncompressed bytes in each independently compressed gzip member, when
+ * compressing in parallel
  * @param grpcAddress the address of the gRPC server
  * @param grpcPort the port of the gRPC server
  */
@@ -43,5 +52,8 @@ public record BlockStreamConfig(
         @ConfigProperty(defaultValue = "32") @NetworkProperty int serializationBatchSize,
         @ConfigProperty(defaultValue = "32") @NetworkProperty int hashCombineBatchSize,
         @ConfigProperty(defaultValue = "1") @NetworkProperty int roundsPerBlock,
+        @ConfigProperty(defaultValue = "false") @NetworkProperty boolean coalesceStateChanges,
+        @ConfigProperty(defaultValue = "1") @Min(1) @NodeProperty int compressionMaxInFlightChunks,
+        @ConfigProperty(defaultValue = "1048576") @Min(1024) @NodeProperty int compressionChunkSize,
         @ConfigProperty(defaultValue = "localhost") String grpcAddress,
         @ConfigProperty(defaultValue = "8080") @Min(0) @Max(65535) int grpcPort) {}
@@ -17,10 +17,23 @@
 package com.hedera.node.config.data;
 
 import com.hedera.node.config.NetworkProperty;
+import com.hedera.node.config.NodeProperty;
+import com.hedera.node.config.types.HederaFunctionalitySet;
 import com.swirlds.config.api.ConfigData;
 import com.swirlds.config.api.ConfigProperty;
 
 @ConfigData("cache")
 public record CacheConfig(
         @ConfigProperty(value = "records.ttl", defaultValue = "180") @NetworkProperty int recordsTtl,
-        @ConfigProperty(value = "warmThreads", defaultValue = "30") @NetworkProperty int warmThreads) {}
+        @ConfigProperty(value = "warmThreads", defaultValue = "30") @NetworkProperty int warmThreads,
+        @ConfigProperty(value = "verifiedSignatures.maxSize", defaultValue = "100000") @NodeProperty
+                int verifiedSignaturesMaxSize,
+        @ConfigProperty(value = "prefetch.batchSize", defaultValue = "64") @NodeProperty int prefetchBatchSize,
+        @ConfigProperty(value = "prefetch.measureHits", defaultValue = "false") @NodeProperty
+                boolean prefetchMeasureHits,
+        @ConfigProperty(value = "queries.maxSize", defaultValue = "0") @NodeProperty int queriesMaxSize,
+        @ConfigProperty(
+                        value = "queries.functions",
+                        defaultValue = "CryptoGetAccountBalance,TokenGetInfo,ScheduleGetInfo")
+                @NodeProperty
+                HederaFunctionalitySet queriesFunctions) {}
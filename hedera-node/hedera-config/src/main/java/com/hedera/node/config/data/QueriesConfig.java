@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.config.data;
+
+import com.hedera.node.config.NodeProperty;
+import com.hedera.node.config.types.HederaFunctionalitySet;
+import com.swirlds.config.api.ConfigData;
+import com.swirlds.config.api.ConfigProperty;
+import com.swirlds.config.api.validation.annotation.Min;
+
+/**
+ * Limits on the number of queries answered concurrently on the user ports.
+ *
+ * @param expensiveFunctions The query types that are expensive to answer. Each of them is limited separately.
+ * @param expensiveMaxConcurrent The maximum number of queries of each expensive type answered at the same time, or 0
+ *                               for no limit. Queries over the limit are rejected with {@code BUSY} right away.
+ * @param maxConcurrent The maximum number of all other queries answered at the same time, or 0 for no limit.
+ */
+@ConfigData("queries")
+public record QueriesConfig(
+        @ConfigProperty(
+                        value = "expensive.functions",
+                        defaultValue = "ContractCallLocal,CryptoGetAccountRecords,TokenGetAccountNftInfos")
+                @NodeProperty
+                HederaFunctionalitySet expensiveFunctions,
+        @ConfigProperty(value = "expensive.maxConcurrent", defaultValue = "8") @Min(0) @NodeProperty
+                int expensiveMaxConcurrent,
+        @ConfigProperty(defaultValue = "0") @Min(0) @NodeProperty int maxConcurrent) {}
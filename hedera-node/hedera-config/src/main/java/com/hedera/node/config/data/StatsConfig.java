@@ -38,4 +38,6 @@ public record StatsConfig(
         @ConfigProperty(value = "throttleUtils.gaugeUpdateIntervalMs", defaultValue = "1000") @NodeProperty
                 long throttleUtilsGaugeUpdateIntervalMs,
         @ConfigProperty(defaultValue = "10.0") @NodeProperty double runningAvgHalfLifeSecs,
-        @ConfigProperty(defaultValue = "10.0") @NodeProperty double speedometerHalfLifeSecs) {}
+        @ConfigProperty(defaultValue = "10.0") @NodeProperty double speedometerHalfLifeSecs,
+        @ConfigProperty(value = "conflictTracking.enabled", defaultValue = "false") @NodeProperty
+                boolean conflictTrackingEnabled) {}
@@ -113,4 +113,9 @@ public class ReadableScheduleStoreImpl implements ReadableScheduleStore {
     public @Nullable ThrottleUsageSnapshots usageSnapshotsForScheduled(final long consensusSecond) {
         return scheduledUsages.get(new TimestampSeconds(consensusSecond));
     }
+
+    @Override
+    public void warm(@NonNull final ScheduleID scheduleID) {
+        schedulesById.warm(scheduleID);
+    }
 }
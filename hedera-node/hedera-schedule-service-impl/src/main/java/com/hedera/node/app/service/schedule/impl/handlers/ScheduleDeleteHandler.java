@@ -47,6 +47,7 @@ import com.hedera.node.app.spi.workflows.HandleException;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.PreHandleContext;
 import com.hedera.node.app.spi.workflows.TransactionHandler;
+import com.hedera.node.app.spi.workflows.WarmupContext;
 import com.hedera.node.config.data.LedgerConfig;
 import com.hedera.node.config.data.SchedulingConfig;
 import com.hederahashgraph.api.proto.java.FeeData;
@@ -75,6 +76,15 @@ public class ScheduleDeleteHandler extends AbstractScheduleHandler implements Tr
         validateTruePreCheck(op.hasScheduleID(), INVALID_SCHEDULE_ID);
     }
 
+    @Override
+    public void warm(@NonNull final WarmupContext context) {
+        requireNonNull(context);
+        final var op = context.body().scheduleDeleteOrThrow();
+        if (op.hasScheduleID()) {
+            context.createStore(ReadableScheduleStore.class).warm(op.scheduleIDOrThrow());
+        }
+    }
+
     @Override
     public void preHandle(@NonNull final PreHandleContext context) throws PreCheckException {
         requireNonNull(context);
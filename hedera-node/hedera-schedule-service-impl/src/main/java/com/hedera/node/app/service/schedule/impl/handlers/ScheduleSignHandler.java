@@ -44,6 +44,7 @@ import com.hedera.node.app.spi.workflows.HandleException;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.PreHandleContext;
 import com.hedera.node.app.spi.workflows.TransactionHandler;
+import com.hedera.node.app.spi.workflows.WarmupContext;
 import com.hedera.node.config.data.LedgerConfig;
 import com.hedera.node.config.data.SchedulingConfig;
 import com.hederahashgraph.api.proto.java.FeeData;
@@ -72,6 +73,15 @@ public class ScheduleSignHandler extends AbstractScheduleHandler implements Tran
         validateTruePreCheck(op.hasScheduleID(), INVALID_SCHEDULE_ID);
     }
 
+    @Override
+    public void warm(@NonNull final WarmupContext context) {
+        requireNonNull(context);
+        final var op = context.body().scheduleSignOrThrow();
+        if (op.hasScheduleID()) {
+            context.createStore(ReadableScheduleStore.class).warm(op.scheduleIDOrThrow());
+        }
+    }
+
     @Override
     public void preHandle(@NonNull final PreHandleContext context) throws PreCheckException {
         requireNonNull(context);
@@ -100,4 +100,13 @@ public interface ReadableScheduleStore {
      */
     @Nullable
     ThrottleUsageSnapshots usageSnapshotsForScheduled(long consensusSecond);
+
+    /**
+     * Warms the system by preloading a schedule into memory
+     *
+     * <p>The default implementation is empty because preloading data into memory is only used for some implementations.
+     *
+     * @param scheduleID the schedule id
+     */
+    default void warm(@NonNull final ScheduleID scheduleID) {}
 }
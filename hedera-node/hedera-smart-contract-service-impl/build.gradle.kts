@@ -17,6 +17,7 @@
 plugins {
     id("com.hedera.gradle.services")
     id("com.hedera.gradle.services-publish")
+    id("com.hedera.gradle.feature.benchmark")
 }
 
 description = "Default Hedera Smart Contract Service Implementation"
@@ -39,3 +40,15 @@ testModuleInfo {
     requires("org.mockito.junit.jupiter")
     requiresStatic("com.github.spotbugs.annotations")
 }
+
+jmhModuleInfo {
+    requires("com.hedera.node.app.service.contract.impl")
+    requires("com.hedera.node.config")
+    requires("com.hedera.node.config.test.fixtures")
+    requires("com.hedera.node.hapi")
+    requires("com.hedera.pbj.runtime")
+    requires("com.swirlds.config.api")
+    requires("com.swirlds.state.api.test.fixtures")
+    requires("jmh.core")
+    requires("tuweni.units")
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.infra;
+
+import static com.hedera.node.app.service.contract.impl.schemas.V0490ContractSchema.BYTECODE_KEY;
+import static com.hedera.node.app.service.contract.impl.schemas.V0490ContractSchema.STORAGE_KEY;
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.tuweniToPbjBytes;
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.hapi.node.state.contract.SlotKey;
+import com.hedera.hapi.node.state.contract.SlotValue;
+import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
+import com.hedera.node.app.service.contract.impl.state.StorageAccess;
+import com.hedera.node.app.service.contract.impl.state.StorageAccess.StorageAccessType;
+import com.hedera.node.app.service.contract.impl.state.WritableContractStateStore;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.state.test.fixtures.MapWritableKVState;
+import com.swirlds.state.test.fixtures.MapWritableStates;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time to splice 10, 100 and 1000 slot writes into a contract's storage linked list at commit, where
+ * half the writes remove every other existing slot (the worst case for neighbor updates) and half insert new slots;
+ * both in one batch, and one access at a time as done before the batch splicing, as a baseline.
+ *
+ * <p>Splicing changes the store, so every splice needs a fresh one. Rather than copying the store before each call,
+ * {@value #STORES_PER_ITERATION} stores are built before each iteration, and each iteration is a batch of that many
+ * calls, each consuming the next store.
+ */
+@State(Scope.Thread)
+@Fork(value = 1)
+@Warmup(iterations = 10, batchSize = StorageLinkedListUpdaterBenchmark.STORES_PER_ITERATION)
+@Measurement(iterations = 20, batchSize = StorageLinkedListUpdaterBenchmark.STORES_PER_ITERATION)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StorageLinkedListUpdaterBenchmark {
+    static final int STORES_PER_ITERATION = 100;
+    private static final ContractID CONTRACT_ID =
+            ContractID.newBuilder().contractNum(1234L).build();
+
+    public static void main(String... args) throws Exception {
+        org.openjdk.jmh.Main.main(
+                new String[] {"com.hedera.node.app.service.contract.impl.infra.StorageLinkedListUpdaterBenchmark"});
+    }
+
+    @Param({"10", "100", "1000"})
+    private int slotWrites;
+
+    private final StorageLinkedListUpdater subject = new StorageLinkedListUpdater();
+    private final Configuration config = HederaTestConfigBuilder.createConfig();
+    private final Map<SlotKey, SlotValue> existingSlots = new HashMap<>();
+    private final List<StorageAccess> accesses = new ArrayList<>();
+    private final List<ContractStateStore> stores = new ArrayList<>();
+
+    private Bytes firstKey;
+    private int nextStore;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        // The contract starts with slots 1 <-> 2 <-> ... <-> slotWrites, with slot 1 at the head
+        for (int i = 1; i <= slotWrites; i++) {
+            final var prevKey = i > 1 ? keyOf(i - 1) : Bytes.EMPTY;
+            final var nextKey = i < slotWrites ? keyOf(i + 1) : Bytes.EMPTY;
+            existingSlots.put(new SlotKey(CONTRACT_ID, keyOf(i)), new SlotValue(keyOf(i), prevKey, nextKey));
+        }
+        for (int i = 1; i <= slotWrites; i++) {
+            if (i % 2 == 1) {
+                accesses.add(StorageAccess.newWrite(UInt256.valueOf(i), UInt256.valueOf(i), UInt256.ZERO));
+            } else {
+                final var newSlot = UInt256.valueOf(slotWrites + i);
+                accesses.add(StorageAccess.newWrite(newSlot, UInt256.ZERO, newSlot));
+            }
+        }
+        firstKey = keyOf(1);
+    }
+
+    @Setup(Level.Iteration)
+    public void setupIteration() {
+        stores.clear();
+        for (int i = 0; i < STORES_PER_ITERATION; i++) {
+            final var states = MapWritableStates.builder()
+                    .state(new MapWritableKVState<>(STORAGE_KEY, new HashMap<>(existingSlots)))
+                    .state(new MapWritableKVState<>(BYTECODE_KEY))
+                    .build();
+            stores.add(new WritableContractStateStore(states, config, (storeType, capacity) -> newCount -> {}));
+        }
+        nextStore = 0;
+    }
+
+    @Benchmark
+    public Bytes spliceChanges() {
+        return subject.spliceChanges(stores.get(nextStore++), CONTRACT_ID, firstKey, accesses);
+    }
+
+    @Benchmark
+    public Bytes spliceChangesOneAtATime() {
+        return spliceOneAtATime(stores.get(nextStore++), firstKey);
+    }
+
+    /**
+     * Applies the accesses to the linked list one at a time, as was done before the batch splicing.
+     */
+    private Bytes spliceOneAtATime(final ContractStateStore store, final Bytes initialFirstKey) {
+        var headKey = initialFirstKey;
+        for (final var access : accesses) {
+            final var key = tuweniToPbjBytes(access.key());
+            switch (StorageAccessType.getAccessType(access)) {
+                case REMOVAL -> {
+                    final var slotKey = new SlotKey(CONTRACT_ID, key);
+                    final var slotValue = requireNonNull(store.getSlotValue(slotKey));
+                    final var nextKey = slotValue.nextKey();
+                    final var prevKey = slotValue.previousKey();
+                    if (!Bytes.EMPTY.equals(nextKey)) {
+                        final var nextSlotKey = new SlotKey(CONTRACT_ID, nextKey);
+                        final var nextValue = requireNonNull(store.getSlotValueForModify(nextSlotKey));
+                        store.putSlot(nextSlotKey, nextValue.copyBuilder().previousKey(prevKey).build());
+                    }
+                    if (!Bytes.EMPTY.equals(prevKey)) {
+                        final var prevSlotKey = new SlotKey(CONTRACT_ID, prevKey);
+                        final var prevValue = requireNonNull(store.getSlotValueForModify(prevSlotKey));
+                        store.putSlot(prevSlotKey, prevValue.copyBuilder().nextKey(nextKey).build());
+                    }
+                    headKey = key.equals(headKey) ? nextKey : headKey;
+                    store.removeSlot(slotKey);
+                }
+                case INSERTION -> {
+                    if (!Bytes.EMPTY.equals(headKey)) {
+                        final var headSlotKey = new SlotKey(CONTRACT_ID, headKey);
+                        final var headValue = requireNonNull(store.getSlotValueForModify(headSlotKey));
+                        store.putSlot(headSlotKey, headValue.copyBuilder().previousKey(key).build());
+                    }
+                    final var newValue = tuweniToPbjBytes(requireNonNull(access.writtenValue()));
+                    store.putSlot(new SlotKey(CONTRACT_ID, key), new SlotValue(newValue, Bytes.EMPTY, headKey));
+                    headKey = key;
+                }
+                default -> {
+                    // Other accesses do not change the linked list
+                }
+            }
+        }
+        return headKey;
+    }
+
+    private static Bytes keyOf(final int slot) {
+        return tuweniToPbjBytes(UInt256.valueOf(slot));
+    }
+}
@@ -26,12 +26,14 @@ import com.google.common.annotations.VisibleForTesting;
 import com.hedera.hapi.node.base.HederaFunctionality;
 import com.hedera.node.config.data.ContractsConfig;
 import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.DoubleGauge;
 import com.swirlds.metrics.api.Metric;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -44,6 +46,8 @@ import org.apache.logging.log4j.Logger;
  *
  * Includes:
  * * Rejected transactions counters: Transactions which failed `pureCheck` for one reason or another
+ * * Analyzed bytecode cache hit and miss counters
+ * * Storage prefetch counters, with the precision and recall they imply
  */
 public class ContractMetrics {
 
@@ -57,6 +61,13 @@ public class ContractMetrics {
     private final HashMap<HederaFunctionality, Counter> rejectedTxsCounters = new HashMap<>();
     private final HashMap<HederaFunctionality, Counter> rejectedTxsLackingIntrinsicGas = new HashMap<>();
     private Counter rejectedEthType3Counter;
+    private Counter codeCacheHitsCounter;
+    private Counter codeCacheMissesCounter;
+    private Counter storageSlotsPrefetchedCounter;
+    private Counter storagePrefetchHitsCounter;
+    private Counter storagePrefetchMissesCounter;
+    private DoubleGauge storagePrefetchPrecision;
+    private DoubleGauge storagePrefetchRecall;
 
     private static final Map<HederaFunctionality, String> POSSIBLE_FAILING_TX_TYPES = Map.of(
             CONTRACT_CALL, "contractCallTx", CONTRACT_CREATE, "contractCreateTx", ETHEREUM_TRANSACTION, "ethereumTx");
@@ -78,6 +89,24 @@ public class ContractMetrics {
 
     private static final String REJECTED_TYPE3_FUNCTIONALITY = "ethType3BlobTransaction";
 
+    private static final String CODE_CACHE_HITS_NAME = METRIC_SERVICE + ":CodeCacheHits_total";
+    private static final String CODE_CACHE_HITS_DESCR = "executions whose analyzed bytecode was already cached";
+    private static final String CODE_CACHE_MISSES_NAME = METRIC_SERVICE + ":CodeCacheMisses_total";
+    private static final String CODE_CACHE_MISSES_DESCR = "executions whose bytecode had to be analyzed";
+    private static final String METRIC_LOOKUP_UNIT = "lookups";
+
+    private static final String SLOTS_PREFETCHED_NAME = METRIC_SERVICE + ":StorageSlotsPrefetched_total";
+    private static final String SLOTS_PREFETCHED_DESCR = "storage slots warmed ahead of execution";
+    private static final String PREFETCH_HITS_NAME = METRIC_SERVICE + ":StoragePrefetchHits_total";
+    private static final String PREFETCH_HITS_DESCR = "accessed storage slots that had been prefetched";
+    private static final String PREFETCH_MISSES_NAME = METRIC_SERVICE + ":StoragePrefetchMisses_total";
+    private static final String PREFETCH_MISSES_DESCR = "accessed storage slots that had not been prefetched";
+    private static final String PREFETCH_PRECISION_NAME = METRIC_SERVICE + ":StoragePrefetchPrecision";
+    private static final String PREFETCH_PRECISION_DESCR = "fraction of prefetched storage slots later accessed";
+    private static final String PREFETCH_RECALL_NAME = METRIC_SERVICE + ":StoragePrefetchRecall";
+    private static final String PREFETCH_RECALL_DESCR = "fraction of accessed storage slots that were prefetched";
+    private static final String METRIC_SLOT_UNIT = "slots";
+
     @Inject
     public ContractMetrics(
             @NonNull final Supplier<Metrics> metricsSupplier,
@@ -130,6 +159,43 @@ public class ContractMetrics {
                 final var metric = newCounter(metrics, config);
                 rejectedEthType3Counter = metric;
             }
+
+            // Analyzed bytecode cache hits and misses
+            codeCacheHitsCounter = newCounter(
+                    metrics,
+                    new Counter.Config(METRIC_CATEGORY, CODE_CACHE_HITS_NAME)
+                            .withDescription(CODE_CACHE_HITS_DESCR)
+                            .withUnit(METRIC_LOOKUP_UNIT));
+            codeCacheMissesCounter = newCounter(
+                    metrics,
+                    new Counter.Config(METRIC_CATEGORY, CODE_CACHE_MISSES_NAME)
+                            .withDescription(CODE_CACHE_MISSES_DESCR)
+                            .withUnit(METRIC_LOOKUP_UNIT));
+
+            // Storage prefetch counters, and the precision and recall they imply
+            storageSlotsPrefetchedCounter = newCounter(
+                    metrics,
+                    new Counter.Config(METRIC_CATEGORY, SLOTS_PREFETCHED_NAME)
+                            .withDescription(SLOTS_PREFETCHED_DESCR)
+                            .withUnit(METRIC_SLOT_UNIT));
+            storagePrefetchHitsCounter = newCounter(
+                    metrics,
+                    new Counter.Config(METRIC_CATEGORY, PREFETCH_HITS_NAME)
+                            .withDescription(PREFETCH_HITS_DESCR)
+                            .withUnit(METRIC_SLOT_UNIT));
+            storagePrefetchMissesCounter = newCounter(
+                    metrics,
+                    new Counter.Config(METRIC_CATEGORY, PREFETCH_MISSES_NAME)
+                            .withDescription(PREFETCH_MISSES_DESCR)
+                            .withUnit(METRIC_SLOT_UNIT));
+            storagePrefetchPrecision = metrics.getOrCreate(
+                    new DoubleGauge.Config(METRIC_CATEGORY, PREFETCH_PRECISION_NAME)
+                            .withDescription(PREFETCH_PRECISION_DESCR)
+                            .withFormat("%,13.4f"));
+            storagePrefetchRecall = metrics.getOrCreate(
+                    new DoubleGauge.Config(METRIC_CATEGORY, PREFETCH_RECALL_NAME)
+                            .withDescription(PREFETCH_RECALL_DESCR)
+                            .withFormat("%,13.4f"));
         }
 
         if (p2MetricsEnabled) {
@@ -162,13 +228,61 @@ public class ContractMetrics {
         if (p1MetricsEnabled) rejectedEthType3Counter.add(bumpBy);
     }
 
+    public void incrementCodeCacheHits() {
+        if (p1MetricsEnabled) codeCacheHitsCounter.increment();
+    }
+
+    public void incrementCodeCacheMisses() {
+        if (p1MetricsEnabled) codeCacheMissesCounter.increment();
+    }
+
+    public void bumpStorageSlotsPrefetched(final long bumpBy) {
+        if (p1MetricsEnabled) {
+            storageSlotsPrefetchedCounter.add(bumpBy);
+            updateStoragePrefetchRatios();
+        }
+    }
+
+    public void bumpStoragePrefetchHits(final long bumpBy) {
+        if (p1MetricsEnabled) {
+            storagePrefetchHitsCounter.add(bumpBy);
+            updateStoragePrefetchRatios();
+        }
+    }
+
+    public void bumpStoragePrefetchMisses(final long bumpBy) {
+        if (p1MetricsEnabled) {
+            storagePrefetchMissesCounter.add(bumpBy);
+            updateStoragePrefetchRatios();
+        }
+    }
+
+    private void updateStoragePrefetchRatios() {
+        final long prefetched = storageSlotsPrefetchedCounter.get();
+        final long hits = storagePrefetchHitsCounter.get();
+        final long accessed = hits + storagePrefetchMissesCounter.get();
+        if (prefetched > 0) {
+            storagePrefetchPrecision.set((double) hits / prefetched);
+        }
+        if (accessed > 0) {
+            storagePrefetchRecall.set((double) hits / accessed);
+        }
+    }
+
     @VisibleForTesting
     public @NonNull Map<String, Long> getAllCounters() {
         return Stream.concat(
                         Stream.concat(
                                 rejectedTxsCounters.values().stream(),
                                 rejectedTxsLackingIntrinsicGas.values().stream()),
-                        Stream.ofNullable(rejectedEthType3Counter))
+                        Stream.of(
+                                        rejectedEthType3Counter,
+                                        codeCacheHitsCounter,
+                                        codeCacheMissesCounter,
+                                        storageSlotsPrefetchedCounter,
+                                        storagePrefetchHitsCounter,
+                                        storagePrefetchMissesCounter)
+                                .filter(Objects::nonNull))
                 .collect(toMap(Counter::getName, Counter::get));
     }
 
@@ -178,7 +292,14 @@ public class ContractMetrics {
                         Stream.concat(
                                 rejectedTxsCounters.values().stream(),
                                 rejectedTxsLackingIntrinsicGas.values().stream()),
-                        Stream.ofNullable(rejectedEthType3Counter))
+                        Stream.of(
+                                        rejectedEthType3Counter,
+                                        codeCacheHitsCounter,
+                                        codeCacheMissesCounter,
+                                        storageSlotsPrefetchedCounter,
+                                        storagePrefetchHitsCounter,
+                                        storagePrefetchMissesCounter)
+                                .filter(Objects::nonNull))
                 .map(Metric::getName)
                 .sorted()
                 .toList();
@@ -190,7 +311,14 @@ public class ContractMetrics {
                         Stream.concat(
                                 rejectedTxsCounters.values().stream(),
                                 rejectedTxsLackingIntrinsicGas.values().stream()),
-                        Stream.ofNullable(rejectedEthType3Counter))
+                        Stream.of(
+                                        rejectedEthType3Counter,
+                                        codeCacheHitsCounter,
+                                        codeCacheMissesCounter,
+                                        storageSlotsPrefetchedCounter,
+                                        storagePrefetchHitsCounter,
+                                        storagePrefetchMissesCounter)
+                                .filter(Objects::nonNull))
                 .map(Metric::getDescription)
                 .sorted()
                 .toList();
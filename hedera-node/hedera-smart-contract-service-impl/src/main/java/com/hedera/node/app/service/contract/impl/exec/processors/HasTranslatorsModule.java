@@ -17,6 +17,7 @@
 package com.hedera.node.app.service.contract.impl.exec.processors;
 
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.SelectorIndexedCallTranslators;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.has.HasCallAttempt;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.has.getevmaddressalias.EvmAddressAliasTranslator;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.has.hbarallowance.HbarAllowanceTranslator;
@@ -45,7 +46,7 @@ public interface HasTranslatorsModule {
     @Named("HasTranslators")
     static List<CallTranslator<HasCallAttempt>> provideCallAttemptTranslators(
             @NonNull @Named("HasTranslators") final Set<CallTranslator<HasCallAttempt>> translators) {
-        return List.copyOf(translators);
+        return SelectorIndexedCallTranslators.from(List.copyOf(translators));
     }
 
     @Provides
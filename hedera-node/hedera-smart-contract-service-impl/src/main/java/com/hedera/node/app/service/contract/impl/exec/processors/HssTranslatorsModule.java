@@ -17,6 +17,7 @@
 package com.hedera.node.app.service.contract.impl.exec.processors;
 
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.SelectorIndexedCallTranslators;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hss.HssCallAttempt;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hss.signschedule.SignScheduleTranslator;
 import dagger.Module;
@@ -38,7 +39,7 @@ public interface HssTranslatorsModule {
     @Named("HssTranslators")
     static List<CallTranslator<HssCallAttempt>> provideCallAttemptTranslators(
             @NonNull @Named("HssTranslators") final Set<CallTranslator<HssCallAttempt>> translators) {
-        return List.copyOf(translators);
+        return SelectorIndexedCallTranslators.from(List.copyOf(translators));
     }
 
     @Provides
@@ -17,6 +17,7 @@
 package com.hedera.node.app.service.contract.impl.exec.processors;
 
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.SelectorIndexedCallTranslators;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.airdrops.TokenAirdropTranslator;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.allowance.GetAllowanceTranslator;
@@ -83,7 +84,7 @@ public interface HtsTranslatorsModule {
     @Named("HtsTranslators")
     static List<CallTranslator<HtsCallAttempt>> provideCallAttemptTranslators(
             @NonNull @Named("HtsTranslators") final Set<CallTranslator<HtsCallAttempt>> translators) {
-        return List.copyOf(translators);
+        return SelectorIndexedCallTranslators.from(List.copyOf(translators));
     }
 
     @Provides
@@ -174,7 +174,10 @@ public abstract class AbstractCallAttempt<T extends AbstractCallAttempt<T>> {
      */
     public @Nullable Call asExecutableCall() {
         final var self = self();
-        for (final var translator : callTranslators) {
+        final var candidates = callTranslators instanceof SelectorIndexedCallTranslators<T> indexed
+                ? indexed.candidatesFor(selector)
+                : callTranslators;
+        for (final var translator : candidates) {
             final var call = translator.translateCallAttempt(self);
             if (call != null) {
                 return call;
@@ -16,9 +16,11 @@
 
 package com.hedera.node.app.service.contract.impl.exec.systemcontracts.common;
 
+import com.esaulpaugh.headlong.abi.Function;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.List;
 
 /**
  * Strategy interface for translating {@link HtsCallAttempt}s into {@link Call}s.
@@ -43,6 +45,17 @@ public interface CallTranslator<T> {
      */
     boolean matches(@NonNull T attempt);
 
+    /**
+     * Returns every function whose selector this translator could possibly match, regardless of
+     * feature flags or redirect status; used to index translators by selector so each attempt only
+     * consults its candidates. An empty list means the translator must be consulted for every selector.
+     *
+     * @return the functions this translator could match
+     */
+    default @NonNull List<Function> matchableFunctions() {
+        return List.of();
+    }
+
     /**
      * Returns a call from the given attempt.
      *
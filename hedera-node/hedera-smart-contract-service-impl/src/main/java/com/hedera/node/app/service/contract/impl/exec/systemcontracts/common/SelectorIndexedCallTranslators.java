@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.exec.systemcontracts.common;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * An immutable list of {@link CallTranslator}s that also indexes them by the 4-byte selectors they
+ * declare via {@link CallTranslator#matchableFunctions()}, so that {@link AbstractCallAttempt#asExecutableCall()}
+ * only consults the translators that could possibly match an attempt's selector.
+ *
+ * <p>The candidates for each selector keep the relative order of the full list, and translators that
+ * declare no functions are included in every selector's candidates; so translating through the index
+ * gives exactly the same result as scanning the full list. Feature flags and redirect checks are
+ * still applied by each candidate's {@link CallTranslator#matches(Object)}.
+ *
+ * @param <T> the type of call attempt the translators handle
+ */
+public final class SelectorIndexedCallTranslators<T extends AbstractCallAttempt<T>>
+        extends AbstractList<CallTranslator<T>> implements RandomAccess {
+    private final List<CallTranslator<T>> translators;
+    private final List<CallTranslator<T>> unindexed;
+    private final Map<Integer, List<CallTranslator<T>>> candidatesBySelector;
+
+    private SelectorIndexedCallTranslators(@NonNull final List<CallTranslator<T>> translators) {
+        this.translators = List.copyOf(translators);
+        final Map<CallTranslator<T>, Set<Integer>> selectorsByTranslator = new HashMap<>();
+        final Set<Integer> allSelectors = new LinkedHashSet<>();
+        final List<CallTranslator<T>> unindexedTranslators = new ArrayList<>();
+        for (final var translator : this.translators) {
+            final Set<Integer> selectors = new LinkedHashSet<>();
+            for (final var function : translator.matchableFunctions()) {
+                selectors.add(selectorKey(function.selector()));
+            }
+            if (selectors.isEmpty()) {
+                unindexedTranslators.add(translator);
+            } else {
+                selectorsByTranslator.put(translator, selectors);
+                allSelectors.addAll(selectors);
+            }
+        }
+        this.unindexed = List.copyOf(unindexedTranslators);
+        final Map<Integer, List<CallTranslator<T>>> index = new HashMap<>();
+        for (final var selector : allSelectors) {
+            final List<CallTranslator<T>> candidates = new ArrayList<>();
+            for (final var translator : this.translators) {
+                final var selectors = selectorsByTranslator.get(translator);
+                if (selectors == null || selectors.contains(selector)) {
+                    candidates.add(translator);
+                }
+            }
+            index.put(selector, List.copyOf(candidates));
+        }
+        this.candidatesBySelector = Map.copyOf(index);
+    }
+
+    /**
+     * Creates an indexed copy of the given translators.
+     *
+     * @param translators the translators to index, in the order they should be consulted
+     * @return the indexed translators
+     * @param <T> the type of call attempt the translators handle
+     */
+    public static <T extends AbstractCallAttempt<T>> SelectorIndexedCallTranslators<T> from(
+            @NonNull final List<CallTranslator<T>> translators) {
+        return new SelectorIndexedCallTranslators<>(requireNonNull(translators));
+    }
+
+    /**
+     * Returns the translators that could match a call attempt with the given selector, in consultation order.
+     *
+     * @param selector the attempt's selector
+     * @return the candidate translators
+     */
+    public @NonNull List<CallTranslator<T>> candidatesFor(@NonNull final byte[] selector) {
+        requireNonNull(selector);
+        if (selector.length < 4) {
+            return unindexed;
+        }
+        return candidatesBySelector.getOrDefault(selectorKey(selector), unindexed);
+    }
+
+    @Override
+    public CallTranslator<T> get(final int index) {
+        return translators.get(index);
+    }
+
+    @Override
+    public int size() {
+        return translators.size();
+    }
+
+    private static int selectorKey(@NonNull final byte[] selector) {
+        return (selector[0] & 0xFF) << 24
+                | (selector[1] & 0xFF) << 16
+                | (selector[2] & 0xFF) << 8
+                | (selector[3] & 0xFF);
+    }
+}
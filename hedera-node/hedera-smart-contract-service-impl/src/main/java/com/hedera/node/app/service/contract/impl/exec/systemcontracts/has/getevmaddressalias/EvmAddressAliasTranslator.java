@@ -24,6 +24,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.Abs
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.has.HasCallAttempt;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ReturnTypes;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -60,4 +61,9 @@ public class EvmAddressAliasTranslator extends AbstractCallTranslator<HasCallAtt
         requireNonNull(attempt, "attempt");
         return attempt.isSelector(EVM_ADDRESS_ALIAS);
     }
+
+    @Override
+    public @NonNull List<Function> matchableFunctions() {
+        return List.of(EVM_ADDRESS_ALIAS);
+    }
 }
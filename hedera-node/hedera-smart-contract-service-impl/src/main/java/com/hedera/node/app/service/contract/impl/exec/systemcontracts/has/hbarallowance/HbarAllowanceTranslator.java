@@ -24,6 +24,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.Cal
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.has.HasCallAttempt;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ReturnTypes;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -55,6 +56,11 @@ public class HbarAllowanceTranslator extends AbstractCallTranslator<HasCallAttem
         return attempt.isSelector(HBAR_ALLOWANCE, HBAR_ALLOWANCE_PROXY);
     }
 
+    @Override
+    public @NonNull List<Function> matchableFunctions() {
+        return List.of(HBAR_ALLOWANCE, HBAR_ALLOWANCE_PROXY);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -24,6 +24,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.Abs
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.has.HasCallAttempt;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ReturnTypes;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 
 public class HederaAccountNumAliasTranslator extends AbstractCallTranslator<HasCallAttempt> {
@@ -56,4 +57,9 @@ public class HederaAccountNumAliasTranslator extends AbstractCallTranslator<HasC
         requireNonNull(attempt, "attempt");
         return attempt.isSelector(HEDERA_ACCOUNT_NUM_ALIAS);
     }
+
+    @Override
+    public @NonNull List<Function> matchableFunctions() {
+        return List.of(HEDERA_ACCOUNT_NUM_ALIAS);
+    }
 }
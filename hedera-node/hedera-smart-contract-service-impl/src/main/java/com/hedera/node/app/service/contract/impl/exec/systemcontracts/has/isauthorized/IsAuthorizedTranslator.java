@@ -29,6 +29,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.has.HasCal
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ReturnTypes;
 import com.hedera.node.config.data.ContractsConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -61,6 +62,11 @@ public class IsAuthorizedTranslator extends AbstractCallTranslator<HasCallAttemp
         return callEnabled && attempt.isSelector(IS_AUTHORIZED);
     }
 
+    @Override
+    public @NonNull List<Function> matchableFunctions() {
+        return List.of(IS_AUTHORIZED);
+    }
+
     @Override
     public Call callFrom(@NonNull HasCallAttempt attempt) {
         requireNonNull(attempt, "attempt");
@@ -29,6 +29,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.has.HasCal
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ReturnTypes;
 import com.hedera.node.config.data.ContractsConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -69,6 +70,11 @@ public class IsAuthorizedRawTranslator extends AbstractCallTranslator<HasCallAtt
         return callEnabled && attempt.isSelector(IS_AUTHORIZED_RAW);
     }
 
+    @Override
+    public @NonNull List<Function> matchableFunctions() {
+        return List.of(IS_AUTHORIZED_RAW);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -27,6 +27,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.has.HasCal
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ReturnTypes;
 import com.hedera.node.config.data.ContractsConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -52,6 +53,11 @@ public class SetUnlimitedAutoAssociationsTranslator extends AbstractCallTranslat
         return attempt.isSelectorIfConfigEnabled(setUnlimitedAutoAssocEnabled, SET_UNLIMITED_AUTO_ASSOC);
     }
 
+    @Override
+    public @NonNull List<Function> matchableFunctions() {
+        return List.of(SET_UNLIMITED_AUTO_ASSOC);
+    }
+
     @Override
     public Call callFrom(@NonNull final HasCallAttempt attempt) {
         requireNonNull(attempt);
@@ -43,6 +43,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.Return
 import com.hedera.node.app.service.contract.impl.hevm.HederaWorldUpdater;
 import com.hedera.node.config.data.ContractsConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -72,6 +73,11 @@ public class SignScheduleTranslator extends AbstractCallTranslator<HssCallAttemp
                 || attempt.isSelectorIfConfigEnabled(authorizeScheduleEnabled, AUTHORIZE_SCHEDULE);
     }
 
+    @Override
+    public @NonNull List<Function> matchableFunctions() {
+        return List.of(SIGN_SCHEDULE_PROXY, AUTHORIZE_SCHEDULE);
+    }
+
     @Override
     public Call callFrom(@NonNull HssCallAttempt attempt) {
         final var body = bodyFor(scheduleIdFor(attempt));
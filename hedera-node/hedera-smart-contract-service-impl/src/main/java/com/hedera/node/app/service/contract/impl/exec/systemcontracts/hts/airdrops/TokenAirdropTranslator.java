@@ -30,6 +30,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCal
 import com.hedera.node.app.service.contract.impl.hevm.HederaWorldUpdater;
 import com.hedera.node.config.data.ContractsConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 
 public class TokenAirdropTranslator extends AbstractCallTranslator<HtsCallAttempt> {
@@ -52,6 +53,11 @@ public class TokenAirdropTranslator extends AbstractCallTranslator<HtsCallAttemp
         return attempt.isSelectorIfConfigEnabled(airdropEnabled, TOKEN_AIRDROP);
     }
 
+    @Override
+    public @NonNull List<Function> matchableFunctions() {
+        return List.of(TOKEN_AIRDROP);
+    }
+
     public static long gasRequirement(
             @NonNull final TransactionBody body,
             @NonNull final SystemContractGasCalculator systemContractGasCalculator,
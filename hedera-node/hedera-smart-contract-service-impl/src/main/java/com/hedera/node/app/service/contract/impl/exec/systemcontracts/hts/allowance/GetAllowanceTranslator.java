@@ -25,6 +25,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.Return
 import com.hedera.node.app.service.contract.impl.utils.ConversionUtils;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.Arrays;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -60,6 +61,11 @@ public class GetAllowanceTranslator extends AbstractCallTranslator<HtsCallAttemp
         return attempt.isSelector(GET_ALLOWANCE, ERC_GET_ALLOWANCE);
     }
 
+    @Override
+    public @NonNull List<Function> matchableFunctions() {
+        return List.of(GET_ALLOWANCE, ERC_GET_ALLOWANCE);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -30,6 +30,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.Dispat
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
 import com.hedera.node.app.service.contract.impl.hevm.HederaWorldUpdater;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 
 /**
@@ -61,6 +62,11 @@ public class BurnTranslator extends AbstractCallTranslator<HtsCallAttempt> {
         return attempt.isSelector(BURN_TOKEN_V1, BURN_TOKEN_V2);
     }
 
+    @Override
+    public @NonNull List<Function> matchableFunctions() {
+        return List.of(BURN_TOKEN_V1, BURN_TOKEN_V2);
+    }
+
     @Override
     public Call callFrom(@NonNull HtsCallAttempt attempt) {
         final var body = bodyForClassic(attempt);
@@ -31,6 +31,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.Return
 import com.hedera.node.app.service.contract.impl.hevm.HederaWorldUpdater;
 import com.hedera.node.config.data.ContractsConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 
 public class TokenCancelAirdropTranslator extends AbstractCallTranslator<HtsCallAttempt> {
@@ -60,6 +61,11 @@ public class TokenCancelAirdropTranslator extends AbstractCallTranslator<HtsCall
                 : attempt.isSelectorIfConfigEnabled(cancelAirdropEnabled, CANCEL_AIRDROP);
     }
 
+    @Override
+    public @NonNull List<Function> matchableFunctions() {
+        return List.of(HRC_CANCEL_AIRDROP_FT, HRC_CANCEL_AIRDROP_NFT, CANCEL_AIRDROP);
+    }
+
     @Override
     public Call callFrom(@NonNull final HtsCallAttempt attempt) {
         return new DispatchForResponseCodeHtsCall(
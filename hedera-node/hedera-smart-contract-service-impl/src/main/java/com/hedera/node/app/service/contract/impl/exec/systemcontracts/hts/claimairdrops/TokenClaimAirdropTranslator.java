@@ -29,6 +29,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.Return
 import com.hedera.node.app.service.contract.impl.hevm.HederaWorldUpdater;
 import com.hedera.node.config.data.ContractsConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 
 public class TokenClaimAirdropTranslator extends AbstractCallTranslator<HtsCallAttempt> {
@@ -54,6 +55,11 @@ public class TokenClaimAirdropTranslator extends AbstractCallTranslator<HtsCallA
                 : attempt.isSelectorIfConfigEnabled(claimAirdropEnabled, CLAIM_AIRDROP);
     }
 
+    @Override
+    public @NonNull List<Function> matchableFunctions() {
+        return List.of(HRC_CLAIM_AIRDROP_FT, HRC_CLAIM_AIRDROP_NFT, CLAIM_AIRDROP);
+    }
+
     @Override
     public Call callFrom(@NonNull final HtsCallAttempt attempt) {
         return new DispatchForResponseCodeHtsCall(
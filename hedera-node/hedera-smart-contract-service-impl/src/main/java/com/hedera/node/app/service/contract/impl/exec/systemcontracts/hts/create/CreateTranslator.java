@@ -36,6 +36,7 @@ import com.hedera.node.config.data.ContractsConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import javax.inject.Inject;
@@ -223,6 +224,11 @@ public class CreateTranslator extends AbstractCallTranslator<HtsCallAttempt> {
                         : attempt.isSelector(selector));
     }
 
+    @Override
+    public @NonNull List<Function> matchableFunctions() {
+        return List.copyOf(createSelectorsMap.keySet());
+    }
+
     @Override
     public ClassicCreatesCall callFrom(@NonNull HtsCallAttempt attempt) {
         return new ClassicCreatesCall(
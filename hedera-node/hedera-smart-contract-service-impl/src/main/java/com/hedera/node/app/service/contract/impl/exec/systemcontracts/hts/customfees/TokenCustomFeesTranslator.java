@@ -24,6 +24,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.Cal
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ReturnTypes;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 
 public class TokenCustomFeesTranslator extends AbstractCallTranslator<HtsCallAttempt> {
@@ -44,6 +45,11 @@ public class TokenCustomFeesTranslator extends AbstractCallTranslator<HtsCallAtt
         return attempt.isSelector(TOKEN_CUSTOM_FEES);
     }
 
+    @Override
+    public @NonNull List<Function> matchableFunctions() {
+        return List.of(TOKEN_CUSTOM_FEES);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -22,6 +22,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.Cal
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ReturnTypes;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -49,6 +50,11 @@ public class DecimalsTranslator extends AbstractCallTranslator<HtsCallAttempt> {
         return attempt.isSelector(DECIMALS);
     }
 
+    @Override
+    public @NonNull List<Function> matchableFunctions() {
+        return List.of(DECIMALS);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -24,6 +24,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.Cal
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ReturnTypes;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 
 /**
@@ -50,6 +51,11 @@ public class DefaultFreezeStatusTranslator extends AbstractCallTranslator<HtsCal
         return attempt.isSelector(DEFAULT_FREEZE_STATUS);
     }
 
+    @Override
+    public @NonNull List<Function> matchableFunctions() {
+        return List.of(DEFAULT_FREEZE_STATUS);
+    }
+
     /**
      * {@inheritDoc}
      */
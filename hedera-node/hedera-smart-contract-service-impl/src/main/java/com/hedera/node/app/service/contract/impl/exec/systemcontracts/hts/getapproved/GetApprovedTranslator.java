@@ -24,6 +24,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.Abs
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ReturnTypes;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -54,6 +55,11 @@ public class GetApprovedTranslator extends AbstractCallTranslator<HtsCallAttempt
         return attempt.isTokenRedirect() ? attempt.isSelector(ERC_GET_APPROVED) : attempt.isSelector(HAPI_GET_APPROVED);
     }
 
+    @Override
+    public @NonNull List<Function> matchableFunctions() {
+        return List.of(ERC_GET_APPROVED, HAPI_GET_APPROVED);
+    }
+
     /**
      * {@inheritDoc}
      */
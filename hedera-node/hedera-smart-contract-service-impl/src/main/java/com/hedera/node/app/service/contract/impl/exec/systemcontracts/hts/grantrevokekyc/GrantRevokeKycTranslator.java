@@ -28,6 +28,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.Cal
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.*;
 import com.hedera.node.app.service.contract.impl.hevm.HederaWorldUpdater;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -64,6 +65,11 @@ public class GrantRevokeKycTranslator extends AbstractCallTranslator<HtsCallAtte
         return attempt.isSelector(GRANT_KYC, REVOKE_KYC);
     }
 
+    @Override
+    public @NonNull List<Function> matchableFunctions() {
+        return List.of(GRANT_KYC, REVOKE_KYC);
+    }
+
     /**
      * {@inheritDoc}
      */
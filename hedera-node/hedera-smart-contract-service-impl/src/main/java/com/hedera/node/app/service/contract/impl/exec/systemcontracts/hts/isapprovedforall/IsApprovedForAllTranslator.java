@@ -22,6 +22,7 @@ import com.esaulpaugh.headlong.abi.Function;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.AbstractCallTranslator;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -52,6 +53,11 @@ public class IsApprovedForAllTranslator extends AbstractCallTranslator<HtsCallAt
         return attempt.isSelector(CLASSIC_IS_APPROVED_FOR_ALL, ERC_IS_APPROVED_FOR_ALL);
     }
 
+    @Override
+    public @NonNull List<Function> matchableFunctions() {
+        return List.of(CLASSIC_IS_APPROVED_FOR_ALL, ERC_IS_APPROVED_FOR_ALL);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -29,6 +29,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.Dispat
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
 import com.hedera.node.app.service.contract.impl.hevm.HederaWorldUpdater;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -60,6 +61,11 @@ public class MintTranslator extends AbstractCallTranslator<HtsCallAttempt> {
         return attempt.isSelector(MINT, MINT_V2);
     }
 
+    @Override
+    public @NonNull List<Function> matchableFunctions() {
+        return List.of(MINT, MINT_V2);
+    }
+
     @Override
     public Call callFrom(@NonNull final HtsCallAttempt attempt) {
         final var body = bodyForClassic(attempt);
@@ -21,6 +21,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.Abs
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ReturnTypes;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -48,6 +49,11 @@ public class NameTranslator extends AbstractCallTranslator<HtsCallAttempt> {
         return attempt.isSelector(NAME);
     }
 
+    @Override
+    public @NonNull List<Function> matchableFunctions() {
+        return List.of(NAME);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -26,6 +26,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCal
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ReturnTypes;
 import com.hedera.node.config.data.ContractsConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 
 public class NftTokenInfoTranslator extends AbstractCallTranslator<HtsCallAttempt> {
@@ -58,6 +59,11 @@ public class NftTokenInfoTranslator extends AbstractCallTranslator<HtsCallAttemp
                 || attempt.isSelectorIfConfigEnabled(v2Enabled, NON_FUNGIBLE_TOKEN_INFO_V2);
     }
 
+    @Override
+    public @NonNull List<Function> matchableFunctions() {
+        return List.of(NON_FUNGIBLE_TOKEN_INFO, NON_FUNGIBLE_TOKEN_INFO_V2);
+    }
+
     /**
      * {@inheritDoc}
      */
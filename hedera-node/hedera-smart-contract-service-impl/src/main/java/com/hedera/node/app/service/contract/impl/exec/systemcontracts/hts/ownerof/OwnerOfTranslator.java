@@ -23,6 +23,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.Abs
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ReturnTypes;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -50,6 +51,11 @@ public class OwnerOfTranslator extends AbstractCallTranslator<HtsCallAttempt> {
         return attempt.isSelector(OWNER_OF);
     }
 
+    @Override
+    public @NonNull List<Function> matchableFunctions() {
+        return List.of(OWNER_OF);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -28,6 +28,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCal
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ReturnTypes;
 import com.hedera.node.app.service.contract.impl.hevm.HederaWorldUpdater;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -60,6 +61,11 @@ public class PausesTranslator extends AbstractCallTranslator<HtsCallAttempt> {
         return attempt.isSelector(PAUSE, UNPAUSE);
     }
 
+    @Override
+    public @NonNull List<Function> matchableFunctions() {
+        return List.of(PAUSE, UNPAUSE);
+    }
+
     /**
      * {@inheritDoc}
      */
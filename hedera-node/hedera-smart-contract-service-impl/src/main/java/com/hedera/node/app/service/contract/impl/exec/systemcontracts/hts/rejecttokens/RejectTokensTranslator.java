@@ -31,6 +31,7 @@ import com.hedera.node.app.service.contract.impl.hevm.HederaWorldUpdater;
 import com.hedera.node.config.data.ContractsConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import javax.inject.Inject;
@@ -61,6 +62,11 @@ public class RejectTokensTranslator extends AbstractCallTranslator<HtsCallAttemp
                 : attempt.isSelectorIfConfigEnabled(rejectEnabled, TOKEN_REJECT);
     }
 
+    @Override
+    public @NonNull List<Function> matchableFunctions() {
+        return List.of(HRC_TOKEN_REJECT_FT, HRC_TOKEN_REJECT_NFT, TOKEN_REJECT);
+    }
+
     @Override
     public Call callFrom(@NonNull final HtsCallAttempt attempt) {
         final var gasRequirement = gasCalculators.entrySet().stream()
@@ -28,6 +28,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCal
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ReturnTypes;
 import com.hedera.node.app.service.contract.impl.hevm.HederaWorldUpdater;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 
 /**
@@ -63,6 +64,11 @@ public class SetApprovalForAllTranslator extends AbstractCallTranslator<HtsCallA
                 : attempt.isSelector(SET_APPROVAL_FOR_ALL);
     }
 
+    @Override
+    public @NonNull List<Function> matchableFunctions() {
+        return List.of(ERC721_SET_APPROVAL_FOR_ALL, SET_APPROVAL_FOR_ALL);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -24,6 +24,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.Cal
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ReturnTypes;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 
 /**
@@ -50,6 +51,11 @@ public class TokenExpiryTranslator extends AbstractCallTranslator<HtsCallAttempt
         return attempt.isSelector(TOKEN_EXPIRY);
     }
 
+    @Override
+    public @NonNull List<Function> matchableFunctions() {
+        return List.of(TOKEN_EXPIRY);
+    }
+
     /**
      * {@inheritDoc}
      */
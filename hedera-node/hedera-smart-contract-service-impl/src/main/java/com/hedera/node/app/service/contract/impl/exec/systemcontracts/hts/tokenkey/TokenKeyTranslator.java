@@ -29,6 +29,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.Return
 import com.hedera.node.config.data.ContractsConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.math.BigInteger;
+import java.util.List;
 import javax.inject.Inject;
 
 /**
@@ -55,6 +56,11 @@ public class TokenKeyTranslator extends AbstractCallTranslator<HtsCallAttempt> {
         return attempt.isSelector(TOKEN_KEY);
     }
 
+    @Override
+    public @NonNull List<Function> matchableFunctions() {
+        return List.of(TOKEN_KEY);
+    }
+
     /**
      * {@inheritDoc}
      */
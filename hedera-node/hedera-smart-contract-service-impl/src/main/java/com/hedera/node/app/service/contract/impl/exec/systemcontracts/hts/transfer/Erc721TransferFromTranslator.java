@@ -26,6 +26,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.Cal
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.math.BigInteger;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -56,6 +57,11 @@ public class Erc721TransferFromTranslator extends AbstractCallTranslator<HtsCall
                 && attempt.redirectTokenType() == NON_FUNGIBLE_UNIQUE;
     }
 
+    @Override
+    public @NonNull List<Function> matchableFunctions() {
+        return List.of(ERC_721_TRANSFER_FROM);
+    }
+
     @Override
     public Call callFrom(@NonNull final HtsCallAttempt attempt) {
         final var call = Erc721TransferFromTranslator.ERC_721_TRANSFER_FROM.decodeCall(
@@ -36,6 +36,7 @@ import com.hedera.node.app.service.contract.impl.hevm.HederaWorldUpdater;
 import com.hedera.node.config.data.ContractsConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import javax.inject.Inject;
 
@@ -84,6 +85,11 @@ public class UpdateTranslator extends AbstractCallTranslator<HtsCallAttempt> {
                         : attempt.isSelector(selector));
     }
 
+    @Override
+    public @NonNull List<Function> matchableFunctions() {
+        return List.copyOf(updateSelectorsMap.keySet());
+    }
+
     @Override
     public Call callFrom(@NonNull HtsCallAttempt attempt) {
         return new DispatchForResponseCodeHtsCall(
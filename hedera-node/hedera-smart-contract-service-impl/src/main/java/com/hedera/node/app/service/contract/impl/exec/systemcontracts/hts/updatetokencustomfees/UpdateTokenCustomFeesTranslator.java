@@ -34,6 +34,7 @@ import com.hedera.node.app.service.contract.impl.hevm.HederaWorldUpdater;
 import com.hedera.node.config.data.ContractsConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.Arrays;
+import java.util.List;
 import javax.inject.Inject;
 
 public class UpdateTokenCustomFeesTranslator extends AbstractCallTranslator<HtsCallAttempt> {
@@ -60,6 +61,11 @@ public class UpdateTokenCustomFeesTranslator extends AbstractCallTranslator<HtsC
                         UPDATE_FUNGIBLE_TOKEN_CUSTOM_FEES_FUNCTION, UPDATE_NON_FUNGIBLE_TOKEN_CUSTOM_FEES_FUNCTION);
     }
 
+    @Override
+    public @NonNull List<Function> matchableFunctions() {
+        return List.of(UPDATE_FUNGIBLE_TOKEN_CUSTOM_FEES_FUNCTION, UPDATE_NON_FUNGIBLE_TOKEN_CUSTOM_FEES_FUNCTION);
+    }
+
     /**
      * @param body                          the transaction body to be dispatched
      * @param systemContractGasCalculator   the gas calculator for the system contract
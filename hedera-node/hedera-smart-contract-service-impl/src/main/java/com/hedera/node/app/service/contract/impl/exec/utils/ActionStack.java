@@ -20,35 +20,30 @@ import static com.hedera.hapi.streams.CallOperationType.OP_CALL;
 import static com.hedera.hapi.streams.CallOperationType.OP_CREATE;
 import static com.hedera.hapi.streams.ContractActionType.CALL;
 import static com.hedera.hapi.streams.ContractActionType.CREATE;
-import static com.hedera.hapi.streams.codec.ContractActionProtoCodec.RECIPIENT_UNSET;
 import static com.hedera.node.app.service.contract.impl.exec.failure.CustomExceptionalHaltReason.INVALID_SOLIDITY_ADDRESS;
 import static com.hedera.node.app.service.contract.impl.exec.utils.FrameUtils.proxyUpdaterFor;
 import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.asNumberedContractId;
 import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.hederaIdNumOfContractIn;
 import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.hederaIdNumOfOriginatorIn;
-import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.pbjToBesuAddress;
-import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.tuweniToPbjBytes;
-import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
 import static org.hyperledger.besu.evm.frame.MessageFrame.Type.CONTRACT_CREATION;
 import static org.hyperledger.besu.evm.frame.MessageFrame.Type.MESSAGE_CALL;
 
 import com.hedera.hapi.node.base.AccountID;
-import com.hedera.hapi.node.base.ContractID;
 import com.hedera.hapi.streams.CallOperationType;
-import com.hedera.hapi.streams.ContractAction;
 import com.hedera.hapi.streams.ContractActionType;
 import com.hedera.hapi.streams.ContractActions;
+import com.hedera.node.app.service.contract.impl.exec.utils.ActionWrapper.Outcome;
+import com.hedera.node.app.service.contract.impl.exec.utils.ActionWrapper.RecipientType;
 import com.hedera.node.app.service.contract.impl.utils.OpcodeUtils;
-import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.function.UnaryOperator;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -109,7 +104,8 @@ public class ActionStack {
 
     /**
      * Returns a view of this stack appropriate for externalizing in a
-     * {@link com.hedera.hapi.streams.SidecarType#CONTRACT_ACTION} sidecar.
+     * {@link com.hedera.hapi.streams.SidecarType#CONTRACT_ACTION} sidecar. Builds every action not yet built
+     * on the calling thread.
      *
      * @return a view of this stack ready to be put in a sidecar
      */
@@ -154,10 +150,10 @@ public class ActionStack {
             @NonNull final MessageFrame frame,
             @NonNull final ContractActionType type,
             @NonNull final Validation validation) {
-        internalFinalize(validation, frame, action -> action.copyBuilder()
-                .recipientContract(asNumberedContractId(frame.getContractAddress()))
-                .callType(type)
-                .build());
+        internalFinalize(
+                validation,
+                frame,
+                action -> action.finalizeAsPrecompile(type, asNumberedContractId(frame.getContractAddress())));
     }
 
     private void internalFinalize(@NonNull final Validation validateAction, @NonNull final MessageFrame frame) {
@@ -167,7 +163,7 @@ public class ActionStack {
     private void internalFinalize(
             @NonNull final Validation validateAction,
             @NonNull final MessageFrame frame,
-            @Nullable final UnaryOperator<ContractAction> transform) {
+            @Nullable final Consumer<ActionWrapper> transform) {
         requireNonNull(frame);
 
         // Try to get the action from the stack or the list as requested; warn and return if not found
@@ -179,9 +175,11 @@ public class ActionStack {
             lastWrappedAction = actionsStack.pop();
         }
 
-        // Swap in the final form of the action
-        final var finalAction = finalFormOf(lastWrappedAction.get(), frame);
-        lastWrappedAction.set(transform == null ? finalAction : transform.apply(finalAction));
+        // Record the final form of the action, deferring the work of building it until it is needed
+        recordFinalForm(lastWrappedAction, frame);
+        if (transform != null) {
+            transform.accept(lastWrappedAction);
+        }
 
         // Validate and track problems if applicable
         if (validateAction == Validation.ON && !helper.isValid(lastWrappedAction.get())) {
@@ -189,54 +187,52 @@ public class ActionStack {
         }
     }
 
-    private ContractAction finalFormOf(@NonNull final ContractAction action, @NonNull final MessageFrame frame) {
-        return switch (frame.getState()) {
-            case NOT_STARTED, CODE_EXECUTING, CODE_SUSPENDED -> action;
+    private void recordFinalForm(@NonNull final ActionWrapper action, @NonNull final MessageFrame frame) {
+        final var unsetRecipient = frame.getType() == CONTRACT_CREATION;
+        switch (frame.getState()) {
+            case NOT_STARTED, CODE_EXECUTING, CODE_SUSPENDED -> {
+                // Not a final state, nothing to record
+            }
             case CODE_SUCCESS, COMPLETED_SUCCESS -> {
-                final var builder = action.copyBuilder();
-                builder.gasUsed(action.gas() - frame.getRemainingGas());
-                if (action.callType() == CREATE) {
-                    builder.output(Bytes.EMPTY);
-                } else {
-                    builder.output(tuweniToPbjBytes(frame.getOutputData()));
-                    if (action.targetedAddress() != null) {
-                        final var maybeCreatedAddress = pbjToBesuAddress(action.targetedAddressOrThrow());
-                        final var maybeCreatedAccount = proxyUpdaterFor(frame).getHederaAccount(maybeCreatedAddress);
-                        // Fill in the account of id of a successful lazy creation; but just leave
-                        // the targeted address in case of a failed lazy-creation or a call to a
-                        // non-existent address
-                        if (maybeCreatedAccount != null) {
-                            builder.recipientAccount(maybeCreatedAccount.hederaId());
-                        }
+                AccountID createdAccountId = null;
+                final var maybeCreatedAddress = action.callType() == CREATE ? null : action.targetedAddress();
+                if (maybeCreatedAddress != null) {
+                    final var maybeCreatedAccount = proxyUpdaterFor(frame).getHederaAccount(maybeCreatedAddress);
+                    // Fill in the account of id of a successful lazy creation; but just leave
+                    // the targeted address in case of a failed lazy-creation or a call to a
+                    // non-existent address
+                    if (maybeCreatedAccount != null) {
+                        createdAccountId = maybeCreatedAccount.hederaId();
                     }
                 }
-                yield builder.build();
-            }
-            case REVERT -> {
-                final var builder = action.copyBuilder();
-                builder.gasUsed(action.gas() - frame.getRemainingGas());
-                frame.getRevertReason()
-                        .ifPresentOrElse(
-                                reason -> builder.revertReason(tuweniToPbjBytes(reason)),
-                                () -> builder.revertReason(Bytes.EMPTY));
-                yield withUnsetRecipientIfNeeded(frame.getType(), builder);
+                action.finalizeWith(
+                        Outcome.OUTPUT,
+                        action.gas() - frame.getRemainingGas(),
+                        frame.getOutputData(),
+                        null,
+                        createdAccountId,
+                        false);
             }
+            case REVERT -> action.finalizeWith(
+                    Outcome.REVERT,
+                    action.gas() - frame.getRemainingGas(),
+                    frame.getRevertReason().orElse(null),
+                    null,
+                    null,
+                    unsetRecipient);
             case EXCEPTIONAL_HALT, COMPLETED_FAILED -> {
-                final var builder = action.copyBuilder();
-                builder.gasUsed(action.gas());
                 final var maybeHaltReason = frame.getExceptionalHaltReason();
+                String errorName = null;
                 if (maybeHaltReason.isPresent()) {
                     final var haltReason = maybeHaltReason.get();
-                    builder.error(Bytes.wrap(haltReason.name().getBytes(UTF_8)));
+                    errorName = haltReason.name();
                     if (CALL.equals(action.callType()) && haltReason == INVALID_SOLIDITY_ADDRESS) {
                         allActions.add(new ActionWrapper(helper.createSynthActionForMissingAddressIn(frame)));
                     }
-                } else {
-                    builder.error(Bytes.EMPTY);
                 }
-                yield withUnsetRecipientIfNeeded(frame.getType(), builder);
+                action.finalizeWith(Outcome.ERROR, action.gas(), null, errorName, null, unsetRecipient);
             }
-        };
+        }
     }
 
     /**
@@ -251,10 +247,7 @@ public class ActionStack {
      * @param frame the initial frame of a HAPI contract operation
      */
     public void pushActionOfTopLevel(@NonNull final MessageFrame frame) {
-        final var builder = ContractAction.newBuilder()
-                .callOperationType(asCallOperationType(frame.getType()))
-                .callingAccount(accountIdWith(hederaIdNumOfOriginatorIn(frame)));
-        completePush(builder, frame);
+        completePush(asCallOperationType(frame.getType()), false, hederaIdNumOfOriginatorIn(frame), frame);
     }
 
     /**
@@ -268,34 +261,48 @@ public class ActionStack {
      * @param frame the frame executing an action
      */
     public void pushActionOfIntermediate(@NonNull final MessageFrame frame) {
-        final var builder = ContractAction.newBuilder()
-                .callOperationType(OpcodeUtils.asCallOperationType(
-                        frame.getCurrentOperation().getOpcode()))
-                .callingContract(contractIdWith(hederaIdNumOfContractIn(frame)));
-        completePush(builder, requireNonNull(frame.getMessageFrameStack().peek()));
+        completePush(
+                OpcodeUtils.asCallOperationType(frame.getCurrentOperation().getOpcode()),
+                true,
+                hederaIdNumOfContractIn(frame),
+                requireNonNull(frame.getMessageFrameStack().peek()));
     }
 
-    private void completePush(@NonNull ContractAction.Builder builder, @NonNull final MessageFrame frame) {
-        builder.callType(asActionType(frame.getType()))
-                .gas(frame.getRemainingGas())
-                .input(tuweniToPbjBytes(frame.getInputData()))
-                .value(frame.getValue().toLong())
-                .callDepth(frame.getDepth());
+    private void completePush(
+            @NonNull final CallOperationType callOperationType,
+            final boolean callerIsContract,
+            final long callerNum,
+            @NonNull final MessageFrame frame) {
         // If this call "targets" a missing address, we can't decide yet whether to use a contract id or an
         // account id for the recipient; only later when we know whether the call attempted a lazy creation
         // can we decide to either leave this address (on failure) or replace it with the created account id
+        RecipientType recipientType;
+        long recipientNum = 0;
         if (targetsMissingAddress(frame)) {
-            builder.targetedAddress(tuweniToPbjBytes(frame.getContractAddress()));
+            recipientType = RecipientType.TARGETED_ADDRESS;
         } else if (CodeV0.EMPTY_CODE.equals(frame.getCode())) {
-            builder.recipientAccount(accountIdWith(hederaIdNumOfContractIn(frame)));
+            recipientType = RecipientType.ACCOUNT;
+            recipientNum = hederaIdNumOfContractIn(frame);
         } else {
             try {
-                builder.recipientContract(contractIdWith(hederaIdNumOfContractIn(frame)));
+                recipientNum = hederaIdNumOfContractIn(frame);
+                recipientType = RecipientType.CONTRACT;
             } catch (NullPointerException ignore) {
-                builder.targetedAddress(tuweniToPbjBytes(frame.getContractAddress()));
+                recipientType = RecipientType.TARGETED_ADDRESS;
             }
         }
-        final var wrappedAction = new ActionWrapper(builder.build());
+        final var wrappedAction = new ActionWrapper(
+                asActionType(frame.getType()),
+                callOperationType,
+                callerIsContract,
+                callerNum,
+                frame.getRemainingGas(),
+                frame.getInputData(),
+                frame.getValue().toLong(),
+                frame.getDepth(),
+                recipientType,
+                recipientNum,
+                recipientType == RecipientType.TARGETED_ADDRESS ? frame.getContractAddress() : null);
         allActions.add(wrappedAction);
         actionsStack.push(wrappedAction);
     }
@@ -343,36 +350,6 @@ public class ActionStack {
         return frame.getWorldUpdater().get(address) == null;
     }
 
-    private AccountID accountIdWith(final long num) {
-        return AccountID.newBuilder().accountNum(num).build();
-    }
-
-    private ContractID contractIdWith(final long num) {
-        return ContractID.newBuilder().contractNum(num).build();
-    }
-
-    private ContractAction withUnsetRecipientIfNeeded(
-            @NonNull MessageFrame.Type type, @NonNull final ContractAction.Builder builder) {
-        final var action = builder.build();
-        return (type == CONTRACT_CREATION) ? withUnsetRecipient(action) : action;
-    }
-
-    // (FUTURE) Use builder for simplicity when PBJ lets us set the oneof recipient to UNSET;
-    // c.f., https://github.com/hashgraph/pbj/issues/160
-    private ContractAction withUnsetRecipient(@NonNull final ContractAction action) {
-        return new ContractAction(
-                action.callType(),
-                action.caller(),
-                action.gas(),
-                action.input(),
-                RECIPIENT_UNSET,
-                action.value(),
-                action.gasUsed(),
-                action.resultData(),
-                action.callDepth(),
-                action.callOperationType());
-    }
-
     private boolean targetsMissingAddress(@NonNull final MessageFrame frame) {
         return frame.getType() == MESSAGE_CALL && isMissing(frame, frame.getContractAddress());
     }
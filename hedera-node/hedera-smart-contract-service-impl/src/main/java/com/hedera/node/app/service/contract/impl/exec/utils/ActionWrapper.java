@@ -16,19 +16,96 @@
 
 package com.hedera.node.app.service.contract.impl.exec.utils;
 
+import static com.hedera.hapi.streams.ContractActionType.CREATE;
+import static com.hedera.hapi.streams.codec.ContractActionProtoCodec.RECIPIENT_UNSET;
+import static com.hedera.hapi.streams.codec.ContractActionProtoCodec.RESULT_DATA_UNSET;
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.pbjToBesuAddress;
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.tuweniToPbjBytes;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
 
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.hapi.streams.CallOperationType;
 import com.hedera.hapi.streams.ContractAction;
+import com.hedera.hapi.streams.ContractAction.CallerOneOfType;
+import com.hedera.hapi.streams.ContractAction.RecipientOneOfType;
+import com.hedera.hapi.streams.ContractAction.ResultDataOneOfType;
+import com.hedera.hapi.streams.ContractActionType;
+import com.hedera.pbj.runtime.OneOf;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import org.hyperledger.besu.datatypes.Address;
 
 /**
  * A non-atomic wrapper for a {@link ContractAction} value, useful when we want to a "stable reference"
  * to an evolving {@link ContractAction} object in the {@link ActionStack}---even though it will actually
  * need to be recreated each time it changes.
+ *
+ * <p>While the EVM is executing, the {@link ActionStack} records each action as compact primitive fields
+ * and references to the frame's existing input and output data, along with its outcome once finalized; the
+ * {@link ContractAction} itself is only built, directly in its final form, the first time {@link #get()} is
+ * called (normally when the transaction's actions are externalized after the EVM run). That still happens on the
+ * handle thread, and one wrapper is still allocated per frame; only the repeated rebuilding of each action is avoided.
  */
 public class ActionWrapper {
+    /**
+     * The kind of recipient recorded for a pushed action.
+     */
+    enum RecipientType {
+        ACCOUNT,
+        CONTRACT,
+        TARGETED_ADDRESS
+    }
+
+    /**
+     * The kind of outcome recorded for a finalized action.
+     */
+    enum Outcome {
+        NONE,
+        OUTPUT,
+        REVERT,
+        ERROR
+    }
+
+    @Nullable
     private ContractAction value;
 
+    // The details of an action pushed from a frame, used when value is null
+    private ContractActionType callType;
+    private CallOperationType callOperationType;
+    private boolean callerIsContract;
+    private long callerNum;
+    private long gas;
+    private org.apache.tuweni.bytes.Bytes input;
+    private long valueInTinybars;
+    private int callDepth;
+    private RecipientType recipientType;
+    private long recipientNum;
+    private Address targetedAddress;
+
+    // The details of the action's finalization, if any
+    private Outcome outcome = Outcome.NONE;
+    private long gasUsed;
+
+    @Nullable
+    private org.apache.tuweni.bytes.Bytes resultData;
+
+    @Nullable
+    private String errorName;
+
+    @Nullable
+    private AccountID createdAccountId;
+
+    private boolean unsetRecipient;
+
+    @Nullable
+    private ContractActionType precompileType;
+
+    @Nullable
+    private ContractID precompileContractId;
+
     /**
      * @param value the contract action to be initialized
      */
@@ -36,10 +113,45 @@ public class ActionWrapper {
         this.value = requireNonNull(value);
     }
 
+    /**
+     * Creates a wrapper for an action pushed from a frame, without yet building its {@link ContractAction}.
+     */
+    ActionWrapper(
+            @NonNull final ContractActionType callType,
+            @NonNull final CallOperationType callOperationType,
+            final boolean callerIsContract,
+            final long callerNum,
+            final long gas,
+            @NonNull final org.apache.tuweni.bytes.Bytes input,
+            final long valueInTinybars,
+            final int callDepth,
+            @NonNull final RecipientType recipientType,
+            final long recipientNum,
+            @Nullable final Address targetedAddress) {
+        this.callType = requireNonNull(callType);
+        this.callOperationType = requireNonNull(callOperationType);
+        this.callerIsContract = callerIsContract;
+        this.callerNum = callerNum;
+        this.gas = gas;
+        this.input = requireNonNull(input);
+        this.valueInTinybars = valueInTinybars;
+        this.callDepth = callDepth;
+        this.recipientType = requireNonNull(recipientType);
+        this.recipientNum = recipientNum;
+        this.targetedAddress = targetedAddress;
+    }
+
     /**
      * @return the contract action
      */
     public @NonNull ContractAction get() {
+        if (value == null || outcome != Outcome.NONE || precompileType != null) {
+            value = build();
+            outcome = Outcome.NONE;
+            precompileType = null;
+            input = null;
+            resultData = null;
+        }
         return value;
     }
 
@@ -48,5 +160,161 @@ public class ActionWrapper {
      */
     public void set(@NonNull final ContractAction value) {
         this.value = requireNonNull(value);
+        outcome = Outcome.NONE;
+        precompileType = null;
+    }
+
+    /**
+     * Returns the action's call type, without building the action.
+     */
+    ContractActionType callType() {
+        return value != null ? value.callType() : callType;
+    }
+
+    /**
+     * Returns the gas made available to the action, without building the action.
+     */
+    long gas() {
+        return value != null ? value.gas() : gas;
+    }
+
+    /**
+     * Returns the missing address targeted by the action, if any, without building the action.
+     */
+    @Nullable
+    Address targetedAddress() {
+        if (value != null) {
+            return value.targetedAddress() != null ? pbjToBesuAddress(value.targetedAddressOrThrow()) : null;
+        }
+        return recipientType == RecipientType.TARGETED_ADDRESS ? targetedAddress : null;
+    }
+
+    /**
+     * Records the outcome of the action, to be applied when the action is next built.
+     *
+     * @param outcome the kind of outcome
+     * @param gasUsed the gas used by the action
+     * @param resultData the output or revert reason, if any
+     * @param errorName the name of the halt reason, if any
+     * @param createdAccountId the id of an account lazy-created by the action, if any
+     * @param unsetRecipient whether the action's recipient should be unset
+     */
+    void finalizeWith(
+            @NonNull final Outcome outcome,
+            final long gasUsed,
+            @Nullable final org.apache.tuweni.bytes.Bytes resultData,
+            @Nullable final String errorName,
+            @Nullable final AccountID createdAccountId,
+            final boolean unsetRecipient) {
+        this.outcome = requireNonNull(outcome);
+        this.gasUsed = gasUsed;
+        this.resultData = resultData;
+        this.errorName = errorName;
+        this.createdAccountId = createdAccountId;
+        this.unsetRecipient = unsetRecipient;
+    }
+
+    /**
+     * Records that the action was a call to the given precompile, to be applied when the action is next built.
+     *
+     * @param type the precompile's action type
+     * @param contractId the precompile's contract id
+     */
+    void finalizeAsPrecompile(@NonNull final ContractActionType type, @NonNull final ContractID contractId) {
+        this.precompileType = requireNonNull(type);
+        this.precompileContractId = requireNonNull(contractId);
+    }
+
+    /**
+     * Builds the action with its recorded outcome and precompile details, if any, applied; starting from the
+     * current value if there is one, and otherwise from the details of the pushed action.
+     */
+    private ContractAction build() {
+        final ContractActionType baseCallType;
+        final OneOf<CallerOneOfType> caller;
+        final long baseGas;
+        final Bytes baseInput;
+        final OneOf<RecipientOneOfType> baseRecipient;
+        final long baseValue;
+        final long baseGasUsed;
+        final OneOf<ResultDataOneOfType> baseResultData;
+        final int baseCallDepth;
+        final CallOperationType baseCallOperationType;
+        if (value != null) {
+            baseCallType = value.callType();
+            caller = value.caller();
+            baseGas = value.gas();
+            baseInput = value.input();
+            baseRecipient = value.recipient();
+            baseValue = value.value();
+            baseGasUsed = value.gasUsed();
+            baseResultData = value.resultData();
+            baseCallDepth = value.callDepth();
+            baseCallOperationType = value.callOperationType();
+        } else {
+            baseCallType = callType;
+            caller = callerIsContract
+                    ? new OneOf<>(
+                            CallerOneOfType.CALLING_CONTRACT,
+                            ContractID.newBuilder().contractNum(callerNum).build())
+                    : new OneOf<>(
+                            CallerOneOfType.CALLING_ACCOUNT,
+                            AccountID.newBuilder().accountNum(callerNum).build());
+            baseGas = gas;
+            baseInput = tuweniToPbjBytes(input);
+            baseRecipient = pushedRecipient();
+            baseValue = valueInTinybars;
+            baseGasUsed = 0;
+            baseResultData = RESULT_DATA_UNSET;
+            baseCallDepth = callDepth;
+            baseCallOperationType = callOperationType;
+        }
+        final OneOf<RecipientOneOfType> recipient;
+        if (precompileType != null) {
+            recipient = new OneOf<>(RecipientOneOfType.RECIPIENT_CONTRACT, precompileContractId);
+        } else if (unsetRecipient && (outcome == Outcome.REVERT || outcome == Outcome.ERROR)) {
+            recipient = RECIPIENT_UNSET;
+        } else if (outcome == Outcome.OUTPUT && createdAccountId != null && baseCallType != CREATE) {
+            recipient = new OneOf<>(RecipientOneOfType.RECIPIENT_ACCOUNT, createdAccountId);
+        } else {
+            recipient = baseRecipient;
+        }
+        final OneOf<ResultDataOneOfType> resultData =
+                switch (outcome) {
+                    case NONE -> baseResultData;
+                    case OUTPUT -> new OneOf<>(
+                            ResultDataOneOfType.OUTPUT,
+                            baseCallType == CREATE ? Bytes.EMPTY : tuweniToPbjBytes(requireNonNull(this.resultData)));
+                    case REVERT -> new OneOf<>(
+                            ResultDataOneOfType.REVERT_REASON,
+                            this.resultData == null ? Bytes.EMPTY : tuweniToPbjBytes(this.resultData));
+                    case ERROR -> new OneOf<>(
+                            ResultDataOneOfType.ERROR,
+                            errorName == null ? Bytes.EMPTY : Bytes.wrap(errorName.getBytes(UTF_8)));
+                };
+        return new ContractAction(
+                precompileType != null ? precompileType : baseCallType,
+                caller,
+                baseGas,
+                baseInput,
+                recipient,
+                baseValue,
+                outcome == Outcome.NONE ? baseGasUsed : gasUsed,
+                resultData,
+                baseCallDepth,
+                baseCallOperationType);
+    }
+
+    private OneOf<RecipientOneOfType> pushedRecipient() {
+        return switch (recipientType) {
+            case ACCOUNT -> new OneOf<>(
+                    RecipientOneOfType.RECIPIENT_ACCOUNT,
+                    AccountID.newBuilder().accountNum(recipientNum).build());
+            case CONTRACT -> new OneOf<>(
+                    RecipientOneOfType.RECIPIENT_CONTRACT,
+                    ContractID.newBuilder().contractNum(recipientNum).build());
+            case TARGETED_ADDRESS -> new OneOf<>(
+                    RecipientOneOfType.TARGETED_ADDRESS, tuweniToPbjBytes(requireNonNull(targetedAddress)));
+        };
     }
 }
@@ -22,7 +22,10 @@ import static com.hedera.hapi.node.base.ResponseCodeEnum.INVALID_CONTRACT_ID;
 import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.throwIfUnsuccessful;
 import static com.hedera.node.app.spi.validation.Validations.mustExist;
 import static com.hedera.node.app.spi.workflows.PreCheckException.validateTruePreCheck;
+import static java.util.Objects.requireNonNull;
 
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.ContractID;
 import com.hedera.hapi.node.base.HederaFunctionality;
 import com.hedera.hapi.node.transaction.TransactionBody;
 import com.hedera.node.app.hapi.utils.fee.SigValueObj;
@@ -30,12 +33,16 @@ import com.hedera.node.app.hapi.utils.fee.SmartContractFeeBuilder;
 import com.hedera.node.app.service.contract.impl.ContractServiceComponent;
 import com.hedera.node.app.service.contract.impl.exec.TransactionComponent;
 import com.hedera.node.app.service.contract.impl.records.ContractCallStreamBuilder;
+import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
+import com.hedera.node.app.service.token.ReadableAccountStore;
 import com.hedera.node.app.spi.workflows.HandleContext;
 import com.hedera.node.app.spi.workflows.HandleException;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.PreHandleContext;
+import com.hedera.node.app.spi.workflows.WarmupContext;
 import com.hederahashgraph.api.proto.java.FeeData;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Provider;
 import javax.inject.Singleton;
@@ -75,6 +82,22 @@ public class ContractCallHandler extends AbstractContractTransactionHandler {
         throwIfUnsuccessful(outcome.status());
     }
 
+    @Override
+    public void warm(@NonNull final WarmupContext context) {
+        requireNonNull(context);
+        final var contractID = context.body().contractCallOrThrow().contractIDOrElse(ContractID.DEFAULT);
+        // Contracts called by EVM address are resolved through an alias lookup that is not worth doing here
+        if (contractID.hasContractNum()) {
+            final long number = contractID.contractNumOrThrow();
+            context.createStore(ReadableAccountStore.class)
+                    .warm(AccountID.newBuilder().accountNum(number).build());
+            final var contractStore = context.createStore(ContractStateStore.class);
+            final var calledContractID = ContractID.newBuilder().contractNum(number).build();
+            contractStore.warm(calledContractID);
+            component.storagePrefetcher().prefetch(contractStore, calledContractID, List.of());
+        }
+    }
+
     @Override
     public void preHandle(@NonNull final PreHandleContext context) {
         // No non-payer signatures to verify
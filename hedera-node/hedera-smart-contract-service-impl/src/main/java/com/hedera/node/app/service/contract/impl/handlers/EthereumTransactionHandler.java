@@ -23,12 +23,18 @@ import static com.hedera.hapi.node.base.ResponseCodeEnum.INVALID_SOLIDITY_ADDRES
 import static com.hedera.hapi.node.base.ResponseCodeEnum.OK;
 import static com.hedera.node.app.hapi.utils.CommonPbjConverters.fromPbj;
 import static com.hedera.node.app.hapi.utils.ethereum.EthTxData.populateEthTxData;
+import static com.hedera.node.app.service.contract.impl.infra.StoragePrefetcher.accessListSlots;
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.EVM_ADDRESS_LENGTH_AS_LONG;
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.isLongZeroAddress;
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.numberOfLongZero;
 import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.throwIfUnsuccessful;
 import static com.hedera.node.app.spi.workflows.PreCheckException.validateFalsePreCheck;
 import static com.hedera.node.app.spi.workflows.PreCheckException.validateTruePreCheck;
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.ContractID;
 import com.hedera.hapi.node.base.HederaFunctionality;
 import com.hedera.hapi.node.base.SubType;
 import com.hedera.hapi.node.contract.EthereumTransactionBody;
@@ -42,13 +48,16 @@ import com.hedera.node.app.service.contract.impl.infra.EthereumCallDataHydration
 import com.hedera.node.app.service.contract.impl.records.ContractCallStreamBuilder;
 import com.hedera.node.app.service.contract.impl.records.ContractCreateStreamBuilder;
 import com.hedera.node.app.service.contract.impl.records.EthereumTransactionStreamBuilder;
+import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
 import com.hedera.node.app.service.file.ReadableFileStore;
+import com.hedera.node.app.service.token.ReadableAccountStore;
 import com.hedera.node.app.spi.fees.FeeContext;
 import com.hedera.node.app.spi.fees.Fees;
 import com.hedera.node.app.spi.workflows.HandleContext;
 import com.hedera.node.app.spi.workflows.HandleException;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.PreHandleContext;
+import com.hedera.node.app.spi.workflows.WarmupContext;
 import com.hedera.node.config.data.ContractsConfig;
 import com.hedera.node.config.data.HederaConfig;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
@@ -57,6 +66,9 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.math.BigInteger;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import javax.inject.Inject;
 import javax.inject.Provider;
 import javax.inject.Singleton;
@@ -99,6 +111,36 @@ public class EthereumTransactionHandler extends AbstractContractTransactionHandl
                 context.configuration());
     }
 
+    @Override
+    public void warm(@NonNull final WarmupContext context) {
+        requireNonNull(context);
+        final var ethTxData = populateEthTxData(
+                context.body().ethereumTransactionOrThrow().ethereumData().toByteArray());
+        if (ethTxData == null) {
+            return;
+        }
+        // Warm the called contract and every contract named in the access list, with their storage slots
+        final Map<Bytes, List<Bytes>> slots = new LinkedHashMap<>(accessListSlots(ethTxData.accessList()));
+        if (ethTxData.hasToAddress()) {
+            slots.putIfAbsent(Bytes.wrap(ethTxData.to()), List.of());
+        }
+        if (slots.isEmpty()) {
+            return;
+        }
+        final var accountStore = context.createStore(ReadableAccountStore.class);
+        final var contractStore = context.createStore(ContractStateStore.class);
+        slots.forEach((address, keys) -> {
+            final var contractID = contractIdFor(address, accountStore);
+            if (contractID != null) {
+                accountStore.warm(AccountID.newBuilder()
+                        .accountNum(contractID.contractNumOrThrow())
+                        .build());
+                contractStore.warm(contractID);
+                component.storagePrefetcher().prefetch(contractStore, contractID, keys);
+            }
+        });
+    }
+
     @Override
     public void pureChecks(@NonNull final TransactionBody txn) throws PreCheckException {
         try {
@@ -123,6 +165,23 @@ public class EthereumTransactionHandler extends AbstractContractTransactionHandl
         }
     }
 
+    private static @Nullable ContractID contractIdFor(
+            @NonNull final Bytes address, @NonNull final ReadableAccountStore accountStore) {
+        if (address.length() != EVM_ADDRESS_LENGTH_AS_LONG) {
+            return null;
+        }
+        final var explicit = address.toByteArray();
+        if (isLongZeroAddress(explicit)) {
+            return ContractID.newBuilder()
+                    .contractNum(numberOfLongZero(explicit))
+                    .build();
+        }
+        final var accountID = accountStore.getAccountIDByAlias(address);
+        return (accountID == null || !accountID.hasAccountNum())
+                ? null
+                : ContractID.newBuilder().contractNum(accountID.accountNumOrThrow()).build();
+    }
+
     /**
      * If the given transaction, when hydrated from the given file store with the given config, implies a valid
      * {@link EthTxSigs}, returns it. Otherwise, returns null.
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.infra;
+
+import static java.util.Objects.requireNonNull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hedera.node.app.service.contract.impl.exec.metrics.ContractMetrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.evm.Code;
+import org.hyperledger.besu.evm.code.CodeFactory;
+
+/**
+ * A node-wide cache of analyzed EVM {@link Code}, so that the same bytecode executed by many
+ * transactions is only hashed and scanned for jump destinations once.
+ *
+ * <p>Entries are keyed by the bytecode itself (plus the max EOF version used to analyze it), so a
+ * contract whose code changes can never be served a stale analysis; there is nothing to invalidate
+ * when code is set or a contract self-destructs, and unused entries simply age out of the bounded cache.
+ */
+@Singleton
+public class EvmCodeCache {
+    private static final int LEGACY_MAX_EOF_VERSION = 0;
+    private static final long MAX_CACHED_CODE_BYTES = 64L * 1024 * 1024;
+
+    private record Key(@NonNull Bytes code, int maxEofVersion) {}
+
+    private final Cache<Key, Code> cache = Caffeine.newBuilder()
+            .maximumWeight(MAX_CACHED_CODE_BYTES)
+            .weigher((Key key, Code code) -> key.code().size())
+            .build();
+    private final ContractMetrics contractMetrics;
+
+    /**
+     * @param contractMetrics the metrics used to report cache hits and misses
+     */
+    @Inject
+    public EvmCodeCache(@NonNull final ContractMetrics contractMetrics) {
+        this.contractMetrics = requireNonNull(contractMetrics);
+    }
+
+    /**
+     * Returns the analyzed legacy {@link Code} for the given bytecode, creating it on a miss.
+     *
+     * @param bytecode the bytecode
+     * @return the analyzed code
+     */
+    public @NonNull Code getOrCreate(@NonNull final Bytes bytecode) {
+        return getOrCreate(bytecode, LEGACY_MAX_EOF_VERSION);
+    }
+
+    /**
+     * Returns the analyzed {@link Code} for the given bytecode and max EOF version, creating it on a miss.
+     *
+     * @param bytecode the bytecode
+     * @param maxEofVersion the max EOF version to analyze the bytecode with
+     * @return the analyzed code
+     */
+    public @NonNull Code getOrCreate(@NonNull final Bytes bytecode, final int maxEofVersion) {
+        requireNonNull(bytecode);
+        if (bytecode.isEmpty()) {
+            return CodeFactory.createCode(bytecode, maxEofVersion, false);
+        }
+        final var key = new Key(bytecode, maxEofVersion);
+        final var cached = cache.getIfPresent(key);
+        if (cached != null) {
+            contractMetrics.incrementCodeCacheHits();
+            return cached;
+        }
+        contractMetrics.incrementCodeCacheMisses();
+        return cache.get(key, k -> CodeFactory.createCode(k.code(), k.maxEofVersion(), false));
+    }
+}
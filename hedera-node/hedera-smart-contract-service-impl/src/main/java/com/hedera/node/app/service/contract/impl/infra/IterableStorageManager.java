@@ -16,16 +16,13 @@
 
 package com.hedera.node.app.service.contract.impl.infra;
 
-import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.tuweniToPbjBytes;
 import static java.util.Objects.requireNonNull;
 
 import com.hedera.hapi.node.base.ContractID;
-import com.hedera.hapi.node.state.contract.SlotKey;
-import com.hedera.hapi.node.state.contract.SlotValue;
 import com.hedera.node.app.service.contract.impl.exec.scope.HandleHederaOperations;
 import com.hedera.node.app.service.contract.impl.hevm.HederaWorldUpdater.Enhancement;
 import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
-import com.hedera.node.app.service.contract.impl.state.StorageAccess.StorageAccessType;
+import com.hedera.node.app.service.contract.impl.state.StorageAccess;
 import com.hedera.node.app.service.contract.impl.state.StorageAccesses;
 import com.hedera.node.app.service.contract.impl.state.StorageSizeChange;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
@@ -35,8 +32,6 @@ import java.util.List;
 import java.util.Map;
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 
 /**
  * Provides the logic for maintaining per-contract linked lists of owned storage, and keeping the
@@ -45,11 +40,11 @@ import org.apache.logging.log4j.Logger;
  */
 @Singleton
 public class IterableStorageManager {
-    private static final Logger log = LogManager.getLogger(IterableStorageManager.class);
+    private final StorageLinkedListUpdater linkedListUpdater;
 
     @Inject
-    public IterableStorageManager() {
-        // Dagger2
+    public IterableStorageManager(@NonNull final StorageLinkedListUpdater linkedListUpdater) {
+        this.linkedListUpdater = requireNonNull(linkedListUpdater);
     }
 
     /**
@@ -57,6 +52,9 @@ public class IterableStorageManager {
      * scope, "rewrites" the pending changes to maintain per-contract linked lists of owned storage. (The
      * linked lists are used to purge all the contract's storage from state when it expires.)
      *
+     * <p>All the insertions and removals for a contract are spliced into its linked list in a single
+     * batch by the {@link StorageLinkedListUpdater}.
+     *
      * <p>Besides updating the first keys of these linked lists in the scoped accounts, also updates the
      * slots used per contract via
      * {@link HandleHederaOperations#updateStorageMetadata(ContractID, Bytes, int)}.
@@ -75,35 +73,18 @@ public class IterableStorageManager {
         final Map<ContractID, Bytes> firstKeys = new HashMap<>();
 
         // Adjust the storage linked lists for each contract
-        allAccesses.forEach(contractAccesses -> contractAccesses.accesses().forEach(access -> {
-            if (access.isUpdate()) {
+        allAccesses.forEach(contractAccesses -> {
+            final var accesses = contractAccesses.accesses();
+            if (accesses.stream().anyMatch(StorageAccess::isUpdate)) {
                 final var contractId = contractAccesses.contractID();
                 // If we have already changed the head pointer for this contract,
                 // use that; otherwise, get the contract's head pointer from state
                 final var firstContractKey =
                         firstKeys.computeIfAbsent(contractId, cid -> contractFirstKeyOf(enhancement, contractId));
-
-                // Only certain access types can change the head slot in a contract's storage linked list
-                final var newFirstContractKey =
-                        switch (StorageAccessType.getAccessType(access)) {
-                            case UNKNOWN, READ_ONLY, UPDATE -> firstContractKey;
-                                // We might be removing the head slot from the existing list
-                            case REMOVAL -> removeAccessedValue(
-                                    store,
-                                    firstContractKey,
-                                    contractAccesses.contractID(),
-                                    tuweniToPbjBytes(access.key()));
-                                // We always insert the new slot at the head
-                            case INSERTION -> insertAccessedValue(
-                                    store,
-                                    firstContractKey,
-                                    tuweniToPbjBytes(requireNonNull(access.writtenValue())),
-                                    contractAccesses.contractID(),
-                                    tuweniToPbjBytes(access.key()));
-                        };
-                firstKeys.put(contractAccesses.contractID(), newFirstContractKey);
+                firstKeys.put(
+                        contractId, linkedListUpdater.spliceChanges(store, contractId, firstContractKey, accesses));
             }
-        }));
+        });
 
         // Update contract metadata with the net change in slots used
         allSizeChanges.forEach(change -> {
@@ -130,106 +111,4 @@ public class IterableStorageManager {
         final var account = enhancement.nativeOperations().getAccount(contractID);
         return account != null ? account.firstContractStorageKey() : Bytes.EMPTY;
     }
-
-    /**
-     * Removes the given key from the slot storage and from the linked list of storage for the given contract, and removes the
-     *
-     * @param store Contract storage store
-     * @param firstContractKey The first key in the linked list of storage for the given contract
-     * @param contractID The contract id under consideration
-     * @param key The slot key to remove
-     * @return the new first key in the linked list of storage for the given contract
-     */
-    @NonNull
-    private Bytes removeAccessedValue(
-            @NonNull final ContractStateStore store,
-            @NonNull Bytes firstContractKey,
-            @NonNull final ContractID contractID,
-            @NonNull final Bytes key) {
-        requireNonNull(firstContractKey);
-        requireNonNull(contractID);
-        requireNonNull(store);
-        requireNonNull(key);
-        final var slotKey = new SlotKey(contractID, key);
-        try {
-            final var slotValue = slotValueFor(store, false, slotKey, "Missing key ");
-            final var nextKey = slotValue.nextKey();
-            final var prevKey = slotValue.previousKey();
-            if (!Bytes.EMPTY.equals(nextKey)) {
-                updatePrevFor(new SlotKey(contractID, nextKey), prevKey, store);
-            }
-            if (!Bytes.EMPTY.equals(prevKey)) {
-                updateNextFor(new SlotKey(contractID, prevKey), nextKey, store);
-            }
-            firstContractKey = key.equals(firstContractKey) ? nextKey : firstContractKey;
-        } catch (Exception irreparable) {
-            // Since maintaining linked lists is not mission-critical, just log the error and continue
-            log.error(
-                    "Failed link management when removing {}; will be unable to" + " expire all slots for contract {}",
-                    key,
-                    contractID,
-                    irreparable);
-        }
-        store.removeSlot(slotKey);
-        return firstContractKey;
-    }
-
-    /**
-     * Inserts the given key into the slot storage and into the linked list of storage for the given contract.
-     *
-     * @param store Contract storage store
-     * @param firstContractKey The first key in the linked list of storage for the given contract
-     * @param newValue The new value for the slot
-     * @param contractID The contract id under consideration
-     * @param newKey The slot key to insert
-     * @return the new first key in the linked list of storage for the given contract
-     */
-    @NonNull
-    private Bytes insertAccessedValue(
-            @NonNull final ContractStateStore store,
-            @NonNull final Bytes firstContractKey,
-            @NonNull final Bytes newValue,
-            @NonNull final ContractID contractID,
-            @NonNull final Bytes newKey) {
-        requireNonNull(store);
-        requireNonNull(newKey);
-        requireNonNull(newValue);
-        try {
-            if (!Bytes.EMPTY.equals(firstContractKey)) {
-                updatePrevFor(new SlotKey(contractID, firstContractKey), newKey, store);
-            }
-        } catch (Exception irreparable) {
-            // Since maintaining linked lists is not mission-critical, just log the error and continue
-            log.error(
-                    "Failed link management when inserting {}; will be unable to" + " expire all slots for contract {}",
-                    newKey,
-                    contractID,
-                    irreparable);
-        }
-        store.putSlot(new SlotKey(contractID, newKey), new SlotValue(newValue, Bytes.EMPTY, firstContractKey));
-        return newKey;
-    }
-
-    private void updatePrevFor(
-            @NonNull final SlotKey key, @NonNull final Bytes newPrevKey, @NonNull final ContractStateStore store) {
-        final var value = slotValueFor(store, true, key, "Missing next key ");
-        store.putSlot(key, value.copyBuilder().previousKey(newPrevKey).build());
-    }
-
-    private void updateNextFor(
-            @NonNull final SlotKey key, @NonNull final Bytes newNextKey, @NonNull final ContractStateStore store) {
-        final var value = slotValueFor(store, true, key, "Missing prev key ");
-        store.putSlot(key, value.copyBuilder().nextKey(newNextKey).build());
-    }
-
-    @NonNull
-    private SlotValue slotValueFor(
-            @NonNull final ContractStateStore store,
-            final boolean forModify,
-            @NonNull final SlotKey slotKey,
-            @NonNull final String msgOnError) {
-        return forModify
-                ? requireNonNull(store.getSlotValueForModify(slotKey), () -> msgOnError + slotKey.key())
-                : requireNonNull(store.getSlotValue(slotKey), () -> msgOnError + slotKey.key());
-    }
 }
@@ -0,0 +1,214 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.infra;
+
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.tuweniToPbjBytes;
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.hapi.node.state.contract.SlotKey;
+import com.hedera.hapi.node.state.contract.SlotValue;
+import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
+import com.hedera.node.app.service.contract.impl.state.StorageAccess;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Splices all the slots inserted into and removed from a single contract's storage linked list in one pass.
+ *
+ * <p>The result is the same list that would be produced by removing each slot and then inserting each new slot at
+ * the head, one access at a time; that is, the inserted slots in reverse order of insertion, followed by the
+ * surviving slots in their existing order. But each maximal run of removed slots is unlinked by updating only
+ * its two surviving neighbors, and each neighbor is read and written at most once no matter how many of the
+ * contract's slots change.
+ */
+@Singleton
+public class StorageLinkedListUpdater {
+    private static final Logger log = LogManager.getLogger(StorageLinkedListUpdater.class);
+
+    @Inject
+    public StorageLinkedListUpdater() {
+        // Dagger2
+    }
+
+    /**
+     * Applies the insertions and removals in the given accesses to the contract's storage, maintaining the
+     * contract's storage linked list; and returns the new first key of that list.
+     *
+     * @param store the writable state store
+     * @param contractID the contract whose storage changed
+     * @param firstKey the first key of the contract's storage linked list before the changes
+     * @param accesses the storage accesses of the contract
+     * @return the first key of the contract's storage linked list after the changes
+     */
+    @NonNull
+    public Bytes spliceChanges(
+            @NonNull final ContractStateStore store,
+            @NonNull final ContractID contractID,
+            @NonNull final Bytes firstKey,
+            @NonNull final List<StorageAccess> accesses) {
+        requireNonNull(store);
+        requireNonNull(contractID);
+        requireNonNull(firstKey);
+        requireNonNull(accesses);
+        final List<Bytes> removedKeys = new ArrayList<>();
+        final List<Bytes> insertedKeys = new ArrayList<>();
+        final List<Bytes> insertedValues = new ArrayList<>();
+        for (final var access : accesses) {
+            if (access.isRemoval()) {
+                removedKeys.add(tuweniToPbjBytes(access.key()));
+            } else if (access.isInsertion()) {
+                insertedKeys.add(tuweniToPbjBytes(access.key()));
+                insertedValues.add(tuweniToPbjBytes(requireNonNull(access.writtenValue())));
+            }
+        }
+        // The surviving neighbors whose links change, each read for modification at most once
+        final Map<Bytes, SlotValue> neighbors = new LinkedHashMap<>();
+        final var survivingFirstKey = unlinkRemoved(store, contractID, firstKey, removedKeys, neighbors);
+        final var newFirstKey =
+                linkInserted(store, contractID, survivingFirstKey, insertedKeys, insertedValues, neighbors);
+        neighbors.forEach((key, value) -> store.putSlot(new SlotKey(contractID, key), value));
+        removedKeys.forEach(key -> store.removeSlot(new SlotKey(contractID, key)));
+        return newFirstKey;
+    }
+
+    /**
+     * Computes the relinked values of the surviving neighbors of each run of removed slots, returning the first
+     * key of the list of surviving slots.
+     */
+    private Bytes unlinkRemoved(
+            @NonNull final ContractStateStore store,
+            @NonNull final ContractID contractID,
+            @NonNull Bytes firstKey,
+            @NonNull final List<Bytes> removedKeys,
+            @NonNull final Map<Bytes, SlotValue> neighbors) {
+        final Map<Bytes, SlotValue> removed = new LinkedHashMap<>();
+        for (final var key : removedKeys) {
+            final var value = store.getSlotValue(new SlotKey(contractID, key));
+            if (value == null) {
+                // Since maintaining linked lists is not mission-critical, just log the error and continue
+                log.error(
+                        "Failed link management when removing {}; will be unable to expire all slots for contract {}",
+                        key,
+                        contractID);
+            } else {
+                removed.put(key, value);
+            }
+        }
+        final Set<Bytes> visited = new HashSet<>();
+        for (final var entry : removed.entrySet()) {
+            final var prevKey = entry.getValue().previousKey();
+            if (removed.containsKey(prevKey)) {
+                // Not the start of a run of removed slots
+                continue;
+            }
+            // Walk to the end of this run of removed slots, finding its surviving next neighbor
+            final List<Bytes> run = new ArrayList<>();
+            var key = entry.getKey();
+            var value = entry.getValue();
+            while (value != null && visited.add(key)) {
+                run.add(key);
+                key = value.nextKey();
+                value = removed.get(key);
+            }
+            final var nextKey = key;
+            final var prevValue = neighborValue(store, contractID, prevKey, neighbors);
+            final var nextValue = neighborValue(store, contractID, nextKey, neighbors);
+            if ((!Bytes.EMPTY.equals(prevKey) && prevValue == null)
+                    || (!Bytes.EMPTY.equals(nextKey) && nextValue == null)) {
+                log.error(
+                        "Failed link management when removing {}; will be unable to expire all slots for contract {}",
+                        run,
+                        contractID);
+                continue;
+            }
+            if (prevValue != null) {
+                neighbors.put(prevKey, prevValue.copyBuilder().nextKey(nextKey).build());
+            }
+            if (nextValue != null) {
+                neighbors.put(nextKey, nextValue.copyBuilder().previousKey(prevKey).build());
+            }
+            if (run.contains(firstKey)) {
+                firstKey = nextKey;
+            }
+        }
+        return firstKey;
+    }
+
+    /**
+     * Computes the linked values of the inserted slots, ahead of the surviving slots, and returns the new first
+     * key of the contract's storage linked list.
+     */
+    private Bytes linkInserted(
+            @NonNull final ContractStateStore store,
+            @NonNull final ContractID contractID,
+            @NonNull final Bytes firstKey,
+            @NonNull final List<Bytes> insertedKeys,
+            @NonNull final List<Bytes> insertedValues,
+            @NonNull final Map<Bytes, SlotValue> neighbors) {
+        final int n = insertedKeys.size();
+        if (n == 0) {
+            return firstKey;
+        }
+        if (!Bytes.EMPTY.equals(firstKey)) {
+            final var firstValue = neighborValue(store, contractID, firstKey, neighbors);
+            if (firstValue == null) {
+                // Since maintaining linked lists is not mission-critical, just log the error and continue
+                log.error(
+                        "Failed link management when inserting {}; will be unable to expire all slots for contract {}",
+                        insertedKeys.getFirst(),
+                        contractID);
+            } else {
+                neighbors.put(
+                        firstKey,
+                        firstValue.copyBuilder().previousKey(insertedKeys.getFirst()).build());
+            }
+        }
+        // Each slot is inserted at the head in turn, so the last inserted slot ends up first
+        for (int i = 0; i < n; i++) {
+            final var prevKey = i + 1 < n ? insertedKeys.get(i + 1) : Bytes.EMPTY;
+            final var nextKey = i > 0 ? insertedKeys.get(i - 1) : firstKey;
+            store.putSlot(
+                    new SlotKey(contractID, insertedKeys.get(i)),
+                    new SlotValue(insertedValues.get(i), prevKey, nextKey));
+        }
+        return insertedKeys.getLast();
+    }
+
+    private @Nullable SlotValue neighborValue(
+            @NonNull final ContractStateStore store,
+            @NonNull final ContractID contractID,
+            @NonNull final Bytes key,
+            @NonNull final Map<Bytes, SlotValue> neighbors) {
+        if (Bytes.EMPTY.equals(key)) {
+            return null;
+        }
+        final var value = neighbors.get(key);
+        return value != null ? value : store.getSlotValueForModify(new SlotKey(contractID, key));
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.infra;
+
+import static java.util.Objects.requireNonNull;
+
+import com.esaulpaugh.headlong.rlp.RLPDecoder;
+import com.esaulpaugh.headlong.rlp.RLPItem;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.hapi.node.state.contract.SlotKey;
+import com.hedera.node.app.service.contract.impl.exec.metrics.ContractMetrics;
+import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Warms contract storage slots before the handle thread executes a contract, using both the slots named in an
+ * EIP-2930 access list and a bounded, per-contract history of the slots recently accessed by handled transactions.
+ *
+ * <p>Prefetching happens on the round warm-up threads via the contract handlers' {@code warm()} methods, while
+ * accesses are recorded on the handle thread when a transaction commits. The slots prefetched for a contract remain
+ * pending until they are accessed (a hit) or evicted; so the {@link ContractMetrics} counters give the precision of
+ * prefetching as hits over prefetched slots, and its recall as hits over all accessed slots.
+ */
+@Singleton
+public class StoragePrefetcher {
+    private static final int MAX_CONTRACTS = 10_000;
+    private static final int MAX_RECENT_SLOTS_PER_CONTRACT = 64;
+    private static final int MAX_PENDING_SLOTS_PER_CONTRACT = 4 * MAX_RECENT_SLOTS_PER_CONTRACT;
+    private static final int MAX_ACCESS_LIST_SLOTS = 1024;
+    private static final int SLOT_KEY_LENGTH = 32;
+
+    private final Cache<ContractID, SlotHistory> histories =
+            Caffeine.newBuilder().maximumSize(MAX_CONTRACTS).build();
+    private final ContractMetrics contractMetrics;
+
+    /**
+     * @param contractMetrics the metrics used to report prefetch precision and recall
+     */
+    @Inject
+    public StoragePrefetcher(@NonNull final ContractMetrics contractMetrics) {
+        this.contractMetrics = requireNonNull(contractMetrics);
+    }
+
+    /**
+     * Warms the slots recently accessed in the given contract's storage, plus any additional slots (for example,
+     * from an access list).
+     *
+     * @param store the store to warm the slots in
+     * @param contractID the contract whose storage to warm
+     * @param additionalKeys any additional slot keys to warm
+     */
+    public void prefetch(
+            @NonNull final ContractStateStore store,
+            @NonNull final ContractID contractID,
+            @NonNull final Collection<Bytes> additionalKeys) {
+        requireNonNull(store);
+        requireNonNull(contractID);
+        requireNonNull(additionalKeys);
+        final var history = histories.get(contractID, ignore -> new SlotHistory());
+        final var keys = history.nextPrefetch(additionalKeys);
+        for (final var key : keys) {
+            store.warm(new SlotKey(contractID, key));
+        }
+        if (!keys.isEmpty()) {
+            contractMetrics.bumpStorageSlotsPrefetched(keys.size());
+        }
+    }
+
+    /**
+     * Records the slots accessed by a handled transaction, counting which of them were prefetched.
+     *
+     * @param slotKeys the accessed slots
+     */
+    public void recordAccesses(@NonNull final Collection<SlotKey> slotKeys) {
+        requireNonNull(slotKeys);
+        long hits = 0;
+        long misses = 0;
+        for (final var slotKey : slotKeys) {
+            final var contractID = slotKey.contractID();
+            if (contractID == null) {
+                continue;
+            }
+            final var history = histories.get(contractID, ignore -> new SlotHistory());
+            if (history.recordAccess(slotKey.key())) {
+                hits++;
+            } else {
+                misses++;
+            }
+        }
+        if (hits > 0) {
+            contractMetrics.bumpStoragePrefetchHits(hits);
+        }
+        if (misses > 0) {
+            contractMetrics.bumpStoragePrefetchMisses(misses);
+        }
+    }
+
+    /**
+     * Decodes the payload of an EIP-2930 access list into the storage keys it names for each address. Returns an
+     * empty map if the access list is missing or malformed; at most {@value #MAX_ACCESS_LIST_SLOTS} keys are returned.
+     *
+     * @param accessList the RLP-encoded access list entries, or null
+     * @return the storage keys named for each 20-byte address
+     */
+    public static @NonNull Map<Bytes, List<Bytes>> accessListSlots(final byte[] accessList) {
+        if (accessList == null || accessList.length == 0) {
+            return Map.of();
+        }
+        final Map<Bytes, List<Bytes>> slots = new LinkedHashMap<>();
+        int numKeys = 0;
+        try {
+            final var entries = RLPDecoder.RLP_STRICT.sequenceIterator(accessList);
+            while (entries.hasNext() && numKeys < MAX_ACCESS_LIST_SLOTS) {
+                final List<RLPItem> entry = entries.next().asRLPList().elements();
+                if (entry.size() != 2) {
+                    return Map.of();
+                }
+                final var keys = slots.computeIfAbsent(Bytes.wrap(entry.get(0).data()), ignore -> new ArrayList<>());
+                for (final var key : entry.get(1).asRLPList().elements()) {
+                    if (numKeys++ == MAX_ACCESS_LIST_SLOTS) {
+                        break;
+                    }
+                    keys.add(Bytes.wrap(leftPadded(key.data())));
+                }
+            }
+        } catch (IllegalArgumentException | IllegalStateException | NoSuchElementException e) {
+            return Map.of();
+        }
+        return slots;
+    }
+
+    private static byte[] leftPadded(@NonNull final byte[] key) {
+        if (key.length >= SLOT_KEY_LENGTH) {
+            return key;
+        }
+        final var padded = new byte[SLOT_KEY_LENGTH];
+        System.arraycopy(key, 0, padded, SLOT_KEY_LENGTH - key.length, key.length);
+        return padded;
+    }
+
+    /**
+     * The recently accessed and currently prefetched slots of a single contract.
+     */
+    private static class SlotHistory {
+        private final Map<Bytes, Boolean> recent = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Bytes, Boolean> eldest) {
+                return size() > MAX_RECENT_SLOTS_PER_CONTRACT;
+            }
+        };
+        private final Set<Bytes> pending = new HashSet<>();
+
+        /**
+         * Returns the slots to prefetch that are not already pending, marking them as pending.
+         */
+        synchronized Set<Bytes> nextPrefetch(@NonNull final Collection<Bytes> additionalKeys) {
+            final Set<Bytes> keys = new LinkedHashSet<>(recent.keySet());
+            keys.addAll(additionalKeys);
+            keys.removeAll(pending);
+            if (pending.size() + keys.size() > MAX_PENDING_SLOTS_PER_CONTRACT) {
+                pending.clear();
+            }
+            pending.addAll(keys);
+            return keys;
+        }
+
+        /**
+         * Records an access to the given slot, returning whether it was pending prefetch.
+         */
+        synchronized boolean recordAccess(@NonNull final Bytes key) {
+            recent.put(key, Boolean.TRUE);
+            return pending.remove(key);
+        }
+    }
+}
@@ -72,6 +72,13 @@ public interface ContractStateStore {
      */
     Set<SlotKey> getModifiedSlotKeys();
 
+    /**
+     * Returns the {@link Set} of {@link SlotKey}s that have been read.
+     *
+     * @return the {@link Set} of {@link SlotKey}s that have been read
+     */
+    Set<SlotKey> getReadSlotKeys();
+
     /**
      * Returns the {@link SlotValue} for the given {@link SlotKey}, or null if not found.
      *
@@ -113,4 +120,18 @@ public interface ContractStateStore {
      * @return the number of bytecodes
      */
     long getNumBytecodes();
+
+    /**
+     * Warms the bytecode of the given contract, if this store supports warming.
+     *
+     * @param contractID the {@link ContractID} of the contract whose bytecode to warm
+     */
+    default void warm(@NonNull ContractID contractID) {}
+
+    /**
+     * Warms the given storage slot, if this store supports warming.
+     *
+     * @param slotKey the {@link SlotKey} to warm
+     */
+    default void warm(@NonNull SlotKey slotKey) {}
 }
@@ -52,6 +52,7 @@ import com.hedera.node.app.service.contract.impl.exec.scope.ActiveContractVerifi
 import com.hedera.node.app.service.contract.impl.exec.scope.ActiveContractVerificationStrategy.UseTopLevelSigs;
 import com.hedera.node.app.service.contract.impl.exec.scope.HandleHederaNativeOperations;
 import com.hedera.node.app.service.contract.impl.exec.scope.HederaNativeOperations;
+import com.hedera.node.app.service.contract.impl.infra.EvmCodeCache;
 import com.swirlds.state.spi.WritableKVState;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -65,9 +66,9 @@ import org.apache.tuweni.units.bigints.UInt256;
 import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.evm.Code;
 import org.hyperledger.besu.evm.account.Account;
 import org.hyperledger.besu.evm.account.MutableAccount;
-import org.hyperledger.besu.evm.code.CodeFactory;
 import org.hyperledger.besu.evm.frame.ExceptionalHaltReason;
 import org.hyperledger.besu.evm.frame.MessageFrame;
 
@@ -128,16 +129,20 @@ public class DispatchingEvmFrameState implements EvmFrameState {
 
     private final HederaNativeOperations nativeOperations;
     private final ContractStateStore contractStateStore;
+    private final EvmCodeCache codeCache;
 
     /**
      * @param nativeOperations the Hedera native operation
      * @param contractStateStore the contract store that manages the key/value states
+     * @param codeCache the node-wide cache of analyzed bytecode
      */
     public DispatchingEvmFrameState(
             @NonNull final HederaNativeOperations nativeOperations,
-            @NonNull final ContractStateStore contractStateStore) {
+            @NonNull final ContractStateStore contractStateStore,
+            @NonNull final EvmCodeCache codeCache) {
         this.nativeOperations = requireNonNull(nativeOperations);
         this.contractStateStore = requireNonNull(contractStateStore);
+        this.codeCache = requireNonNull(codeCache);
     }
 
     /**
@@ -227,6 +232,14 @@ public class DispatchingEvmFrameState implements EvmFrameState {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull Code getEvmCode(@NonNull final ContractID contractID) {
+        return codeCache.getOrCreate(getCode(contractID));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -238,7 +251,8 @@ public class DispatchingEvmFrameState implements EvmFrameState {
         if (numberedBytecode == null) {
             return Hash.EMPTY;
         } else {
-            return CodeFactory.createCode(pbjToTuweniBytes(numberedBytecode.code()), 0, false)
+            return codeCache
+                    .getOrCreate(pbjToTuweniBytes(numberedBytecode.code()))
                     .getCodeHash();
         }
     }
@@ -256,7 +270,7 @@ public class DispatchingEvmFrameState implements EvmFrameState {
      */
     @Override
     public @NonNull Hash getTokenRedirectCodeHash(@NonNull final Address address) {
-        return CodeFactory.createCode(proxyBytecodeFor(address), 0, false).getCodeHash();
+        return codeCache.getOrCreate(proxyBytecodeFor(address)).getCodeHash();
     }
 
     /**
@@ -272,8 +286,7 @@ public class DispatchingEvmFrameState implements EvmFrameState {
      */
     @Override
     public @NonNull Hash getAccountRedirectCodeHash(@Nullable final Address address) {
-        return CodeFactory.createCode(accountProxyBytecodeFor(address), 0, false)
-                .getCodeHash();
+        return codeCache.getOrCreate(accountProxyBytecodeFor(address)).getCodeHash();
     }
 
     /**
@@ -289,8 +302,7 @@ public class DispatchingEvmFrameState implements EvmFrameState {
      */
     @Override
     public @NonNull Hash getScheduleRedirectCodeHash(@Nullable final Address address) {
-        return CodeFactory.createCode(scheduleProxyBytecodeFor(address), 0, false)
-                .getCodeHash();
+        return codeCache.getOrCreate(scheduleProxyBytecodeFor(address)).getCodeHash();
     }
 
     /**
@@ -28,6 +28,7 @@ import org.apache.tuweni.units.bigints.UInt256;
 import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.evm.Code;
 import org.hyperledger.besu.evm.account.Account;
 import org.hyperledger.besu.evm.account.MutableAccount;
 import org.hyperledger.besu.evm.frame.ExceptionalHaltReason;
@@ -179,6 +180,16 @@ public interface EvmFrameState {
     @NonNull
     Bytes getCode(ContractID contractID);
 
+    /**
+     * Returns the analyzed EVM code for the account with the given contract id, reusing any
+     * analysis already done for identical bytecode.
+     *
+     * @param contractID the contract id
+     * @return the analyzed code for the account
+     */
+    @NonNull
+    Code getEvmCode(ContractID contractID);
+
     /**
      * Sets the code for the contract with the given contract id. Only used during contract creation.
      *
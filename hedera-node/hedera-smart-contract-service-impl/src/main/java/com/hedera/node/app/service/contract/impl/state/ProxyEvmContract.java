@@ -21,7 +21,6 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.evm.Code;
-import org.hyperledger.besu.evm.code.CodeFactory;
 
 /**
  * A concrete subclass of {@link AbstractProxyEvmAccount} that represents a contract account.
@@ -36,7 +35,7 @@ public class ProxyEvmContract extends AbstractProxyEvmAccount {
 
     @Override
     public @NonNull Code getEvmCode(@NonNull final Bytes functionSelector) {
-        return CodeFactory.createCode(getCode(), 0, false);
+        return state.getEvmCode(hederaContractId());
     }
 
     @Override
@@ -52,6 +52,16 @@ public class ReadableContractStateStore implements ContractStateStore {
         return bytecode.get(contractId);
     }
 
+    @Override
+    public void warm(@NonNull final ContractID contractId) {
+        bytecode.warm(contractId);
+    }
+
+    @Override
+    public void warm(@NonNull final SlotKey slotKey) {
+        storage.warm(slotKey);
+    }
+
     /**
      * Refuses to put bytecode.
      *
@@ -97,6 +107,11 @@ public class ReadableContractStateStore implements ContractStateStore {
         return Collections.emptySet();
     }
 
+    @Override
+    public Set<SlotKey> getReadSlotKeys() {
+        return storage.readKeys();
+    }
+
     /**
      * {@inheritDoc}
      */
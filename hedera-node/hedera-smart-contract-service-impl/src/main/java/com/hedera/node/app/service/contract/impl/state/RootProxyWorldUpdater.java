@@ -22,10 +22,12 @@ import static com.hedera.node.app.spi.workflows.ResourceExhaustedException.valid
 
 import com.hedera.hapi.node.base.ContractID;
 import com.hedera.hapi.node.contract.ContractNonceInfo;
+import com.hedera.hapi.node.state.contract.SlotKey;
 import com.hedera.node.app.service.contract.impl.annotations.TransactionScope;
 import com.hedera.node.app.service.contract.impl.exec.scope.HandleHederaOperations;
 import com.hedera.node.app.service.contract.impl.infra.IterableStorageManager;
 import com.hedera.node.app.service.contract.impl.infra.RentCalculator;
+import com.hedera.node.app.service.contract.impl.infra.StoragePrefetcher;
 import com.hedera.node.app.service.contract.impl.infra.StorageSizeValidator;
 import com.hedera.node.app.spi.workflows.HandleContext;
 import com.hedera.node.app.spi.workflows.ResourceExhaustedException;
@@ -33,8 +35,10 @@ import com.hedera.node.config.data.ContractsConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import javax.inject.Inject;
 
 /**
@@ -49,6 +53,7 @@ public class RootProxyWorldUpdater extends ProxyWorldUpdater {
     private final ContractsConfig contractsConfig;
     private final IterableStorageManager storageManager;
     private final StorageSizeValidator storageSizeValidator;
+    private final StoragePrefetcher storagePrefetcher;
     private final HandleContext context;
 
     private boolean committed = false;
@@ -63,12 +68,14 @@ public class RootProxyWorldUpdater extends ProxyWorldUpdater {
             @NonNull final RentCalculator rentCalculator,
             @NonNull final IterableStorageManager storageManager,
             @NonNull final StorageSizeValidator storageSizeValidator,
+            @NonNull final StoragePrefetcher storagePrefetcher,
             @NonNull final HandleContext context) {
         super(enhancement, evmFrameStateFactory, null);
         this.contractsConfig = Objects.requireNonNull(contractsConfig);
         this.storageManager = Objects.requireNonNull(storageManager);
         this.rentCalculator = Objects.requireNonNull(rentCalculator);
         this.storageSizeValidator = Objects.requireNonNull(storageSizeValidator);
+        this.storagePrefetcher = Objects.requireNonNull(storagePrefetcher);
         this.context = context;
     }
 
@@ -92,6 +99,10 @@ public class RootProxyWorldUpdater extends ProxyWorldUpdater {
                 sizeEffects.finalSlotsUsed(), enhancement.operations(), sizeEffects.sizeChanges());
         // Charge rent for each increase in storage size
         chargeRentFor(sizeEffects);
+        // Remember the slots this transaction accessed, before linked list maintenance touches more of them
+        final var store = enhancement.operations().getStore();
+        final Set<SlotKey> accessedSlots = new HashSet<>(store.getReadSlotKeys());
+        accessedSlots.addAll(store.getModifiedSlotKeys());
         // "Rewrite" the pending storage changes to preserve per-contract linked lists
         storageManager.persistChanges(
                 enhancement,
@@ -118,6 +129,7 @@ public class RootProxyWorldUpdater extends ProxyWorldUpdater {
         super.commit();
         // Be sure not to externalize contract ids or nonces without a successful commit
         committed = true;
+        storagePrefetcher.recordAccesses(accessedSlots);
     }
 
     /**
@@ -18,6 +18,7 @@ package com.hedera.node.app.service.contract.impl.state;
 
 import com.hedera.node.app.service.contract.impl.exec.scope.HederaNativeOperations;
 import com.hedera.node.app.service.contract.impl.exec.scope.HederaOperations;
+import com.hedera.node.app.service.contract.impl.infra.EvmCodeCache;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.Objects;
 import javax.inject.Inject;
@@ -29,17 +30,20 @@ import javax.inject.Inject;
 public class ScopedEvmFrameStateFactory implements EvmFrameStateFactory {
     private final HederaOperations hederaOperations;
     private final HederaNativeOperations hederaNativeOperations;
+    private final EvmCodeCache codeCache;
 
     @Inject
     public ScopedEvmFrameStateFactory(
             @NonNull final HederaOperations hederaOperations,
-            @NonNull final HederaNativeOperations hederaNativeOperations) {
+            @NonNull final HederaNativeOperations hederaNativeOperations,
+            @NonNull final EvmCodeCache codeCache) {
         this.hederaOperations = Objects.requireNonNull(hederaOperations);
         this.hederaNativeOperations = Objects.requireNonNull(hederaNativeOperations);
+        this.codeCache = Objects.requireNonNull(codeCache);
     }
 
     @Override
     public EvmFrameState get() {
-        return new DispatchingEvmFrameState(hederaNativeOperations, hederaOperations.getStore());
+        return new DispatchingEvmFrameState(hederaNativeOperations, hederaOperations.getStore(), codeCache);
     }
 }
@@ -106,6 +106,14 @@ public class WritableContractStateStore implements ContractStateStore {
         return storage.modifiedKeys();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<SlotKey> getReadSlotKeys() {
+        return storage.readKeys();
+    }
+
     /**
      * {@inheritDoc}
      */
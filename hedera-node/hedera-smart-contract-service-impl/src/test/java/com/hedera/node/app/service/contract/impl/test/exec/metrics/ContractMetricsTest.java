@@ -16,6 +16,7 @@
 
 package com.hedera.node.app.service.contract.impl.test.exec.metrics;
 
+import static java.util.Map.entry;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
@@ -69,6 +70,14 @@ public class ContractMetricsTest {
 
         subject.bumpRejectedType3EthTx(20);
 
+        subject.incrementCodeCacheHits();
+        subject.incrementCodeCacheHits();
+        subject.incrementCodeCacheMisses();
+
+        subject.bumpStorageSlotsPrefetched(8);
+        subject.bumpStoragePrefetchHits(6);
+        subject.bumpStoragePrefetchMisses(3);
+
         assertThat(subject.getAllCounterNames())
                 .containsExactlyInAnyOrder(
                         "SmartContractService:Rejected-ethereumTxDueToIntrinsicGas_total",
@@ -77,23 +86,26 @@ public class ContractMetricsTest {
                         "SmartContractService:Rejected-contractCallTx_total",
                         "SmartContractService:Rejected-contractCreateTxDueToIntrinsicGas_total",
                         "SmartContractService:Rejected-contractCreateTx_total",
-                        "SmartContractService:Rejected-ethType3BlobTransaction_total");
-        assertThat(subject.getAllCounters())
-                .containsExactlyInAnyOrderEntriesOf(Map.of(
-                        "SmartContractService:Rejected-ethereumTxDueToIntrinsicGas_total",
-                        14L,
-                        "SmartContractService:Rejected-ethereumTx_total",
-                        4L,
-                        "SmartContractService:Rejected-contractCallTxDueToIntrinsicGas_total",
-                        10L,
-                        "SmartContractService:Rejected-contractCallTx_total",
-                        1L,
-                        "SmartContractService:Rejected-contractCreateTxDueToIntrinsicGas_total",
-                        12L,
-                        "SmartContractService:Rejected-contractCreateTx_total",
-                        2L,
                         "SmartContractService:Rejected-ethType3BlobTransaction_total",
-                        20L));
+                        "SmartContractService:CodeCacheHits_total",
+                        "SmartContractService:CodeCacheMisses_total",
+                        "SmartContractService:StorageSlotsPrefetched_total",
+                        "SmartContractService:StoragePrefetchHits_total",
+                        "SmartContractService:StoragePrefetchMisses_total");
+        assertThat(subject.getAllCounters())
+                .containsExactlyInAnyOrderEntriesOf(Map.ofEntries(
+                        entry("SmartContractService:Rejected-ethereumTxDueToIntrinsicGas_total", 14L),
+                        entry("SmartContractService:Rejected-ethereumTx_total", 4L),
+                        entry("SmartContractService:Rejected-contractCallTxDueToIntrinsicGas_total", 10L),
+                        entry("SmartContractService:Rejected-contractCallTx_total", 1L),
+                        entry("SmartContractService:Rejected-contractCreateTxDueToIntrinsicGas_total", 12L),
+                        entry("SmartContractService:Rejected-contractCreateTx_total", 2L),
+                        entry("SmartContractService:Rejected-ethType3BlobTransaction_total", 20L),
+                        entry("SmartContractService:CodeCacheHits_total", 2L),
+                        entry("SmartContractService:CodeCacheMisses_total", 1L),
+                        entry("SmartContractService:StorageSlotsPrefetched_total", 8L),
+                        entry("SmartContractService:StoragePrefetchHits_total", 6L),
+                        entry("SmartContractService:StoragePrefetchMisses_total", 3L)));
 
         // And there is no counter for this functionality
         assertThrows(NullPointerException.class, () -> {
@@ -117,6 +129,13 @@ public class ContractMetricsTest {
 
         subject.bumpRejectedType3EthTx(20);
 
+        subject.incrementCodeCacheHits();
+        subject.incrementCodeCacheMisses();
+
+        subject.bumpStorageSlotsPrefetched(8);
+        subject.bumpStoragePrefetchHits(6);
+        subject.bumpStoragePrefetchMisses(3);
+
         assertThat(subject.getAllCounterNames()).isEmpty();
         assertThat(subject.getAllCounters()).isEmpty();
     }
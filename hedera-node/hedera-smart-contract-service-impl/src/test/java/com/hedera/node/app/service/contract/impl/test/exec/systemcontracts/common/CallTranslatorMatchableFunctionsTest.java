@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.test.exec.systemcontracts.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_DEFAULTS;
+import static org.mockito.Mockito.mock;
+
+import com.esaulpaugh.headlong.abi.Function;
+import com.hedera.hapi.node.base.TokenType;
+import com.hedera.node.app.service.contract.impl.exec.processors.HasTranslatorsModule;
+import com.hedera.node.app.service.contract.impl.exec.processors.HssTranslatorsModule;
+import com.hedera.node.app.service.contract.impl.exec.processors.HtsTranslatorsModule;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.has.HasCallAttempt;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hss.HssCallAttempt;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
+import com.swirlds.config.api.Configuration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.stubbing.Answer;
+
+/**
+ * Checks that every system contract translator's {@link CallTranslator#matches(Object)} accepts exactly the selectors
+ * of its {@link CallTranslator#matchableFunctions()}, with every feature flag enabled and for every kind of redirect;
+ * since translators are only consulted for the selectors they list, a selector missing from the list would never
+ * reach them.
+ */
+class CallTranslatorMatchableFunctionsTest {
+    private static final Map<Class<?>, Class<?>> ATTEMPT_TYPES = Map.of(
+            HtsTranslatorsModule.class, HtsCallAttempt.class,
+            HasTranslatorsModule.class, HasCallAttempt.class,
+            HssTranslatorsModule.class, HssCallAttempt.class);
+    private static final byte[] UNKNOWN_SELECTOR = new byte[] {0, 0, 0, 0};
+    private static final Answer<Object> ALL_ENABLED =
+            invocation -> invocation.getMethod().getReturnType() == boolean.class
+                    ? Boolean.TRUE
+                    : RETURNS_DEFAULTS.answer(invocation);
+    private static final Configuration ALL_ENABLED_CONFIG = mock(
+            Configuration.class,
+            invocation -> "getConfigData".equals(invocation.getMethod().getName())
+                    ? mock(invocation.<Class<?>>getArgument(0), ALL_ENABLED)
+                    : RETURNS_DEFAULTS.answer(invocation));
+
+    @ParameterizedTest
+    @MethodSource("translators")
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    void matchesExactlyTheMatchableFunctions(final CallTranslator translator, final Class<?> attemptType) {
+        final Set<String> matchable = selectorsOf(translator.matchableFunctions());
+        if (matchable.isEmpty()) {
+            // Such a translator is consulted for every selector, so there is nothing to check
+            return;
+        }
+        // Every function the translator's matches() considers, found by matching a selector no function has
+        final Set<Function> considered = new HashSet<>();
+        for (final var attempt : attemptsFor(attemptType, UNKNOWN_SELECTOR, considered)) {
+            assertThat(translator.matches(attempt)).isFalse();
+        }
+        final Set<String> matched = new HashSet<>();
+        for (final var function : considered) {
+            for (final var attempt : attemptsFor(attemptType, function.selector(), new HashSet<>())) {
+                if (translator.matches(attempt)) {
+                    matched.add(function.selectorHex());
+                }
+            }
+        }
+        assertThat(matched).isEqualTo(matchable);
+    }
+
+    static List<Arguments> translators() throws ReflectiveOperationException {
+        final List<Arguments> translators = new ArrayList<>();
+        for (final var module : ATTEMPT_TYPES.entrySet()) {
+            for (final var provider : module.getKey().getDeclaredMethods()) {
+                if (provider.getParameterCount() == 1
+                        && CallTranslator.class.isAssignableFrom(provider.getParameterTypes()[0])) {
+                    final var type = provider.getParameterTypes()[0];
+                    final var constructor = type.getConstructors()[0];
+                    final var args = new Object[constructor.getParameterCount()];
+                    for (int i = 0; i < args.length; i++) {
+                        args[i] = mock(constructor.getParameterTypes()[i]);
+                    }
+                    translators.add(Arguments.of(
+                            Named.of(type.getSimpleName(), constructor.newInstance(args)), module.getValue()));
+                }
+            }
+        }
+        return translators;
+    }
+
+    /**
+     * Returns attempts of the given type for the given selector, with every feature flag enabled and every kind of
+     * redirect; recording every function they are checked against.
+     */
+    private static List<Object> attemptsFor(
+            final Class<?> attemptType, final byte[] selector, final Set<Function> considered) {
+        final List<Object> attempts = new ArrayList<>();
+        for (final var tokenRedirect : new boolean[] {false, true}) {
+            for (final var tokenType : TokenType.values()) {
+                attempts.add(mock(attemptType, invocation -> switch (invocation.getMethod().getName()) {
+                    case "isSelector" -> {
+                        considered.addAll(List.of((Function[]) invocation.getRawArguments()[0]));
+                        yield invocation.callRealMethod();
+                    }
+                    case "isSelectorIfConfigEnabled" -> invocation.callRealMethod();
+                    case "selector" -> selector;
+                    case "configuration" -> ALL_ENABLED_CONFIG;
+                    case "isTokenRedirect" -> tokenRedirect;
+                    case "redirectTokenType" -> tokenType;
+                    default -> RETURNS_DEFAULTS.answer(invocation);
+                }));
+            }
+        }
+        return attempts;
+    }
+
+    private static Set<String> selectorsOf(final List<Function> functions) {
+        return functions.stream().map(Function::selectorHex).collect(Collectors.toSet());
+    }
+}
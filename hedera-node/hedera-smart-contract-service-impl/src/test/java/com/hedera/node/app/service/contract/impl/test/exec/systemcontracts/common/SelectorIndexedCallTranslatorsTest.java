@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.test.exec.systemcontracts.common;
+
+import static com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.name.NameTranslator.NAME;
+import static com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.symbol.SymbolTranslator.SYMBOL;
+import static com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.totalsupply.TotalSupplyTranslator.TOTAL_SUPPLY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.SelectorIndexedCallTranslators;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SelectorIndexedCallTranslatorsTest {
+    @Mock
+    private CallTranslator<HtsCallAttempt> nameTranslator;
+
+    @Mock
+    private CallTranslator<HtsCallAttempt> catchAllTranslator;
+
+    @Mock
+    private CallTranslator<HtsCallAttempt> nameOrSymbolTranslator;
+
+    private SelectorIndexedCallTranslators<HtsCallAttempt> subject;
+
+    @BeforeEach
+    void setUp() {
+        given(nameTranslator.matchableFunctions()).willReturn(List.of(NAME));
+        given(catchAllTranslator.matchableFunctions()).willReturn(List.of());
+        given(nameOrSymbolTranslator.matchableFunctions()).willReturn(List.of(NAME, SYMBOL));
+        subject = SelectorIndexedCallTranslators.from(
+                List.of(nameTranslator, catchAllTranslator, nameOrSymbolTranslator));
+    }
+
+    @Test
+    void stillListsAllTranslatorsInOrder() {
+        assertThat(subject).containsExactly(nameTranslator, catchAllTranslator, nameOrSymbolTranslator);
+    }
+
+    @Test
+    void candidatesKeepOrderAndIncludeUnindexedTranslators() {
+        assertThat(subject.candidatesFor(NAME.selector()))
+                .containsExactly(nameTranslator, catchAllTranslator, nameOrSymbolTranslator);
+        assertThat(subject.candidatesFor(SYMBOL.selector()))
+                .containsExactly(catchAllTranslator, nameOrSymbolTranslator);
+    }
+
+    @Test
+    void unknownOrShortSelectorsOnlyGetUnindexedTranslators() {
+        assertThat(subject.candidatesFor(TOTAL_SUPPLY.selector())).containsExactly(catchAllTranslator);
+        assertThat(subject.candidatesFor(new byte[] {0x01})).containsExactly(catchAllTranslator);
+    }
+}
@@ -539,6 +539,35 @@ class ActionStackTest {
         assertEquals(NON_SYSTEM_ACCOUNT_ID, action.callingAccount());
     }
 
+    @Test
+    void buildsPushedActionOnceWithItsFinalForm() {
+        givenPresentEvmAddress();
+
+        given(parentFrame.getType()).willReturn(CONTRACT_CREATION);
+        given(parentFrame.getOriginatorAddress()).willReturn(NON_SYSTEM_LONG_ZERO_ADDRESS);
+        given(parentFrame.getRemainingGas()).willReturn(REMAINING_GAS);
+        given(parentFrame.getInputData()).willReturn(pbjToTuweniBytes(CALL_DATA));
+        given(parentFrame.getValue()).willReturn(WEI_VALUE);
+        given(parentFrame.getDepth()).willReturn(STACK_DEPTH);
+        given(parentFrame.getCode()).willReturn(CONTRACT_CODE);
+        given(parentFrame.getContractAddress()).willReturn(EIP_1014_ADDRESS);
+        given(parentFrame.getState()).willReturn(MessageFrame.State.REVERT);
+        given(parentFrame.getRevertReason()).willReturn(Optional.of(pbjToTuweniBytes(OUTPUT_DATA)));
+
+        subject.pushActionOfTopLevel(parentFrame);
+        subject.finalizeLastAction(parentFrame, ActionStack.Validation.OFF);
+
+        final var action = allActions.get(0).get();
+        assertSame(action, allActions.get(0).get());
+        assertEquals(CREATE, action.callType());
+        assertEquals(NON_SYSTEM_ACCOUNT_ID, action.callingAccount());
+        assertEquals(CALL_DATA, action.input());
+        assertEquals(0, action.gasUsed());
+        assertEquals(OUTPUT_DATA, action.revertReason());
+        assertNull(action.recipientContract());
+        assertTrue(actionsStack.isEmpty());
+    }
+
     @Test
     void tracksTopLevelCallToMissingAsExpected() {
         given(parentFrame.getType()).willReturn(MessageFrame.Type.MESSAGE_CALL);
@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.test.infra;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.hedera.node.app.service.contract.impl.exec.metrics.ContractMetrics;
+import com.hedera.node.app.service.contract.impl.infra.EvmCodeCache;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.evm.code.CodeFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EvmCodeCacheTest {
+    private static final Bytes SOME_CODE = Bytes.fromHexString("0x6080604052348015600f57600080fd5b50");
+    private static final Bytes OTHER_CODE = Bytes.fromHexString("0x6080604052600080fd");
+
+    @Mock
+    private ContractMetrics contractMetrics;
+
+    private EvmCodeCache subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new EvmCodeCache(contractMetrics);
+    }
+
+    @Test
+    void reusesAnalyzedCodeForEqualBytecode() {
+        final var first = subject.getOrCreate(SOME_CODE);
+        final var second = subject.getOrCreate(Bytes.wrap(SOME_CODE.toArray()));
+
+        assertSame(first, second);
+        assertEquals(CodeFactory.createCode(SOME_CODE, 0, false), first);
+        verify(contractMetrics).incrementCodeCacheMisses();
+        verify(contractMetrics).incrementCodeCacheHits();
+    }
+
+    @Test
+    void distinguishesBytecodeAndEofVersion() {
+        final var some = subject.getOrCreate(SOME_CODE);
+        final var other = subject.getOrCreate(OTHER_CODE);
+        final var someWithEof = subject.getOrCreate(SOME_CODE, 1);
+
+        assertNotSame(some, other);
+        assertNotSame(some, someWithEof);
+        assertEquals(CodeFactory.createCode(OTHER_CODE, 0, false), other);
+        verify(contractMetrics, times(3)).incrementCodeCacheMisses();
+        verify(contractMetrics, never()).incrementCodeCacheHits();
+    }
+
+    @Test
+    void doesNotCacheEmptyCode() {
+        assertEquals(CodeFactory.createCode(Bytes.EMPTY, 0, false), subject.getOrCreate(Bytes.EMPTY));
+        verifyNoInteractions(contractMetrics);
+    }
+}
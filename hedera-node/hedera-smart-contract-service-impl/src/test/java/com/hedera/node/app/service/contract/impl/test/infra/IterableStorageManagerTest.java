@@ -31,6 +31,7 @@ import com.hedera.node.app.service.contract.impl.exec.scope.HederaNativeOperatio
 import com.hedera.node.app.service.contract.impl.exec.scope.HederaOperations;
 import com.hedera.node.app.service.contract.impl.hevm.HederaWorldUpdater.Enhancement;
 import com.hedera.node.app.service.contract.impl.infra.IterableStorageManager;
+import com.hedera.node.app.service.contract.impl.infra.StorageLinkedListUpdater;
 import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
 import com.hedera.node.app.service.contract.impl.state.StorageAccess;
 import com.hedera.node.app.service.contract.impl.state.StorageAccesses;
@@ -68,7 +69,7 @@ class IterableStorageManagerTest {
     @Mock
     private Account account;
 
-    private final IterableStorageManager subject = new IterableStorageManager();
+    private final IterableStorageManager subject = new IterableStorageManager(new StorageLinkedListUpdater());
 
     @Test
     void rewriteUpdatesKvCountStorageMetadataOnly() {
@@ -273,17 +274,15 @@ class IterableStorageManagerTest {
         given(enhancement.operations()).willReturn(hederaOperations);
         given(store.getSlotValueForModify(new SlotKey(CONTRACT_1, BYTES_1)))
                 .willReturn(new SlotValue(tuweniToPbjBytes(UInt256.ONE), Bytes.EMPTY, Bytes.EMPTY));
-        given(store.getSlotValueForModify(new SlotKey(CONTRACT_1, BYTES_2)))
-                .willReturn(new SlotValue(tuweniToPbjBytes(UInt256.ONE), Bytes.EMPTY, BYTES_1));
 
         // Should insert into the head of the existing storage list
         subject.persistChanges(enhancement, accesses, sizeChanges, store);
 
-        // The first insert (BYTES_2)
+        // The first insert (BYTES_2) is written once, already linked to the second insert
         verify(store)
                 .putSlot(
                         new SlotKey(CONTRACT_1, BYTES_2),
-                        new SlotValue(tuweniToPbjBytes(UInt256.MAX_VALUE), Bytes.EMPTY, BYTES_1));
+                        new SlotValue(tuweniToPbjBytes(UInt256.MAX_VALUE), BYTES_3, BYTES_1));
         verify(store)
                 .putSlot(
                         new SlotKey(CONTRACT_1, BYTES_1),
@@ -293,10 +292,6 @@ class IterableStorageManagerTest {
                 .putSlot(
                         new SlotKey(CONTRACT_1, BYTES_3),
                         new SlotValue(tuweniToPbjBytes(UInt256.MAX_VALUE), Bytes.EMPTY, BYTES_2));
-        verify(store)
-                .putSlot(
-                        new SlotKey(CONTRACT_1, BYTES_2),
-                        new SlotValue(tuweniToPbjBytes(UInt256.ONE), BYTES_3, BYTES_1));
 
         // The new first key is BYTES_3
         verify(hederaOperations).updateStorageMetadata(CONTRACT_1, BYTES_3, 2);
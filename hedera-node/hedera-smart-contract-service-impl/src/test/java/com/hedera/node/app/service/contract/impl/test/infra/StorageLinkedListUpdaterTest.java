@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.test.infra;
+
+import static com.hedera.node.app.service.contract.impl.schemas.V0490ContractSchema.BYTECODE_KEY;
+import static com.hedera.node.app.service.contract.impl.schemas.V0490ContractSchema.STORAGE_KEY;
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.tuweniToPbjBytes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.hapi.node.state.contract.SlotKey;
+import com.hedera.hapi.node.state.contract.SlotValue;
+import com.hedera.node.app.service.contract.impl.infra.StorageLinkedListUpdater;
+import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
+import com.hedera.node.app.service.contract.impl.state.StorageAccess;
+import com.hedera.node.app.service.contract.impl.state.WritableContractStateStore;
+import com.hedera.node.app.spi.metrics.StoreMetricsService;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.state.test.fixtures.MapWritableKVState;
+import com.swirlds.state.test.fixtures.MapWritableStates;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StorageLinkedListUpdaterTest {
+    private static final ContractID CONTRACT_ID =
+            ContractID.newBuilder().contractNum(1234L).build();
+    private static final int INITIAL_SLOTS = 6;
+
+    private final StorageLinkedListUpdater subject = new StorageLinkedListUpdater();
+
+    private ContractStateStore store;
+
+    @BeforeEach
+    void setUp() {
+        final var states = MapWritableStates.builder()
+                .state(new MapWritableKVState<>(STORAGE_KEY))
+                .state(new MapWritableKVState<>(BYTECODE_KEY))
+                .build();
+        store = spy(new WritableContractStateStore(
+                states, HederaTestConfigBuilder.createConfig(), mock(StoreMetricsService.class)));
+        // Link slots 1 <-> 2 <-> ... <-> 6, with slot 1 at the head
+        for (int i = 1; i <= INITIAL_SLOTS; i++) {
+            final var prevKey = i > 1 ? keyOf(i - 1) : Bytes.EMPTY;
+            final var nextKey = i < INITIAL_SLOTS ? keyOf(i + 1) : Bytes.EMPTY;
+            store.putSlot(new SlotKey(CONTRACT_ID, keyOf(i)), new SlotValue(keyOf(i), prevKey, nextKey));
+        }
+    }
+
+    @Test
+    void splicesAllChangesMatchingOneAtATimeOrder() {
+        final var accesses = List.of(
+                removal(1),
+                StorageAccess.newWrite(UInt256.valueOf(3), UInt256.valueOf(3), UInt256.valueOf(33)),
+                insertion(7),
+                removal(2),
+                removal(4),
+                insertion(8),
+                removal(6),
+                StorageAccess.newRead(UInt256.valueOf(5), UInt256.valueOf(5)));
+
+        final var firstKey = subject.spliceChanges(store, CONTRACT_ID, keyOf(1), accesses);
+
+        assertEquals(keyOf(8), firstKey);
+        assertEquals(List.of(keyOf(8), keyOf(7), keyOf(3), keyOf(5)), listFrom(firstKey));
+        for (final int removed : new int[] {1, 2, 4, 6}) {
+            assertNull(store.getSlotValue(new SlotKey(CONTRACT_ID, keyOf(removed))));
+        }
+        // Slot 3 is the neighbor of two removed runs and of the inserted slots, but is only modified once
+        verify(store).getSlotValueForModify(new SlotKey(CONTRACT_ID, keyOf(3)));
+        verify(store).getSlotValueForModify(new SlotKey(CONTRACT_ID, keyOf(5)));
+    }
+
+    @Test
+    void removingEverythingLeavesEmptyList() {
+        final List<StorageAccess> accesses = new ArrayList<>();
+        for (int i = INITIAL_SLOTS; i >= 1; i--) {
+            accesses.add(removal(i));
+        }
+
+        final var firstKey = subject.spliceChanges(store, CONTRACT_ID, keyOf(1), accesses);
+
+        assertEquals(Bytes.EMPTY, firstKey);
+        assertEquals(0, store.getNumSlots());
+    }
+
+    @Test
+    void onlyValueUpdatesLeaveListUnchanged() {
+        final var accesses =
+                List.of(StorageAccess.newWrite(UInt256.valueOf(2), UInt256.valueOf(2), UInt256.valueOf(22)));
+
+        final var firstKey = subject.spliceChanges(store, CONTRACT_ID, keyOf(1), accesses);
+
+        assertEquals(keyOf(1), firstKey);
+        assertEquals(List.of(keyOf(1), keyOf(2), keyOf(3), keyOf(4), keyOf(5), keyOf(6)), listFrom(firstKey));
+    }
+
+    private List<Bytes> listFrom(final Bytes firstKey) {
+        final List<Bytes> keys = new ArrayList<>();
+        var prevKey = Bytes.EMPTY;
+        var key = firstKey;
+        while (!Bytes.EMPTY.equals(key)) {
+            final var value = store.getSlotValue(new SlotKey(CONTRACT_ID, key));
+            assertEquals(prevKey, value.previousKey());
+            keys.add(key);
+            prevKey = key;
+            key = value.nextKey();
+        }
+        return keys;
+    }
+
+    private static StorageAccess removal(final int slot) {
+        return StorageAccess.newWrite(UInt256.valueOf(slot), UInt256.valueOf(slot), UInt256.ZERO);
+    }
+
+    private static StorageAccess insertion(final int slot) {
+        return StorageAccess.newWrite(UInt256.valueOf(slot), UInt256.ZERO, UInt256.valueOf(slot));
+    }
+
+    private static Bytes keyOf(final int slot) {
+        return tuweniToPbjBytes(UInt256.valueOf(slot));
+    }
+}
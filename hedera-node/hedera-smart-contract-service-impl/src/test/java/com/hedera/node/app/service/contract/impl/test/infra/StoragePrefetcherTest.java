@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.test.infra;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import com.esaulpaugh.headlong.rlp.RLPEncoder;
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.hapi.node.state.contract.SlotKey;
+import com.hedera.node.app.service.contract.impl.exec.metrics.ContractMetrics;
+import com.hedera.node.app.service.contract.impl.infra.StoragePrefetcher;
+import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StoragePrefetcherTest {
+    private static final ContractID CONTRACT_ID =
+            ContractID.newBuilder().contractNum(1234L).build();
+    private static final Bytes A_KEY = slotKey(1);
+    private static final Bytes B_KEY = slotKey(2);
+    private static final Bytes C_KEY = slotKey(3);
+    private static final byte[] ADDRESS = new byte[20];
+
+    @Mock
+    private ContractMetrics contractMetrics;
+
+    @Mock
+    private ContractStateStore store;
+
+    private StoragePrefetcher subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new StoragePrefetcher(contractMetrics);
+    }
+
+    @Test
+    void warmsAdditionalKeysForUnknownContract() {
+        subject.prefetch(store, CONTRACT_ID, List.of(A_KEY, B_KEY));
+
+        verify(store).warm(new SlotKey(CONTRACT_ID, A_KEY));
+        verify(store).warm(new SlotKey(CONTRACT_ID, B_KEY));
+        verify(contractMetrics).bumpStorageSlotsPrefetched(2);
+    }
+
+    @Test
+    void warmsRecentlyAccessedSlotsAndCountsHits() {
+        subject.recordAccesses(List.of(new SlotKey(CONTRACT_ID, A_KEY), new SlotKey(CONTRACT_ID, B_KEY)));
+        verify(contractMetrics).bumpStoragePrefetchMisses(2);
+
+        subject.prefetch(store, CONTRACT_ID, List.of(C_KEY));
+        verify(store).warm(new SlotKey(CONTRACT_ID, A_KEY));
+        verify(store).warm(new SlotKey(CONTRACT_ID, B_KEY));
+        verify(store).warm(new SlotKey(CONTRACT_ID, C_KEY));
+        verify(contractMetrics).bumpStorageSlotsPrefetched(3);
+
+        subject.recordAccesses(List.of(new SlotKey(CONTRACT_ID, A_KEY), new SlotKey(CONTRACT_ID, C_KEY)));
+        verify(contractMetrics).bumpStoragePrefetchHits(2);
+        verifyNoMoreInteractions(contractMetrics);
+    }
+
+    @Test
+    void doesNotWarmSlotsStillPendingAccess() {
+        subject.prefetch(store, CONTRACT_ID, List.of(A_KEY));
+        subject.prefetch(store, CONTRACT_ID, List.of(A_KEY));
+
+        verify(store).warm(new SlotKey(CONTRACT_ID, A_KEY));
+        verify(contractMetrics).bumpStorageSlotsPrefetched(1);
+        verifyNoMoreInteractions(contractMetrics);
+    }
+
+    @Test
+    void ignoresSlotsWithoutContractId() {
+        subject.recordAccesses(List.of(new SlotKey(null, A_KEY)));
+
+        verifyNoInteractions(contractMetrics);
+    }
+
+    @Test
+    void decodesAccessListSlotsWithPadding() {
+        final var accessList = RLPEncoder.encodeSequentially(
+                new Object[] {ADDRESS, new Object[] {A_KEY.toByteArray(), new byte[] {0x03}}});
+
+        final var slots = StoragePrefetcher.accessListSlots(accessList);
+
+        assertEquals(Map.of(Bytes.wrap(ADDRESS), List.of(A_KEY, C_KEY)), slots);
+    }
+
+    @Test
+    void rejectsMissingOrMalformedAccessLists() {
+        assertTrue(StoragePrefetcher.accessListSlots(null).isEmpty());
+        assertTrue(StoragePrefetcher.accessListSlots(new byte[0]).isEmpty());
+        assertTrue(StoragePrefetcher.accessListSlots(RLPEncoder.encodeSequentially(new Object[] {ADDRESS}))
+                .isEmpty());
+        assertTrue(StoragePrefetcher.accessListSlots(new byte[] {(byte) 0xf8, 0x01})
+                .isEmpty());
+    }
+
+    private static Bytes slotKey(final int value) {
+        final var key = new byte[32];
+        key[31] = (byte) value;
+        return Bytes.wrap(key);
+    }
+}
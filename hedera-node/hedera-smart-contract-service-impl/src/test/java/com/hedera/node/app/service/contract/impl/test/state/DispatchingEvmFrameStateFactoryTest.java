@@ -21,6 +21,7 @@ import static org.mockito.BDDMockito.given;
 
 import com.hedera.node.app.service.contract.impl.exec.scope.HederaNativeOperations;
 import com.hedera.node.app.service.contract.impl.exec.scope.HederaOperations;
+import com.hedera.node.app.service.contract.impl.infra.EvmCodeCache;
 import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
 import com.hedera.node.app.service.contract.impl.state.DispatchingEvmFrameState;
 import com.hedera.node.app.service.contract.impl.state.ScopedEvmFrameStateFactory;
@@ -41,11 +42,14 @@ class DispatchingEvmFrameStateFactoryTest {
     @Mock
     private ContractStateStore store;
 
+    @Mock
+    private EvmCodeCache codeCache;
+
     private ScopedEvmFrameStateFactory subject;
 
     @BeforeEach
     void setUp() {
-        subject = new ScopedEvmFrameStateFactory(scope, extFrameScope);
+        subject = new ScopedEvmFrameStateFactory(scope, extFrameScope, codeCache);
     }
 
     @Test
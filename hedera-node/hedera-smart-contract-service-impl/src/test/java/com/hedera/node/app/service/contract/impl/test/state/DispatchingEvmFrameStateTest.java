@@ -55,9 +55,11 @@ import com.hedera.hapi.node.state.schedule.Schedule;
 import com.hedera.hapi.node.state.token.Account;
 import com.hedera.hapi.node.state.token.Token;
 import com.hedera.node.app.service.contract.impl.exec.failure.CustomExceptionalHaltReason;
+import com.hedera.node.app.service.contract.impl.exec.metrics.ContractMetrics;
 import com.hedera.node.app.service.contract.impl.exec.scope.ActiveContractVerificationStrategy;
 import com.hedera.node.app.service.contract.impl.exec.scope.HederaNativeOperations;
 import com.hedera.node.app.service.contract.impl.exec.scope.VerificationStrategy;
+import com.hedera.node.app.service.contract.impl.infra.EvmCodeCache;
 import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
 import com.hedera.node.app.service.contract.impl.state.DispatchingEvmFrameState;
 import com.hedera.node.app.service.contract.impl.state.ProxyEvmAccount;
@@ -141,11 +143,14 @@ class DispatchingEvmFrameStateTest {
     @Mock
     private MessageFrame frame;
 
+    @Mock
+    private ContractMetrics contractMetrics;
+
     private DispatchingEvmFrameState subject;
 
     @BeforeEach
     void setUp() {
-        subject = new DispatchingEvmFrameState(nativeOperations, contractStateStore);
+        subject = new DispatchingEvmFrameState(nativeOperations, contractStateStore, new EvmCodeCache(contractMetrics));
     }
 
     @Test
@@ -410,6 +415,19 @@ class DispatchingEvmFrameStateTest {
         assertEquals(SOME_PRETEND_CODE_HASH, actualCodeHash);
     }
 
+    @Test
+    void getsCachedEvmCodeForIdenticalBytecode() {
+        givenWellKnownBytecode();
+
+        final var firstCode = subject.getEvmCode(A_CONTRACT_ID);
+        final var secondCode = subject.getEvmCode(A_CONTRACT_ID);
+
+        assertSame(firstCode, secondCode);
+        assertEquals(SOME_PRETEND_CODE_HASH, firstCode.getCodeHash());
+        verify(contractMetrics).incrementCodeCacheMisses();
+        verify(contractMetrics).incrementCodeCacheHits();
+    }
+
     @Test
     void getsEmptyCodeHashForMissing() {
         final var actualCodeHash = subject.getCodeHash(A_CONTRACT_ID);
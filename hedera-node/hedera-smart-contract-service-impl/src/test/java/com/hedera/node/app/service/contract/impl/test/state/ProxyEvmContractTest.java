@@ -124,14 +124,14 @@ class ProxyEvmContractTest {
     @Test
     void returnsEvmCode() {
         final var code = pbjToTuweniBytes(SOME_PRETEND_CODE);
-        given(hederaState.getCode(CONTRACT_ID)).willReturn(code);
+        given(hederaState.getEvmCode(CONTRACT_ID)).willReturn(CodeFactory.createCode(code, 0, false));
         assertEquals(CodeFactory.createCode(code, 0, false), subject.getEvmCode(org.apache.tuweni.bytes.Bytes.EMPTY));
     }
 
     @Test
     void returnsEvmCodeButSetsState() {
         final var code = pbjToTuweniBytes(SOME_PRETEND_CODE);
-        given(hederaState.getCode(CONTRACT_ID)).willReturn(code);
+        given(hederaState.getEvmCode(CONTRACT_ID)).willReturn(CodeFactory.createCode(code, 0, false));
         assertEquals(
                 CodeFactory.createCode(code, 0, false),
                 subject.getEvmCode(org.apache.tuweni.bytes.Bytes.wrap(HBAR_ALLOWANCE_PROXY.selector())));
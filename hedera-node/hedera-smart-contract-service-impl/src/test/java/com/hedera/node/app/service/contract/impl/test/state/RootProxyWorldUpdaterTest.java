@@ -17,12 +17,14 @@
 package com.hedera.node.app.service.contract.impl.test.state;
 
 import static com.hedera.node.app.service.contract.impl.test.TestHelpers.CALLED_CONTRACT_ID;
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.tuweniToPbjBytes;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
 
 import com.hedera.hapi.node.base.ContractID;
 import com.hedera.hapi.node.contract.ContractNonceInfo;
+import com.hedera.hapi.node.state.contract.SlotKey;
 import com.hedera.node.app.service.contract.impl.exec.scope.HederaNativeOperations;
 import com.hedera.node.app.service.contract.impl.exec.scope.HederaOperations;
 import com.hedera.node.app.service.contract.impl.exec.scope.SystemContractOperations;
@@ -30,6 +32,7 @@ import com.hedera.node.app.service.contract.impl.hevm.HederaWorldUpdater;
 import com.hedera.node.app.service.contract.impl.hevm.HederaWorldUpdater.Enhancement;
 import com.hedera.node.app.service.contract.impl.infra.IterableStorageManager;
 import com.hedera.node.app.service.contract.impl.infra.RentCalculator;
+import com.hedera.node.app.service.contract.impl.infra.StoragePrefetcher;
 import com.hedera.node.app.service.contract.impl.infra.StorageSizeValidator;
 import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
 import com.hedera.node.app.service.contract.impl.state.EvmFrameState;
@@ -47,6 +50,7 @@ import com.swirlds.config.api.Configuration;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import org.apache.tuweni.units.bigints.UInt256;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -80,6 +84,9 @@ class RootProxyWorldUpdaterTest {
     @Mock
     private StorageSizeValidator storageSizeValidator;
 
+    @Mock
+    private StoragePrefetcher storagePrefetcher;
+
     @Mock
     private HandleContext context;
 
@@ -119,7 +126,8 @@ class RootProxyWorldUpdaterTest {
 
     @Test
     void performsAdditionalCommitActionsInOrder() {
-        InOrder inOrder = BDDMockito.inOrder(storageSizeValidator, storageManager, rentCalculator, hederaOperations);
+        InOrder inOrder = BDDMockito.inOrder(
+                storageSizeValidator, storageManager, rentCalculator, hederaOperations, storagePrefetcher);
 
         final var aExpiry = 1_234_567;
         final var aSlotsUsedBeforeCommit = 101;
@@ -138,6 +146,10 @@ class RootProxyWorldUpdaterTest {
                 .willReturn(rentInTinycents);
         given(hederaOperations.valueInTinybars(rentInTinycents)).willReturn(rentInTinybars);
         given(hederaOperations.getStore()).willReturn(store);
+        final var readSlot = new SlotKey(A_CONTRAC_ID, tuweniToPbjBytes(A_KEY_BEING_CHANGED));
+        final var modifiedSlot = new SlotKey(B_CONTRAC_ID, tuweniToPbjBytes(B_KEY_BEING_ADDED));
+        given(store.getReadSlotKeys()).willReturn(Set.of(readSlot));
+        given(store.getModifiedSlotKeys()).willReturn(Set.of(modifiedSlot));
         final var createdIds = new ArrayList<>(List.of(CALLED_CONTRACT_ID));
         final var updatedNonces = new ArrayList<>(List.of(new ContractNonceInfo(CALLED_CONTRACT_ID, 1L)));
         given(hederaOperations.summarizeContractChanges())
@@ -150,6 +162,7 @@ class RootProxyWorldUpdaterTest {
         inOrder.verify(hederaOperations).chargeStorageRent(A_CONTRAC_ID, rentInTinybars, true);
         inOrder.verify(storageManager).persistChanges(enhancement, pendingChanges(), expectedSizeChanges(), store);
         inOrder.verify(hederaOperations).commit();
+        inOrder.verify(storagePrefetcher).recordAccesses(Set.of(readSlot, modifiedSlot));
 
         assertSame(createdIds, subject.getCreatedContractIds());
         assertSame(updatedNonces, subject.getUpdatedContractNonces());
@@ -163,6 +176,7 @@ class RootProxyWorldUpdaterTest {
                 rentCalculator,
                 storageManager,
                 storageSizeValidator,
+                storagePrefetcher,
                 context);
     }
 
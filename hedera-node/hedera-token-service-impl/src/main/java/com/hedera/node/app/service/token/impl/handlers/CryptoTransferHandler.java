@@ -45,6 +45,7 @@ import com.hedera.hapi.node.state.token.Nft;
 import com.hedera.hapi.node.state.token.Token;
 import com.hedera.hapi.node.token.CryptoTransferTransactionBody;
 import com.hedera.hapi.node.transaction.AssessedCustomFee;
+import com.hedera.hapi.node.transaction.CustomFee;
 import com.hedera.hapi.node.transaction.TransactionBody;
 import com.hedera.node.app.service.token.ReadableAccountStore;
 import com.hedera.node.app.service.token.ReadableNftStore;
@@ -148,6 +149,9 @@ public class CryptoTransferHandler extends TransferExecutor implements Transacti
             if (treasuryID != null) {
                 accountStore.warm(treasuryID);
             }
+            if (token != null) {
+                warmCustomFeeCollectors(accountStore, tokenRelationStore, token);
+            }
             for (final AccountAmount amount : tokenTransferList.transfers()) {
                 amount.ifAccountID(accountID -> tokenRelationStore.warm(accountID, tokenID));
             }
@@ -157,6 +161,28 @@ public class CryptoTransferHandler extends TransferExecutor implements Transacti
         });
     }
 
+    private void warmCustomFeeCollectors(
+            @NonNull final ReadableAccountStore accountStore,
+            @NonNull final ReadableTokenRelationStore tokenRelationStore,
+            @NonNull final Token token) {
+        for (final CustomFee customFee : token.customFees()) {
+            final AccountID collectorID = customFee.feeCollectorAccountId();
+            if (collectorID == null) {
+                continue;
+            }
+            accountStore.warm(collectorID);
+            // A fixed fee is collected in its denominating token, if any; fractional fees in the token itself
+            if (customFee.hasFixedFee()) {
+                final var fixedFee = customFee.fixedFeeOrThrow();
+                if (fixedFee.hasDenominatingTokenId()) {
+                    tokenRelationStore.warm(collectorID, fixedFee.denominatingTokenIdOrThrow());
+                }
+            } else if (customFee.hasFractionalFee()) {
+                tokenRelationStore.warm(collectorID, token.tokenIdOrThrow());
+            }
+        }
+    }
+
     private void warmNftTransfer(
             @NonNull final ReadableAccountStore accountStore,
             @NonNull final ReadableTokenStore tokenStore,
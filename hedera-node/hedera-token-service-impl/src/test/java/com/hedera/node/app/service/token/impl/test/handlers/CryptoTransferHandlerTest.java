@@ -53,7 +53,11 @@ import com.hedera.hapi.node.base.TransactionID;
 import com.hedera.hapi.node.base.TransferList;
 import com.hedera.hapi.node.state.token.Account;
 import com.hedera.hapi.node.state.token.Nft;
+import com.hedera.hapi.node.state.token.Token;
 import com.hedera.hapi.node.token.CryptoTransferTransactionBody;
+import com.hedera.hapi.node.transaction.CustomFee;
+import com.hedera.hapi.node.transaction.FixedFee;
+import com.hedera.hapi.node.transaction.FractionalFee;
 import com.hedera.hapi.node.transaction.TransactionBody;
 import com.hedera.node.app.service.token.ReadableAccountStore;
 import com.hedera.node.app.service.token.ReadableNftStore;
@@ -74,7 +78,7 @@ import com.hedera.node.app.spi.workflows.WarmupContext;
 import com.hedera.node.app.spi.workflows.record.StreamBuilder;
 import com.hedera.node.app.store.ReadableStoreFactory;
 import com.hedera.node.app.workflows.handle.DispatchHandleContext;
-import com.hedera.node.app.workflows.handle.cache.CacheWarmer;
+import com.hedera.node.app.workflows.handle.cache.RoundPrefetcher;
 import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
@@ -116,7 +120,7 @@ class CryptoTransferHandlerTest extends CryptoTransferHandlerTestBase {
 
         TransactionBody txn = newCryptoTransfer(ACCT_3333_MINUS_10, ACCT_4444_PLUS_10);
 
-        WarmupContext warmupContext = new CacheWarmer.WarmupContextImpl(txn, storeFactory);
+        WarmupContext warmupContext = new RoundPrefetcher.WarmupContextImpl(txn, storeFactory);
         when(storeFactory.getStore(ReadableAccountStore.class)).thenReturn(readableAccountStore);
 
         subject.warm(warmupContext);
@@ -143,7 +147,7 @@ class CryptoTransferHandlerTest extends CryptoTransferHandlerTestBase {
                         .build())
                 .build());
 
-        WarmupContext warmupContext = new CacheWarmer.WarmupContextImpl(txn, storeFactory);
+        WarmupContext warmupContext = new RoundPrefetcher.WarmupContextImpl(txn, storeFactory);
         when(storeFactory.getStore(ReadableAccountStore.class)).thenReturn(readableAccountStore);
         when(storeFactory.getStore(ReadableTokenStore.class)).thenReturn(readableTokenStore);
         when(storeFactory.getStore(ReadableNftStore.class)).thenReturn(readableNftStore);
@@ -157,6 +161,50 @@ class CryptoTransferHandlerTest extends CryptoTransferHandlerTestBase {
         verify(readableNftStore, times(1)).warm(any());
     }
 
+    @Test
+    void warmCustomFeeCollectorsOfTransferredTokens() {
+        ReadableStoreFactory storeFactory = mock(ReadableStoreFactory.class);
+        ReadableAccountStore readableAccountStore = mock(ReadableAccountStore.class);
+        ReadableTokenStore readableTokenStore = mock(ReadableTokenStore.class);
+        ReadableNftStore readableNftStore = mock(ReadableNftStore.class);
+        ReadableTokenRelationStore readableTokenRelationStore = mock(ReadableTokenRelationStore.class);
+        final var fixedFeeCollector = asAccount(5555);
+        final var fractionalFeeCollector = asAccount(6666);
+        final var token = Token.newBuilder()
+                .tokenId(TOKEN_2468)
+                .customFees(
+                        CustomFee.newBuilder()
+                                .feeCollectorAccountId(fixedFeeCollector)
+                                .fixedFee(FixedFee.newBuilder()
+                                        .amount(1)
+                                        .denominatingTokenId(TOKEN_2469))
+                                .build(),
+                        CustomFee.newBuilder()
+                                .feeCollectorAccountId(fractionalFeeCollector)
+                                .fractionalFee(FractionalFee.DEFAULT)
+                                .build())
+                .build();
+
+        TransactionBody txn = newCryptoTransfer(TokenTransferList.newBuilder()
+                .token(TOKEN_2468)
+                .transfers(ACCT_3333_MINUS_10, ACCT_4444_PLUS_10)
+                .build());
+
+        WarmupContext warmupContext = new RoundPrefetcher.WarmupContextImpl(txn, storeFactory);
+        when(storeFactory.getStore(ReadableAccountStore.class)).thenReturn(readableAccountStore);
+        when(storeFactory.getStore(ReadableTokenStore.class)).thenReturn(readableTokenStore);
+        when(storeFactory.getStore(ReadableNftStore.class)).thenReturn(readableNftStore);
+        when(storeFactory.getStore(ReadableTokenRelationStore.class)).thenReturn(readableTokenRelationStore);
+        when(readableTokenStore.get(TOKEN_2468)).thenReturn(token);
+
+        subject.warm(warmupContext);
+
+        verify(readableAccountStore).warm(fixedFeeCollector);
+        verify(readableAccountStore).warm(fractionalFeeCollector);
+        verify(readableTokenRelationStore).warm(fixedFeeCollector, TOKEN_2469);
+        verify(readableTokenRelationStore).warm(fractionalFeeCollector, TOKEN_2468);
+    }
+
     @Test
     void calculateFeesHbarTransfer() {
         config = defaultConfig()
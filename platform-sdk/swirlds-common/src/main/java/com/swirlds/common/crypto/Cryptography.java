@@ -166,6 +166,21 @@ public interface Cryptography {
      */
     boolean verifySync(final List<TransactionSignature> signatures);
 
+    /**
+     * Verifies the given digital signatures for authenticity without waiting for the results. Every signature is
+     * assigned a future (available via {@link TransactionSignature#getFuture()}) before this method returns, and the
+     * result of its verification is returned by the {@link TransactionSignature#getSignatureStatus()} method once that
+     * future has been completed. Implementations may complete the futures in any order, as results become available.
+     * <p>
+     * By default, the signatures are verified on the calling thread by {@link #verifySync(List)}.
+     *
+     * @param signatures a list of signatures to be verified
+     * @throws CryptographyException if an unrecoverable error occurs while verifying the signatures synchronously
+     */
+    default void verifyAsync(@NonNull final List<TransactionSignature> signatures) {
+        verifySync(signatures);
+    }
+
     /**
      * Verifies the given digital signature for authenticity. Convenience method that defaults to
      * {@link SignatureType#ED25519} signatures.
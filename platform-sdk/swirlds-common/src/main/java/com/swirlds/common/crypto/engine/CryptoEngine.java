@@ -16,6 +16,8 @@
 
 package com.swirlds.common.crypto.engine;
 
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+
 import com.swirlds.common.crypto.Cryptography;
 import com.swirlds.common.crypto.CryptographyException;
 import com.swirlds.common.crypto.DigestType;
@@ -32,13 +34,17 @@ import com.swirlds.logging.legacy.LogMarker;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.security.NoSuchAlgorithmException;
 import java.security.Security;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 
-public class CryptoEngine implements Cryptography {
+public class CryptoEngine implements Cryptography, AutoCloseable {
 
     /**
      * The constant value used as the component name for all threads created by this module.
@@ -80,10 +86,39 @@ public class CryptoEngine implements Cryptography {
      */
     private Map<DigestType, Hash> nullHashes;
 
+    /**
+     * The number of threads in the pool used by {@link #verifyAsync(List)}.
+     */
+    private final int verificationThreads;
+
+    /**
+     * The pool used by {@link #verifyAsync(List)}, created on first use so that engines which only verify
+     * synchronously never start any threads.
+     */
+    private volatile ExecutorService verificationPool;
+
+    /**
+     * Set once {@link #close()} has been called, after which no new verification pool is created.
+     */
+    private boolean closed;
+
     /**
      * Constructor.
      */
     public CryptoEngine() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param verificationThreads the number of threads to use for asynchronous signature verification
+     */
+    public CryptoEngine(final int verificationThreads) {
+        if (verificationThreads < 1) {
+            throw new IllegalArgumentException("verificationThreads must be positive");
+        }
+        this.verificationThreads = verificationThreads;
         this.digestProvider = new DigestProvider();
 
         this.ed25519VerificationProvider = new Ed25519VerificationProvider();
@@ -224,6 +259,104 @@ public class CryptoEngine implements Cryptography {
         return finalOutcome;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The signatures are split among at most as many tasks as there are verification threads, with each task taking
+     * the next unverified signature of the batch until none are left. A single slow signature therefore never holds
+     * up the others, and each future is completed as soon as its own signature has been verified.
+     */
+    @Override
+    public void verifyAsync(@NonNull final List<TransactionSignature> signatures) {
+        final int size = signatures.size();
+        if (size == 0) {
+            return;
+        }
+        final ExecutorService pool = verificationPool();
+        final List<StandardFuture<Void>> futures = new ArrayList<>(size);
+        for (final TransactionSignature signature : signatures) {
+            final StandardFuture<Void> future = new StandardFuture<>();
+            signature.setFuture(future);
+            futures.add(future);
+        }
+
+        final AtomicInteger nextIndex = new AtomicInteger();
+        final Runnable task = () -> {
+            for (int i = nextIndex.getAndIncrement(); i < size; i = nextIndex.getAndIncrement()) {
+                verifyAsyncInternal(signatures.get(i), futures.get(i));
+            }
+        };
+        final int numTasks = Math.min(size, verificationThreads);
+        for (int i = 0; i < numTasks; i++) {
+            pool.execute(task);
+        }
+    }
+
+    /**
+     * Verifies a single signature on a verification thread, then completes its future. Signatures whose future was
+     * cancelled in the meantime are skipped.
+     *
+     * @param signature the signature to be verified
+     * @param future    the {@link Future} already associated with the {@link TransactionSignature}
+     */
+    private void verifyAsyncInternal(final TransactionSignature signature, final StandardFuture<Void> future) {
+        if (future.isDone()) {
+            return;
+        }
+        final OperationProvider<TransactionSignature, Void, Boolean, ?, SignatureType> provider =
+                signature.getSignatureType() == SignatureType.ECDSA_SECP256K1
+                        ? ecdsaSecp256k1VerificationProvider
+                        : ed25519VerificationProvider;
+        try {
+            final boolean isValid = provider.compute(signature, signature.getSignatureType());
+            signature.setSignatureStatus(isValid ? VerificationStatus.VALID : VerificationStatus.INVALID);
+            future.complete(null);
+        } catch (final NoSuchAlgorithmException ex) {
+            future.cancelWithError(new CryptographyException(ex, LogMarker.EXCEPTION));
+        } catch (final RuntimeException ex) {
+            future.cancelWithError(ex);
+        }
+    }
+
+    /**
+     * Get the pool used for asynchronous signature verification, creating it if necessary.
+     *
+     * @return the verification pool
+     * @throws IllegalStateException if this engine has been closed
+     */
+    private ExecutorService verificationPool() {
+        ExecutorService pool = verificationPool;
+        if (pool == null) {
+            synchronized (this) {
+                if (closed) {
+                    throw new IllegalStateException("CryptoEngine has been closed");
+                }
+                pool = verificationPool;
+                if (pool == null) {
+                    pool = Executors.newFixedThreadPool(
+                            verificationThreads,
+                            getStaticThreadManager().createThreadFactory(THREAD_COMPONENT_NAME, "signature-verifier"));
+                    verificationPool = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * Shut down the threads used for asynchronous signature verification. Verifications that were already submitted
+     * are still completed, but {@link #verifyAsync(List)} may no longer be called. Synchronous operations are not
+     * affected.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (verificationPool != null) {
+            verificationPool.shutdown();
+            verificationPool = null;
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -38,6 +38,13 @@ import java.time.Duration;
  *                                       considered to be unhealthy and starts to write log warnings
  * @param healthLogPeriod                the minimum amount of time that must pass between health log messages for the
  *                                       same scheduler
+ * @param tracingSampleRate              the fraction (out of 1.0) of data entering the wiring framework that carries a
+ *                                       latency trace, 0.0 disables tracing
+ * @param maxHopsPerTrace                the maximum number of hops in a single trace, bounds traces through cycles in
+ *                                       the wiring graph
+ * @param slowTraceThreshold             sampled traces with an end-to-end latency at or above this threshold are
+ *                                       written to the log
+ * @param slowTraceLogPeriod             the minimum amount of time that must pass between slow trace log messages
  */
 @ConfigData("platform.wiring")
 public record WiringConfig(
@@ -48,4 +55,8 @@ public record WiringConfig(
         @ConfigProperty(defaultValue = "500") int healthMonitorSchedulerCapacity,
         @ConfigProperty(defaultValue = "1ms") Duration healthMonitorHeartbeatPeriod,
         @ConfigProperty(defaultValue = "1s") Duration healthLogThreshold,
-        @ConfigProperty(defaultValue = "10m") Duration healthLogPeriod) {}
+        @ConfigProperty(defaultValue = "10m") Duration healthLogPeriod,
+        @ConfigProperty(defaultValue = "0") double tracingSampleRate,
+        @ConfigProperty(defaultValue = "64") int maxHopsPerTrace,
+        @ConfigProperty(defaultValue = "1s") Duration slowTraceThreshold,
+        @ConfigProperty(defaultValue = "1m") Duration slowTraceLogPeriod) {}
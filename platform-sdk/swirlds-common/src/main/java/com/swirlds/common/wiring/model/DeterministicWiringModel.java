@@ -19,6 +19,7 @@ package com.swirlds.common.wiring.model;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.wiring.model.internal.deterministic.DeterministicHeartbeatScheduler;
 import com.swirlds.common.wiring.model.internal.deterministic.DeterministicTaskSchedulerBuilder;
+import com.swirlds.common.wiring.model.internal.tracing.NoOpWiringTracer;
 import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerBuilder;
 import com.swirlds.common.wiring.wires.output.NoOpOutputWire;
 import com.swirlds.common.wiring.wires.output.OutputWire;
@@ -54,7 +55,7 @@ public class DeterministicWiringModel extends TraceableWiringModel {
      * @param platformContext the context for this node
      */
     DeterministicWiringModel(@NonNull final PlatformContext platformContext) {
-        super(false);
+        super(false, NoOpWiringTracer.getInstance());
         this.platformContext = Objects.requireNonNull(platformContext);
         this.heartbeatScheduler = new DeterministicHeartbeatScheduler(this, platformContext.getTime(), "heartbeat");
     }
@@ -25,6 +25,9 @@ import com.swirlds.common.wiring.model.diagram.HyperlinkBuilder;
 import com.swirlds.common.wiring.model.internal.monitor.HealthMonitor;
 import com.swirlds.common.wiring.model.internal.standard.HeartbeatScheduler;
 import com.swirlds.common.wiring.model.internal.standard.JvmAnchor;
+import com.swirlds.common.wiring.model.internal.tracing.NoOpWiringTracer;
+import com.swirlds.common.wiring.model.internal.tracing.StandardWiringTracer;
+import com.swirlds.common.wiring.model.internal.tracing.WiringTracer;
 import com.swirlds.common.wiring.schedulers.TaskScheduler;
 import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerBuilder;
 import com.swirlds.common.wiring.schedulers.builders.internal.StandardTaskSchedulerBuilder;
@@ -39,6 +42,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 
 /**
  * A standard implementation of a wiring model suitable for production use.
@@ -101,7 +105,7 @@ public class StandardWiringModel extends TraceableWiringModel {
      * @param builder the builder for this model, contains all needed configuration
      */
     StandardWiringModel(@NonNull final WiringModelBuilder builder) {
-        super(builder.isHardBackpressureEnabled());
+        super(builder.isHardBackpressureEnabled(), buildTracer(builder));
 
         this.platformContext = Objects.requireNonNull(builder.getPlatformContext());
         this.defaultPool = Objects.requireNonNull(builder.getDefaultPool());
@@ -130,6 +134,25 @@ public class StandardWiringModel extends TraceableWiringModel {
         }
     }
 
+    /**
+     * Build the tracer for this model.
+     *
+     * @param builder the builder for this model
+     * @return a tracer, or a no-op tracer if tracing is disabled
+     */
+    @NonNull
+    private static WiringTracer buildTracer(@NonNull final WiringModelBuilder builder) {
+        if (builder.getTracingSampleRate() <= 0) {
+            return NoOpWiringTracer.getInstance();
+        }
+        return new StandardWiringTracer(
+                builder.getPlatformContext(),
+                builder.getTracingSampleRate(),
+                builder.getMaxHopsPerTrace(),
+                builder.getSlowTraceThreshold(),
+                builder.getSlowTraceLogPeriod());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -201,7 +224,10 @@ public class StandardWiringModel extends TraceableWiringModel {
             anchor.start();
         }
 
-        healthMonitor = new HealthMonitor(platformContext, schedulers, healthLogThreshold, healthLogPeriod);
+        final Supplier<String> traceReportSupplier =
+                getTracer() == NoOpWiringTracer.getInstance() ? null : this::generateTraceReport;
+        healthMonitor = new HealthMonitor(
+                platformContext, schedulers, healthLogThreshold, healthLogPeriod, traceReportSupplier);
         healthMonitorInputWire.bind(healthMonitor::checkSystemHealth);
 
         markAsStarted();
@@ -29,14 +29,18 @@ import com.swirlds.common.wiring.model.internal.analysis.InputWireChecks;
 import com.swirlds.common.wiring.model.internal.analysis.InputWireDescriptor;
 import com.swirlds.common.wiring.model.internal.analysis.ModelEdge;
 import com.swirlds.common.wiring.model.internal.analysis.ModelVertex;
+import com.swirlds.common.wiring.model.internal.analysis.SolderedEdge;
 import com.swirlds.common.wiring.model.internal.analysis.StandardVertex;
 import com.swirlds.common.wiring.model.internal.analysis.WiringFlowchart;
+import com.swirlds.common.wiring.model.internal.tracing.WiringTracer;
 import com.swirlds.common.wiring.schedulers.TaskScheduler;
 import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType;
 import com.swirlds.common.wiring.wires.SolderType;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -61,6 +65,11 @@ public abstract class TraceableWiringModel implements WiringModel {
      */
     private final Set<ModelEdge> edges = new HashSet<>();
 
+    /**
+     * All edges in the model in the order they were registered, including the way they were soldered.
+     */
+    private final List<SolderedEdge> solderedEdges = new ArrayList<>();
+
     /**
      * Input wires that have been created.
      */
@@ -91,13 +100,20 @@ public abstract class TraceableWiringModel implements WiringModel {
      */
     private final boolean backpressureEnabled;
 
+    /**
+     * Records sampled latency traces for data flowing through the wires of this model.
+     */
+    private final WiringTracer tracer;
+
     /**
      * Constructor.
      *
      * @param backpressureEnabled true if backpressure is enabled
+     * @param tracer              records sampled latency traces for data flowing through this model
      */
-    TraceableWiringModel(final boolean backpressureEnabled) {
+    TraceableWiringModel(final boolean backpressureEnabled, @NonNull final WiringTracer tracer) {
         this.backpressureEnabled = backpressureEnabled;
+        this.tracer = Objects.requireNonNull(tracer);
     }
 
     /**
@@ -109,6 +125,16 @@ public abstract class TraceableWiringModel implements WiringModel {
         return backpressureEnabled;
     }
 
+    /**
+     * Get the tracer that records sampled latency traces for data flowing through this model.
+     *
+     * @return the tracer
+     */
+    @NonNull
+    public WiringTracer getTracer() {
+        return tracer;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -148,6 +174,15 @@ public abstract class TraceableWiringModel implements WiringModel {
         return flowchart.render();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public String generateTraceReport() {
+        return tracer.generateReport();
+    }
+
     /**
      * Add a special vertex for all unsoldered input wires.
      */
@@ -241,6 +276,7 @@ public abstract class TraceableWiringModel implements WiringModel {
         }
 
         solderedInputWires.add(new InputWireDescriptor(destinationVertex, label));
+        solderedEdges.add(new SolderedEdge(originVertex, destinationVertex, label, solderType));
     }
 
     /**
@@ -287,6 +323,36 @@ public abstract class TraceableWiringModel implements WiringModel {
         }
     }
 
+    /**
+     * Get all vertices in the model.
+     *
+     * @return an unmodifiable view of the vertices
+     */
+    @NonNull
+    public Collection<ModelVertex> getVertices() {
+        return Collections.unmodifiableCollection(vertices.values());
+    }
+
+    /**
+     * Get all edges in the model, in the order they were registered.
+     *
+     * @return an unmodifiable view of the edges
+     */
+    @NonNull
+    public List<SolderedEdge> getSolderedEdges() {
+        return Collections.unmodifiableList(solderedEdges);
+    }
+
+    /**
+     * Get all task schedulers registered with the model.
+     *
+     * @return an unmodifiable view of the task schedulers
+     */
+    @NonNull
+    public List<TaskScheduler<?>> getSchedulers() {
+        return Collections.unmodifiableList(schedulers);
+    }
+
     /**
      * Throw an exception if start() has already been called.
      */
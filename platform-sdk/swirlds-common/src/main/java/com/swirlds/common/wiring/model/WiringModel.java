@@ -98,6 +98,15 @@ public interface WiringModel extends Startable, Stoppable {
             @NonNull List<ModelManualLink> manualLinks,
             boolean moreMystery);
 
+    /**
+     * Generate a report of the per-stage latencies recorded for sampled traces. Tracing is disabled unless a tracing
+     * sample rate is configured via {@link WiringModelBuilder#withTracingSampleRate(double)}.
+     *
+     * @return a human-readable latency report
+     */
+    @NonNull
+    String generateTraceReport();
+
     /**
      * Build a wire that produces an instant (reflecting current time) at the specified rate. Note that the exact rate
      * of heartbeats may vary. This is a best effort algorithm, and actual rates may vary depending on a variety of
@@ -38,6 +38,10 @@ public class WiringModelBuilder {
     private Duration healthMonitorPeriod = Duration.ofMillis(100);
     private Duration healthLogThreshold = Duration.ofSeconds(5);
     private Duration healthLogPeriod = Duration.ofMinutes(10);
+    private double tracingSampleRate = 0;
+    private int maxHopsPerTrace = 64;
+    private Duration slowTraceThreshold = Duration.ofSeconds(1);
+    private Duration slowTraceLogPeriod = Duration.ofMinutes(1);
 
     /**
      * Create a new builder.
@@ -173,6 +177,63 @@ public class WiringModelBuilder {
         return this;
     }
 
+    /**
+     * Set the fraction (out of 1.0) of data entering the wiring framework that should carry a latency trace. Data
+     * produced by a traced handler is part of the same trace, up to {@link #withMaxHopsPerTrace(int)} hops. Default is
+     * 0.0, i.e. tracing is disabled. Tracing is not supported in deterministic mode.
+     *
+     * @param tracingSampleRate the fraction of data to trace
+     * @return this
+     */
+    @NonNull
+    public WiringModelBuilder withTracingSampleRate(final double tracingSampleRate) {
+        if (tracingSampleRate < 0 || tracingSampleRate > 1) {
+            throw new IllegalArgumentException("Tracing sample rate must be between 0.0 and 1.0");
+        }
+        this.tracingSampleRate = tracingSampleRate;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of hops in a single trace. Once a trace reaches this limit, data produced by its handlers
+     * is no longer part of it, so that traces through cycles in the wiring graph still complete. Default is 64.
+     *
+     * @param maxHopsPerTrace the maximum number of hops in a single trace
+     * @return this
+     */
+    @NonNull
+    public WiringModelBuilder withMaxHopsPerTrace(final int maxHopsPerTrace) {
+        if (maxHopsPerTrace < 1) {
+            throw new IllegalArgumentException("Max hops per trace must be at least 1");
+        }
+        this.maxHopsPerTrace = maxHopsPerTrace;
+        return this;
+    }
+
+    /**
+     * Set the end-to-end latency at or above which a sampled trace is written to the log. Default is 1 second.
+     *
+     * @param slowTraceThreshold the slow trace threshold
+     * @return this
+     */
+    @NonNull
+    public WiringModelBuilder withSlowTraceThreshold(@NonNull final Duration slowTraceThreshold) {
+        this.slowTraceThreshold = Objects.requireNonNull(slowTraceThreshold);
+        return this;
+    }
+
+    /**
+     * Set the minimum amount of time that must pass between two slow trace log messages. Default is 1 minute.
+     *
+     * @param slowTraceLogPeriod the minimum amount of time between slow trace log messages
+     * @return this
+     */
+    @NonNull
+    public WiringModelBuilder withSlowTraceLogPeriod(@NonNull final Duration slowTraceLogPeriod) {
+        this.slowTraceLogPeriod = Objects.requireNonNull(slowTraceLogPeriod);
+        return this;
+    }
+
     /**
      * Build the wiring model.
      *
@@ -275,4 +336,42 @@ public class WiringModelBuilder {
     Duration getHealthLogPeriod() {
         return healthLogPeriod;
     }
+
+    /**
+     * Get the fraction of data entering the wiring framework that should carry a latency trace.
+     *
+     * @return the tracing sample rate
+     */
+    double getTracingSampleRate() {
+        return tracingSampleRate;
+    }
+
+    /**
+     * Get the maximum number of hops in a single trace.
+     *
+     * @return the maximum number of hops in a single trace
+     */
+    int getMaxHopsPerTrace() {
+        return maxHopsPerTrace;
+    }
+
+    /**
+     * Get the end-to-end latency at or above which a sampled trace is written to the log.
+     *
+     * @return the slow trace threshold
+     */
+    @NonNull
+    Duration getSlowTraceThreshold() {
+        return slowTraceThreshold;
+    }
+
+    /**
+     * Get the minimum amount of time that must pass between two slow trace log messages.
+     *
+     * @return the minimum amount of time between slow trace log messages
+     */
+    @NonNull
+    Duration getSlowTraceLogPeriod() {
+        return slowTraceLogPeriod;
+    }
 }
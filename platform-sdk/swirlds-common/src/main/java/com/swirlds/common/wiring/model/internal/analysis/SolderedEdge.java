@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.wiring.model.internal.analysis;
+
+import com.swirlds.common.wiring.wires.SolderType;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Describes a connection between an output wire and an input wire, including the way the two wires were soldered
+ * together.
+ *
+ * @param originVertex      the name of the vertex that produces the data
+ * @param destinationVertex the name of the vertex that receives the data
+ * @param label             the name of the input wire that receives the data
+ * @param solderType        the type of solder connection
+ */
+public record SolderedEdge(
+        @NonNull String originVertex,
+        @NonNull String destinationVertex,
+        @NonNull String label,
+        @NonNull SolderType solderType) {}
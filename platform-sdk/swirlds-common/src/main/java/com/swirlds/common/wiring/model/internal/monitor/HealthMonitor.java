@@ -29,6 +29,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 /**
  * Monitors the health of a wiring model. A healthy wiring model is a model without too much work backed up in queues.
@@ -73,13 +74,16 @@ public class HealthMonitor {
      * @param platformContext    the platform context
      * @param schedulers         the task schedulers to monitor
      * @param healthLogThreshold the amount of time that must pass before we start logging health information
-     * @param healthLogPeriod    the period at which we log health information
+     * @param healthLogPeriod     the period at which we log health information
+     * @param traceReportSupplier generates the wiring trace report that is logged once per health log period, or null
+     *                            if tracing is disabled
      */
     public HealthMonitor(
             @NonNull final PlatformContext platformContext,
             @NonNull final List<TaskScheduler<?>> schedulers,
             @NonNull final Duration healthLogThreshold,
-            @NonNull final Duration healthLogPeriod) {
+            @NonNull final Duration healthLogPeriod,
+            @Nullable final Supplier<String> traceReportSupplier) {
 
         metrics = new HealthMonitorMetrics(platformContext, healthLogThreshold);
 
@@ -91,11 +95,12 @@ public class HealthMonitor {
             }
         }
 
-        logger = new HealthMonitorLogger(platformContext, this.schedulers, healthLogThreshold, healthLogPeriod);
+        logger = new HealthMonitorLogger(
+                platformContext, this.schedulers, healthLogThreshold, healthLogPeriod, traceReportSupplier);
     }
 
     /**
-     * Called periodically. Scans the task schedulers for health issues.
+     * Called periodically. Scans the task schedulers for health issues, and periodically logs the wiring trace report.
      *
      * @param now the current time
      * @return the amount of time any single scheduler has been concurrently unhealthy. Returns {@link Duration#ZERO} if
@@ -123,6 +128,8 @@ public class HealthMonitor {
             }
         }
 
+        logger.reportTraceLatencies();
+
         try {
             if (longestUnhealthyDuration.equals(previouslyReportedDuration)) {
                 // Only report when there is a change in health status
@@ -18,16 +18,20 @@ package com.swirlds.common.wiring.model.internal.monitor;
 
 import static com.swirlds.common.units.TimeUnit.UNIT_NANOSECONDS;
 import static com.swirlds.logging.legacy.LogMarker.STARTUP;
+import static com.swirlds.logging.legacy.LogMarker.WIRING_TRACE;
 
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.utility.CompareTo;
 import com.swirlds.common.utility.throttle.RateLimitedLogger;
+import com.swirlds.common.utility.throttle.RateLimiter;
 import com.swirlds.common.wiring.schedulers.TaskScheduler;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -48,21 +52,35 @@ public class HealthMonitorLogger {
      */
     private final Map<String /* scheduler name */, RateLimitedLogger> schedulerLoggers = new HashMap<>();
 
+    /**
+     * Generates the wiring trace report, or null if tracing is disabled.
+     */
+    private final Supplier<String> traceReportSupplier;
+
+    /**
+     * Limits how often the wiring trace report is logged. The report is only generated when it is about to be logged.
+     */
+    private final RateLimiter traceReportLimiter;
+
     /**
      * Constructor.
      *
      * @param platformContext    the platform context
      * @param schedulers         the task schedulers being monitored
      * @param healthLogThreshold the amount of time that must pass before we start logging health information
-     * @param healthLogPeriod    the period at which we log health information
+     * @param healthLogPeriod     the period at which we log health information
+     * @param traceReportSupplier generates the wiring trace report, or null if tracing is disabled
      */
     public HealthMonitorLogger(
             @NonNull final PlatformContext platformContext,
             @NonNull final List<TaskScheduler<?>> schedulers,
             @NonNull final Duration healthLogThreshold,
-            @NonNull final Duration healthLogPeriod) {
+            @NonNull final Duration healthLogPeriod,
+            @Nullable final Supplier<String> traceReportSupplier) {
 
         this.healthLogThreshold = healthLogThreshold;
+        this.traceReportSupplier = traceReportSupplier;
+        this.traceReportLimiter = new RateLimiter(platformContext.getTime(), healthLogPeriod);
         for (final TaskScheduler<?> scheduler : schedulers) {
             final String schedulerName = scheduler.getName();
             final RateLimitedLogger rateLimitedLogger =
@@ -95,4 +113,13 @@ public class HealthMonitorLogger {
                 scheduler.getUnprocessedTaskCount(),
                 scheduler.getCapacity());
     }
+
+    /**
+     * Log the wiring trace report, at most once per health log period. Does nothing if tracing is disabled.
+     */
+    public void reportTraceLatencies() {
+        if (traceReportSupplier != null && traceReportLimiter.requestAndTrigger()) {
+            logger.info(WIRING_TRACE.getMarker(), traceReportSupplier.get());
+        }
+    }
 }
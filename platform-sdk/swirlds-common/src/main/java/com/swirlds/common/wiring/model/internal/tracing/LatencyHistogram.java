@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.wiring.model.internal.tracing;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock free latency histogram with power of two buckets, measured in nanoseconds. Bucket {@code i} holds values in
+ * the range {@code [2^i, 2^(i+1))}, with bucket 0 also holding zero.
+ */
+public class LatencyHistogram {
+
+    /**
+     * Enough buckets to hold any non-negative long.
+     */
+    private static final int BUCKET_COUNT = 64;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Record a latency.
+     *
+     * @param nanos the latency in nanoseconds, negative values are treated as zero
+     */
+    public void record(final long nanos) {
+        final long value = Math.max(0, nanos);
+        buckets.incrementAndGet(bucketIndex(value));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Get the number of recorded values.
+     *
+     * @return the number of recorded values
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Get the mean of all recorded values.
+     *
+     * @return the mean in nanoseconds, or 0 if no values were recorded
+     */
+    public double getMean() {
+        final long c = count.get();
+        return c == 0 ? 0 : ((double) sum.get()) / c;
+    }
+
+    /**
+     * Get the largest recorded value.
+     *
+     * @return the largest recorded value in nanoseconds
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Get an upper bound for the given percentile. The true value is no larger than the returned value, and no smaller
+     * than half of it.
+     *
+     * @param percentile the percentile, between 0.0 and 1.0
+     * @return the upper bound of the bucket containing the percentile, in nanoseconds
+     */
+    public long getPercentileUpperBound(final double percentile) {
+        final long target = (long) Math.ceil(count.get() * percentile);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+            if (seen >= target && seen > 0) {
+                return i >= 62 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Render this histogram as a single line of text.
+     *
+     * @return a human-readable summary
+     */
+    @NonNull
+    public String summarize() {
+        return "count=" + getCount()
+                + " mean=" + formatNanos((long) getMean())
+                + " p50<=" + formatNanos(getPercentileUpperBound(0.5))
+                + " p99<=" + formatNanos(getPercentileUpperBound(0.99))
+                + " max=" + formatNanos(getMax());
+    }
+
+    /**
+     * Format a nanosecond value in microseconds.
+     *
+     * @param nanos the value to format
+     * @return the formatted value
+     */
+    @NonNull
+    static String formatNanos(final long nanos) {
+        return (nanos / 1_000) + "us";
+    }
+
+    /**
+     * Compute the bucket for a value.
+     *
+     * @param value a non-negative value
+     * @return the bucket index
+     */
+    private static int bucketIndex(final long value) {
+        return value == 0 ? 0 : 63 - Long.numberOfLeadingZeros(value);
+    }
+}
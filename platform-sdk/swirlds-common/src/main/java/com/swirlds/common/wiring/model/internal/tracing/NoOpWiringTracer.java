@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.wiring.model.internal.tracing;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.function.Consumer;
+
+/**
+ * A {@link WiringTracer} that never traces anything.
+ */
+public final class NoOpWiringTracer implements WiringTracer {
+
+    private static final NoOpWiringTracer INSTANCE = new NoOpWiringTracer();
+
+    /**
+     * Get the singleton instance.
+     *
+     * @return the singleton instance
+     */
+    @NonNull
+    public static NoOpWiringTracer getInstance() {
+        return INSTANCE;
+    }
+
+    private NoOpWiringTracer() {}
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public Consumer<Object> wrap(
+            @NonNull final String taskSchedulerName,
+            @NonNull final String inputWireName,
+            @NonNull final Consumer<Object> handler) {
+        return handler;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void abandon(@NonNull final Consumer<Object> handler) {
+        // intentional no-op
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void discardCurrentHop() {
+        // intentional no-op
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public String generateReport() {
+        return "Wiring tracing is disabled.";
+    }
+}
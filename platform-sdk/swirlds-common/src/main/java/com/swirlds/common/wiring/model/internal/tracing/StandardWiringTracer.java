@@ -0,0 +1,378 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.wiring.model.internal.tracing;
+
+import static com.swirlds.logging.legacy.LogMarker.WIRING_TRACE;
+
+import com.swirlds.base.time.Time;
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.utility.throttle.RateLimitedLogger;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A {@link WiringTracer} that samples a configurable fraction of the data entering the wiring framework. For every hop
+ * of a sampled trace, the time spent waiting in the task scheduler's queue and the time spent in the handler are
+ * recorded in per-stage histograms and metrics. When a trace completes, its end-to-end latency is recorded, and traces
+ * that exceed a threshold are written to the log.
+ */
+public class StandardWiringTracer implements WiringTracer {
+
+    private static final Logger logger = LogManager.getLogger(StandardWiringTracer.class);
+
+    private static final String METRIC_CATEGORY = "platform";
+
+    /**
+     * The traced handler currently running on this thread, if any.
+     */
+    private static final ThreadLocal<TracedHandler> CURRENT_HOP = new ThreadLocal<>();
+
+    private final Time time;
+    private final Metrics metrics;
+    private final double sampleRate;
+    private final int maxHopsPerTrace;
+    private final long slowTraceThresholdNanos;
+    private final RateLimitedLogger slowTraceLogger;
+
+    private final AtomicLong nextTraceId = new AtomicLong();
+
+    private final LatencyHistogram endToEndLatency = new LatencyHistogram();
+    private final RunningAverageMetric endToEndMetric;
+    private final Map<String /* stage */, StageLatency> stages = new ConcurrentHashMap<>();
+    private final Map<String /* scheduler */, StageMetrics> schedulerMetrics = new ConcurrentHashMap<>();
+
+    /**
+     * Latency histograms for a single stage.
+     *
+     * @param queueLatency  time between insertion into the input wire and the start of the handler
+     * @param handleLatency time spent in the handler
+     */
+    private record StageLatency(@NonNull LatencyHistogram queueLatency, @NonNull LatencyHistogram handleLatency) {}
+
+    /**
+     * Metrics for a single task scheduler.
+     *
+     * @param queueLatency  average time spent waiting in the scheduler, in microseconds
+     * @param handleLatency average time spent in the handler, in microseconds
+     */
+    private record StageMetrics(
+            @NonNull RunningAverageMetric queueLatency, @NonNull RunningAverageMetric handleLatency) {}
+
+    /**
+     * Constructor.
+     *
+     * @param platformContext    the platform context
+     * @param sampleRate         the fraction (out of 1.0) of data entering the wiring framework that should be traced
+     * @param maxHopsPerTrace    the maximum number of hops in a single trace, data produced by a traced handler once
+     *                           this limit is reached is no longer part of that trace
+     * @param slowTraceThreshold traces with an end-to-end latency at or above this threshold are logged
+     * @param slowTraceLogPeriod the minimum period between two slow trace log messages
+     */
+    public StandardWiringTracer(
+            @NonNull final PlatformContext platformContext,
+            final double sampleRate,
+            final int maxHopsPerTrace,
+            @NonNull final Duration slowTraceThreshold,
+            @NonNull final Duration slowTraceLogPeriod) {
+
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("Sample rate must be between 0.0 and 1.0, got " + sampleRate);
+        }
+        if (maxHopsPerTrace < 1) {
+            throw new IllegalArgumentException("Max hops per trace must be at least 1, got " + maxHopsPerTrace);
+        }
+
+        this.time = platformContext.getTime();
+        this.metrics = platformContext.getMetrics();
+        this.sampleRate = sampleRate;
+        this.maxHopsPerTrace = maxHopsPerTrace;
+        this.slowTraceThresholdNanos = slowTraceThreshold.toNanos();
+        this.slowTraceLogger = new RateLimitedLogger(logger, time, slowTraceLogPeriod);
+
+        final RunningAverageMetric.Config endToEndConfig = new RunningAverageMetric.Config(
+                        METRIC_CATEGORY, "wiringTraceLatency")
+                .withDescription("Average end-to-end latency of sampled wiring traces, in microseconds")
+                .withUnit("us");
+        this.endToEndMetric = metrics.getOrCreate(endToEndConfig);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public Consumer<Object> wrap(
+            @NonNull final String taskSchedulerName,
+            @NonNull final String inputWireName,
+            @NonNull final Consumer<Object> handler) {
+
+        final TracedHandler currentHop = CURRENT_HOP.get();
+        final WiringTrace trace;
+        if (currentHop != null) {
+            // The wiring graph may contain cycles, so without a limit a trace could keep growing and never complete.
+            if (currentHop.trace.getTotalHops() >= maxHopsPerTrace) {
+                return handler;
+            }
+            trace = currentHop.trace;
+        } else {
+            if (sampleRate == 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+                return handler;
+            }
+            trace = new WiringTrace(nextTraceId.getAndIncrement(), time.nanoTime());
+        }
+
+        trace.hopStarted();
+        return new TracedHandler(trace, taskSchedulerName, inputWireName, handler, time.nanoTime());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void abandon(@NonNull final Consumer<Object> handler) {
+        if (handler instanceof final TracedHandler tracedHandler) {
+            onHopAbandoned(tracedHandler.trace, time.nanoTime());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void discardCurrentHop() {
+        final TracedHandler currentHop = CURRENT_HOP.get();
+        if (currentHop != null) {
+            currentHop.discarded = true;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public String generateReport() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("Wiring trace latency (sample rate ")
+                .append(sampleRate)
+                .append("), end-to-end: ")
+                .append(endToEndLatency.summarize())
+                .append('\n');
+
+        final Map<String, StageLatency> sortedStages = new TreeMap<>(stages);
+        for (final Map.Entry<String, StageLatency> entry : sortedStages.entrySet()) {
+            sb.append("  ")
+                    .append(entry.getKey())
+                    .append("\n    queue:  ")
+                    .append(entry.getValue().queueLatency().summarize())
+                    .append("\n    handle: ")
+                    .append(entry.getValue().handleLatency().summarize())
+                    .append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Record a completed hop.
+     *
+     * @param trace             the trace the hop belongs to
+     * @param taskSchedulerName the name of the task scheduler that handled the data
+     * @param stage             the name of the stage
+     * @param enqueueNanos      the time when the data was inserted into the input wire
+     * @param startNanos        the time when the handler started
+     * @param endNanos          the time when the handler finished
+     */
+    private void onHopComplete(
+            @NonNull final WiringTrace trace,
+            @NonNull final String taskSchedulerName,
+            @NonNull final String stage,
+            final long enqueueNanos,
+            final long startNanos,
+            final long endNanos) {
+
+        final long queueNanos = startNanos - enqueueNanos;
+        final long handleNanos = endNanos - startNanos;
+
+        final StageLatency stageLatency = stages.computeIfAbsent(
+                stage, s -> new StageLatency(new LatencyHistogram(), new LatencyHistogram()));
+        stageLatency.queueLatency().record(queueNanos);
+        stageLatency.handleLatency().record(handleNanos);
+
+        final StageMetrics stageMetrics = schedulerMetrics.computeIfAbsent(taskSchedulerName, this::buildMetrics);
+        stageMetrics.queueLatency().update(queueNanos / 1_000.0);
+        stageMetrics.handleLatency().update(handleNanos / 1_000.0);
+
+        if (trace.hopFinished(new WiringTrace.Hop(stage, enqueueNanos, startNanos, endNanos))) {
+            onTraceComplete(trace, endNanos);
+        }
+    }
+
+    /**
+     * Record a hop that was never handled. The hop counts towards completing its trace, but is not recorded in the
+     * per-stage latencies.
+     *
+     * @param trace    the trace the hop belongs to
+     * @param endNanos the time when the hop was abandoned
+     */
+    private void onHopAbandoned(@NonNull final WiringTrace trace, final long endNanos) {
+        if (trace.hopFinished(null)) {
+            onTraceComplete(trace, endNanos);
+        }
+    }
+
+    /**
+     * Record a completed trace, and log it if it was slow.
+     *
+     * @param trace    the trace that completed
+     * @param endNanos the time when the final hop of the trace finished
+     */
+    private void onTraceComplete(@NonNull final WiringTrace trace, final long endNanos) {
+        final long latencyNanos = endNanos - trace.getStartNanos();
+        endToEndLatency.record(latencyNanos);
+        endToEndMetric.update(latencyNanos / 1_000.0);
+
+        if (latencyNanos >= slowTraceThresholdNanos) {
+            slowTraceLogger.warn(
+                    WIRING_TRACE.getMarker(),
+                    "Slow wiring trace detected:\n{}",
+                    describeTrace(trace, latencyNanos));
+        }
+    }
+
+    /**
+     * Build a human-readable description of a trace.
+     *
+     * @param trace        the trace
+     * @param latencyNanos the end-to-end latency of the trace
+     * @return the description
+     */
+    @NonNull
+    private static String describeTrace(@NonNull final WiringTrace trace, final long latencyNanos) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("trace ")
+                .append(trace.getId())
+                .append(" took ")
+                .append(LatencyHistogram.formatNanos(latencyNanos))
+                .append(" over ")
+                .append(trace.getTotalHops())
+                .append(" hops\n");
+        for (final WiringTrace.Hop hop : trace.getHops()) {
+            sb.append("  +")
+                    .append(LatencyHistogram.formatNanos(hop.enqueueNanos() - trace.getStartNanos()))
+                    .append(' ')
+                    .append(hop.stage())
+                    .append(" queued=")
+                    .append(LatencyHistogram.formatNanos(hop.startNanos() - hop.enqueueNanos()))
+                    .append(" handled=")
+                    .append(LatencyHistogram.formatNanos(hop.endNanos() - hop.startNanos()))
+                    .append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Build the metrics for a task scheduler.
+     *
+     * @param taskSchedulerName the name of the task scheduler
+     * @return the metrics
+     */
+    @NonNull
+    private StageMetrics buildMetrics(@NonNull final String taskSchedulerName) {
+        final RunningAverageMetric.Config queueConfig = new RunningAverageMetric.Config(
+                        METRIC_CATEGORY, taskSchedulerName + "_trace_queue_latency")
+                .withDescription("Average time sampled data waits in the task scheduler " + taskSchedulerName
+                        + " before being handled, in microseconds")
+                .withUnit("us");
+        final RunningAverageMetric.Config handleConfig = new RunningAverageMetric.Config(
+                        METRIC_CATEGORY, taskSchedulerName + "_trace_handle_latency")
+                .withDescription("Average time spent handling sampled data in the task scheduler " + taskSchedulerName
+                        + ", in microseconds")
+                .withUnit("us");
+        return new StageMetrics(metrics.getOrCreate(queueConfig), metrics.getOrCreate(handleConfig));
+    }
+
+    /**
+     * A handler that records timing information for a traced hop.
+     */
+    private final class TracedHandler implements Consumer<Object> {
+
+        private final WiringTrace trace;
+        private final String taskSchedulerName;
+        private final String stage;
+        private final Consumer<Object> handler;
+        private final long enqueueNanos;
+
+        /**
+         * Set if the handler discarded its data without handling it, only accessed by the thread running the handler.
+         */
+        private boolean discarded;
+
+        /**
+         * Constructor.
+         *
+         * @param trace             the trace this hop belongs to
+         * @param taskSchedulerName the name of the task scheduler that will handle the data
+         * @param inputWireName     the name of the input wire the data was inserted into
+         * @param handler           the handler being traced
+         * @param enqueueNanos      the time when the data was inserted into the input wire
+         */
+        private TracedHandler(
+                @NonNull final WiringTrace trace,
+                @NonNull final String taskSchedulerName,
+                @NonNull final String inputWireName,
+                @NonNull final Consumer<Object> handler,
+                final long enqueueNanos) {
+            this.trace = trace;
+            this.taskSchedulerName = taskSchedulerName;
+            this.stage = taskSchedulerName + ":" + inputWireName;
+            this.handler = Objects.requireNonNull(handler);
+            this.enqueueNanos = enqueueNanos;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void accept(@NonNull final Object data) {
+            final TracedHandler previousHop = CURRENT_HOP.get();
+            CURRENT_HOP.set(this);
+            final long startNanos = time.nanoTime();
+            try {
+                handler.accept(data);
+            } finally {
+                final long endNanos = time.nanoTime();
+                CURRENT_HOP.set(previousHop);
+                if (discarded) {
+                    onHopAbandoned(trace, endNanos);
+                } else {
+                    onHopComplete(trace, taskSchedulerName, stage, enqueueNanos, startNanos, endNanos);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.wiring.model.internal.tracing;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The context for a single sampled trace. A trace is complete once every hop that was started as part of the trace has
+ * finished.
+ */
+public class WiringTrace {
+
+    /**
+     * The maximum number of hops recorded for a single trace. Hops beyond this limit are still counted and still
+     * contribute to the per-stage histograms, but are not retained for the slow trace dump.
+     */
+    private static final int MAX_RECORDED_HOPS = 256;
+
+    /**
+     * A single hop of a trace.
+     *
+     * @param stage        the stage, in the form "scheduler:input wire"
+     * @param enqueueNanos the time when the data was inserted into the input wire
+     * @param startNanos   the time when the handler started
+     * @param endNanos     the time when the handler finished
+     */
+    public record Hop(@NonNull String stage, long enqueueNanos, long startNanos, long endNanos) {}
+
+    private final long id;
+    private final long startNanos;
+    private final AtomicInteger pendingHops = new AtomicInteger();
+    private final AtomicInteger totalHops = new AtomicInteger();
+    private final List<Hop> hops = new ArrayList<>();
+
+    /**
+     * Constructor.
+     *
+     * @param id         a unique identifier for this trace
+     * @param startNanos the time when this trace started
+     */
+    public WiringTrace(final long id, final long startNanos) {
+        this.id = id;
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * Get the unique identifier of this trace.
+     *
+     * @return the identifier
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Get the time when this trace started.
+     *
+     * @return the start time in nanoseconds
+     */
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    /**
+     * Get the total number of hops in this trace, including hops that were not recorded.
+     *
+     * @return the total number of hops
+     */
+    public int getTotalHops() {
+        return totalHops.get();
+    }
+
+    /**
+     * Signal that a hop has been started.
+     */
+    void hopStarted() {
+        pendingHops.incrementAndGet();
+        totalHops.incrementAndGet();
+    }
+
+    /**
+     * Signal that a hop has finished.
+     *
+     * @param hop the hop that finished, or null if the hop was abandoned before it was handled
+     * @return true if this was the last pending hop, i.e. the trace is now complete
+     */
+    boolean hopFinished(final Hop hop) {
+        if (hop != null) {
+            synchronized (hops) {
+                if (hops.size() < MAX_RECORDED_HOPS) {
+                    hops.add(hop);
+                }
+            }
+        }
+        return pendingHops.decrementAndGet() == 0;
+    }
+
+    /**
+     * Get the recorded hops, in order of completion.
+     *
+     * @return a copy of the recorded hops
+     */
+    @NonNull
+    public List<Hop> getHops() {
+        synchronized (hops) {
+            return new ArrayList<>(hops);
+        }
+    }
+}
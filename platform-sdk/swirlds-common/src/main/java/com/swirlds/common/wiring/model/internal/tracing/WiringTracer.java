@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.wiring.model.internal.tracing;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.function.Consumer;
+
+/**
+ * Records sampled latency traces as data travels through the wiring framework. A trace is started when data enters an
+ * input wire from outside of a traced handler (subject to sampling), and it is propagated to every piece of data that
+ * a traced handler inserts into other input wires, either directly or via output wires.
+ */
+public interface WiringTracer {
+
+    /**
+     * Possibly wrap a handler so that the hop from an input wire into a task scheduler is traced. If the calling thread
+     * is currently running a traced handler then the new hop becomes part of that trace, unless that trace has already
+     * reached its hop limit, in which case the new hop is not traced. Otherwise, a new trace is started with a
+     * probability equal to the configured sample rate.
+     *
+     * @param taskSchedulerName the name of the task scheduler that will handle the data
+     * @param inputWireName     the name of the input wire the data is being inserted into
+     * @param handler           the handler for the input wire
+     * @return the handler that should be passed to the task scheduler, this is the original handler if this hop is not
+     * traced
+     */
+    @NonNull
+    Consumer<Object> wrap(
+            @NonNull String taskSchedulerName, @NonNull String inputWireName, @NonNull Consumer<Object> handler);
+
+    /**
+     * Signal that a handler returned by {@link #wrap(String, String, Consumer)} will never be called, e.g. because the
+     * data was not accepted by the task scheduler.
+     *
+     * @param handler the handler returned by {@link #wrap(String, String, Consumer)}
+     */
+    void abandon(@NonNull Consumer<Object> handler);
+
+    /**
+     * Signal that the handler currently running on this thread is discarding its data without handling it, e.g.
+     * because its task scheduler is squelching. The hop still completes its part of the trace, but is not recorded in
+     * the per-stage latencies. Has no effect if the calling thread is not running a traced handler.
+     */
+    void discardCurrentHop();
+
+    /**
+     * Render the per-stage latency histograms collected so far.
+     *
+     * @return a human-readable report
+     */
+    @NonNull
+    String generateReport();
+}
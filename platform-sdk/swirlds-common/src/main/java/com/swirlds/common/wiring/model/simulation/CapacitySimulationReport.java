@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.wiring.model.simulation;
+
+import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The results of a single run of the {@link CapacitySimulator}.
+ *
+ * @param simulatedTime the amount of simulated time
+ * @param sources       statistics for each source of synthetic load
+ * @param schedulers    statistics for each simulated task scheduler
+ * @param stalled       true if the simulation ran out of work before the end of the simulated time while tasks were
+ *                      still blocked, i.e. backpressure formed a deadlock
+ */
+public record CapacitySimulationReport(
+        @NonNull Duration simulatedTime,
+        @NonNull List<SourceReport> sources,
+        @NonNull List<SchedulerReport> schedulers,
+        boolean stalled) {
+
+    /**
+     * Statistics for a source of synthetic load.
+     *
+     * @param schedulerName the name of the task scheduler the load was injected into
+     * @param offered       the number of tasks the source attempted to insert
+     * @param rejected      the number of tasks that could not be inserted because of backpressure
+     * @param offeredRate   the rate at which tasks were offered, per second
+     * @param admittedRate  the rate at which tasks were accepted, per second
+     */
+    public record SourceReport(
+            @NonNull String schedulerName, long offered, long rejected, double offeredRate, double admittedRate) {}
+
+    /**
+     * Statistics for a single simulated task scheduler.
+     *
+     * @param name            the name of the task scheduler
+     * @param type            the simulated type of the task scheduler
+     * @param capacity        the simulated unhandled task capacity, or -1 if unlimited
+     * @param handled         the number of tasks that were fully handled
+     * @param throughput      the number of tasks handled per second
+     * @param utilization     the fraction of the available threads' time spent handling tasks. For schedulers without
+     *                        a thread limit (e.g. DIRECT) this is the average number of tasks being handled at once.
+     * @param blockedFraction the fraction of the available threads' time spent blocked by backpressure from downstream
+     *                        schedulers after a task was handled
+     * @param meanQueueLength the time weighted average number of tasks waiting to be handled
+     * @param maxUnhandled    the largest number of unhandled tasks observed
+     * @param finalUnhandled  the number of unhandled tasks at the end of the simulation
+     * @param meanQueueWait   the average amount of time a task waited before being handled
+     * @param dropped         the number of tasks that were dropped because an offer was rejected
+     */
+    public record SchedulerReport(
+            @NonNull String name,
+            @NonNull TaskSchedulerType type,
+            long capacity,
+            long handled,
+            double throughput,
+            double utilization,
+            double blockedFraction,
+            double meanQueueLength,
+            long maxUnhandled,
+            long finalUnhandled,
+            @NonNull Duration meanQueueWait,
+            long dropped) {}
+
+    /**
+     * Get the task scheduler with the highest utilization, i.e. the scheduler most likely to limit throughput.
+     *
+     * @return the bottleneck, or null if no tasks were handled
+     */
+    @Nullable
+    public SchedulerReport getBottleneck() {
+        return schedulers.stream()
+                .filter(scheduler -> scheduler.handled() > 0)
+                .filter(scheduler -> scheduler.type() == TaskSchedulerType.SEQUENTIAL
+                        || scheduler.type() == TaskSchedulerType.SEQUENTIAL_THREAD
+                        || scheduler.type() == TaskSchedulerType.CONCURRENT)
+                .max(Comparator.comparingDouble(SchedulerReport::utilization))
+                .orElse(null);
+    }
+
+    /**
+     * Check if the simulated system kept up with the offered load. The load is considered sustainable if at most 1% of
+     * offered tasks were rejected and no task scheduler finished with a backlog that is large relative to the work it
+     * handled.
+     *
+     * @return true if the load was sustainable
+     */
+    public boolean isSustainable() {
+        if (stalled) {
+            return false;
+        }
+        for (final SourceReport source : sources) {
+            if (source.rejected() > source.offered() / 100) {
+                return false;
+            }
+        }
+        for (final SchedulerReport scheduler : schedulers) {
+            if (scheduler.finalUnhandled() > Math.max(100, scheduler.handled() / 100)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Render this report as human-readable text. Schedulers are sorted by utilization, and schedulers that spent time
+     * blocked by backpressure are listed separately in the order of how much time they spent blocked.
+     *
+     * @return the rendered report
+     */
+    @NonNull
+    public String render() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("Simulated ").append(simulatedTime.toMillis()).append("ms");
+        if (stalled) {
+            sb.append(" (STALLED: backpressure deadlock)");
+        }
+        sb.append('\n');
+
+        for (final SourceReport source : sources) {
+            sb.append(String.format(
+                    "Load into %s: offered %.1f/s, admitted %.1f/s (%d rejected)%n",
+                    source.schedulerName(), source.offeredRate(), source.admittedRate(), source.rejected()));
+        }
+
+        final SchedulerReport bottleneck = getBottleneck();
+        if (bottleneck != null) {
+            sb.append(String.format(
+                    "Bottleneck: %s at %.1f%% utilization%n", bottleneck.name(), bottleneck.utilization() * 100));
+        }
+
+        sb.append(String.format(
+                "%n%-40s %-18s %10s %12s %7s %8s %10s %10s %12s%n",
+                "scheduler",
+                "type",
+                "capacity",
+                "handled/s",
+                "util",
+                "blocked",
+                "avg queue",
+                "max queue",
+                "avg wait"));
+        schedulers.stream()
+                .filter(scheduler -> scheduler.handled() > 0 || scheduler.maxUnhandled() > 0)
+                .sorted(Comparator.comparingDouble(SchedulerReport::utilization).reversed())
+                .forEach(scheduler -> sb.append(String.format(
+                        "%-40s %-18s %10s %12.1f %6.1f%% %7.1f%% %10.1f %10d %10dus%n",
+                        scheduler.name(),
+                        scheduler.type(),
+                        scheduler.capacity() < 0 ? "unlimited" : Long.toString(scheduler.capacity()),
+                        scheduler.throughput(),
+                        scheduler.utilization() * 100,
+                        scheduler.blockedFraction() * 100,
+                        scheduler.meanQueueLength(),
+                        scheduler.maxUnhandled(),
+                        scheduler.meanQueueWait().toNanos() / 1_000)));
+
+        final List<SchedulerReport> blocked = schedulers.stream()
+                .filter(scheduler -> scheduler.blockedFraction() > 0)
+                .sorted(Comparator.comparingDouble(SchedulerReport::blockedFraction)
+                        .reversed())
+                .toList();
+        if (!blocked.isEmpty()) {
+            sb.append("\nBackpressure cascade (time blocked by downstream schedulers):\n");
+            for (final SchedulerReport scheduler : blocked) {
+                sb.append(String.format(
+                        "  %-40s %6.1f%%%n", scheduler.name(), scheduler.blockedFraction() * 100));
+            }
+        }
+
+        return sb.toString();
+    }
+}
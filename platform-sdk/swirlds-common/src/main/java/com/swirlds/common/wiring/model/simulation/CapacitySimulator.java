@@ -0,0 +1,557 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.wiring.model.simulation;
+
+import com.swirlds.common.wiring.model.TraceableWiringModel;
+import com.swirlds.common.wiring.model.WiringModel;
+import com.swirlds.common.wiring.model.internal.analysis.ModelVertex;
+import com.swirlds.common.wiring.model.internal.analysis.SolderedEdge;
+import com.swirlds.common.wiring.model.simulation.SimulatedScheduler.BlockedTask;
+import com.swirlds.common.wiring.model.simulation.SimulatedScheduler.Destination;
+import com.swirlds.common.wiring.schedulers.TaskScheduler;
+import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerConfiguration;
+import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType;
+import com.swirlds.common.wiring.wires.SolderType;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * A discrete-event capacity simulator for a wiring model. The topology of the model (schedulers, their types and
+ * capacities, and the wires between them) is taken from the model itself, typically a {@link WiringModel} built in
+ * deterministic mode so that no threads are started. Handlers are not executed. Instead, each scheduler is given a
+ * {@link ServiceTimeDistribution}, and synthetic load is injected into one or more schedulers.
+ * <p>
+ * The simulation models the following behavior of the real framework:
+ * <ul>
+ *     <li>SEQUENTIAL and SEQUENTIAL_THREAD schedulers handle one task at a time.</li>
+ *     <li>CONCURRENT schedulers handle up to a configurable number of tasks at a time.</li>
+ *     <li>DIRECT and DIRECT_THREADSAFE schedulers handle every task immediately.</li>
+ *     <li>Data inserted via a put is blocked while the destination is at capacity, and the thread that is inserting
+ *     the data is unable to make progress until capacity becomes available. This is how backpressure cascades
+ *     upstream.</li>
+ *     <li>Data inserted via an offer is dropped if the destination is at capacity, and injected data ignores
+ *     capacity.</li>
+ * </ul>
+ * The simulation does not model contention between schedulers for a shared thread pool or CPU, and it does not
+ * model the time spent in a DIRECT scheduler as part of the caller's time.
+ * <p>
+ * Scheduler types and capacities can be overridden with {@link #withSchedulerConfiguration(String,
+ * TaskSchedulerConfiguration)}, which makes it possible to evaluate alternate scheduler configurations without
+ * rebuilding the wiring.
+ */
+public class CapacitySimulator {
+
+    private final TraceableWiringModel model;
+
+    private final Map<String, ServiceTimeDistribution> serviceTimes = new HashMap<>();
+    private final Map<String, Double> outputRatios = new HashMap<>();
+    private final Map<String, TaskSchedulerConfiguration> configurationOverrides = new HashMap<>();
+    private final Map<String, Double> loads = new LinkedHashMap<>();
+    private int concurrentThreads = 8;
+    private boolean backpressureEnabled = true;
+    private long seed = 0;
+
+    /**
+     * Constructor.
+     *
+     * @param model the wiring model to simulate, all wiring must be complete
+     */
+    public CapacitySimulator(@NonNull final WiringModel model) {
+        if (!(model instanceof final TraceableWiringModel traceableWiringModel)) {
+            throw new IllegalArgumentException("Unsupported wiring model type " + model.getClass());
+        }
+        this.model = traceableWiringModel;
+    }
+
+    /**
+     * Set the distribution of the time a scheduler needs to handle a task. Schedulers without a distribution handle
+     * tasks instantly.
+     *
+     * @param schedulerName the name of the scheduler
+     * @param serviceTime   the service time distribution
+     * @return this
+     */
+    @NonNull
+    public CapacitySimulator withServiceTime(
+            @NonNull final String schedulerName, @NonNull final ServiceTimeDistribution serviceTime) {
+        serviceTimes.put(Objects.requireNonNull(schedulerName), Objects.requireNonNull(serviceTime));
+        return this;
+    }
+
+    /**
+     * Set the average number of outputs a scheduler sends over each of its outgoing wires per handled task. Default is
+     * 1.0. A ratio of 0.1 means that one in ten tasks produces an output, and a ratio of 2.5 means that each task
+     * produces two or three outputs.
+     *
+     * @param schedulerName the name of the scheduler
+     * @param outputRatio   the average number of outputs per task
+     * @return this
+     */
+    @NonNull
+    public CapacitySimulator withOutputRatio(@NonNull final String schedulerName, final double outputRatio) {
+        if (outputRatio < 0) {
+            throw new IllegalArgumentException("output ratio must not be negative");
+        }
+        outputRatios.put(Objects.requireNonNull(schedulerName), outputRatio);
+        return this;
+    }
+
+    /**
+     * Override the type and/or capacity of a scheduler. Other configuration options are ignored by the simulation.
+     *
+     * @param schedulerName the name of the scheduler
+     * @param configuration the configuration to simulate
+     * @return this
+     */
+    @NonNull
+    public CapacitySimulator withSchedulerConfiguration(
+            @NonNull final String schedulerName, @NonNull final TaskSchedulerConfiguration configuration) {
+        configurationOverrides.put(Objects.requireNonNull(schedulerName), Objects.requireNonNull(configuration));
+        return this;
+    }
+
+    /**
+     * Inject synthetic load into a scheduler. Tasks arrive with exponentially distributed inter-arrival times, i.e. as
+     * a Poisson process. Tasks that arrive while the scheduler is applying backpressure are rejected.
+     *
+     * @param schedulerName the name of the scheduler
+     * @param ratePerSecond the average number of tasks per second
+     * @return this
+     */
+    @NonNull
+    public CapacitySimulator withLoad(@NonNull final String schedulerName, final double ratePerSecond) {
+        if (ratePerSecond < 0) {
+            throw new IllegalArgumentException("rate must not be negative");
+        }
+        loads.put(Objects.requireNonNull(schedulerName), ratePerSecond);
+        return this;
+    }
+
+    /**
+     * Set the number of tasks a CONCURRENT scheduler may handle at the same time. Default is 8.
+     *
+     * @param concurrentThreads the number of threads available to each concurrent scheduler
+     * @return this
+     */
+    @NonNull
+    public CapacitySimulator withConcurrentThreads(final int concurrentThreads) {
+        if (concurrentThreads < 1) {
+            throw new IllegalArgumentException("there must be at least one thread");
+        }
+        this.concurrentThreads = concurrentThreads;
+        return this;
+    }
+
+    /**
+     * Set whether scheduler capacities apply backpressure. Default is true. Note that the real framework only applies
+     * backpressure when hard backpressure is enabled in the wiring model.
+     *
+     * @param backpressureEnabled true if capacities should apply backpressure
+     * @return this
+     */
+    @NonNull
+    public CapacitySimulator withBackpressureEnabled(final boolean backpressureEnabled) {
+        this.backpressureEnabled = backpressureEnabled;
+        return this;
+    }
+
+    /**
+     * Set the seed for the source of randomness. Simulations with the same configuration and seed produce identical
+     * results. Default is 0.
+     *
+     * @param seed the seed
+     * @return this
+     */
+    @NonNull
+    public CapacitySimulator withSeed(final long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Run the simulation.
+     *
+     * @param simulatedTime the amount of time to simulate
+     * @return the results
+     */
+    @NonNull
+    public CapacitySimulationReport simulate(@NonNull final Duration simulatedTime) {
+        if (simulatedTime.isNegative() || simulatedTime.isZero()) {
+            throw new IllegalArgumentException("simulated time must be positive");
+        }
+        return new Simulation(buildSchedulers(), simulatedTime.toNanos()).run();
+    }
+
+    /**
+     * Find the largest load that the given scheduler can receive while the system remains sustainable, as defined by
+     * {@link CapacitySimulationReport#isSustainable()}. Other loads configured via {@link #withLoad(String, double)}
+     * are applied unchanged. Uses a binary search, with each step being a full simulation.
+     *
+     * @param schedulerName the name of the scheduler to inject load into
+     * @param maxRate       the largest rate to consider, per second
+     * @param simulatedTime the amount of time to simulate at each step
+     * @return the largest sustainable rate found, within 1% of the maximum rate
+     */
+    public double findThroughputLimit(
+            @NonNull final String schedulerName, final double maxRate, @NonNull final Duration simulatedTime) {
+
+        final Double originalRate = loads.get(schedulerName);
+        try {
+            double low = 0;
+            double high = maxRate;
+            while (high - low > maxRate / 100) {
+                final double rate = (low + high) / 2;
+                withLoad(schedulerName, rate);
+                if (simulate(simulatedTime).isSustainable()) {
+                    low = rate;
+                } else {
+                    high = rate;
+                }
+            }
+            return low;
+        } finally {
+            if (originalRate == null) {
+                loads.remove(schedulerName);
+            } else {
+                loads.put(schedulerName, originalRate);
+            }
+        }
+    }
+
+    /**
+     * Build the simulated schedulers and connect them together.
+     *
+     * @return the simulated schedulers, by name
+     */
+    @NonNull
+    private Map<String, SimulatedScheduler> buildSchedulers() {
+        final Map<String, Long> capacities = new HashMap<>();
+        for (final TaskScheduler<?> scheduler : model.getSchedulers()) {
+            capacities.put(scheduler.getName(), scheduler.getCapacity());
+        }
+
+        final Map<String, SimulatedScheduler> schedulers = new LinkedHashMap<>();
+        final List<ModelVertex> vertices = new ArrayList<>(model.getVertices());
+        vertices.sort(Comparator.comparing(ModelVertex::getName));
+        for (final ModelVertex vertex : vertices) {
+            final String name = vertex.getName();
+
+            TaskSchedulerType type = vertex.getType();
+            long capacity = capacities.getOrDefault(name, -1L);
+            final TaskSchedulerConfiguration override = configurationOverrides.get(name);
+            if (override != null) {
+                if (override.type() != null) {
+                    type = override.type();
+                }
+                if (override.unhandledTaskCapacity() != null) {
+                    capacity = override.unhandledTaskCapacity();
+                }
+            }
+
+            final int threads =
+                    switch (type) {
+                        case SEQUENTIAL, SEQUENTIAL_THREAD -> 1;
+                        case CONCURRENT -> concurrentThreads;
+                        case DIRECT, DIRECT_THREADSAFE -> Integer.MAX_VALUE;
+                        case NO_OP -> 0;
+                    };
+            if (threads == Integer.MAX_VALUE || threads == 0 || !backpressureEnabled) {
+                // direct and no-op schedulers never apply backpressure
+                capacity = -1;
+            }
+
+            schedulers.put(
+                    name,
+                    new SimulatedScheduler(
+                            name,
+                            type,
+                            capacity,
+                            threads,
+                            serviceTimes.getOrDefault(name, ServiceTimeDistribution.ZERO),
+                            outputRatios.getOrDefault(name, 1.0)));
+        }
+
+        for (final SolderedEdge edge : model.getSolderedEdges()) {
+            final SimulatedScheduler origin = schedulers.get(edge.originVertex());
+            final SimulatedScheduler destination = schedulers.get(edge.destinationVertex());
+            origin.destinations.add(new Destination(destination, edge.solderType()));
+        }
+
+        for (final String name : serviceTimes.keySet()) {
+            requireScheduler(schedulers, name);
+        }
+        for (final String name : outputRatios.keySet()) {
+            requireScheduler(schedulers, name);
+        }
+        for (final String name : configurationOverrides.keySet()) {
+            requireScheduler(schedulers, name);
+        }
+        for (final String name : loads.keySet()) {
+            requireScheduler(schedulers, name);
+        }
+
+        return schedulers;
+    }
+
+    /**
+     * Throw if a scheduler with the given name does not exist.
+     *
+     * @param schedulers the simulated schedulers
+     * @param name       the name of the scheduler
+     */
+    private static void requireScheduler(
+            @NonNull final Map<String, SimulatedScheduler> schedulers, @NonNull final String name) {
+        if (!schedulers.containsKey(name)) {
+            throw new IllegalArgumentException("No scheduler named \"" + name + "\" exists in the wiring model");
+        }
+    }
+
+    /**
+     * A single run of the simulation. Not reusable.
+     */
+    private final class Simulation {
+
+        /**
+         * An event in the simulation.
+         *
+         * @param timeNanos the time at which the event happens
+         * @param sequence  breaks ties between events that happen at the same time, keeps the simulation deterministic
+         * @param action    the action to perform
+         */
+        private record Event(long timeNanos, long sequence, @NonNull Runnable action) {}
+
+        private final Map<String, SimulatedScheduler> schedulers;
+        private final long durationNanos;
+        private final Random random = new Random(seed);
+        private final PriorityQueue<Event> events = new PriorityQueue<>(
+                Comparator.comparingLong(Event::timeNanos).thenComparingLong(Event::sequence));
+        private long nextSequence;
+        private long nowNanos;
+
+        private final Map<String, long[]> sourceCounts = new LinkedHashMap<>();
+
+        /**
+         * Constructor.
+         *
+         * @param schedulers    the simulated schedulers
+         * @param durationNanos the amount of time to simulate
+         */
+        private Simulation(@NonNull final Map<String, SimulatedScheduler> schedulers, final long durationNanos) {
+            this.schedulers = schedulers;
+            this.durationNanos = durationNanos;
+        }
+
+        /**
+         * Run the simulation.
+         *
+         * @return the results
+         */
+        @NonNull
+        CapacitySimulationReport run() {
+            for (final Map.Entry<String, Double> load : loads.entrySet()) {
+                final long[] counts = new long[2]; // offered, rejected
+                sourceCounts.put(load.getKey(), counts);
+                if (load.getValue() > 0) {
+                    scheduleArrival(schedulers.get(load.getKey()), load.getValue(), counts);
+                }
+            }
+
+            while (!events.isEmpty() && events.peek().timeNanos() <= durationNanos) {
+                final Event event = events.poll();
+                nowNanos = event.timeNanos();
+                event.action().run();
+            }
+
+            boolean stalled = false;
+            final List<CapacitySimulationReport.SchedulerReport> schedulerReports = new ArrayList<>();
+            for (final SimulatedScheduler scheduler : schedulers.values()) {
+                scheduler.advance(durationNanos);
+                stalled |= events.isEmpty() && scheduler.blockedThreads > 0;
+                schedulerReports.add(scheduler.buildReport(durationNanos));
+            }
+
+            final double seconds = durationNanos / 1e9;
+            final List<CapacitySimulationReport.SourceReport> sourceReports = new ArrayList<>();
+            for (final Map.Entry<String, long[]> entry : sourceCounts.entrySet()) {
+                final long offered = entry.getValue()[0];
+                final long rejected = entry.getValue()[1];
+                sourceReports.add(new CapacitySimulationReport.SourceReport(
+                        entry.getKey(), offered, rejected, offered / seconds, (offered - rejected) / seconds));
+            }
+
+            return new CapacitySimulationReport(
+                    Duration.ofNanos(durationNanos), sourceReports, schedulerReports, stalled);
+        }
+
+        /**
+         * Schedule an event.
+         *
+         * @param timeNanos the time at which the event happens
+         * @param action    the action to perform
+         */
+        private void schedule(final long timeNanos, @NonNull final Runnable action) {
+            events.add(new Event(timeNanos, nextSequence++, action));
+        }
+
+        /**
+         * Schedule the next arrival of synthetic load.
+         *
+         * @param target        the scheduler that receives the load
+         * @param ratePerSecond the average arrival rate
+         * @param counts        the offered and rejected counters for this source
+         */
+        private void scheduleArrival(
+                @NonNull final SimulatedScheduler target, final double ratePerSecond, @NonNull final long[] counts) {
+            final long interArrivalNanos = (long) (-Math.log(1.0 - random.nextDouble()) * 1e9 / ratePerSecond);
+            schedule(nowNanos + interArrivalNanos, () -> {
+                counts[0]++;
+                if (!insert(target, SolderType.PUT)) {
+                    counts[1]++;
+                }
+                scheduleArrival(target, ratePerSecond, counts);
+            });
+        }
+
+        /**
+         * Attempt to insert a task into a scheduler.
+         *
+         * @param scheduler  the scheduler
+         * @param solderType the way the task is being inserted
+         * @return false if the task was not inserted because the scheduler is applying backpressure, true otherwise
+         */
+        private boolean insert(@NonNull final SimulatedScheduler scheduler, @NonNull final SolderType solderType) {
+            if (scheduler.threads == 0) {
+                // no-op scheduler
+                return true;
+            }
+            if (solderType != SolderType.INJECT && !scheduler.hasCapacity()) {
+                if (solderType == SolderType.OFFER) {
+                    scheduler.dropped++;
+                    return true;
+                }
+                return false;
+            }
+
+            scheduler.advance(nowNanos);
+            scheduler.unhandled++;
+            scheduler.maxUnhandled = Math.max(scheduler.maxUnhandled, scheduler.unhandled);
+            if (scheduler.hasIdleThread()) {
+                startTask(scheduler, nowNanos);
+            } else {
+                scheduler.queue.add(nowNanos);
+            }
+            return true;
+        }
+
+        /**
+         * Start handling a task. The caller is responsible for checking that a thread is available.
+         *
+         * @param scheduler        the scheduler
+         * @param insertTimeNanos the time when the task was inserted
+         */
+        private void startTask(@NonNull final SimulatedScheduler scheduler, final long insertTimeNanos) {
+            scheduler.occupiedThreads++;
+            scheduler.startedTasks++;
+            scheduler.totalQueueWaitNanos += nowNanos - insertTimeNanos;
+            final long serviceNanos = Math.max(0, scheduler.serviceTime.sampleNanos(random));
+            schedule(nowNanos + serviceNanos, () -> completeTask(scheduler));
+        }
+
+        /**
+         * Called when a scheduler's handler finishes with a task. Delivers the task's outputs downstream.
+         *
+         * @param scheduler the scheduler
+         */
+        private void completeTask(@NonNull final SimulatedScheduler scheduler) {
+            final Deque<Destination> deliveries = new ArrayDeque<>();
+            for (final Destination destination : scheduler.destinations) {
+                final int count = sampleOutputCount(scheduler.outputRatio);
+                for (int i = 0; i < count; i++) {
+                    deliveries.add(destination);
+                }
+            }
+            deliver(scheduler, deliveries);
+        }
+
+        /**
+         * Deliver outputs downstream. If a downstream scheduler applies backpressure, the thread becomes blocked until
+         * that scheduler has capacity.
+         *
+         * @param scheduler  the scheduler delivering the outputs
+         * @param deliveries the outputs that have not yet been delivered
+         */
+        private void deliver(@NonNull final SimulatedScheduler scheduler, @NonNull final Deque<Destination> deliveries) {
+            while (!deliveries.isEmpty()) {
+                final Destination destination = deliveries.peek();
+                if (!insert(destination.scheduler(), destination.solderType())) {
+                    scheduler.advance(nowNanos);
+                    scheduler.blockedThreads++;
+                    destination.scheduler().waiters.add(new BlockedTask(scheduler, deliveries));
+                    return;
+                }
+                deliveries.poll();
+            }
+            finishTask(scheduler);
+        }
+
+        /**
+         * Called when a task has been handled and all of its outputs have been delivered.
+         *
+         * @param scheduler the scheduler
+         */
+        private void finishTask(@NonNull final SimulatedScheduler scheduler) {
+            scheduler.advance(nowNanos);
+            scheduler.occupiedThreads--;
+            scheduler.unhandled--;
+            scheduler.handled++;
+
+            if (!scheduler.queue.isEmpty() && scheduler.hasIdleThread()) {
+                startTask(scheduler, scheduler.queue.poll());
+            }
+
+            while (scheduler.hasCapacity() && !scheduler.waiters.isEmpty()) {
+                final BlockedTask blockedTask = scheduler.waiters.poll();
+                blockedTask.scheduler().advance(nowNanos);
+                blockedTask.scheduler().blockedThreads--;
+                deliver(blockedTask.scheduler(), blockedTask.pendingDeliveries());
+            }
+        }
+
+        /**
+         * Sample the number of outputs produced for one outgoing wire.
+         *
+         * @param outputRatio the average number of outputs
+         * @return the number of outputs
+         */
+        private int sampleOutputCount(final double outputRatio) {
+            final int whole = (int) outputRatio;
+            final double fraction = outputRatio - whole;
+            return whole + (fraction > 0 && random.nextDouble() < fraction ? 1 : 0);
+        }
+    }
+}
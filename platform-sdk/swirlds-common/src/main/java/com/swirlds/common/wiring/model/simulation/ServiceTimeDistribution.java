@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.wiring.model.simulation;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * A distribution of the time needed by a component to handle a single task. Used by the {@link CapacitySimulator}.
+ * Distributions can be built from production metrics (e.g. a mean and a tail percentile) or from raw samples taken by a
+ * benchmark.
+ */
+@FunctionalInterface
+public interface ServiceTimeDistribution {
+
+    /**
+     * A distribution where every task is handled instantly.
+     */
+    ServiceTimeDistribution ZERO = random -> 0;
+
+    /**
+     * Sample the time needed to handle a single task.
+     *
+     * @param random the source of randomness to use
+     * @return the service time in nanoseconds, never negative
+     */
+    long sampleNanos(@NonNull Random random);
+
+    /**
+     * Every task takes exactly the same amount of time.
+     *
+     * @param serviceTime the time needed to handle a task
+     * @return the distribution
+     */
+    @NonNull
+    static ServiceTimeDistribution constant(@NonNull final Duration serviceTime) {
+        final long nanos = requireNonNegative(serviceTime);
+        return random -> nanos;
+    }
+
+    /**
+     * Service times follow an exponential distribution, i.e. a memoryless server.
+     *
+     * @param mean the mean time needed to handle a task
+     * @return the distribution
+     */
+    @NonNull
+    static ServiceTimeDistribution exponential(@NonNull final Duration mean) {
+        final long nanos = requireNonNegative(mean);
+        return random -> (long) (-Math.log(1.0 - random.nextDouble()) * nanos);
+    }
+
+    /**
+     * Service times follow a log-normal distribution. This is usually a good fit for latencies measured in production,
+     * which have a long tail.
+     *
+     * @param median the median time needed to handle a task
+     * @param sigma  the standard deviation of the logarithm of the service time, larger values produce a longer tail.
+     *               The ratio between the 99th percentile and the median is approximately {@code exp(2.33 * sigma)}.
+     * @return the distribution
+     */
+    @NonNull
+    static ServiceTimeDistribution logNormal(@NonNull final Duration median, final double sigma) {
+        final long nanos = requireNonNegative(median);
+        if (sigma < 0) {
+            throw new IllegalArgumentException("sigma must not be negative");
+        }
+        final double mu = Math.log(Math.max(1, nanos));
+        return random -> (long) Math.exp(mu + sigma * random.nextGaussian());
+    }
+
+    /**
+     * Service times are drawn uniformly from a set of measured samples, e.g. the raw output of a benchmark.
+     *
+     * @param samplesNanos the measured service times in nanoseconds
+     * @return the distribution
+     */
+    @NonNull
+    static ServiceTimeDistribution empirical(@NonNull final long[] samplesNanos) {
+        if (samplesNanos.length == 0) {
+            throw new IllegalArgumentException("at least one sample is required");
+        }
+        final long[] samples = Arrays.copyOf(samplesNanos, samplesNanos.length);
+        for (final long sample : samples) {
+            if (sample < 0) {
+                throw new IllegalArgumentException("samples must not be negative");
+            }
+        }
+        return random -> samples[random.nextInt(samples.length)];
+    }
+
+    /**
+     * Parse a distribution from a string. Supported formats are:
+     * <ul>
+     *     <li>{@code constant(DURATION)}</li>
+     *     <li>{@code exponential(MEAN)}</li>
+     *     <li>{@code lognormal(MEDIAN,SIGMA)}</li>
+     * </ul>
+     * Durations are a number followed by one of the units {@code ns}, {@code us}, {@code ms} or {@code s}, e.g.
+     * {@code lognormal(150us,0.5)}.
+     *
+     * @param string the string to parse
+     * @return the distribution
+     */
+    @NonNull
+    static ServiceTimeDistribution parse(@NonNull final String string) {
+        final String stripped = Objects.requireNonNull(string).strip();
+        final int openParenIndex = stripped.indexOf('(');
+        final int closeParenIndex = stripped.lastIndexOf(')');
+        if (openParenIndex == -1 || closeParenIndex != stripped.length() - 1) {
+            throw new IllegalArgumentException("Invalid service time distribution \"" + string + "\"");
+        }
+        final String kind = stripped.substring(0, openParenIndex).strip();
+        final String[] arguments =
+                stripped.substring(openParenIndex + 1, closeParenIndex).split(",");
+
+        try {
+            return switch (kind) {
+                case "constant" -> constant(parseDuration(arguments[0]));
+                case "exponential" -> exponential(parseDuration(arguments[0]));
+                case "lognormal" -> logNormal(parseDuration(arguments[0]), Double.parseDouble(arguments[1].strip()));
+                default -> throw new IllegalArgumentException(
+                        "Unknown service time distribution \"" + kind + "\" in \"" + string + "\"");
+            };
+        } catch (final ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid service time distribution \"" + string + "\"", e);
+        }
+    }
+
+    /**
+     * Parse a duration in the form {@code 123us}.
+     *
+     * @param string the string to parse
+     * @return the duration
+     */
+    @NonNull
+    private static Duration parseDuration(@NonNull final String string) {
+        final String stripped = string.strip();
+        if (stripped.endsWith("ns")) {
+            return Duration.ofNanos(Long.parseLong(stripped.substring(0, stripped.length() - 2)));
+        } else if (stripped.endsWith("us")) {
+            return Duration.ofNanos(Math.round(Double.parseDouble(stripped.substring(0, stripped.length() - 2)) * 1e3));
+        } else if (stripped.endsWith("ms")) {
+            return Duration.ofNanos(Math.round(Double.parseDouble(stripped.substring(0, stripped.length() - 2)) * 1e6));
+        } else if (stripped.endsWith("s")) {
+            return Duration.ofNanos(Math.round(Double.parseDouble(stripped.substring(0, stripped.length() - 1)) * 1e9));
+        }
+        throw new IllegalArgumentException("Invalid duration \"" + string + "\", expected a unit of ns, us, ms or s");
+    }
+
+    /**
+     * Convert a duration to nanoseconds, throwing if it is negative.
+     *
+     * @param duration the duration
+     * @return the duration in nanoseconds
+     */
+    private static long requireNonNegative(@NonNull final Duration duration) {
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("service time must not be negative");
+        }
+        return duration.toNanos();
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.wiring.model.simulation;
+
+import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType;
+import com.swirlds.common.wiring.wires.SolderType;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * The simulated state of a single task scheduler.
+ */
+final class SimulatedScheduler {
+
+    /**
+     * A connection to a downstream scheduler.
+     *
+     * @param scheduler  the downstream scheduler
+     * @param solderType the way the connection was soldered
+     */
+    record Destination(@NonNull SimulatedScheduler scheduler, @NonNull SolderType solderType) {}
+
+    /**
+     * A handled task that is waiting for capacity in a downstream scheduler before the thread that handled it can move
+     * on to the next task.
+     *
+     * @param scheduler         the scheduler that handled the task
+     * @param pendingDeliveries the outputs of the task that have not yet been delivered
+     */
+    record BlockedTask(@NonNull SimulatedScheduler scheduler, @NonNull Deque<Destination> pendingDeliveries) {}
+
+    final String name;
+    final TaskSchedulerType type;
+    final long capacity;
+    final int threads;
+    final ServiceTimeDistribution serviceTime;
+    final double outputRatio;
+    final List<Destination> destinations = new ArrayList<>();
+
+    /**
+     * The times at which the tasks waiting to be handled were inserted.
+     */
+    final Queue<Long> queue = new ArrayDeque<>();
+
+    /**
+     * Upstream tasks waiting for capacity in this scheduler.
+     */
+    final Queue<BlockedTask> waiters = new ArrayDeque<>();
+
+    /**
+     * The number of tasks that have been inserted but not fully handled.
+     */
+    long unhandled;
+
+    /**
+     * The number of threads that are handling a task or are blocked delivering the output of a task.
+     */
+    int occupiedThreads;
+
+    /**
+     * The number of threads that are blocked delivering the output of a task.
+     */
+    int blockedThreads;
+
+    long handled;
+    long dropped;
+    long maxUnhandled;
+    long totalQueueWaitNanos;
+    long startedTasks;
+
+    private long lastUpdateNanos;
+    private double busyNanos;
+    private double blockedNanos;
+    private double queueLengthIntegral;
+
+    /**
+     * Constructor.
+     *
+     * @param name        the name of the scheduler
+     * @param type        the type of the scheduler
+     * @param capacity    the unhandled task capacity, or -1 if unlimited
+     * @param threads     the number of tasks that may be handled at the same time
+     * @param serviceTime the distribution of the time needed to handle a task
+     * @param outputRatio the average number of outputs produced on each outgoing edge per handled task
+     */
+    SimulatedScheduler(
+            @NonNull final String name,
+            @NonNull final TaskSchedulerType type,
+            final long capacity,
+            final int threads,
+            @NonNull final ServiceTimeDistribution serviceTime,
+            final double outputRatio) {
+        this.name = name;
+        this.type = type;
+        this.capacity = capacity;
+        this.threads = threads;
+        this.serviceTime = serviceTime;
+        this.outputRatio = outputRatio;
+    }
+
+    /**
+     * Check if this scheduler will accept a task without applying backpressure.
+     *
+     * @return true if there is capacity available
+     */
+    boolean hasCapacity() {
+        return capacity < 0 || unhandled < capacity;
+    }
+
+    /**
+     * Check if a thread is available to start handling a task.
+     *
+     * @return true if a thread is available
+     */
+    boolean hasIdleThread() {
+        return occupiedThreads < threads;
+    }
+
+    /**
+     * Accumulate time weighted statistics up until the given time. Must be called before any change to the state that
+     * the statistics are derived from.
+     *
+     * @param nowNanos the current simulated time
+     */
+    void advance(final long nowNanos) {
+        final long elapsed = nowNanos - lastUpdateNanos;
+        if (elapsed > 0) {
+            busyNanos += (double) (occupiedThreads - blockedThreads) * elapsed;
+            blockedNanos += (double) blockedThreads * elapsed;
+            queueLengthIntegral += (double) queue.size() * elapsed;
+        }
+        lastUpdateNanos = nowNanos;
+    }
+
+    /**
+     * Build the statistics for this scheduler.
+     *
+     * @param durationNanos the total simulated time
+     * @return the statistics
+     */
+    @NonNull
+    CapacitySimulationReport.SchedulerReport buildReport(final long durationNanos) {
+        final double seconds = durationNanos / 1e9;
+        final double threadNanos = threads == Integer.MAX_VALUE ? durationNanos : (double) threads * durationNanos;
+        return new CapacitySimulationReport.SchedulerReport(
+                name,
+                type,
+                capacity,
+                handled,
+                handled / seconds,
+                busyNanos / threadNanos,
+                blockedNanos / threadNanos,
+                queueLengthIntegral / durationNanos,
+                maxUnhandled,
+                unhandled,
+                Duration.ofNanos(startedTasks == 0 ? 0 : totalQueueWaitNanos / startedTasks),
+                dropped);
+    }
+}
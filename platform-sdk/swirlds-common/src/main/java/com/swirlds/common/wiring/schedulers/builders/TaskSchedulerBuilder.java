@@ -86,6 +86,18 @@ public interface TaskSchedulerBuilder<OUT> {
     @NonNull
     TaskSchedulerBuilder<OUT> withSquelchingEnabled(boolean squelchingEnabled);
 
+    /**
+     * Set whether the task scheduler should handle tasks on a virtual thread. Default false. Only supported by
+     * {@link TaskSchedulerType#SEQUENTIAL_THREAD} schedulers. Intended for schedulers whose tasks spend most of their
+     * time blocked on I/O, since a blocked virtual thread does not hold on to a platform thread. Ordering and squelching
+     * semantics are identical to those of a platform thread backed scheduler.
+     *
+     * @param virtualThreadEnabled true if the scheduler should use a virtual thread, false otherwise
+     * @return this
+     */
+    @NonNull
+    TaskSchedulerBuilder<OUT> withVirtualThreadEnabled(boolean virtualThreadEnabled);
+
     /**
      * Specify an object counter that should be notified when data is added to the task scheduler. This is useful for
      * implementing backpressure that spans multiple schedulers.
@@ -36,7 +36,12 @@ public enum TaskSchedulerConfigOption {
     /**
      * If present, the scheduler will be capable of squelching.
      */
-    SQUELCHABLE;
+    SQUELCHABLE,
+    /**
+     * If present, the scheduler will handle tasks on a virtual thread instead of a platform thread. Only supported by
+     * {@link TaskSchedulerType#SEQUENTIAL_THREAD} schedulers.
+     */
+    VIRTUAL_THREAD;
 
     /**
      * This is not defined as an enum constant because it is used in a special way. To specify the capacity,
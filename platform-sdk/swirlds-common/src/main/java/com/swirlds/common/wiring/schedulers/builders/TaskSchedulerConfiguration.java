@@ -20,6 +20,7 @@ import static com.swirlds.common.wiring.schedulers.builders.TaskSchedulerConfigO
 import static com.swirlds.common.wiring.schedulers.builders.TaskSchedulerConfigOption.FLUSHABLE;
 import static com.swirlds.common.wiring.schedulers.builders.TaskSchedulerConfigOption.SQUELCHABLE;
 import static com.swirlds.common.wiring.schedulers.builders.TaskSchedulerConfigOption.UNHANDLED_TASK_METRIC;
+import static com.swirlds.common.wiring.schedulers.builders.TaskSchedulerConfigOption.VIRTUAL_THREAD;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -35,6 +36,8 @@ import edu.umd.cs.findbugs.annotations.Nullable;
  * @param busyFractionMetricEnabled  whether the busy fraction metric should be enabled, if null then false is used
  * @param flushingEnabled            whether flushing is enabled, if null then false is used
  * @param squelchingEnabled          whether squelching is enabled, if null then false is used
+ * @param virtualThreadEnabled       whether tasks are handled on a virtual thread, if null then false is used. Only
+ *                                   valid for {@link TaskSchedulerType#SEQUENTIAL_THREAD} schedulers.
  */
 public record TaskSchedulerConfiguration(
         @Nullable TaskSchedulerType type,
@@ -42,28 +45,29 @@ public record TaskSchedulerConfiguration(
         @Nullable Boolean unhandledTaskMetricEnabled,
         @Nullable Boolean busyFractionMetricEnabled,
         @Nullable Boolean flushingEnabled,
-        @Nullable Boolean squelchingEnabled) {
+        @Nullable Boolean squelchingEnabled,
+        @Nullable Boolean virtualThreadEnabled) {
 
     /**
      * This configuration is for a no-op task scheduler. It is not necessary to use this constant for a no-op task
      * scheduler, but it is provided for convenience.
      */
     public static final TaskSchedulerConfiguration NO_OP_CONFIGURATION =
-            new TaskSchedulerConfiguration(TaskSchedulerType.NO_OP, 0L, false, false, false, false);
+            new TaskSchedulerConfiguration(TaskSchedulerType.NO_OP, 0L, false, false, false, false, false);
 
     /**
      * This configuration is for a simple direct task scheduler. It is not necessary to use this constant for a direct
      * task scheduler, but it is provided for convenience.
      */
     public static final TaskSchedulerConfiguration DIRECT_CONFIGURATION =
-            new TaskSchedulerConfiguration(TaskSchedulerType.DIRECT, 0L, false, false, false, false);
+            new TaskSchedulerConfiguration(TaskSchedulerType.DIRECT, 0L, false, false, false, false, false);
 
     /**
      * This configuration is for a thread-safe direct task scheduler. It is not necessary to use this constant for a
      * thread-safe direct task scheduler, but it is provided for convenience.
      */
     public static final TaskSchedulerConfiguration DIRECT_THREADSAFE_CONFIGURATION =
-            new TaskSchedulerConfiguration(TaskSchedulerType.DIRECT_THREADSAFE, 0L, false, false, false, false);
+            new TaskSchedulerConfiguration(TaskSchedulerType.DIRECT_THREADSAFE, 0L, false, false, false, false, false);
 
     /**
      * Parse a string representation of a task scheduler configuration.
@@ -85,6 +89,8 @@ public record TaskSchedulerConfiguration(
      * </ul>
      * Example: "SEQUENTIAL CAPACITY(500) !FLUSHABLE UNHANDLED_TASK_METRIC"
      * <p>
+     * Example: "SEQUENTIAL_THREAD CAPACITY(20) VIRTUAL_THREAD"
+     * <p>
      * Note that default values are not specified within this class. Default values are the responsibility of the
      * {@link TaskSchedulerBuilder} class.
      *
@@ -99,6 +105,7 @@ public record TaskSchedulerConfiguration(
         Boolean busyFractionMetricEnabled = null;
         Boolean flushingEnabled = null;
         Boolean squelchingEnabled = null;
+        Boolean virtualThreadEnabled = null;
 
         final String[] parts = string.split(" ");
         for (final String part : parts) {
@@ -163,6 +170,15 @@ public record TaskSchedulerConfiguration(
                 continue;
             }
 
+            final Boolean parsedVirtualThread = tryToParseOption(VIRTUAL_THREAD, strippedPart);
+            if (parsedVirtualThread != null) {
+                if (virtualThreadEnabled != null) {
+                    throw new IllegalArgumentException("Multiple virtual thread configurations specified: " + string);
+                }
+                virtualThreadEnabled = parsedVirtualThread;
+                continue;
+            }
+
             throw new IllegalArgumentException("Invalid task scheduler configuration: " + part);
         }
 
@@ -172,7 +188,8 @@ public record TaskSchedulerConfiguration(
                 unhandledTaskMetricEnabled,
                 busyFractionMetricEnabled,
                 flushingEnabled,
-                squelchingEnabled);
+                squelchingEnabled,
+                virtualThreadEnabled);
     }
 
     /**
@@ -59,6 +59,7 @@ public abstract class AbstractTaskSchedulerBuilder<OUT> implements TaskScheduler
     protected long unhandledTaskCapacity = 1;
     protected boolean flushingEnabled = false;
     protected boolean squelchingEnabled = false;
+    protected boolean virtualThreadEnabled = false;
     protected boolean externalBackPressure = false;
     protected ObjectCounter onRamp;
     protected ObjectCounter offRamp;
@@ -129,6 +130,9 @@ public abstract class AbstractTaskSchedulerBuilder<OUT> implements TaskScheduler
         if (configuration.squelchingEnabled() != null) {
             withSquelchingEnabled(configuration.squelchingEnabled());
         }
+        if (configuration.virtualThreadEnabled() != null) {
+            withVirtualThreadEnabled(configuration.virtualThreadEnabled());
+        }
         return this;
     }
 
@@ -172,6 +176,16 @@ public abstract class AbstractTaskSchedulerBuilder<OUT> implements TaskScheduler
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public AbstractTaskSchedulerBuilder<OUT> withVirtualThreadEnabled(final boolean virtualThreadEnabled) {
+        this.virtualThreadEnabled = virtualThreadEnabled;
+        return this;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -119,6 +119,10 @@ public class StandardTaskSchedulerBuilder<OUT> extends AbstractTaskSchedulerBuil
     @Override
     @NonNull
     public TaskScheduler<OUT> build() {
+        if (virtualThreadEnabled && type != TaskSchedulerType.SEQUENTIAL_THREAD && type != NO_OP) {
+            throw new IllegalStateException("Virtual threads are only supported by SEQUENTIAL_THREAD schedulers");
+        }
+
         final Counters counters = buildCounters();
         final FractionalTimer busyFractionTimer = buildBusyTimer();
         final boolean insertionIsBlocking =
@@ -160,7 +164,8 @@ public class StandardTaskSchedulerBuilder<OUT> extends AbstractTaskSchedulerBuil
                             unhandledTaskCapacity,
                             flushingEnabled,
                             squelchingEnabled,
-                            insertionIsBlocking);
+                            insertionIsBlocking,
+                            virtualThreadEnabled);
                     case DIRECT, DIRECT_THREADSAFE -> new DirectTaskScheduler<>(
                             model,
                             name,
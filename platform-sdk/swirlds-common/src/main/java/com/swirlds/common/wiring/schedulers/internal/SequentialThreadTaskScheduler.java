@@ -37,6 +37,9 @@ import java.util.function.ToLongFunction;
 /**
  * A scheduler that performs work sequentially on a dedicated thread. This class has very similar semantics to
  * {@link DirectTaskScheduler}, except that work is done on a thread instead of on a fork join pool.
+ * <p>
+ * The dedicated thread may optionally be a virtual thread. This is useful for schedulers that spend most of their time
+ * blocked on I/O, as a blocked virtual thread releases its carrier thread instead of holding on to a platform thread.
  *
  * @param <OUT> the type of the primary output wire
  */
@@ -72,6 +75,8 @@ public class SequentialThreadTaskScheduler<OUT> extends TaskScheduler<OUT> imple
      * @param squelchingEnabled        if true, then squelching will be enabled, otherwise trying to squelch will throw
      * @param insertionIsBlocking      when data is inserted into this task scheduler, will it block until capacity is
      *                                 available?
+     * @param virtualThread            if true then tasks are handled on a virtual thread, otherwise tasks are handled
+     *                                 on a platform thread
      */
     public SequentialThreadTaskScheduler(
             @NonNull final TraceableWiringModel model,
@@ -84,7 +89,8 @@ public class SequentialThreadTaskScheduler<OUT> extends TaskScheduler<OUT> imple
             final long capacity,
             final boolean flushEnabled,
             final boolean squelchingEnabled,
-            final boolean insertionIsBlocking) {
+            final boolean insertionIsBlocking,
+            final boolean virtualThread) {
         super(model, name, TaskSchedulerType.SEQUENTIAL_THREAD, flushEnabled, squelchingEnabled, insertionIsBlocking);
 
         this.uncaughtExceptionHandler = Objects.requireNonNull(uncaughtExceptionHandler);
@@ -94,7 +100,12 @@ public class SequentialThreadTaskScheduler<OUT> extends TaskScheduler<OUT> imple
         this.busyTimer = Objects.requireNonNull(busyTimer);
         this.capacity = capacity;
 
-        thread = new Thread(this::run, "<scheduler " + name + ">");
+        final String threadName = "<scheduler " + name + ">";
+        if (virtualThread) {
+            thread = Thread.ofVirtual().name(threadName).unstarted(this::run);
+        } else {
+            thread = new Thread(this::run, threadName);
+        }
     }
 
     /**
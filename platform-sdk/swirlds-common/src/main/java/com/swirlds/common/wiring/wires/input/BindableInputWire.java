@@ -19,6 +19,7 @@ package com.swirlds.common.wiring.wires.input;
 import static com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType.NO_OP;
 
 import com.swirlds.common.wiring.model.TraceableWiringModel;
+import com.swirlds.common.wiring.model.internal.tracing.WiringTracer;
 import com.swirlds.common.wiring.schedulers.TaskScheduler;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.Objects;
@@ -37,6 +38,7 @@ public class BindableInputWire<IN, OUT> extends InputWire<IN> implements Bindabl
     private final TaskSchedulerInput<OUT> taskSchedulerInput;
     private final String taskSchedulerName;
     private final TraceableWiringModel model;
+    private final WiringTracer tracer;
 
     /**
      * Supplier for whether the task scheduler is currently squelching.
@@ -61,8 +63,9 @@ public class BindableInputWire<IN, OUT> extends InputWire<IN> implements Bindabl
             @NonNull final TraceableWiringModel model,
             @NonNull final TaskScheduler<OUT> taskScheduler,
             @NonNull final String name) {
-        super(taskScheduler, name);
+        super(model, taskScheduler, name);
         this.model = Objects.requireNonNull(model);
+        this.tracer = model.getTracer();
         taskSchedulerInput = Objects.requireNonNull(taskScheduler);
         taskSchedulerName = taskScheduler.getName();
         currentlySquelching = taskScheduler::currentlySquelching;
@@ -86,6 +89,7 @@ public class BindableInputWire<IN, OUT> extends InputWire<IN> implements Bindabl
         }
         setHandler(i -> {
             if (currentlySquelching.get()) {
+                tracer.discardCurrentHop();
                 return;
             }
 
@@ -105,6 +109,7 @@ public class BindableInputWire<IN, OUT> extends InputWire<IN> implements Bindabl
         }
         setHandler(i -> {
             if (currentlySquelching.get()) {
+                tracer.discardCurrentHop();
                 return;
             }
 
@@ -16,6 +16,8 @@
 
 package com.swirlds.common.wiring.wires.input;
 
+import com.swirlds.common.wiring.model.TraceableWiringModel;
+import com.swirlds.common.wiring.model.internal.tracing.WiringTracer;
 import com.swirlds.common.wiring.schedulers.TaskScheduler;
 import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -34,18 +36,24 @@ public abstract class InputWire<IN> {
     private final String name;
     private final String taskSchedulerName;
     private final TaskSchedulerType taskSchedulerType;
+    private final WiringTracer tracer;
 
     /**
      * Constructor.
      *
+     * @param model         the wiring model containing this input wire
      * @param taskScheduler the scheduler to insert data into
      * @param name          the name of the input wire
      */
-    protected InputWire(@NonNull final TaskScheduler<?> taskScheduler, @NonNull final String name) {
+    protected InputWire(
+            @NonNull final TraceableWiringModel model,
+            @NonNull final TaskScheduler<?> taskScheduler,
+            @NonNull final String name) {
         this.taskSchedulerInput = Objects.requireNonNull(taskScheduler);
         this.name = Objects.requireNonNull(name);
         this.taskSchedulerName = taskScheduler.getName();
         this.taskSchedulerType = taskScheduler.getType();
+        this.tracer = model.getTracer();
     }
 
     /**
@@ -84,7 +92,7 @@ public abstract class InputWire<IN> {
      * @param data the data to be processed by the task scheduler
      */
     public void put(@NonNull final IN data) {
-        taskSchedulerInput.put(handler, data);
+        taskSchedulerInput.put(tracer.wrap(taskSchedulerName, name, handler), data);
     }
 
     /**
@@ -95,7 +103,12 @@ public abstract class InputWire<IN> {
      * @return true if the data was accepted, false otherwise
      */
     public boolean offer(@NonNull final IN data) {
-        return taskSchedulerInput.offer(handler, data);
+        final Consumer<Object> tracedHandler = tracer.wrap(taskSchedulerName, name, handler);
+        final boolean accepted = taskSchedulerInput.offer(tracedHandler, data);
+        if (!accepted) {
+            tracer.abandon(tracedHandler);
+        }
+        return accepted;
     }
 
     /**
@@ -106,7 +119,7 @@ public abstract class InputWire<IN> {
      * @param data the data to be processed by the task scheduler
      */
     public void inject(@NonNull final IN data) {
-        taskSchedulerInput.inject(handler, data);
+        taskSchedulerInput.inject(tracer.wrap(taskSchedulerName, name, handler), data);
     }
 
     /**
@@ -18,9 +18,11 @@ package com.swirlds.common.crypto;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.swirlds.common.crypto.config.CryptoConfig;
+import com.swirlds.common.crypto.engine.CryptoEngine;
 import com.swirlds.common.test.fixtures.crypto.SignaturePool;
 import com.swirlds.common.test.fixtures.crypto.SliceConsumer;
 import com.swirlds.common.threading.futures.FuturePool;
@@ -28,6 +30,7 @@ import com.swirlds.config.api.Configuration;
 import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
 import java.security.NoSuchAlgorithmException;
 import java.security.NoSuchProviderException;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -84,6 +87,64 @@ public class TransactionSignatureTests {
         assertEquals(VerificationStatus.VALID, singleSignature.getSignatureStatus());
     }
 
+    /**
+     * Checks that a batch of signatures verified asynchronously all have a future right away, and are all valid once
+     * their futures complete
+     */
+    @Test
+    public void verifyAsyncBatch() throws ExecutionException, InterruptedException {
+        final TransactionSignature[] signatures = new TransactionSignature[100];
+        for (int i = 0; i < signatures.length; i++) {
+            signatures[i] = signaturePool.next();
+        }
+
+        cryptoProvider.verifyAsync(List.of(signatures));
+
+        for (final TransactionSignature signature : signatures) {
+            assertNotNull(signature.getFuture());
+        }
+        checkSignatures(signatures);
+    }
+
+    /**
+     * Checks that an invalid signature in an asynchronously verified batch does not affect the others
+     */
+    @Test
+    public void verifyAsyncBatchWithInvalidSignature() throws ExecutionException, InterruptedException {
+        final SignaturePool pool = new SignaturePool(16, 100, true);
+        final TransactionSignature[] signatures = new TransactionSignature[16];
+        for (int i = 0; i < signatures.length; i++) {
+            signatures[i] = pool.next();
+        }
+        final TransactionSignature invalid = signatures[7];
+        invalid.getContentsDirect()[invalid.getSignatureOffset()] ^= 1;
+
+        try (final CryptoEngine engine = new CryptoEngine(4)) {
+            engine.verifyAsync(List.of(signatures));
+
+            for (final TransactionSignature signature : signatures) {
+                signature.waitForFuture().get();
+                assertEquals(
+                        signature == invalid ? VerificationStatus.INVALID : VerificationStatus.VALID,
+                        signature.getSignatureStatus());
+            }
+        }
+    }
+
+    /**
+     * Once closed, an engine no longer accepts asynchronous verifications but can still verify synchronously.
+     */
+    @Test
+    public void verifyAsyncAfterClose() {
+        final SignaturePool pool = new SignaturePool(16, 100, true);
+        final CryptoEngine engine = new CryptoEngine(2);
+        engine.verifyAsync(List.of(pool.next()));
+        engine.close();
+
+        assertThrows(IllegalStateException.class, () -> engine.verifyAsync(List.of(pool.next())));
+        assertTrue(engine.verifySync(List.of(pool.next())));
+    }
+
     private void checkSignatures(TransactionSignature... signatures) throws ExecutionException, InterruptedException {
         int numInvalid = 0;
 
@@ -39,6 +39,7 @@ class TaskSchedulerConfigurationTests {
         assertNull(config.busyFractionMetricEnabled());
         assertNull(config.flushingEnabled());
         assertNull(config.squelchingEnabled());
+        assertNull(config.virtualThreadEnabled());
     }
 
     @Test
@@ -102,6 +103,14 @@ class TaskSchedulerConfigurationTests {
                 expectedSquelchingEnabled = null;
             }
 
+            final Boolean expectedVirtualThreadEnabled;
+            if (random.nextBoolean()) {
+                expectedVirtualThreadEnabled = random.nextBoolean();
+                configStringBuilder.append(expectedVirtualThreadEnabled ? "VIRTUAL_THREAD " : "!VIRTUAL_THREAD ");
+            } else {
+                expectedVirtualThreadEnabled = null;
+            }
+
             final String configString = configStringBuilder.toString();
 
             final TaskSchedulerConfiguration config = TaskSchedulerConfiguration.parse(configString);
@@ -112,6 +121,7 @@ class TaskSchedulerConfigurationTests {
             assertEquals(expectedBusyFractionMetricEnabled, config.busyFractionMetricEnabled());
             assertEquals(expectedFlushingEnabled, config.flushingEnabled());
             assertEquals(expectedSquelchingEnabled, config.squelchingEnabled());
+            assertEquals(expectedVirtualThreadEnabled, config.virtualThreadEnabled());
         }
     }
 
@@ -145,6 +155,11 @@ class TaskSchedulerConfigurationTests {
         assertThrows(
                 IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("SQUELCHABLE !SQUELCHABLE"));
         assertThrows(IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("SQUELCHABLE SQUELCHABLE"));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> TaskSchedulerConfiguration.parse("VIRTUAL_THREAD !VIRTUAL_THREAD"));
+        assertThrows(
+                IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("VIRTUAL_THREAD VIRTUAL_THREAD"));
     }
 
     @Test
@@ -33,6 +33,8 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.Test;
 
 class HealthMonitorTests {
@@ -72,7 +74,7 @@ class HealthMonitorTests {
                 TestPlatformContextBuilder.create().withTime(time).build();
 
         final HealthMonitor healthMonitor =
-                new HealthMonitor(platformContext, schedulers, Duration.ofSeconds(5), Duration.ofDays(10000));
+                new HealthMonitor(platformContext, schedulers, Duration.ofSeconds(5), Duration.ofDays(10000), null);
 
         final Instant endTime = startTime.plus(Duration.ofSeconds(10));
         while (time.now().isBefore(endTime)) {
@@ -82,6 +84,30 @@ class HealthMonitorTests {
         }
     }
 
+    @Test
+    void traceReportTest() {
+        final Instant startTime = Instant.now();
+        final FakeTime time = new FakeTime(startTime, Duration.ZERO);
+        final PlatformContext platformContext =
+                TestPlatformContextBuilder.create().withTime(time).build();
+
+        final AtomicInteger reportCount = new AtomicInteger();
+        final Supplier<String> traceReportSupplier = () -> {
+            reportCount.incrementAndGet();
+            return "report";
+        };
+        final HealthMonitor healthMonitor = new HealthMonitor(
+                platformContext, List.of(), Duration.ofSeconds(5), Duration.ofMinutes(10), traceReportSupplier);
+
+        // The report is generated at most once per health log period, regardless of how often health is checked
+        final Instant endTime = startTime.plus(Duration.ofMinutes(35));
+        while (time.now().isBefore(endTime)) {
+            healthMonitor.checkSystemHealth(time.now());
+            time.tick(Duration.ofSeconds(1));
+        }
+        assertEquals(4, reportCount.get());
+    }
+
     @Test
     void oneUnhealthySchedulerTest() {
         final Randotron randotron = Randotron.create();
@@ -104,7 +130,7 @@ class HealthMonitorTests {
                 TestPlatformContextBuilder.create().withTime(time).build();
 
         final HealthMonitor healthMonitor =
-                new HealthMonitor(platformContext, schedulers, Duration.ofSeconds(5), Duration.ofDays(10000));
+                new HealthMonitor(platformContext, schedulers, Duration.ofSeconds(5), Duration.ofDays(10000), null);
 
         final Instant phase1EndTime = startTime.plus(Duration.ofSeconds(10));
         while (time.now().isBefore(phase1EndTime)) {
@@ -165,7 +191,7 @@ class HealthMonitorTests {
                 TestPlatformContextBuilder.create().withTime(time).build();
 
         final HealthMonitor healthMonitor =
-                new HealthMonitor(platformContext, schedulers, Duration.ofSeconds(5), Duration.ofDays(10000));
+                new HealthMonitor(platformContext, schedulers, Duration.ofSeconds(5), Duration.ofDays(10000), null);
 
         final Instant phase1EndTime = startTime.plus(Duration.ofSeconds(10));
         while (time.now().isBefore(phase1EndTime)) {
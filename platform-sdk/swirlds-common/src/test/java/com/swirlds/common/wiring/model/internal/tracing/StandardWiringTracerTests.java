@@ -0,0 +1,243 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.wiring.model.internal.tracing;
+
+import static com.swirlds.common.test.fixtures.AssertionUtils.assertEventuallyTrue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.common.wiring.model.WiringModel;
+import com.swirlds.common.wiring.model.WiringModelBuilder;
+import com.swirlds.common.wiring.schedulers.TaskScheduler;
+import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType;
+import com.swirlds.common.wiring.wires.input.BindableInputWire;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+class StandardWiringTracerTests {
+
+    @Test
+    void noSamplingTest() {
+        final PlatformContext platformContext =
+                TestPlatformContextBuilder.create().build();
+        final StandardWiringTracer tracer =
+                new StandardWiringTracer(platformContext, 0, 64, Duration.ofSeconds(1), Duration.ofMinutes(1));
+
+        final Consumer<Object> handler = x -> {};
+        assertSame(handler, tracer.wrap("A", "in", handler));
+    }
+
+    @Test
+    void illegalSampleRateTest() {
+        final PlatformContext platformContext =
+                TestPlatformContextBuilder.create().build();
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new StandardWiringTracer(platformContext, 1.5, 64, Duration.ofSeconds(1), Duration.ofMinutes(1)));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new StandardWiringTracer(
+                        platformContext, -0.5, 64, Duration.ofSeconds(1), Duration.ofMinutes(1)));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new StandardWiringTracer(platformContext, 1, 0, Duration.ofSeconds(1), Duration.ofMinutes(1)));
+    }
+
+    /**
+     * Data inserted by a traced handler should be part of the same trace, even if it would not have been sampled on
+     * its own.
+     */
+    @Test
+    void propagationTest() {
+        final PlatformContext platformContext =
+                TestPlatformContextBuilder.create().build();
+        final StandardWiringTracer tracer =
+                new StandardWiringTracer(platformContext, 1, 64, Duration.ofSeconds(1), Duration.ofMinutes(1));
+
+        final AtomicInteger childCount = new AtomicInteger();
+        final Consumer<Object> childHandler = x -> childCount.incrementAndGet();
+
+        final Consumer<Object> parentHandler = x -> {
+            final Consumer<Object> wrappedChild = tracer.wrap("B", "childInput", childHandler);
+            assertNotSame(childHandler, wrappedChild);
+            wrappedChild.accept(x);
+
+            // An abandoned hop still counts towards completing the trace
+            tracer.abandon(tracer.wrap("C", "abandonedInput", childHandler));
+        };
+
+        final Consumer<Object> wrappedParent = tracer.wrap("A", "parentInput", parentHandler);
+        assertNotSame(parentHandler, wrappedParent);
+        wrappedParent.accept(1);
+
+        assertEquals(1, childCount.get());
+
+        final String report = tracer.generateReport();
+        assertTrue(report.contains("A:parentInput"), report);
+        assertTrue(report.contains("B:childInput"), report);
+        assertTrue(report.contains("end-to-end: count=1"), report);
+    }
+
+    @Test
+    void wiringModelTest() {
+        final PlatformContext platformContext =
+                TestPlatformContextBuilder.create().build();
+        final WiringModel model = WiringModelBuilder.create(platformContext)
+                .withTracingSampleRate(1.0)
+                .withHealthMonitorEnabled(false)
+                .build();
+
+        final TaskScheduler<Integer> schedulerA = model.<Integer>schedulerBuilder("A")
+                .withType(TaskSchedulerType.DIRECT)
+                .build();
+        final TaskScheduler<Void> schedulerB = model.<Void>schedulerBuilder("B")
+                .withType(TaskSchedulerType.DIRECT)
+                .build();
+
+        final BindableInputWire<Integer, Integer> inputA = schedulerA.buildInputWire("inputA");
+        final BindableInputWire<Integer, Void> inputB = schedulerB.buildInputWire("inputB");
+        schedulerA.getOutputWire().solderTo(inputB);
+
+        final AtomicInteger sum = new AtomicInteger();
+        inputA.bind(x -> x + 1);
+        inputB.bindConsumer(sum::addAndGet);
+
+        model.start();
+        for (int i = 0; i < 10; i++) {
+            inputA.put(i);
+        }
+        model.stop();
+
+        assertEquals(55, sum.get());
+
+        final String report = model.generateTraceReport();
+        assertTrue(report.contains("A:inputA"), report);
+        assertTrue(report.contains("B:inputB"), report);
+        assertTrue(report.contains("end-to-end: count=10"), report);
+    }
+
+    /**
+     * Data circulating through a cycle in the wiring graph should not keep a single trace open forever.
+     */
+    @Test
+    void cyclicWiringTest() {
+        final PlatformContext platformContext =
+                TestPlatformContextBuilder.create().build();
+        final WiringModel model = WiringModelBuilder.create(platformContext)
+                .withTracingSampleRate(1.0)
+                .withMaxHopsPerTrace(10)
+                .withHealthMonitorEnabled(false)
+                .build();
+
+        final TaskScheduler<Integer> schedulerA = model.<Integer>schedulerBuilder("A")
+                .withType(TaskSchedulerType.SEQUENTIAL)
+                .build();
+        final TaskScheduler<Integer> schedulerB = model.<Integer>schedulerBuilder("B")
+                .withType(TaskSchedulerType.SEQUENTIAL)
+                .build();
+
+        final BindableInputWire<Integer, Integer> inputA = schedulerA.buildInputWire("inputA");
+        final BindableInputWire<Integer, Integer> inputB = schedulerB.buildInputWire("inputB");
+        schedulerA.getOutputWire().solderTo(inputB);
+        schedulerB.getOutputWire().solderTo(inputA);
+
+        final AtomicBoolean running = new AtomicBoolean(true);
+        inputA.bind(x -> running.get() ? x + 1 : null);
+        inputB.bind(x -> running.get() ? x : null);
+
+        model.start();
+        inputA.put(0);
+
+        assertEventuallyTrue(
+                () -> completedTraces(model.generateTraceReport()) >= 3,
+                Duration.ofSeconds(10),
+                "traces through the cycle never completed");
+
+        running.set(false);
+        model.stop();
+    }
+
+    /**
+     * A squelched handler should complete its part of the trace without being recorded as a handled hop.
+     */
+    @Test
+    void squelchingTest() {
+        final PlatformContext platformContext =
+                TestPlatformContextBuilder.create().build();
+        final WiringModel model = WiringModelBuilder.create(platformContext)
+                .withTracingSampleRate(1.0)
+                .withHealthMonitorEnabled(false)
+                .build();
+
+        final TaskScheduler<Void> scheduler = model.<Void>schedulerBuilder("A")
+                .withType(TaskSchedulerType.DIRECT)
+                .withSquelchingEnabled(true)
+                .build();
+        final BindableInputWire<Integer, Void> input = scheduler.buildInputWire("input");
+
+        final AtomicInteger count = new AtomicInteger();
+        input.bindConsumer(x -> count.incrementAndGet());
+
+        model.start();
+        scheduler.startSquelching();
+        input.put(1);
+        scheduler.stopSquelching();
+        model.stop();
+
+        assertEquals(0, count.get());
+        final String report = model.generateTraceReport();
+        assertFalse(report.contains("A:input"), report);
+        assertEquals(1, completedTraces(report), report);
+    }
+
+    /**
+     * Extract the number of completed traces from a trace report.
+     *
+     * @param report the trace report
+     * @return the number of completed traces
+     */
+    private static long completedTraces(final String report) {
+        final Matcher matcher = Pattern.compile("end-to-end: count=(\\d+)").matcher(report);
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : 0;
+    }
+
+    @Test
+    void histogramTest() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1_000L);
+        }
+        histogram.record(-5);
+
+        assertEquals(101, histogram.getCount());
+        assertEquals(100_000, histogram.getMax());
+        final long p50 = histogram.getPercentileUpperBound(0.5);
+        assertTrue(p50 >= 50_000 && p50 < 2 * 50_000, "p50 upper bound " + p50);
+        assertTrue(histogram.getPercentileUpperBound(1.0) >= 100_000);
+    }
+}
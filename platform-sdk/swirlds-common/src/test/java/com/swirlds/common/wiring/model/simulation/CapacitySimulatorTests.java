@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.wiring.model.simulation;
+
+import static com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType.SEQUENTIAL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.common.wiring.model.WiringModel;
+import com.swirlds.common.wiring.model.WiringModelBuilder;
+import com.swirlds.common.wiring.schedulers.TaskScheduler;
+import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerConfiguration;
+import com.swirlds.common.wiring.wires.input.BindableInputWire;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class CapacitySimulatorTests {
+
+    private static final Duration SIMULATED_TIME = Duration.ofSeconds(10);
+
+    /**
+     * Build a simple pipeline: A -> B -> C. A has a capacity of 100 and B has a capacity of 10.
+     *
+     * @return the wiring model
+     */
+    @NonNull
+    private static WiringModel buildPipeline() {
+        final PlatformContext platformContext =
+                TestPlatformContextBuilder.create().build();
+        final WiringModel model = WiringModelBuilder.create(platformContext)
+                .withDeterministicModeEnabled(true)
+                .build();
+
+        final TaskScheduler<Integer> schedulerA = model.schedulerBuilder("A")
+                .withType(SEQUENTIAL)
+                .withUnhandledTaskCapacity(100)
+                .build()
+                .cast();
+        final TaskScheduler<Integer> schedulerB = model.schedulerBuilder("B")
+                .withType(SEQUENTIAL)
+                .withUnhandledTaskCapacity(10)
+                .build()
+                .cast();
+        final TaskScheduler<Void> schedulerC =
+                model.schedulerBuilder("C").withType(SEQUENTIAL).build().cast();
+
+        final BindableInputWire<Integer, Integer> inputA = schedulerA.buildInputWire("inA");
+        final BindableInputWire<Integer, Integer> inputB = schedulerB.buildInputWire("inB");
+        final BindableInputWire<Integer, Void> inputC = schedulerC.buildInputWire("inC");
+
+        schedulerA.getOutputWire().solderTo(inputB);
+        schedulerB.getOutputWire().solderTo(inputC);
+
+        inputA.bind(x -> x);
+        inputB.bind(x -> x);
+        inputC.bindConsumer(x -> {});
+
+        return model;
+    }
+
+    /**
+     * Build a simulator for the pipeline where B can handle at most 10,000 tasks per second.
+     *
+     * @return the simulator
+     */
+    @NonNull
+    private static CapacitySimulator buildSimulator() {
+        return new CapacitySimulator(buildPipeline())
+                .withServiceTime("A", ServiceTimeDistribution.constant(Duration.ofNanos(10_000)))
+                .withServiceTime("B", ServiceTimeDistribution.exponential(Duration.ofNanos(100_000)))
+                .withServiceTime("C", ServiceTimeDistribution.constant(Duration.ofNanos(10_000)));
+    }
+
+    @Test
+    void sustainableLoadTest() {
+        final CapacitySimulationReport report =
+                buildSimulator().withLoad("A", 5_000).simulate(SIMULATED_TIME);
+
+        assertTrue(report.isSustainable(), report.render());
+        assertFalse(report.stalled());
+
+        final CapacitySimulationReport.SchedulerReport bottleneck = report.getBottleneck();
+        assertNotNull(bottleneck);
+        assertEquals("B", bottleneck.name());
+        assertEquals(0.5, bottleneck.utilization(), 0.05);
+
+        final CapacitySimulationReport.SourceReport source = report.sources().get(0);
+        assertEquals(0, source.rejected());
+        assertEquals(5_000, source.offeredRate(), 250);
+    }
+
+    @Test
+    void backpressureCascadeTest() {
+        final CapacitySimulationReport report =
+                buildSimulator().withLoad("A", 20_000).simulate(SIMULATED_TIME);
+
+        assertFalse(report.isSustainable(), report.render());
+
+        final CapacitySimulationReport.SchedulerReport bottleneck = report.getBottleneck();
+        assertNotNull(bottleneck);
+        assertEquals("B", bottleneck.name());
+        assertTrue(bottleneck.utilization() > 0.95);
+        assertTrue(bottleneck.maxUnhandled() <= 10);
+
+        // A spends most of its time waiting for B, and the source is throttled to B's throughput
+        final CapacitySimulationReport.SchedulerReport a = report.schedulers().stream()
+                .filter(scheduler -> scheduler.name().equals("A"))
+                .findFirst()
+                .orElseThrow();
+        assertTrue(a.blockedFraction() > 0.5);
+        final CapacitySimulationReport.SourceReport source = report.sources().get(0);
+        assertTrue(source.rejected() > 0);
+        assertEquals(10_000, source.admittedRate(), 1_000);
+    }
+
+    @Test
+    void noBackpressureTest() {
+        final CapacitySimulationReport report = buildSimulator()
+                .withLoad("A", 20_000)
+                .withBackpressureEnabled(false)
+                .simulate(SIMULATED_TIME);
+
+        // Nothing is rejected, but a large backlog builds up in B
+        assertFalse(report.isSustainable(), report.render());
+        assertEquals(0, report.sources().get(0).rejected());
+        final CapacitySimulationReport.SchedulerReport bottleneck = report.getBottleneck();
+        assertNotNull(bottleneck);
+        assertEquals("B", bottleneck.name());
+        assertTrue(bottleneck.finalUnhandled() > 10_000);
+    }
+
+    @Test
+    void configurationOverrideTest() {
+        final CapacitySimulationReport report = buildSimulator()
+                .withLoad("A", 20_000)
+                .withSchedulerConfiguration("B", TaskSchedulerConfiguration.parse("CONCURRENT CAPACITY(100)"))
+                .withConcurrentThreads(4)
+                .simulate(SIMULATED_TIME);
+
+        // With 4 threads B can handle 40,000 tasks per second
+        assertTrue(report.isSustainable(), report.render());
+    }
+
+    @Test
+    void throughputLimitTest() {
+        final double limit = buildSimulator().findThroughputLimit("A", 50_000, Duration.ofSeconds(5));
+        assertTrue(limit > 8_000 && limit <= 10_500, "unexpected limit " + limit);
+    }
+
+    @Test
+    void determinismTest() {
+        final CapacitySimulationReport report1 =
+                buildSimulator().withLoad("A", 9_000).withSeed(42).simulate(SIMULATED_TIME);
+        final CapacitySimulationReport report2 =
+                buildSimulator().withLoad("A", 9_000).withSeed(42).simulate(SIMULATED_TIME);
+        assertEquals(report1, report2);
+    }
+
+    @Test
+    void unknownSchedulerTest() {
+        final CapacitySimulator simulator = buildSimulator().withLoad("D", 1_000);
+        assertThrows(IllegalArgumentException.class, () -> simulator.simulate(SIMULATED_TIME));
+    }
+}
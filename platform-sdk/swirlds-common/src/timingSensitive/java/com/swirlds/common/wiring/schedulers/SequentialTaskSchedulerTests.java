@@ -39,6 +39,7 @@ import com.swirlds.common.wiring.counters.BackpressureObjectCounter;
 import com.swirlds.common.wiring.counters.ObjectCounter;
 import com.swirlds.common.wiring.model.WiringModel;
 import com.swirlds.common.wiring.model.WiringModelBuilder;
+import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerConfiguration;
 import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType;
 import com.swirlds.common.wiring.wires.SolderType;
 import com.swirlds.common.wiring.wires.input.BindableInputWire;
@@ -2496,4 +2497,71 @@ class SequentialTaskSchedulerTests {
 
         model.stop();
     }
+
+    /**
+     * Verify that a SEQUENTIAL_THREAD scheduler backed by a virtual thread handles tasks in order, and that squelching
+     * behaves the same way it does with a platform thread.
+     */
+    @Test
+    void virtualThreadTest() {
+        final WiringModel model = TestWiringModelBuilder.create();
+
+        final AtomicInteger wireValue = new AtomicInteger();
+        final AtomicInteger handleCount = new AtomicInteger();
+        final AtomicBoolean onVirtualThread = new AtomicBoolean(true);
+        final Consumer<Integer> handler = x -> {
+            onVirtualThread.compareAndSet(true, Thread.currentThread().isVirtual());
+            wireValue.set(hash32(wireValue.get(), x));
+            handleCount.incrementAndGet();
+        };
+
+        final TaskScheduler<Void> taskScheduler = model.schedulerBuilder("test")
+                .configure(TaskSchedulerConfiguration.parse(
+                        "SEQUENTIAL_THREAD CAPACITY(100) FLUSHABLE SQUELCHABLE VIRTUAL_THREAD"))
+                .build()
+                .cast();
+        final BindableInputWire<Integer, Void> channel = taskScheduler.buildInputWire("channel");
+        channel.bindConsumer(handler);
+
+        model.start();
+        int value = 0;
+        for (int i = 0; i < 100; i++) {
+            channel.put(i);
+            value = hash32(value, i);
+        }
+        taskScheduler.flush();
+
+        assertEquals(value, wireValue.get(), "Wire sum did not match expected sum");
+        assertTrue(onVirtualThread.get(), "Tasks should be handled on a virtual thread");
+
+        taskScheduler.startSquelching();
+        final int countAtSquelchStart = handleCount.get();
+        for (int i = 0; i < 10; i++) {
+            channel.put(i);
+        }
+        taskScheduler.flush();
+        assertEquals(countAtSquelchStart, handleCount.get(), "Squelched tasks should not be handled");
+        taskScheduler.stopSquelching();
+
+        channel.put(0);
+        taskScheduler.flush();
+        assertEquals(countAtSquelchStart + 1, handleCount.get(), "New tasks should be handled after squelching");
+
+        model.stop();
+    }
+
+    /**
+     * Virtual threads are only supported by SEQUENTIAL_THREAD schedulers.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"SEQUENTIAL", "CONCURRENT", "DIRECT", "DIRECT_THREADSAFE"})
+    void virtualThreadUnsupportedTypeTest(final String typeString) {
+        final WiringModel model = TestWiringModelBuilder.create();
+        final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
+
+        assertThrows(IllegalStateException.class, () -> model.schedulerBuilder("test")
+                .withType(type)
+                .withVirtualThreadEnabled(true)
+                .build());
+    }
 }
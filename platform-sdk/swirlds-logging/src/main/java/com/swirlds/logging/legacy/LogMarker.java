@@ -160,6 +160,11 @@ public enum LogMarker {
      */
     PLATFORM_STATUS(LogMarkerType.INFO),
 
+    /**
+     * logs wiring traces whose end-to-end latency exceeds the configured slow trace threshold
+     */
+    WIRING_TRACE(LogMarkerType.INFO),
+
     /**
      * Detail information about MerkleDb.
      */
@@ -0,0 +1,236 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.core.jmh;
+
+import com.hedera.hapi.platform.event.EventDescriptor;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.platform.sequence.map.EventDescriptorSequenceMap;
+import com.swirlds.platform.sequence.map.SequenceMap;
+import com.swirlds.platform.sequence.map.StandardSequenceMap;
+import com.swirlds.platform.sequence.set.EventDescriptorSequenceSet;
+import com.swirlds.platform.sequence.set.SequenceSet;
+import com.swirlds.platform.sequence.set.StandardSequenceSet;
+import com.swirlds.platform.system.events.EventDescriptorWrapper;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the sequence maps used by the event deduplicator and the orphan buffer. The input is a stream of event
+ * descriptors in the order they might arrive from gossip: every event is received once plus a number of duplicates,
+ * and the copies of events from the same generation arrive interleaved in arbitrary order. The ancient threshold
+ * advances as generations advance.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class EventSequenceMapBenchmark {
+
+    /**
+     * The number of events delivered to the data structure per benchmark invocation.
+     */
+    private static final int STREAM_SIZE = 100_000;
+
+    /**
+     * Avoid the creation of lambdas for Map.computeIfAbsent() by reusing this lambda.
+     */
+    private static final Function<EventDescriptorWrapper, Set<Bytes>> NEW_HASH_SET = ignored -> new HashSet<>();
+
+    @Param({"0"})
+    public long seed;
+
+    @Param({"25"})
+    public int nodeCount;
+
+    /**
+     * The fraction of received events that are duplicates.
+     */
+    @Param({"0.5", "0.8"})
+    public double duplicateRatio;
+
+    /**
+     * The number of non-ancient generations.
+     */
+    @Param({"26"})
+    public int ancientWindow;
+
+    @Param({"STANDARD", "EVENT_DESCRIPTOR"})
+    public MapType mapType;
+
+    public enum MapType {
+        STANDARD,
+        EVENT_DESCRIPTOR
+    }
+
+    private EventDescriptorWrapper[] descriptors;
+    private EventDescriptorWrapper[][] parents;
+    private Bytes[] signatures;
+
+    private SequenceMap<EventDescriptorWrapper, Set<Bytes>> standardMap;
+    private EventDescriptorSequenceMap<Bytes> eventDescriptorMap;
+    private SequenceSet<EventDescriptorWrapper> eventsWithParents;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(seed);
+
+        final List<Integer> arrivals = new ArrayList<>(STREAM_SIZE);
+        final List<EventDescriptorWrapper> uniqueDescriptors = new ArrayList<>();
+        final List<EventDescriptorWrapper[]> uniqueParents = new ArrayList<>();
+        final List<Bytes> uniqueSignatures = new ArrayList<>();
+
+        EventDescriptorWrapper[] previousGeneration = new EventDescriptorWrapper[nodeCount];
+        for (long generation = 0; arrivals.size() < STREAM_SIZE; generation++) {
+            final EventDescriptorWrapper[] currentGeneration = new EventDescriptorWrapper[nodeCount];
+            final List<Integer> generationArrivals = new ArrayList<>();
+            for (int creator = 0; creator < nodeCount; creator++) {
+                final byte[] hash = new byte[48];
+                random.nextBytes(hash);
+                final byte[] signature = new byte[384];
+                random.nextBytes(signature);
+
+                final EventDescriptorWrapper descriptor = new EventDescriptorWrapper(
+                        new EventDescriptor(Bytes.wrap(hash), creator, generation / 10 + 1, generation));
+                currentGeneration[creator] = descriptor;
+
+                final int index = uniqueDescriptors.size();
+                uniqueDescriptors.add(descriptor);
+                uniqueSignatures.add(Bytes.wrap(signature));
+                uniqueParents.add(
+                        generation == 0
+                                ? new EventDescriptorWrapper[0]
+                                : new EventDescriptorWrapper[] {
+                                    previousGeneration[creator], previousGeneration[random.nextInt(nodeCount)]
+                                });
+
+                // With a duplicate ratio of d, each event is received 1 / (1 - d) times on average
+                generationArrivals.add(index);
+                while (random.nextDouble() < duplicateRatio) {
+                    generationArrivals.add(index);
+                }
+            }
+            previousGeneration = currentGeneration;
+
+            // Events from the same generation, including duplicates, arrive in arbitrary order
+            Collections.shuffle(generationArrivals, random);
+            arrivals.addAll(generationArrivals);
+        }
+
+        final int size = Math.min(arrivals.size(), STREAM_SIZE);
+        descriptors = new EventDescriptorWrapper[size];
+        parents = new EventDescriptorWrapper[size][];
+        signatures = new Bytes[size];
+        for (int i = 0; i < size; i++) {
+            final int index = arrivals.get(i);
+            descriptors[i] = uniqueDescriptors.get(index);
+            parents[i] = uniqueParents.get(index);
+            // each copy of an event received from gossip carries its own Bytes instance for the signature
+            signatures[i] = Bytes.wrap(uniqueSignatures.get(index).toByteArray());
+        }
+    }
+
+    /**
+     * Reset the data structures to an empty state.
+     */
+    private void reset() {
+        standardMap = new StandardSequenceMap<>(0, 1024, true, ed -> ed.eventDescriptor().generation());
+        eventDescriptorMap = new EventDescriptorSequenceMap<>(0, 1024, true, ed -> ed.eventDescriptor().generation());
+        if (mapType == MapType.STANDARD) {
+            eventsWithParents = new StandardSequenceSet<>(0, 1024, true, ed -> ed.eventDescriptor().generation());
+        } else {
+            eventsWithParents = new EventDescriptorSequenceSet(0, 1024, true, ed -> ed.eventDescriptor().generation());
+        }
+    }
+
+    /**
+     * The work done by the event deduplicator for each event received from gossip.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(STREAM_SIZE)
+    public void deduplicate(final Blackhole bh) {
+        reset();
+        long ancientThreshold = 0;
+        for (int i = 0; i < descriptors.length; i++) {
+            final EventDescriptorWrapper descriptor = descriptors[i];
+
+            final long threshold = descriptor.eventDescriptor().generation() - ancientWindow;
+            if (threshold > ancientThreshold) {
+                ancientThreshold = threshold;
+                standardMap.shiftWindow(ancientThreshold);
+                eventDescriptorMap.shiftWindow(ancientThreshold);
+            }
+
+            switch (mapType) {
+                case STANDARD -> {
+                    final Set<Bytes> signatureSet = standardMap.computeIfAbsent(descriptor, NEW_HASH_SET);
+                    bh.consume(signatureSet.add(signatures[i]));
+                }
+                case EVENT_DESCRIPTOR -> {
+                    final Bytes firstSignature = eventDescriptorMap.getOrInsert(descriptor, signatures[i]);
+                    bh.consume(firstSignature == null || !firstSignature.equals(signatures[i]));
+                }
+            }
+        }
+    }
+
+    /**
+     * The parent lookups done by the orphan buffer for each event that passes deduplication.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(STREAM_SIZE)
+    public void findParents(final Blackhole bh) {
+        reset();
+        long ancientThreshold = 0;
+        for (int i = 0; i < descriptors.length; i++) {
+            final EventDescriptorWrapper descriptor = descriptors[i];
+
+            final long threshold = descriptor.eventDescriptor().generation() - ancientWindow;
+            if (threshold > ancientThreshold) {
+                ancientThreshold = threshold;
+                eventsWithParents.shiftWindow(ancientThreshold);
+            }
+
+            for (final EventDescriptorWrapper parent : parents[i]) {
+                bh.consume(eventsWithParents.contains(parent));
+            }
+            eventsWithParents.add(descriptor);
+        }
+    }
+}
@@ -236,7 +236,8 @@ public class SwirldsPlatform implements Platform {
 
         final SignedStateMetrics signedStateMetrics = new SignedStateMetrics(platformContext.getMetrics());
         final StateSignatureCollector stateSignatureCollector =
-                new DefaultStateSignatureCollector(platformContext, signedStateMetrics);
+                new DefaultStateSignatureCollector(
+                        platformContext, signedStateMetrics, blocks.stateSignatureVerificationPool());
 
         blocks.statusActionSubmitterReference()
                 .set(x -> platformWiring.getStatusActionSubmitter().submitStatusAction(x));
@@ -422,14 +422,16 @@ public final class PlatformBuilder {
                 x -> statusActionSubmitterAtomicReference.get().submitStatusAction(x),
                 softwareVersion);
 
+        // The pool shared by the wiring model and the state signature collector. A model supplied to this builder
+        // brings its own pool, in which case the collector uses the common pool.
+        ForkJoinPool defaultPool = ForkJoinPool.commonPool();
         if (model == null) {
             final WiringConfig wiringConfig = platformContext.getConfiguration().getConfigData(WiringConfig.class);
 
             final int coreCount = Runtime.getRuntime().availableProcessors();
             final int parallelism = (int)
                     Math.max(1, wiringConfig.defaultPoolMultiplier() * coreCount + wiringConfig.defaultPoolConstant());
-            final ForkJoinPool defaultPool =
-                    platformContext.getExecutorFactory().createForkJoinPool(parallelism);
+            defaultPool = platformContext.getExecutorFactory().createForkJoinPool(parallelism);
             logger.info(STARTUP.getMarker(), "Default platform pool parallelism: {}", parallelism);
 
             model = WiringModelBuilder.create(platformContext)
@@ -441,6 +443,10 @@ public final class PlatformBuilder {
                     .withHealthMonitorPeriod(wiringConfig.healthMonitorHeartbeatPeriod())
                     .withHealthLogThreshold(wiringConfig.healthLogThreshold())
                     .withHealthLogPeriod(wiringConfig.healthLogPeriod())
+                    .withTracingSampleRate(wiringConfig.tracingSampleRate())
+                    .withMaxHopsPerTrace(wiringConfig.maxHopsPerTrace())
+                    .withSlowTraceThreshold(wiringConfig.slowTraceThreshold())
+                    .withSlowTraceLogPeriod(wiringConfig.slowTraceLogPeriod())
                     .build();
         }
 
@@ -475,6 +481,7 @@ public final class PlatformBuilder {
                 new AtomicReference<>(),
                 new AtomicReference<>(),
                 new AtomicReference<>(),
+                defaultPool,
                 firstPlatform);
 
         return new PlatformComponentBuilder(buildingBlocks);
@@ -40,6 +40,7 @@ import com.swirlds.platform.util.RandomBuilder;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.Instant;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -94,6 +95,9 @@ import java.util.function.Supplier;
  * @param swirldStateManager                     responsible for the mutable state, this is exposed here due to
  *                                               reconnect, can be removed once reconnect is made compatible with the
  *                                               wiring framework
+ * @param stateSignatureVerificationPool         the platform's shared pool, used to verify batches of state
+ *                                               signatures in parallel, or null if state signatures are verified on
+ *                                               the collector's thread
  */
 public record PlatformBuildingBlocks(
         @NonNull PlatformContext platformContext,
@@ -122,6 +126,7 @@ public record PlatformBuildingBlocks(
         @NonNull AtomicReference<Supplier<ReservedSignedState>> getLatestCompleteStateReference,
         @NonNull AtomicReference<Consumer<SignedState>> loadReconnectStateReference,
         @NonNull AtomicReference<Runnable> clearAllPipelinesForReconnectReference,
+        @Nullable ForkJoinPool stateSignatureVerificationPool,
         boolean firstPlatform) {
 
     public PlatformBuildingBlocks {
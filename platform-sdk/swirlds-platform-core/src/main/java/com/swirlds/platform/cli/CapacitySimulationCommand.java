@@ -0,0 +1,197 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.cli;
+
+import com.swirlds.cli.PlatformCli;
+import com.swirlds.cli.utility.AbstractCommand;
+import com.swirlds.cli.utility.SubcommandOf;
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.wiring.model.WiringModel;
+import com.swirlds.common.wiring.model.WiringModelBuilder;
+import com.swirlds.common.wiring.model.simulation.CapacitySimulationReport;
+import com.swirlds.common.wiring.model.simulation.CapacitySimulator;
+import com.swirlds.common.wiring.model.simulation.ServiceTimeDistribution;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.config.api.ConfigurationBuilder;
+import com.swirlds.platform.builder.ApplicationCallbacks;
+import com.swirlds.platform.config.DefaultConfiguration;
+import com.swirlds.platform.wiring.PlatformWiring;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Duration;
+import java.util.List;
+import picocli.CommandLine;
+
+@CommandLine.Command(
+        name = "simulate-capacity",
+        mixinStandardHelpOptions = true,
+        description = "Simulate the platform wiring under synthetic load to find throughput limits, queue build-up, "
+                + "and backpressure cascades for a given scheduler configuration. No handlers are executed.")
+@SubcommandOf(PlatformCli.class)
+public final class CapacitySimulationCommand extends AbstractCommand {
+
+    private List<String> configOverrides = List.of();
+    private List<String> serviceTimeStrings = List.of();
+    private List<String> outputRatioStrings = List.of();
+    private List<String> loadStrings = List.of();
+    private String limitScheduler = null;
+    private double limitMaxRate = 100_000;
+    private Duration simulatedTime = Duration.ofSeconds(60);
+    private int concurrentThreads = 8;
+    private boolean backpressureEnabled = true;
+    private long seed = 0;
+
+    private CapacitySimulationCommand() {}
+
+    @CommandLine.Option(
+            names = {"-c", "--config"},
+            description = "Override a configuration value, e.g. to try a different scheduler configuration. "
+                    + "Format: 'NAME=VALUE', e.g. 'platformSchedulers.eventHasher=SEQUENTIAL_THREAD CAPACITY(100)'.")
+    private void setConfigOverrides(@NonNull final List<String> configOverrides) {
+        this.configOverrides = configOverrides;
+    }
+
+    @CommandLine.Option(
+            names = {"-s", "--service-time"},
+            description = "Specify the service time distribution of a scheduler. Format: 'SCHEDULER=DISTRIBUTION', "
+                    + "e.g. 'EventHasher=lognormal(150us,0.5)'. "
+                    + "Supported distributions are constant(t), exponential(mean), and lognormal(median,sigma).")
+    private void setServiceTimeStrings(@NonNull final List<String> serviceTimeStrings) {
+        this.serviceTimeStrings = serviceTimeStrings;
+    }
+
+    @CommandLine.Option(
+            names = {"-r", "--output-ratio"},
+            description = "Specify the average number of outputs a scheduler sends over each outgoing wire per task. "
+                    + "Format: 'SCHEDULER=RATIO'. Defaults to 1.0.")
+    private void setOutputRatioStrings(@NonNull final List<String> outputRatioStrings) {
+        this.outputRatioStrings = outputRatioStrings;
+    }
+
+    @CommandLine.Option(
+            names = {"-l", "--load"},
+            description = "Inject synthetic load into a scheduler. Format: 'SCHEDULER=TASKS_PER_SECOND'.")
+    private void setLoadStrings(@NonNull final List<String> loadStrings) {
+        this.loadStrings = loadStrings;
+    }
+
+    @CommandLine.Option(
+            names = {"-f", "--find-limit"},
+            description = "Search for the largest sustainable load injected into the given scheduler.")
+    private void setLimitScheduler(@NonNull final String limitScheduler) {
+        this.limitScheduler = limitScheduler;
+    }
+
+    @CommandLine.Option(
+            names = {"-m", "--max-rate"},
+            description = "The largest load considered when searching for a limit, in tasks per second. "
+                    + "Defaults to 100000.")
+    private void setLimitMaxRate(final double limitMaxRate) {
+        this.limitMaxRate = limitMaxRate;
+    }
+
+    @CommandLine.Option(
+            names = {"-d", "--duration"},
+            description = "The amount of time to simulate, in seconds. Defaults to 60.")
+    private void setSimulatedTime(final long seconds) {
+        this.simulatedTime = Duration.ofSeconds(seconds);
+    }
+
+    @CommandLine.Option(
+            names = {"-t", "--threads"},
+            description = "The number of threads available to each concurrent scheduler. Defaults to 8.")
+    private void setConcurrentThreads(final int concurrentThreads) {
+        this.concurrentThreads = concurrentThreads;
+    }
+
+    @CommandLine.Option(
+            names = {"-n", "--no-backpressure"},
+            description = "Ignore scheduler capacities, simulating a model without hard backpressure.")
+    private void setNoBackpressure(final boolean noBackpressure) {
+        this.backpressureEnabled = !noBackpressure;
+    }
+
+    @CommandLine.Option(
+            names = {"--seed"},
+            description = "The seed for the source of randomness. Defaults to 0.")
+    private void setSeed(final long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Entry point.
+     */
+    @Override
+    public Integer call() {
+        final ConfigurationBuilder configurationBuilder = ConfigurationBuilder.create();
+        for (final String override : configOverrides) {
+            final String[] parts = splitPair(override);
+            configurationBuilder.withValue(parts[0], parts[1]);
+        }
+        final Configuration configuration = DefaultConfiguration.buildBasicConfiguration(configurationBuilder);
+        final PlatformContext platformContext = PlatformContext.create(configuration);
+
+        final ApplicationCallbacks callbacks = new ApplicationCallbacks(x -> {}, x -> {}, x -> {});
+
+        // Deterministic mode builds the wiring without starting any threads
+        final WiringModel model = WiringModelBuilder.create(platformContext)
+                .withDeterministicModeEnabled(true)
+                .build();
+        new PlatformWiring(platformContext, model, callbacks);
+
+        final CapacitySimulator simulator = new CapacitySimulator(model)
+                .withConcurrentThreads(concurrentThreads)
+                .withBackpressureEnabled(backpressureEnabled)
+                .withSeed(seed);
+        for (final String serviceTime : serviceTimeStrings) {
+            final String[] parts = splitPair(serviceTime);
+            simulator.withServiceTime(parts[0], ServiceTimeDistribution.parse(parts[1]));
+        }
+        for (final String outputRatio : outputRatioStrings) {
+            final String[] parts = splitPair(outputRatio);
+            simulator.withOutputRatio(parts[0], Double.parseDouble(parts[1]));
+        }
+        for (final String load : loadStrings) {
+            final String[] parts = splitPair(load);
+            simulator.withLoad(parts[0], Double.parseDouble(parts[1]));
+        }
+
+        if (limitScheduler != null) {
+            final double limit = simulator.findThroughputLimit(limitScheduler, limitMaxRate, simulatedTime);
+            System.out.printf("Largest sustainable load into %s: %.0f/s%n%n", limitScheduler, limit);
+            simulator.withLoad(limitScheduler, limit);
+        }
+
+        final CapacitySimulationReport report = simulator.simulate(simulatedTime);
+        System.out.println(report.render());
+        return 0;
+    }
+
+    /**
+     * Split a 'NAME=VALUE' command line argument.
+     *
+     * @param pair the argument
+     * @return an array containing the name and the value
+     */
+    @NonNull
+    private static String[] splitPair(@NonNull final String pair) {
+        final int index = pair.indexOf('=');
+        if (index <= 0) {
+            throw new IllegalArgumentException("Invalid argument, expected 'NAME=VALUE': " + pair);
+        }
+        return new String[] {pair.substring(0, index).strip(), pair.substring(index + 1).strip()};
+    }
+}
@@ -82,6 +82,9 @@ import java.time.Duration;
  *                                      resubmitted. Age is measured by taking the round number of the most recent round
  *                                      to reach consensus and subtracting the round that the signature transaction
  *                                      signs.
+ * @param signatureVerificationThreads  The maximum number of threads of the platform's default pool used to verify
+ *                                      each batch of state signatures received by the state signature collector. If
+ *                                      1, signatures are verified on the collector's own thread.
  */
 @ConfigData("state")
 public record StateConfig(
@@ -104,7 +107,8 @@ public record StateConfig(
         @ConfigProperty(defaultValue = "emergencyRecovery.yaml") String emergencyStateFileName,
         @ConfigProperty(defaultValue = "false") boolean deleteInvalidStateFiles,
         @ConfigProperty(defaultValue = "true") boolean validateInitialState,
-        @ConfigProperty(defaultValue = "500") long maxSignatureResubmitAge) {
+        @ConfigProperty(defaultValue = "500") long maxSignatureResubmitAge,
+        @ConfigProperty(defaultValue = "4") int signatureVerificationThreads) {
 
     /**
      * Get the main class name that should be used for signed states.
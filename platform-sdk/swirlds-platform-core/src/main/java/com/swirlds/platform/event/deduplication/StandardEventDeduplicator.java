@@ -30,6 +30,7 @@ import com.swirlds.platform.event.AncientMode;
 import com.swirlds.platform.event.PlatformEvent;
 import com.swirlds.platform.eventhandling.EventConfig;
 import com.swirlds.platform.gossip.IntakeEventCounter;
+import com.swirlds.platform.sequence.map.EventDescriptorSequenceMap;
 import com.swirlds.platform.sequence.map.SequenceMap;
 import com.swirlds.platform.sequence.map.StandardSequenceMap;
 import com.swirlds.platform.system.events.EventDescriptorWrapper;
@@ -51,7 +52,7 @@ public class StandardEventDeduplicator implements EventDeduplicator {
     private static final Function<EventDescriptorWrapper, Set<Bytes>> NEW_HASH_SET = ignored -> new HashSet<>();
 
     /**
-     * Initial capacity of {@link #observedEvents}.
+     * Initial capacity of {@link #observedEvents} and {@link #disparateSignatures}.
      */
     private static final int INITIAL_CAPACITY = 1024;
 
@@ -66,9 +67,15 @@ public class StandardEventDeduplicator implements EventDeduplicator {
     private final IntakeEventCounter intakeEventCounter;
 
     /**
-     * A map from event descriptor to a set of signatures that have been received for that event.
+     * A map from event descriptor to the first signature that was received for that event.
      */
-    private final SequenceMap<EventDescriptorWrapper, Set<Bytes>> observedEvents;
+    private final EventDescriptorSequenceMap<Bytes> observedEvents;
+
+    /**
+     * A map from event descriptor to the set of all signatures that have been received for that event. Only populated
+     * for events that have been received with more than one signature, which should be very rare.
+     */
+    private final SequenceMap<EventDescriptorWrapper, Set<Bytes>> disparateSignatures;
 
     private static final LongAccumulator.Config DISPARATE_SIGNATURE_CONFIG = new LongAccumulator.Config(
                     PLATFORM_CATEGORY, "eventsWithDisparateSignature")
@@ -112,10 +119,14 @@ public class StandardEventDeduplicator implements EventDeduplicator {
                 .getAncientMode();
         this.eventWindow = EventWindow.getGenesisEventWindow(ancientMode);
         if (ancientMode == AncientMode.BIRTH_ROUND_THRESHOLD) {
-            observedEvents = new StandardSequenceMap<>(
+            observedEvents = new EventDescriptorSequenceMap<>(
+                    0, INITIAL_CAPACITY, true, ed -> ed.eventDescriptor().birthRound());
+            disparateSignatures = new StandardSequenceMap<>(
                     0, INITIAL_CAPACITY, true, ed -> ed.eventDescriptor().birthRound());
         } else {
-            observedEvents = new StandardSequenceMap<>(
+            observedEvents = new EventDescriptorSequenceMap<>(
+                    0, INITIAL_CAPACITY, true, ed -> ed.eventDescriptor().generation());
+            disparateSignatures = new StandardSequenceMap<>(
                     0, INITIAL_CAPACITY, true, ed -> ed.eventDescriptor().generation());
         }
     }
@@ -132,13 +143,27 @@ public class StandardEventDeduplicator implements EventDeduplicator {
             return null;
         }
 
-        final Set<Bytes> signatures = observedEvents.computeIfAbsent(event.getDescriptor(), NEW_HASH_SET);
-        if (signatures.add(event.getSignature())) {
-            if (signatures.size() != 1) {
+        final EventDescriptorWrapper descriptor = event.getDescriptor();
+        final Bytes signature = event.getSignature();
+
+        final boolean isUnique;
+        final Bytes firstSignature = observedEvents.getOrInsert(descriptor, signature);
+        if (firstSignature == null) {
+            // first time we have seen this descriptor
+            isUnique = true;
+        } else if (firstSignature.equals(signature)) {
+            isUnique = false;
+        } else {
+            final Set<Bytes> signatures = disparateSignatures.computeIfAbsent(descriptor, NEW_HASH_SET);
+            signatures.add(firstSignature);
+            isUnique = signatures.add(signature);
+            if (isUnique) {
                 // signature is unique, but descriptor is not
                 disparateSignatureAccumulator.update(1);
             }
+        }
 
+        if (isUnique) {
             // move toward 0%
             avgDuplicatePercent.update(0);
 
@@ -162,6 +187,7 @@ public class StandardEventDeduplicator implements EventDeduplicator {
         this.eventWindow = Objects.requireNonNull(eventWindow);
 
         observedEvents.shiftWindow(eventWindow.getAncientThreshold());
+        disparateSignatures.shiftWindow(eventWindow.getAncientThreshold());
     }
 
     /**
@@ -170,5 +196,6 @@ public class StandardEventDeduplicator implements EventDeduplicator {
     @Override
     public void clear(@NonNull final NoInput ignored) {
         observedEvents.clear();
+        disparateSignatures.clear();
     }
 }
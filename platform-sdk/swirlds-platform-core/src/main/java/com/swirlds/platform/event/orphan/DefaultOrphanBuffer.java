@@ -25,10 +25,10 @@ import com.swirlds.platform.event.AncientMode;
 import com.swirlds.platform.event.PlatformEvent;
 import com.swirlds.platform.eventhandling.EventConfig;
 import com.swirlds.platform.gossip.IntakeEventCounter;
+import com.swirlds.platform.sequence.map.EventDescriptorSequenceMap;
 import com.swirlds.platform.sequence.map.SequenceMap;
-import com.swirlds.platform.sequence.map.StandardSequenceMap;
+import com.swirlds.platform.sequence.set.EventDescriptorSequenceSet;
 import com.swirlds.platform.sequence.set.SequenceSet;
-import com.swirlds.platform.sequence.set.StandardSequenceSet;
 import com.swirlds.platform.system.events.EventDescriptorWrapper;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.ArrayList;
@@ -106,14 +106,14 @@ public class DefaultOrphanBuffer implements OrphanBuffer {
                 .getAncientMode();
         this.eventWindow = EventWindow.getGenesisEventWindow(ancientMode);
         if (ancientMode == AncientMode.BIRTH_ROUND_THRESHOLD) {
-            missingParentMap = new StandardSequenceMap<>(
+            missingParentMap = new EventDescriptorSequenceMap<>(
                     0, INITIAL_CAPACITY, true, ed -> ed.eventDescriptor().birthRound());
-            eventsWithParents = new StandardSequenceSet<>(
+            eventsWithParents = new EventDescriptorSequenceSet(
                     0, INITIAL_CAPACITY, true, ed -> ed.eventDescriptor().birthRound());
         } else {
-            missingParentMap = new StandardSequenceMap<>(
+            missingParentMap = new EventDescriptorSequenceMap<>(
                     0, INITIAL_CAPACITY, true, ed -> ed.eventDescriptor().generation());
-            eventsWithParents = new StandardSequenceSet<>(
+            eventsWithParents = new EventDescriptorSequenceSet(
                     0, INITIAL_CAPACITY, true, ed -> ed.eventDescriptor().generation());
         }
     }
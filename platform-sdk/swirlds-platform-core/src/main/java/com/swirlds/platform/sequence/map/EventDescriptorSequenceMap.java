@@ -0,0 +1,713 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.sequence.map;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.platform.system.events.EventDescriptorWrapper;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * A {@link SequenceMap} specialized for {@link EventDescriptorWrapper} keys, intended for the event intake pipeline.
+ * <p>
+ * {@link StandardSequenceMap} stores each key in a {@link java.util.HashMap} and in a per sequence number
+ * {@link java.util.HashSet}, which costs several node objects per key, and hashing an event descriptor touches every
+ * byte of the event hash. This implementation stores the keys for each sequence number in a flat open addressing
+ * table. Each slot holds the creator ID and the first eight bytes of the event hash as primitives, so lookups rarely
+ * need to dereference the key, and a full key comparison only happens when both of those match.
+ * <p>
+ * Windowed expiry works the same way as in {@link StandardSequenceMap}: each sequence number in the window has its own
+ * table, and shifting the window recycles the tables of sequence numbers that have become ancient.
+ * <p>
+ * This class is not thread safe.
+ *
+ * @param <V> the type of the value
+ */
+public class EventDescriptorSequenceMap<V> implements SequenceMap<EventDescriptorWrapper, V> {
+
+    /**
+     * The maximum supported size of an array is JVM dependant, but it's usually a little smaller than the maximum
+     * integer size. Various sources suggest this is a generally safe value to use.
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * The number of slots in a table when it is first used. Must be a power of two.
+     */
+    private static final int INITIAL_TABLE_CAPACITY = 16;
+
+    /**
+     * The keys for each sequence number in the window, indexed by sequence number modulo capacity.
+     */
+    private KeyTable[] tables;
+
+    /**
+     * The current capacity for sequence numbers.
+     */
+    private int sequenceNumberCapacity;
+
+    /**
+     * The smallest sequence number currently allowed in the window.
+     */
+    private long firstSequenceNumberInWindow;
+
+    /**
+     * When this object is cleared, the lowest allowed sequence number is reset to this value.
+     */
+    private final long initialFirstSequenceNumber;
+
+    /**
+     * If true, expand when we get a high sequence number that does not fit. If false, reject the element.
+     */
+    private final boolean allowExpansion;
+
+    /**
+     * A method that gets the sequence number associated with a given key.
+     */
+    private final ToLongFunction<EventDescriptorWrapper> getSequenceNumberFromKey;
+
+    /**
+     * The total number of entries in the map.
+     */
+    private int size;
+
+    /**
+     * Construct an {@link EventDescriptorSequenceMap}.
+     *
+     * @param firstSequenceNumberInWindow the lowest allowed sequence number
+     * @param sequenceNumberCapacity      the number of sequence numbers permitted to exist in this data structure. E.g.
+     *                                    if the lowest allowed sequence number is 100 and the capacity is 10, then
+     *                                    values with a sequence number between 100 and 109 (inclusive) will be allowed,
+     *                                    and any value with a sequence number outside that range will be rejected.
+     * @param allowExpansion              if true, then instead of rejecting elements with a sequence number higher than
+     *                                    the allowed by the current capacity, increase capacity and then insert the
+     *                                    element. Does not expand if the sequence number is too low to fit in the
+     *                                    current capacity.
+     * @param getSequenceNumberFromKey    a method that extracts the sequence number from a key, i.e. the generation or
+     *                                    the birth round
+     */
+    public EventDescriptorSequenceMap(
+            final long firstSequenceNumberInWindow,
+            final int sequenceNumberCapacity,
+            final boolean allowExpansion,
+            @NonNull final ToLongFunction<EventDescriptorWrapper> getSequenceNumberFromKey) {
+
+        this.initialFirstSequenceNumber = firstSequenceNumberInWindow;
+        this.firstSequenceNumberInWindow = firstSequenceNumberInWindow;
+        this.sequenceNumberCapacity = sequenceNumberCapacity;
+        this.allowExpansion = allowExpansion;
+        this.getSequenceNumberFromKey = Objects.requireNonNull(getSequenceNumberFromKey);
+
+        tables = new KeyTable[sequenceNumberCapacity];
+        for (long sequenceNumber = firstSequenceNumberInWindow;
+                sequenceNumber < firstSequenceNumberInWindow + sequenceNumberCapacity;
+                sequenceNumber++) {
+            tables[getTableIndex(sequenceNumber)] = new KeyTable(sequenceNumber);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Nullable
+    public V get(@NonNull final EventDescriptorWrapper key) {
+        final KeyTable table = getTableInWindow(key);
+        if (table == null) {
+            return null;
+        }
+        final int slot = table.find(key);
+        return slot < 0 ? null : valueAt(table, slot);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(@NonNull final EventDescriptorWrapper key) {
+        final KeyTable table = getTableInWindow(key);
+        return table != null && table.find(key) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Nullable
+    public V computeIfAbsent(
+            @NonNull final EventDescriptorWrapper key,
+            @NonNull final Function<? super EventDescriptorWrapper, ? extends V> mappingFunction) {
+
+        final KeyTable table = getOrExpandTable(key);
+        if (table == null) {
+            return null;
+        }
+        final int slot = table.find(key);
+        if (slot >= 0) {
+            return valueAt(table, slot);
+        }
+        final V value = mappingFunction.apply(key);
+        table.insert(key, value);
+        size++;
+        return value;
+    }
+
+    /**
+     * If the key is present, return its value. Otherwise insert the value. Equivalent to
+     * {@link #computeIfAbsent(EventDescriptorWrapper, Function)} without the need for a mapping function, which avoids
+     * capturing lambdas on hot paths.
+     *
+     * @param key   the key
+     * @param value the value to insert if the key is not present
+     * @return the value that was already present, or null if the value was inserted or if the key is outside the
+     * window
+     */
+    @Nullable
+    public V getOrInsert(@NonNull final EventDescriptorWrapper key, @NonNull final V value) {
+        final KeyTable table = getOrExpandTable(key);
+        if (table == null) {
+            return null;
+        }
+        final int slot = table.find(key);
+        if (slot >= 0) {
+            return valueAt(table, slot);
+        }
+        table.insert(key, value);
+        size++;
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean putIfAbsent(@NonNull final EventDescriptorWrapper key, @Nullable final V value) {
+        final KeyTable table = getOrExpandTable(key);
+        if (table == null || table.find(key) >= 0) {
+            return false;
+        }
+        table.insert(key, value);
+        size++;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Nullable
+    public V put(@NonNull final EventDescriptorWrapper key, @Nullable final V value) {
+        final KeyTable table = getOrExpandTable(key);
+        if (table == null) {
+            return null;
+        }
+        final int slot = table.find(key);
+        if (slot >= 0) {
+            final V previousValue = valueAt(table, slot);
+            table.setValue(slot, value);
+            return previousValue;
+        }
+        table.insert(key, value);
+        size++;
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Nullable
+    public V remove(@NonNull final EventDescriptorWrapper key) {
+        final KeyTable table = getTableInWindow(key);
+        if (table == null) {
+            return null;
+        }
+        final int slot = table.find(key);
+        if (slot < 0) {
+            return null;
+        }
+        final V value = valueAt(table, slot);
+        table.delete(slot);
+        size--;
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeValuesWithSequenceNumber(
+            final long sequenceNumber, @Nullable final BiConsumer<EventDescriptorWrapper, V> removedValueHandler) {
+
+        final KeyTable table = getTable(sequenceNumber);
+        if (table.sequenceNumber != sequenceNumber) {
+            return;
+        }
+        size -= table.size;
+        table.reset(sequenceNumber, removedValueHandler);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public List<EventDescriptorWrapper> getKeysWithSequenceNumber(final long sequenceNumber) {
+        final List<EventDescriptorWrapper> list = new ArrayList<>();
+        final KeyTable table = getTable(sequenceNumber);
+        if (table.sequenceNumber == sequenceNumber) {
+            table.forEach((key, value) -> list.add(key));
+        }
+        return list;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public List<Map.Entry<EventDescriptorWrapper, V>> getEntriesWithSequenceNumber(final long sequenceNumber) {
+        final List<Map.Entry<EventDescriptorWrapper, V>> list = new ArrayList<>();
+        final KeyTable table = getTable(sequenceNumber);
+        if (table.sequenceNumber == sequenceNumber) {
+            table.<V>forEach((key, value) -> list.add(new AbstractMap.SimpleEntry<>(key, value)));
+        }
+        return list;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void shiftWindow(
+            final long firstSequenceNumberInWindow,
+            @Nullable final BiConsumer<EventDescriptorWrapper, V> removedValueHandler) {
+
+        final long previousFirstSequenceNumber = this.firstSequenceNumberInWindow;
+        if (firstSequenceNumberInWindow < previousFirstSequenceNumber) {
+            throw new IllegalStateException(
+                    "Window can only be shifted towards larger value. Current lowest sequence number = "
+                            + previousFirstSequenceNumber + ", requested lowest sequence number = "
+                            + firstSequenceNumberInWindow);
+        }
+        this.firstSequenceNumberInWindow = firstSequenceNumberInWindow;
+
+        final long end = Math.min(firstSequenceNumberInWindow, previousFirstSequenceNumber + sequenceNumberCapacity);
+        for (long sequenceNumberToReplace = previousFirstSequenceNumber;
+                sequenceNumberToReplace < end;
+                sequenceNumberToReplace++) {
+
+            final KeyTable table = getTable(sequenceNumberToReplace);
+            size -= table.size;
+
+            // The new sequence number is the one in the new window that maps to the same index
+            final long newSequenceNumber = firstSequenceNumberInWindow
+                    + Math.floorMod(sequenceNumberToReplace - firstSequenceNumberInWindow, sequenceNumberCapacity);
+            table.reset(newSequenceNumber, removedValueHandler);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getFirstSequenceNumberInWindow() {
+        return firstSequenceNumberInWindow;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getSequenceNumberCapacity() {
+        return sequenceNumberCapacity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        firstSequenceNumberInWindow = initialFirstSequenceNumber;
+        for (int offset = 0; offset < sequenceNumberCapacity; offset++) {
+            final long sequenceNumber = initialFirstSequenceNumber + offset;
+            getTable(sequenceNumber).reset(sequenceNumber, null);
+        }
+        size = 0;
+    }
+
+    /**
+     * Get the table index for a given sequence number and current capacity.
+     *
+     * @param sequenceNumber the sequence number in question
+     * @return the index of the sequence number
+     */
+    private int getTableIndex(final long sequenceNumber) {
+        return (int) Math.floorMod(sequenceNumber, (long) sequenceNumberCapacity);
+    }
+
+    /**
+     * Get the table for a given sequence number. The table may currently hold a different sequence number.
+     *
+     * @param sequenceNumber the sequence number
+     * @return the table at the index of the sequence number
+     */
+    @NonNull
+    private KeyTable getTable(final long sequenceNumber) {
+        return tables[getTableIndex(sequenceNumber)];
+    }
+
+    /**
+     * Get the table for the sequence number of a key, if that sequence number is in the window.
+     *
+     * @param key the key
+     * @return the table, or null if the key's sequence number is outside the window
+     */
+    @Nullable
+    private KeyTable getTableInWindow(@NonNull final EventDescriptorWrapper key) {
+        final long sequenceNumber = getSequenceNumberFromKey.applyAsLong(key);
+        final KeyTable table = getTable(sequenceNumber);
+        return table.sequenceNumber == sequenceNumber ? table : null;
+    }
+
+    /**
+     * Get the table for the sequence number of a key, expanding capacity if needed and permitted.
+     *
+     * @param key the key
+     * @return the table, or null if the key's sequence number is outside the window and can't be accommodated
+     */
+    @Nullable
+    private KeyTable getOrExpandTable(@NonNull final EventDescriptorWrapper key) {
+        final long sequenceNumber = getSequenceNumberFromKey.applyAsLong(key);
+        final KeyTable table = getTable(sequenceNumber);
+        if (table.sequenceNumber == sequenceNumber) {
+            return table;
+        }
+        if (allowExpansion && sequenceNumber > firstSequenceNumberInWindow) {
+            expandCapacity(sequenceNumber);
+            return getTable(sequenceNumber);
+        }
+        return null;
+    }
+
+    /**
+     * Expand the capacity so that we fit the required sequence number.
+     *
+     * @param requiredSequenceNumber the sequence number that we need to fit into this structure
+     */
+    private void expandCapacity(final long requiredSequenceNumber) {
+        final int oldCapacity = tables.length;
+        final long minimumCapacity = requiredSequenceNumber - firstSequenceNumberInWindow;
+        if (minimumCapacity < 0) {
+            // this can only happen if we get integer overflow
+            throw new IllegalStateException("Cannot expand capacity beyond " + MAX_ARRAY_SIZE);
+        } else if (minimumCapacity < MAX_ARRAY_SIZE / 2 - 1) {
+            sequenceNumberCapacity = (int) (minimumCapacity * 2);
+        } else if (minimumCapacity <= MAX_ARRAY_SIZE) {
+            sequenceNumberCapacity = MAX_ARRAY_SIZE;
+        } else {
+            throw new IllegalStateException("Cannot expand capacity beyond " + MAX_ARRAY_SIZE);
+        }
+
+        final KeyTable[] oldTables = tables;
+        tables = new KeyTable[sequenceNumberCapacity];
+
+        // Copy the old tables into the new array
+        for (int oldIndex = 0; oldIndex < oldCapacity; oldIndex++) {
+            final KeyTable table = oldTables[oldIndex];
+            tables[getTableIndex(table.sequenceNumber)] = table;
+        }
+
+        // Create new tables for the added capacity
+        for (int offset = oldCapacity; offset < sequenceNumberCapacity; offset++) {
+            final long newSequenceNumber = firstSequenceNumberInWindow + offset;
+            tables[getTableIndex(newSequenceNumber)] = new KeyTable(newSequenceNumber);
+        }
+    }
+
+    /**
+     * Get the value in a slot of a table.
+     *
+     * @param table the table
+     * @param slot  the slot
+     * @return the value
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    private V valueAt(@NonNull final KeyTable table, final int slot) {
+        return (V) table.getValue(slot);
+    }
+
+    /**
+     * Get the first eight bytes of an event's hash. Event hashes are cryptographic, so this is already well
+     * distributed and can be used directly as a hash code.
+     *
+     * @param key the key
+     * @return the hash prefix
+     */
+    private static long getHashPrefix(@NonNull final EventDescriptorWrapper key) {
+        final Bytes hash = key.eventDescriptor().hash();
+        return hash.length() >= Long.BYTES ? hash.getLong(0) : hash.hashCode();
+    }
+
+    /**
+     * An open addressing hash table holding the keys and values for a single sequence number. Uses linear probing
+     * with backward shift deletion, so there are no tombstones. The arrays are allocated on first use and reused when
+     * the table is recycled for a new sequence number.
+     */
+    private static final class KeyTable {
+
+        /**
+         * The sequence number of the keys in this table.
+         */
+        private long sequenceNumber;
+
+        /**
+         * The number of keys in this table.
+         */
+        private int size;
+
+        /**
+         * For each slot, the creator ID at index {@code 2 * slot} and the hash prefix at index {@code 2 * slot + 1}.
+         */
+        private long[] fingerprints;
+
+        /**
+         * For each slot, the key at index {@code 2 * slot} and the value at index {@code 2 * slot + 1}. A slot is
+         * empty if its key is null.
+         */
+        private Object[] entries;
+
+        /**
+         * Create a new, empty table.
+         *
+         * @param sequenceNumber the sequence number of the keys in this table
+         */
+        KeyTable(final long sequenceNumber) {
+            this.sequenceNumber = sequenceNumber;
+        }
+
+        /**
+         * Get the number of slots in this table.
+         *
+         * @return the number of slots
+         */
+        private int slotCount() {
+            return entries == null ? 0 : entries.length / 2;
+        }
+
+        /**
+         * Get the slot where probing for a fingerprint starts.
+         *
+         * @param creator    the creator ID
+         * @param hashPrefix the hash prefix
+         * @param mask       the slot count minus one
+         * @return the slot
+         */
+        private static int homeSlot(final long creator, final long hashPrefix, final int mask) {
+            final long mixed = hashPrefix ^ (creator * 0x9E3779B97F4A7C15L);
+            return (int) (mixed ^ (mixed >>> 32)) & mask;
+        }
+
+        /**
+         * Find the slot containing a key.
+         *
+         * @param key the key
+         * @return the slot, or -1 if the key is not present
+         */
+        int find(@NonNull final EventDescriptorWrapper key) {
+            if (size == 0) {
+                return -1;
+            }
+            final long creator = key.eventDescriptor().creatorNodeId();
+            final long hashPrefix = getHashPrefix(key);
+            final int mask = slotCount() - 1;
+            int slot = homeSlot(creator, hashPrefix, mask);
+            while (true) {
+                final Object storedKey = entries[2 * slot];
+                if (storedKey == null) {
+                    return -1;
+                }
+                if (fingerprints[2 * slot] == creator
+                        && fingerprints[2 * slot + 1] == hashPrefix
+                        && (storedKey == key || storedKey.equals(key))) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        /**
+         * Insert a key that is known not to be present.
+         *
+         * @param key   the key
+         * @param value the value
+         */
+        void insert(@NonNull final EventDescriptorWrapper key, @Nullable final Object value) {
+            if (entries == null) {
+                fingerprints = new long[2 * INITIAL_TABLE_CAPACITY];
+                entries = new Object[2 * INITIAL_TABLE_CAPACITY];
+            } else if (2 * (size + 1) > slotCount()) {
+                resize(slotCount() * 2);
+            }
+            insertWithoutResize(key.eventDescriptor().creatorNodeId(), getHashPrefix(key), key, value);
+            size++;
+        }
+
+        /**
+         * Insert into a table that is known to have a free slot.
+         *
+         * @param creator    the creator ID of the key
+         * @param hashPrefix the hash prefix of the key
+         * @param key        the key
+         * @param value      the value
+         */
+        private void insertWithoutResize(
+                final long creator, final long hashPrefix, @NonNull final Object key, @Nullable final Object value) {
+            final int mask = slotCount() - 1;
+            int slot = homeSlot(creator, hashPrefix, mask);
+            while (entries[2 * slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            fingerprints[2 * slot] = creator;
+            fingerprints[2 * slot + 1] = hashPrefix;
+            entries[2 * slot] = key;
+            entries[2 * slot + 1] = value;
+        }
+
+        /**
+         * Rehash into a larger table.
+         *
+         * @param newSlotCount the new number of slots, must be a power of two
+         */
+        private void resize(final int newSlotCount) {
+            final long[] oldFingerprints = fingerprints;
+            final Object[] oldEntries = entries;
+            fingerprints = new long[2 * newSlotCount];
+            entries = new Object[2 * newSlotCount];
+            for (int slot = 0; slot < oldEntries.length / 2; slot++) {
+                if (oldEntries[2 * slot] != null) {
+                    insertWithoutResize(
+                            oldFingerprints[2 * slot],
+                            oldFingerprints[2 * slot + 1],
+                            oldEntries[2 * slot],
+                            oldEntries[2 * slot + 1]);
+                }
+            }
+        }
+
+        /**
+         * Delete the key in a slot, shifting back any following keys in the same probe sequence.
+         *
+         * @param slot the slot to delete
+         */
+        void delete(final int slot) {
+            final int mask = slotCount() - 1;
+            int hole = slot;
+            int next = (hole + 1) & mask;
+            while (entries[2 * next] != null) {
+                final int home = homeSlot(fingerprints[2 * next], fingerprints[2 * next + 1], mask);
+                // Move the entry into the hole if the hole lies cyclically between its home slot and its position
+                if (((next - home) & mask) >= ((next - hole) & mask)) {
+                    fingerprints[2 * hole] = fingerprints[2 * next];
+                    fingerprints[2 * hole + 1] = fingerprints[2 * next + 1];
+                    entries[2 * hole] = entries[2 * next];
+                    entries[2 * hole + 1] = entries[2 * next + 1];
+                    hole = next;
+                }
+                next = (next + 1) & mask;
+            }
+            entries[2 * hole] = null;
+            entries[2 * hole + 1] = null;
+            size--;
+        }
+
+        /**
+         * Get the value in a slot.
+         *
+         * @param slot the slot
+         * @return the value
+         */
+        @Nullable
+        Object getValue(final int slot) {
+            return entries[2 * slot + 1];
+        }
+
+        /**
+         * Set the value in a slot.
+         *
+         * @param slot  the slot
+         * @param value the value
+         */
+        void setValue(final int slot, @Nullable final Object value) {
+            entries[2 * slot + 1] = value;
+        }
+
+        /**
+         * Pass each key/value pair in this table to a consumer.
+         *
+         * @param consumer the consumer
+         */
+        @SuppressWarnings("unchecked")
+        <V> void forEach(@NonNull final BiConsumer<EventDescriptorWrapper, V> consumer) {
+            if (size == 0) {
+                return;
+            }
+            for (int slot = 0; slot < slotCount(); slot++) {
+                final Object key = entries[2 * slot];
+                if (key != null) {
+                    consumer.accept((EventDescriptorWrapper) key, (V) entries[2 * slot + 1]);
+                }
+            }
+        }
+
+        /**
+         * Remove all keys and prepare the table for a new sequence number.
+         *
+         * @param newSequenceNumber   the new sequence number of this table
+         * @param removedValueHandler passed each key/value pair that is removed, ignored if null
+         */
+        <V> void reset(
+                final long newSequenceNumber, @Nullable final BiConsumer<EventDescriptorWrapper, V> removedValueHandler) {
+            if (removedValueHandler != null) {
+                forEach(removedValueHandler);
+            }
+            if (size > 0) {
+                Arrays.fill(entries, null);
+            }
+            size = 0;
+            sequenceNumber = newSequenceNumber;
+        }
+    }
+}
@@ -20,6 +20,7 @@ import static java.util.stream.Collectors.collectingAndThen;
 import static java.util.stream.Collectors.toList;
 
 import com.hedera.hapi.platform.event.StateSignatureTransaction;
+import com.swirlds.base.time.Time;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.crypto.Signature;
 import com.swirlds.common.crypto.SignatureType;
@@ -36,11 +37,17 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -66,6 +73,14 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
     private final SequenceSet<SavedSignature> savedSignatures;
     /** A collection of signed state metrics */
     private final SignedStateMetrics signedStateMetrics;
+    /** Provides wall clock time */
+    private final Time time;
+    /**
+     * The shared pool used to verify batches of signatures in parallel, or null if signatures are verified on the
+     * calling thread. At most {@link StateConfig#signatureVerificationThreads()} threads verify a single batch.
+     */
+    @Nullable
+    private final ForkJoinPool verificationPool;
 
     /**
      * Start empty, with no known signed states. A signed state is considered completed when it has signatures from a
@@ -73,11 +88,17 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
      *
      * @param platformContext    the platform context
      * @param signedStateMetrics a collection of signed state metrics
+     * @param verificationPool   the shared pool used to verify batches of signatures in parallel, or null to verify
+     *                           signatures on the calling thread. The pool is not owned by this collector.
      */
     public DefaultStateSignatureCollector(
-            @NonNull final PlatformContext platformContext, @NonNull final SignedStateMetrics signedStateMetrics) {
+            @NonNull final PlatformContext platformContext,
+            @NonNull final SignedStateMetrics signedStateMetrics,
+            @Nullable final ForkJoinPool verificationPool) {
         this.stateConfig = platformContext.getConfiguration().getConfigData(StateConfig.class);
         this.signedStateMetrics = Objects.requireNonNull(signedStateMetrics);
+        this.time = platformContext.getTime();
+        this.verificationPool = verificationPool;
 
         this.savedSignatures =
                 new StandardSequenceSet<>(0, stateConfig.maxAgeOfFutureStateSignatures(), SavedSignature::round);
@@ -104,7 +125,9 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
         // find any signatures that have been saved
         final List<SavedSignature> signatures = savedSignatures.getEntriesWithSequenceNumber(signedState.getRound());
         savedSignatures.removeSequenceNumber(signedState.getRound());
-        signatures.forEach(ss -> addSignature(reservedSignedState, ss.memberId, ss.signature));
+        final SignatureBatch batch = new SignatureBatch();
+        signatures.forEach(ss -> batch.add(reservedSignedState, ss.memberId, ss.signature));
+        addSignatures(batch);
 
         lastStateRound = Math.max(lastStateRound, signedState.getRound());
         adjustSavedSignaturesWindow(signedState.getRound());
@@ -134,14 +157,14 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
     public @Nullable List<ReservedSignedState> handlePreconsensusSignatures(
             @NonNull final List<ScopedSystemTransaction<StateSignatureTransaction>> transactions) {
         Objects.requireNonNull(transactions, "transactions");
-        return transactions.stream()
-                .map(this::handlePreconsensusSignature)
-                .filter(Objects::nonNull)
-                .collect(collectingAndThen(toList(), l -> l.isEmpty() ? null : l));
+        final SignatureBatch batch = new SignatureBatch();
+        transactions.forEach(transaction -> handlePreconsensusSignature(transaction, batch));
+        return addSignatures(batch);
     }
 
-    private @Nullable ReservedSignedState handlePreconsensusSignature(
-            @NonNull final ScopedSystemTransaction<StateSignatureTransaction> scopedTransaction) {
+    private void handlePreconsensusSignature(
+            @NonNull final ScopedSystemTransaction<StateSignatureTransaction> scopedTransaction,
+            @NonNull final SignatureBatch batch) {
 
         final long round = scopedTransaction.transaction().round();
         final Signature signature = new Signature(
@@ -158,9 +181,9 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
         if (reservedState == null) {
             // This round has already been completed, or it is really old or in the future
             savedSignatures.add(new SavedSignature(round, scopedTransaction.submitterId(), signature));
-            return null;
+            return;
         }
-        return addSignature(reservedState, scopedTransaction.submitterId(), signature);
+        batch.add(reservedState, scopedTransaction.submitterId(), signature);
     }
 
     /**
@@ -170,14 +193,14 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
     public @Nullable List<ReservedSignedState> handlePostconsensusSignatures(
             @NonNull final List<ScopedSystemTransaction<StateSignatureTransaction>> transactions) {
         Objects.requireNonNull(transactions, "transactions");
-        return transactions.stream()
-                .map(this::handlePostconsensusSignature)
-                .filter(Objects::nonNull)
-                .collect(collectingAndThen(toList(), l -> l.isEmpty() ? null : l));
+        final SignatureBatch batch = new SignatureBatch();
+        transactions.forEach(transaction -> handlePostconsensusSignature(transaction, batch));
+        return addSignatures(batch);
     }
 
-    private @Nullable ReservedSignedState handlePostconsensusSignature(
-            @NonNull final ScopedSystemTransaction<StateSignatureTransaction> scopedTransaction) {
+    private void handlePostconsensusSignature(
+            @NonNull final ScopedSystemTransaction<StateSignatureTransaction> scopedTransaction,
+            @NonNull final SignatureBatch batch) {
         final long round = scopedTransaction.transaction().round();
 
         final ReservedSignedState reservedState = incompleteStates.get(round);
@@ -185,10 +208,10 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
         // and if we don't have the state for an old round, we never will.
         // in both cases, the signature can be ignored
         if (reservedState == null) {
-            return null;
+            return;
         }
 
-        return addSignature(
+        batch.add(
                 reservedState,
                 scopedTransaction.submitterId(),
                 new Signature(
@@ -197,26 +220,94 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
     }
 
     /**
-     * Add a new signature to a signed state.
+     * Verify a batch of signatures, and add the valid ones to their signed states.
+     *
+     * @param batch the signatures to add
+     * @return the signed states that are now complete, or null if no state was completed
+     */
+    private @Nullable List<ReservedSignedState> addSignatures(@NonNull final SignatureBatch batch) {
+        final List<PendingSignature> pendingSignatures = batch.getSignatures();
+        if (pendingSignatures.isEmpty()) {
+            return null;
+        }
+
+        final long start = time.nanoTime();
+        final boolean[] valid = verifySignatures(pendingSignatures);
+        signedStateMetrics.getStateSignatureBatchSizeMetric().update(pendingSignatures.size());
+        signedStateMetrics
+                .getStateSignatureBatchVerificationTimeMetric()
+                .update((time.nanoTime() - start) / 1_000_000.0);
+
+        // Signatures are grouped by round, and within a round are added in the order they were received
+        List<ReservedSignedState> completeStates = null;
+        for (int index = 0; index < pendingSignatures.size(); index++) {
+            if (!valid[index]) {
+                continue;
+            }
+            final PendingSignature pendingSignature = pendingSignatures.get(index);
+            final ReservedSignedState completeState = addVerifiedSignature(
+                    pendingSignature.reservedState(), pendingSignature.nodeId(), pendingSignature.signature());
+            if (completeState != null) {
+                if (completeStates == null) {
+                    completeStates = new ArrayList<>();
+                }
+                completeStates.add(completeState);
+            }
+        }
+        return completeStates;
+    }
+
+    /**
+     * Verify signatures. If there is more than one signature and a verification pool is configured, signatures are
+     * verified by at most {@link StateConfig#signatureVerificationThreads()} tasks, one of which runs on the calling
+     * thread, each taking the next unverified signature until none are left.
+     *
+     * @param pendingSignatures the signatures to verify
+     * @return an array where the element at each index is true if the signature at that index is valid
+     */
+    private @NonNull boolean[] verifySignatures(@NonNull final List<PendingSignature> pendingSignatures) {
+        final boolean[] valid = new boolean[pendingSignatures.size()];
+        final AtomicInteger nextIndex = new AtomicInteger();
+        final Runnable task = () -> {
+            for (int i = nextIndex.getAndIncrement(); i < valid.length; i = nextIndex.getAndIncrement()) {
+                valid[i] = pendingSignatures.get(i).verify();
+            }
+        };
+
+        final int numTasks =
+                verificationPool == null ? 1 : Math.min(valid.length, stateConfig.signatureVerificationThreads());
+        final List<ForkJoinTask<?>> forkedTasks = new ArrayList<>(Math.max(0, numTasks - 1));
+        for (int i = 1; i < numTasks; i++) {
+            forkedTasks.add(verificationPool.submit(task));
+        }
+        task.run();
+        // Each task writes to distinct indices. Joining the tasks makes the writes visible to this thread.
+        forkedTasks.forEach(ForkJoinTask::join);
+        return valid;
+    }
+
+    /**
+     * Add a signature that has already been verified to a signed state.
      *
      * @param reservedSignedState the state being signed
      * @param nodeId              the ID of the signer
-     * @param signature           the signature on the state
+     * @param signature           the signature on the state, already known to be valid
      * @return the signed state if it is now complete, otherwise null
      */
-    private @Nullable ReservedSignedState addSignature(
+    private @Nullable ReservedSignedState addVerifiedSignature(
             @NonNull final ReservedSignedState reservedSignedState,
             @NonNull final NodeId nodeId,
             @NonNull final Signature signature) {
         final SignedState signedState = reservedSignedState.get();
 
-        if (signedState.addSignature(nodeId, signature)) {
+        if (signedState.addVerifiedSignature(nodeId, signature)) {
             // at this point the signed state is complete for the first time
             signedStateMetrics.getStatesSignedPerSecondMetric().cycle();
             signedStateMetrics
                     .getAverageTimeToFullySignStateMetric()
                     .update(Duration.between(signedState.getCreationTimestamp(), Instant.now())
                             .toMillis());
+            signedStateMetrics.getRoundsToFullySignStateMetric().update(lastStateRound - signedState.getRound());
 
             return incompleteStates.remove(signedState.getRound());
         }
@@ -292,4 +383,69 @@ public class DefaultStateSignatureCollector implements StateSignatureCollector {
      * A signature that was received when there was no state with a matching round.
      */
     private record SavedSignature(long round, @NonNull NodeId memberId, @NonNull Signature signature) {}
+
+    /**
+     * A signature waiting to be verified and added to a signed state.
+     *
+     * @param reservedState the state being signed
+     * @param nodeId        the ID of the signer
+     * @param signature     the signature on the state
+     */
+    private record PendingSignature(
+            @NonNull ReservedSignedState reservedState, @NonNull NodeId nodeId, @NonNull Signature signature) {
+
+        /**
+         * Verify this signature. Safe to call from any thread.
+         *
+         * @return true if the signature is valid
+         */
+        boolean verify() {
+            return reservedState.get().isSignatureValid(nodeId, signature);
+        }
+    }
+
+    /**
+     * Signatures that will be verified together, grouped by round. Signatures that can not change the state they sign
+     * (because the state is already complete or already has a signature from the node), and signatures identical to
+     * one already in the batch, are dropped before they reach the verifier.
+     */
+    private static final class SignatureBatch {
+        private final Map<Long, List<PendingSignature>> signaturesByRound = new LinkedHashMap<>();
+        private final Set<PendingSignature> uniqueSignatures = new HashSet<>();
+
+        /**
+         * Add a signature to the batch.
+         *
+         * @param reservedState the state being signed
+         * @param nodeId        the ID of the signer
+         * @param signature     the signature on the state
+         */
+        void add(
+                @NonNull final ReservedSignedState reservedState,
+                @NonNull final NodeId nodeId,
+                @NonNull final Signature signature) {
+            final SignedState signedState = reservedState.get();
+            if (!signedState.isSignatureNeeded(nodeId)) {
+                return;
+            }
+            final PendingSignature pendingSignature = new PendingSignature(reservedState, nodeId, signature);
+            if (uniqueSignatures.add(pendingSignature)) {
+                signaturesByRound
+                        .computeIfAbsent(signedState.getRound(), round -> new ArrayList<>())
+                        .add(pendingSignature);
+            }
+        }
+
+        /**
+         * Get all signatures in the batch, grouped by round.
+         *
+         * @return the signatures
+         */
+        @NonNull
+        List<PendingSignature> getSignatures() {
+            final List<PendingSignature> signatures = new ArrayList<>(uniqueSignatures.size());
+            signaturesByRound.values().forEach(signatures::addAll);
+            return signatures;
+        }
+    }
 }
@@ -591,7 +591,44 @@ public class SignedState implements SignedStateInfo {
      * state is either not complete or was previously complete prior to this signature
      */
     public boolean addSignature(@NonNull final NodeId nodeId, @NonNull final Signature signature) {
-        return addSignature(getAddressBook(), nodeId, signature);
+        return addSignature(getAddressBook(), nodeId, signature, true);
+    }
+
+    /**
+     * Add a signature to the sigset. The caller must have already checked the signature with
+     * {@link #isSignatureValid(NodeId, Signature)}.
+     *
+     * @param nodeId    the ID of the signing node
+     * @param signature the signature to add, already known to be valid
+     * @return true if the signed state is now complete as a result of the signature being added, false if the signed
+     * state is either not complete or was previously complete prior to this signature
+     */
+    boolean addVerifiedSignature(@NonNull final NodeId nodeId, @NonNull final Signature signature) {
+        return addSignature(getAddressBook(), nodeId, signature, false);
+    }
+
+    /**
+     * Check if this state still needs a signature from a node, i.e. if the state is not yet complete and there is no
+     * signature from the node in the sigset.
+     *
+     * @param nodeId the ID of the node
+     * @return true if a valid signature from the node would be added to this state
+     */
+    boolean isSignatureNeeded(@NonNull final NodeId nodeId) {
+        return !isComplete() && !sigSet.hasSignature(nodeId);
+    }
+
+    /**
+     * Check if a signature from a node is valid for this state, using the address book in this state. This method does
+     * not modify the state, and may be called on multiple threads concurrently.
+     *
+     * @param nodeId    the ID of the signing node
+     * @param signature the signature to check
+     * @return true if the signature is valid, false otherwise
+     */
+    boolean isSignatureValid(@NonNull final NodeId nodeId, @NonNull final Signature signature) {
+        final AddressBook addressBook = getAddressBook();
+        return addressBook.contains(nodeId) && isSignatureValid(addressBook.getAddress(nodeId), signature);
     }
 
     /**
@@ -629,11 +666,15 @@ public class SignedState implements SignedStateInfo {
      * @param addressBook use this address book to determine if the signature is valid or not
      * @param nodeId      the ID of the signing node
      * @param signature   the signature to add
+     * @param verify      if false, the signature is assumed to have already been verified
      * @return true if the signed state is now complete as a result of the signature being added, false if the signed
      * state is either not complete or was previously complete prior to this signature
      */
     private boolean addSignature(
-            @NonNull final AddressBook addressBook, @NonNull final NodeId nodeId, @NonNull final Signature signature) {
+            @NonNull final AddressBook addressBook,
+            @NonNull final NodeId nodeId,
+            @NonNull final Signature signature,
+            final boolean verify) {
         Objects.requireNonNull(addressBook, "addressBook");
         Objects.requireNonNull(nodeId, "nodeId");
         Objects.requireNonNull(signature, "signature");
@@ -649,7 +690,7 @@ public class SignedState implements SignedStateInfo {
         }
 
         final Address address = addressBook.getAddress(nodeId);
-        if (!isSignatureValid(address, signature)) {
+        if (verify && !isSignatureValid(address, signature)) {
             return false;
         }
 
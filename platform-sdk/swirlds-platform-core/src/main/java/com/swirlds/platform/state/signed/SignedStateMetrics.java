@@ -78,6 +78,28 @@ public class SignedStateMetrics {
             .withUnit("rounds");
     private final RunningAverageMetric stateSignatureAge;
 
+    private static final RunningAverageMetric.Config ROUNDS_TO_FULLY_SIGN_CONFIG = new RunningAverageMetric.Config(
+                    CATEGORY, "roundsToFullySignState")
+            .withDescription("the average number of rounds that reach consensus between the creation of a state and "
+                    + "the collection of enough signatures to fully sign it")
+            .withFormat(FORMAT_10_2)
+            .withUnit("rounds");
+    private final RunningAverageMetric roundsToFullySignState;
+
+    private static final RunningAverageMetric.Config SIGNATURE_BATCH_SIZE_CONFIG = new RunningAverageMetric.Config(
+                    CATEGORY, "stateSignatureBatchSize")
+            .withDescription("the average number of state signatures verified together in a batch")
+            .withFormat(FORMAT_10_2)
+            .withUnit("count");
+    private final RunningAverageMetric stateSignatureBatchSize;
+
+    private static final RunningAverageMetric.Config SIGNATURE_BATCH_TIME_CONFIG = new RunningAverageMetric.Config(
+                    CATEGORY, "stateSignatureBatchVerificationTime")
+            .withDescription("the average time spent verifying a batch of state signatures")
+            .withFormat(FORMAT_10_3)
+            .withUnit(MILLISECONDS);
+    private final RunningAverageMetric stateSignatureBatchVerificationTime;
+
     /**
      * Get a metric tracking unsigned states.
      */
@@ -121,6 +143,28 @@ public class SignedStateMetrics {
         return stateSignatureAge;
     }
 
+    /**
+     * Get a metric tracking the average number of rounds between the creation of a state and it becoming fully
+     * signed.
+     */
+    public RunningAverageMetric getRoundsToFullySignStateMetric() {
+        return roundsToFullySignState;
+    }
+
+    /**
+     * Get a metric tracking the average number of state signatures verified in a batch.
+     */
+    public RunningAverageMetric getStateSignatureBatchSizeMetric() {
+        return stateSignatureBatchSize;
+    }
+
+    /**
+     * Get a metric tracking the average time in milliseconds spent verifying a batch of state signatures.
+     */
+    public RunningAverageMetric getStateSignatureBatchVerificationTimeMetric() {
+        return stateSignatureBatchVerificationTime;
+    }
+
     /**
      * Register all metrics with a registry.
      *
@@ -133,5 +177,8 @@ public class SignedStateMetrics {
         statesSignedPerSecond = metrics.getOrCreate(STATES_SIGNED_PER_SECOND_CONFIG);
         stateSignaturesGatheredPerSecond = metrics.getOrCreate(STATE_SIGNATURES_GATHERED_PER_SECOND_CONFIG);
         stateSignatureAge = metrics.getOrCreate(STATE_SIGNATURE_AGE_CONFIG);
+        roundsToFullySignState = metrics.getOrCreate(ROUNDS_TO_FULLY_SIGN_CONFIG);
+        stateSignatureBatchSize = metrics.getOrCreate(SIGNATURE_BATCH_SIZE_CONFIG);
+        stateSignatureBatchVerificationTime = metrics.getOrCreate(SIGNATURE_BATCH_TIME_CONFIG);
     }
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.sequence.map;
+
+import static com.swirlds.common.test.fixtures.RandomUtils.getRandomPrintSeed;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.hapi.platform.event.EventDescriptor;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.platform.system.events.EventDescriptorWrapper;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EventDescriptorSequenceMapTests {
+
+    /**
+     * Build a random descriptor. A quarter of the descriptors share the same hash prefix to exercise collisions.
+     */
+    @NonNull
+    private static EventDescriptorWrapper randomDescriptor(@NonNull final Random random, final long generation) {
+        final byte[] hash = new byte[48];
+        random.nextBytes(hash);
+        if (random.nextInt(4) == 0) {
+            for (int i = 0; i < Long.BYTES; i++) {
+                hash[i] = 0;
+            }
+        }
+        return new EventDescriptorWrapper(new EventDescriptor(Bytes.wrap(hash), random.nextInt(5), 1, generation));
+    }
+
+    /**
+     * Create a copy of a descriptor that is equal but not the same instance.
+     */
+    @NonNull
+    private static EventDescriptorWrapper copy(@NonNull final EventDescriptorWrapper descriptor) {
+        final EventDescriptor original = descriptor.eventDescriptor();
+        return new EventDescriptorWrapper(new EventDescriptor(
+                Bytes.wrap(original.hash().toByteArray()),
+                original.creatorNodeId(),
+                original.birthRound(),
+                original.generation()));
+    }
+
+    @Test
+    @DisplayName("Random operations match a standard sequence map")
+    void randomOperationsTest() {
+        final Random random = getRandomPrintSeed();
+
+        final EventDescriptorSequenceMap<Integer> map =
+                new EventDescriptorSequenceMap<>(0, 4, true, ed -> ed.eventDescriptor().generation());
+        final SequenceMap<EventDescriptorWrapper, Integer> reference =
+                new StandardSequenceMap<>(0, 4, true, ed -> ed.eventDescriptor().generation());
+
+        final List<EventDescriptorWrapper> descriptors = new ArrayList<>();
+        long firstGeneration = 0;
+
+        for (int i = 0; i < 100_000; i++) {
+            final int operation = random.nextInt(10);
+            if (operation < 5 || descriptors.isEmpty()) {
+                final EventDescriptorWrapper descriptor =
+                        randomDescriptor(random, firstGeneration - 2 + random.nextInt(20));
+                descriptors.add(descriptor);
+                assertEquals(reference.putIfAbsent(descriptor, i), map.putIfAbsent(descriptor, i));
+            } else if (operation < 6) {
+                final EventDescriptorWrapper descriptor = descriptors.get(random.nextInt(descriptors.size()));
+                assertEquals(reference.get(descriptor), map.getOrInsert(copy(descriptor), i));
+                reference.putIfAbsent(descriptor, i);
+            } else if (operation < 7) {
+                final EventDescriptorWrapper descriptor = descriptors.get(random.nextInt(descriptors.size()));
+                assertEquals(reference.remove(descriptor), map.remove(copy(descriptor)));
+            } else if (operation < 9) {
+                final EventDescriptorWrapper descriptor = descriptors.get(random.nextInt(descriptors.size()));
+                assertEquals(reference.get(descriptor), map.get(copy(descriptor)));
+                assertEquals(reference.containsKey(descriptor), map.containsKey(descriptor));
+            } else {
+                firstGeneration += random.nextInt(3);
+                final Map<EventDescriptorWrapper, Integer> removedFromReference = new HashMap<>();
+                final Map<EventDescriptorWrapper, Integer> removedFromMap = new HashMap<>();
+                reference.shiftWindow(firstGeneration, removedFromReference::put);
+                map.shiftWindow(firstGeneration, removedFromMap::put);
+                assertEquals(removedFromReference, removedFromMap);
+            }
+
+            assertEquals(reference.getSize(), map.getSize());
+        }
+
+        for (long generation = firstGeneration; generation < firstGeneration + 20; generation++) {
+            assertEquals(
+                    new HashSet<>(reference.getKeysWithSequenceNumber(generation)),
+                    new HashSet<>(map.getKeysWithSequenceNumber(generation)));
+        }
+    }
+
+    @Test
+    @DisplayName("Clear resets the window")
+    void clearTest() {
+        final Random random = getRandomPrintSeed();
+
+        final EventDescriptorSequenceMap<Integer> map =
+                new EventDescriptorSequenceMap<>(0, 16, false, ed -> ed.eventDescriptor().generation());
+
+        final EventDescriptorWrapper descriptor = randomDescriptor(random, 5);
+        assertTrue(map.putIfAbsent(descriptor, 1));
+        map.shiftWindow(10);
+        assertNull(map.get(descriptor));
+        assertEquals(0, map.getSize());
+
+        map.clear();
+        assertEquals(0, map.getFirstSequenceNumberInWindow());
+        assertTrue(map.putIfAbsent(descriptor, 2));
+        assertEquals(2, map.get(copy(descriptor)));
+        assertEquals(1, map.getSize());
+    }
+}
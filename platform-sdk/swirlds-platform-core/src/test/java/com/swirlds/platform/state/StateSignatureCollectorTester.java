@@ -33,6 +33,7 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * A StateSignatureCollector that is used for unit testing. In the future, these unit tests should become small
@@ -46,10 +47,11 @@ public class StateSignatureCollectorTester extends DefaultStateSignatureCollecto
     private StateSignatureCollectorTester(
             @NonNull final PlatformContext platformContext,
             @NonNull final SignedStateMetrics signedStateMetrics,
+            @Nullable final ForkJoinPool verificationPool,
             @NonNull final LatestCompleteStateNexus latestSignedState,
             @NonNull final StateHasEnoughSignaturesConsumer stateHasEnoughSignaturesConsumer,
             @NonNull final StateLacksSignaturesConsumer stateLacksSignaturesConsumer) {
-        super(platformContext, signedStateMetrics);
+        super(platformContext, signedStateMetrics, verificationPool);
         this.latestSignedState = latestSignedState;
         this.stateHasEnoughSignaturesConsumer = stateHasEnoughSignaturesConsumer;
         this.stateLacksSignaturesConsumer = stateLacksSignaturesConsumer;
@@ -58,12 +60,14 @@ public class StateSignatureCollectorTester extends DefaultStateSignatureCollecto
     public static StateSignatureCollectorTester create(
             @NonNull final PlatformContext platformContext,
             @NonNull final SignedStateMetrics signedStateMetrics,
+            @Nullable final ForkJoinPool verificationPool,
             @NonNull final StateHasEnoughSignaturesConsumer stateHasEnoughSignaturesConsumer,
             @NonNull final StateLacksSignaturesConsumer stateLacksSignaturesConsumer) {
         final LatestCompleteStateNexus latestSignedState = new DefaultLatestCompleteStateNexus(platformContext);
         return new StateSignatureCollectorTester(
                 platformContext,
                 signedStateMetrics,
+                verificationPool,
                 latestSignedState,
                 stateHasEnoughSignaturesConsumer,
                 stateLacksSignaturesConsumer);
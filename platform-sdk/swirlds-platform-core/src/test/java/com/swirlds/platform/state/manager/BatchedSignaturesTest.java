@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.state.manager;
+
+import static com.swirlds.platform.test.fixtures.state.manager.SignatureVerificationTestUtils.buildFakeSignatureBytes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.hapi.platform.event.StateSignatureTransaction;
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.platform.NodeId;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.merkledb.MerkleDb;
+import com.swirlds.platform.components.state.output.StateHasEnoughSignaturesConsumer;
+import com.swirlds.platform.components.transaction.system.ScopedSystemTransaction;
+import com.swirlds.platform.state.StateSignatureCollectorTester;
+import com.swirlds.platform.state.signed.SignedState;
+import com.swirlds.platform.system.address.AddressBook;
+import com.swirlds.platform.test.fixtures.addressbook.RandomAddressBookBuilder;
+import com.swirlds.platform.test.fixtures.state.RandomSignedStateGenerator;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SignedStateManager: Batched Signatures Test")
+public class BatchedSignaturesTest extends AbstractStateSignatureCollectorTest {
+
+    private final AddressBook addressBook = RandomAddressBookBuilder.create(random)
+            .withSize(4)
+            .withWeightDistributionStrategy(RandomAddressBookBuilder.WeightDistributionStrategy.BALANCED)
+            .build();
+
+    private final ForkJoinPool verificationPool = new ForkJoinPool(4);
+
+    /**
+     * Called on each state as it gathers enough signatures to be complete.
+     */
+    private StateHasEnoughSignaturesConsumer stateHasEnoughSignaturesConsumer() {
+        return ss -> {
+            highestCompleteRound.accumulateAndGet(ss.getRound(), Math::max);
+            stateHasEnoughSignaturesCount.getAndIncrement();
+        };
+    }
+
+    @BeforeEach
+    void setUp() {
+        MerkleDb.resetDefaultInstancePath();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RandomSignedStateGenerator.releaseAllBuiltSignedStates();
+        verificationPool.shutdown();
+    }
+
+    /**
+     * Build a signature transaction for a state.
+     */
+    @NonNull
+    private ScopedSystemTransaction<StateSignatureTransaction> buildSignature(
+            @NonNull final NodeId signer, final long round, @NonNull final Hash signedHash) {
+        return new ScopedSystemTransaction<>(
+                signer,
+                null,
+                StateSignatureTransaction.newBuilder()
+                        .round(round)
+                        .signature(buildFakeSignatureBytes(
+                                addressBook.getAddress(signer).getSigPublicKey(), signedHash))
+                        .hash(signedHash.getBytes())
+                        .build());
+    }
+
+    @Test
+    @DisplayName("Signatures for many rounds in a single batch")
+    void batchedSignaturesTest() {
+        final int count = roundsToKeepForSigning;
+        final PlatformContext platformContext = TestPlatformContextBuilder.create()
+                .withConfiguration(buildStateConfig())
+                .build();
+
+        final StateSignatureCollectorTester manager = new StateSignatureCollectorBuilder(platformContext)
+                .stateLacksSignaturesConsumer(ss -> stateLacksSignaturesCount.getAndIncrement())
+                .stateHasEnoughSignaturesConsumer(stateHasEnoughSignaturesConsumer())
+                .verificationPool(verificationPool)
+                .build();
+
+        final List<SignedState> states = new ArrayList<>();
+        for (int round = 0; round < count; round++) {
+            MerkleDb.resetDefaultInstancePath();
+            final SignedState signedState = new RandomSignedStateGenerator(random)
+                    .setAddressBook(addressBook)
+                    .setRound(round)
+                    .setSignatures(new HashMap<>())
+                    .build();
+            states.add(signedState);
+            signedStates.put((long) round, signedState);
+            highestRound.set(round);
+            manager.addReservedState(signedState.reserve("test"));
+        }
+        validateCallbackCounts(0, 0);
+
+        final List<ScopedSystemTransaction<StateSignatureTransaction>> transactions = new ArrayList<>();
+        for (int round = count - 1; round >= 0; round--) {
+            final Hash hash = states.get(round).getState().getHash();
+            final Hash wrongHash = states.get((round + 1) % count).getState().getHash();
+
+            // An invalid signature must not prevent a later valid signature from the same node from being added
+            transactions.add(buildSignature(addressBook.getNodeId(0), round, wrongHash));
+            transactions.add(buildSignature(addressBook.getNodeId(0), round, hash));
+            transactions.add(buildSignature(addressBook.getNodeId(1), round, hash));
+            // duplicates are harmless
+            transactions.add(buildSignature(addressBook.getNodeId(1), round, hash));
+            transactions.add(buildSignature(addressBook.getNodeId(2), round, hash));
+        }
+
+        manager.handlePostconsensusSignatures(transactions);
+
+        validateCallbackCounts(0, count);
+        for (final SignedState state : states) {
+            assertTrue(state.isComplete(), "state for round " + state.getRound() + " should be complete");
+            assertEquals(3, state.getSigSet().size(), "unexpected number of signatures");
+        }
+        assertEquals(count - 1, highestCompleteRound.get());
+    }
+}
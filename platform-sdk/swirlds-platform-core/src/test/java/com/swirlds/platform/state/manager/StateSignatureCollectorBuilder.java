@@ -22,6 +22,7 @@ import com.swirlds.platform.components.state.output.StateLacksSignaturesConsumer
 import com.swirlds.platform.state.StateSignatureCollectorTester;
 import com.swirlds.platform.state.signed.SignedStateMetrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Utility class for building instances of {@link StateSignatureCollectorTester}.
@@ -32,6 +33,7 @@ public class StateSignatureCollectorBuilder {
     private final SignedStateMetrics metrics;
     private StateHasEnoughSignaturesConsumer stateHasEnoughSignaturesConsumer = x -> {};
     private StateLacksSignaturesConsumer stateLacksSignaturesConsumer = x -> {};
+    private ForkJoinPool verificationPool = null;
 
     public StateSignatureCollectorBuilder(@NonNull final PlatformContext platformContext) {
         this.platformContext = platformContext;
@@ -50,8 +52,17 @@ public class StateSignatureCollectorBuilder {
         return this;
     }
 
+    public StateSignatureCollectorBuilder verificationPool(final ForkJoinPool verificationPool) {
+        this.verificationPool = verificationPool;
+        return this;
+    }
+
     public StateSignatureCollectorTester build() {
         return StateSignatureCollectorTester.create(
-                platformContext, metrics, stateHasEnoughSignaturesConsumer, stateLacksSignaturesConsumer);
+                platformContext,
+                metrics,
+                verificationPool,
+                stateHasEnoughSignaturesConsumer,
+                stateLacksSignaturesConsumer);
     }
 }